@@ -203,6 +203,20 @@ public interface AppManager {
    */
   ResourceResult getAppResource(App app, String pageName, String contextPath) throws IOException;
 
+  /**
+   * Like {@link #getAppResource(App, String, String)}, but resources small enough to be held in
+   * memory are returned as {@link ResourceResult.CachedResourceFound} from a cache, together with
+   * their ETag and gzip compressed content. The cache is cleared when apps are installed, deleted
+   * or reloaded.
+   *
+   * @param app the app to look up files for
+   * @param pageName the page requested
+   * @param contextPath the context path of this instance.
+   * @return the {@link ResourceResult}
+   */
+  ResourceResult getCachedAppResource(App app, String pageName, String contextPath)
+      throws IOException;
+
   /**
    * Sets the app status to DELETION_IN_PROGRESS and trigger asynchronous deletion of the app.
    *
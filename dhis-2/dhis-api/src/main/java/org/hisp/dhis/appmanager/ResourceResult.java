@@ -38,6 +38,7 @@ import org.springframework.core.io.Resource;
  *
  * <ul>
  *   <li>ResourceFound
+ *   <li>CachedResourceFound
  *   <li>ResourceNotFound
  *   <li>Redirect
  * </ul>
@@ -49,6 +50,8 @@ public sealed interface ResourceResult {
     }
   }
 
+  record CachedResourceFound(@Nonnull CachedAppResource resource) implements ResourceResult {}
+
   record ResourceNotFound(@Nonnull String path) implements ResourceResult {}
 
   record Redirect(@Nonnull String path) implements ResourceResult {}
@@ -46,14 +46,14 @@ public interface CacheProvider {
 
   <V> Cache<V> createAnalyticsCache();
 
+  <V> Cache<V> createAnalyticsInFlightCache();
+
   <V> Cache<V> createOutliersCache();
 
   <V> Cache<V> createDefaultObjectCache();
 
   <V> Cache<V> createAllConstantsCache();
 
-  <V> Cache<V> createInUserOrgUnitHierarchyCache();
-
   <V> Cache<V> createUserFailedLoginAttemptCache(V defaultValue);
 
   <V> Cache<V> createDisable2FAFailedAttemptCache(V defaultValue);
@@ -111,4 +111,8 @@ public interface CacheProvider {
   <V> Cache<V> createQueryAliasCache();
 
   <V> Cache<V> createCorsWhitelistCache();
+
+  <V> Cache<V> createCompiledExpressionCache();
+
+  <V> Cache<V> createRuleEngineContextCache();
 }
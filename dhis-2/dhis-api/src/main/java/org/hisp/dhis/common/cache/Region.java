@@ -36,9 +36,9 @@ package org.hisp.dhis.common.cache;
 @SuppressWarnings("squid:S115") // allow non enum-ish names
 public enum Region {
   analyticsResponse,
+  analyticsInFlight,
   defaultObjectCache,
   allConstantsCache,
-  inUserOrgUnitHierarchy,
   periodIdCache,
   userAccountRecoverAttempt,
   userFailedLoginAttempt,
@@ -67,5 +67,7 @@ public enum Region {
   dataIntegritySummaryCache,
   dataIntegrityDetailsCache,
   queryAliasCache,
-  corsWhitelistCache
+  corsWhitelistCache,
+  compiledExpressionCache,
+  ruleEngineContextCache
 }
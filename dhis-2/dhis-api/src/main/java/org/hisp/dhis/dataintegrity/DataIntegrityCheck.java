@@ -78,7 +78,7 @@ public final class DataIntegrityCheck implements Serializable {
   private long executionTime;
   private int executionCount;
 
-  public @JsonProperty Long getAverageExecutionTime() {
+  public synchronized @JsonProperty Long getAverageExecutionTime() {
     return executionTime <= 0L ? null : executionTime / executionCount;
   }
 
@@ -98,7 +98,8 @@ public final class DataIntegrityCheck implements Serializable {
 
   private final transient Function<DataIntegrityCheck, DataIntegrityDetails> runDetailsCheck;
 
-  public DataIntegrityCheck addExecution(long time) {
+  /** Records an execution time. Checks may run concurrently, so this is synchronized. */
+  public synchronized DataIntegrityCheck addExecution(long time) {
     executionCount++;
     executionTime += time;
     return this;
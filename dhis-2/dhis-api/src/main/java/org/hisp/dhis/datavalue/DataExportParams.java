@@ -73,7 +73,12 @@ public class DataExportParams {
     OU,
     PE,
     CREATED,
-    AOC
+    AOC,
+    /**
+     * Orders by last updated (in milliseconds) and then by the value key, which is a total order as
+     * required for keyset paging with {@link #after}.
+     */
+    LAST_UPDATED
   }
 
   /* what DEs to include */
@@ -107,6 +112,9 @@ public class DataExportParams {
   Integer limit;
   Integer offset;
 
+  /** Keyset paging: only values after this position in {@link Order#LAST_UPDATED} order */
+  Cursor after;
+
   public boolean hasDataElementFilters() {
     return notEmpty(dataSets) || notEmpty(dataElements) || notEmpty(dataElementGroups);
   }
@@ -151,6 +159,35 @@ public class DataExportParams {
     return c != null && !c.isEmpty();
   }
 
+  /**
+   * A position in {@link Order#LAST_UPDATED} order, given by the last updated timestamp and the key
+   * of a value.
+   *
+   * <p>The timestamp is compared at millisecond precision so that it does not change when passed
+   * through a {@link Date}.
+   */
+  public record Cursor(
+      @Nonnull Date lastUpdated,
+      @Nonnull UID dataElement,
+      @Nonnull String period,
+      @Nonnull UID orgUnit,
+      @Nonnull UID categoryOptionCombo,
+      @Nonnull UID attributeOptionCombo) {
+
+    /**
+     * @return the position of the given value, which must have a last updated timestamp
+     */
+    public static Cursor of(@Nonnull DataExportValue value) {
+      return new Cursor(
+          new Date(value.lastUpdated().getTime()),
+          value.dataElement(),
+          value.period().getIsoDate(),
+          value.orgUnit(),
+          value.categoryOptionCombo(),
+          value.attributeOptionCombo());
+    }
+  }
+
   /** The parameters adjusting the encoding process of the export. */
   public record EncodingParams(
       boolean unfoldOptionCombos, boolean excludeDefaultCoc, boolean excludeDefaultAoc) {}
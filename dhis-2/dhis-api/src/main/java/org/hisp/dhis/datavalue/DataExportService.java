@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.datavalue;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -89,6 +90,25 @@ public interface DataExportService {
   DataExportGroup.Output exportGroup(@Nonnull DataExportParams.Input params, boolean sync)
       throws ConflictException;
 
+  /**
+   * Export matching values as a single group in sync mode, ordered by {@link
+   * DataExportParams.Order#LAST_UPDATED} so that the export can be paged by keyset.
+   *
+   * @param params what values to export, {@link DataExportParams.Input#getLimit()} is the page size
+   * @param after the position of the last value of the previous page, or null for the first page
+   * @param exported called for each value as it is consumed from the {@link
+   *     DataExportGroup.Output#values()} stream, before ID encoding is applied
+   * @return all matching values in a group
+   * @throws ConflictException in case params are incomplete or contradictory
+   * @implNote the same transaction requirements as for {@link #exportGroup(DataExportParams.Input,
+   *     boolean)} apply
+   */
+  DataExportGroup.Output exportSyncGroup(
+      @Nonnull DataExportParams.Input params,
+      @CheckForNull DataExportParams.Cursor after,
+      @Nonnull Consumer<DataExportValue> exported)
+      throws ConflictException;
+
   /**
    * Export values automatically grouped into groups with the same DS, org unit, period and AOC.
    *
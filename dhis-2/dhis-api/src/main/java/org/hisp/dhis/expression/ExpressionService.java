@@ -293,6 +293,17 @@ public interface ExpressionService {
    */
   Object getExpressionValue(ExpressionParams params);
 
+  /**
+   * Compiles an expression for repeated evaluation. Compiled expressions are cached by expression
+   * and parse type, so that the expression is parsed only once. Syntax errors are logged when the
+   * compiled expression is evaluated, the same as for {@link #getExpressionValue}.
+   *
+   * @param expression the expression string.
+   * @param parseType the type of expression to compile.
+   * @return the {@link CompiledExpression}.
+   */
+  CompiledExpression compileExpression(String expression, ParseType parseType);
+
   // -------------------------------------------------------------------------
   // Gets a (possibly cached) constant map
   // -------------------------------------------------------------------------
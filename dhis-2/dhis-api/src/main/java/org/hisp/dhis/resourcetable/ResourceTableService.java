@@ -35,8 +35,11 @@ import org.hisp.dhis.scheduling.JobProgress;
  * @author Lars Helge Overland
  */
 public interface ResourceTableService {
-  /** Generates resource tables. */
-  void generateResourceTables();
+  /**
+   * Generates resource tables. Tables which do not depend on each other are generated in parallel,
+   * progress is reported per table.
+   */
+  void generateResourceTables(JobProgress progress);
 
   /** Replicates resource tables in the analytics database. */
   void replicateAnalyticsResourceTables();
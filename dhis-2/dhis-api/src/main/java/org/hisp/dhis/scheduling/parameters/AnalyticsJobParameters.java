@@ -58,6 +58,7 @@ public class AnalyticsJobParameters implements JobParameters {
 
   @JsonProperty private boolean skipResourceTables = false;
   @JsonProperty private boolean skipOutliers = false;
+  @JsonProperty private boolean skipUnchangedPartitions = false;
 
   public AnalyticsJobParameters(
       Integer lastYears,
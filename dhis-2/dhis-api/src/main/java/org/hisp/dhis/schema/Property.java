@@ -41,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
 import org.hisp.dhis.common.DxfNamespaces;
@@ -72,7 +73,10 @@ public class Property implements Ordered, Klass {
   @Setter private PropertyType itemPropertyType;
 
   /** Direct link to getter for this property. */
-  @Getter @Setter private Method getterMethod;
+  @Getter private Method getterMethod;
+
+  /** Compiled accessor for {@link #getterMethod}, created on first use. */
+  private volatile Function<Object, Object> getterFunction;
 
   /** Direct link to setter for this property. */
   @Getter @Setter private Method setterMethod;
@@ -246,6 +250,35 @@ public class Property implements Ordered, Klass {
     this.setterMethod = setter;
   }
 
+  public void setGetterMethod(Method getterMethod) {
+    this.getterMethod = getterMethod;
+    this.getterFunction = null;
+  }
+
+  /**
+   * Gets the value of this property from the given object using a compiled accessor for the getter
+   * method, which is much faster than invoking the getter method by reflection.
+   *
+   * @param target the object to get the value from, must be an instance of the class declaring the
+   *     getter method.
+   * @return the value, or null if the target is null or the property has no public getter.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getValue(Object target) {
+    Function<Object, Object> getter = getterFunction;
+
+    if (getter == null) {
+      if (getterMethod == null) {
+        return null;
+      }
+
+      getter = PropertyAccessors.createGetter(getterMethod);
+      getterFunction = getter;
+    }
+
+    return (T) getter.apply(target);
+  }
+
   @Override
   @JsonProperty
   @JacksonXmlProperty(namespace = DxfNamespaces.DXF_2_0)
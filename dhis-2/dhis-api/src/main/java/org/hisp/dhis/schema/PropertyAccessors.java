@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.schema;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates accessor functions for property getter methods using {@link LambdaMetafactory}. Calling
+ * such a function is as fast as calling the getter directly, whereas {@link Method#invoke} checks
+ * access and boxes the arguments into an array for every call.
+ *
+ * <p>If a function cannot be created, for example because the getter is declared by a JDK class,
+ * a function using reflection is returned instead.
+ */
+@Slf4j
+final class PropertyAccessors {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private PropertyAccessors() {
+    throw new UnsupportedOperationException("util");
+  }
+
+  /**
+   * Creates a function which calls the given getter on its argument.
+   *
+   * <p>Like {@code ReflectionUtils.invokeMethod}, the function returns null for non-public getters
+   * and null arguments.
+   *
+   * @param getter the getter method.
+   * @return the accessor function.
+   */
+  @SuppressWarnings("unchecked")
+  static Function<Object, Object> createGetter(Method getter) {
+    if (!Modifier.isPublic(getter.getModifiers())) {
+      return target -> null;
+    }
+
+    Function<Object, Object> function;
+
+    try {
+      MethodHandles.Lookup lookup =
+          MethodHandles.privateLookupIn(getter.getDeclaringClass(), LOOKUP);
+      MethodHandle handle = lookup.unreflect(getter);
+      CallSite site =
+          LambdaMetafactory.metafactory(
+              lookup,
+              "apply",
+              MethodType.methodType(Function.class),
+              MethodType.methodType(Object.class, Object.class),
+              handle,
+              handle.type().wrap());
+      function = (Function<Object, Object>) site.getTarget().invoke();
+    } catch (Throwable ex) {
+      log.debug("Using reflection for getter '{}': {}", getter, ex.getMessage());
+      function = target -> invoke(getter, target);
+    }
+
+    Function<Object, Object> accessor = function;
+
+    return target -> target == null ? null : accessor.apply(target);
+  }
+
+  private static Object invoke(Method getter, Object target) {
+    try {
+      return getter.invoke(target);
+    } catch (InvocationTargetException | IllegalAccessException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+}
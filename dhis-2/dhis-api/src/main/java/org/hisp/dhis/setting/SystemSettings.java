@@ -336,6 +336,26 @@ public non-sealed interface SystemSettings extends Settings {
     return asInt("keyParallelJobsInAnalyticsTableExport", -1);
   }
 
+  default int getParallelJobsInAnalyticsTableIndexing() {
+    return asInt("keyParallelJobsInAnalyticsTableIndexing", -1);
+  }
+
+  default int getParallelJobsInResourceTableGeneration() {
+    return asInt("keyParallelJobsInResourceTableGeneration", -1);
+  }
+
+  default int getParallelJobsInPredictions() {
+    return asInt("keyParallelJobsInPredictions", -1);
+  }
+
+  default int getParallelJobsInDataIntegrityChecks() {
+    return asInt("keyParallelJobsInDataIntegrityChecks", -1);
+  }
+
+  default boolean getDataIntegrityChecksOnReadReplica() {
+    return asBoolean("keyDataIntegrityChecksOnReadReplica", false);
+  }
+
   default boolean getCustomLoginPageLogo() {
     return asBoolean("keyCustomLoginPageLogo", false);
   }
@@ -364,6 +384,14 @@ public non-sealed interface SystemSettings extends Settings {
     return asDate("keyLastSuccessfulDataSynch", new Date(0L));
   }
 
+  /**
+   * @return the position up to which an unfinished data value synchronization has already been
+   *     completed, empty if the last synchronization did finish
+   */
+  default String getDataSynchCheckpoint() {
+    return asString("keyDataSynchCheckpoint", "");
+  }
+
   default Date getLastSuccessfulEventsDataSynch() {
     return asDate("keyLastSuccessfulEventsDataSynch", new Date(0L));
   }
@@ -380,6 +408,10 @@ public non-sealed interface SystemSettings extends Settings {
     return asDate("keyLastSuccessfulAnalyticsTablesUpdate", new Date(0L));
   }
 
+  default Date getLastSuccessfulFullAnalyticsTablesUpdate() {
+    return asDate("keyLastSuccessfulFullAnalyticsTablesUpdate", new Date(0L));
+  }
+
   default Date getLastSuccessfulLatestAnalyticsPartitionUpdate() {
     return asDate("keyLastSuccessfulLatestAnalyticsPartitionUpdate", new Date(0L));
   }
@@ -561,6 +593,14 @@ public non-sealed interface SystemSettings extends Settings {
     return asInt("syncDelayBetweenRemoteServerAvailabilityCheckAttempts", 500);
   }
 
+  /**
+   * @return the maximum number of data value pages that are uploaded concurrently during
+   *     synchronization
+   */
+  default int getSyncMaxPagesInFlight() {
+    return asInt("syncMaxPagesInFlight", 2);
+  }
+
   default Date getLastSuccessfulDataStatistics() {
     return asDate("lastSuccessfulDataStatistics", new Date(0L));
   }
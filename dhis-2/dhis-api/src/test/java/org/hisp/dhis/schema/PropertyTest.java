@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.hisp.dhis.dataelement.DataElement;
+import org.junit.jupiter.api.Test;
+
+class PropertyTest {
+
+  public static class Bean {
+    public String getName() {
+      return "name";
+    }
+
+    public int getCount() {
+      return 42;
+    }
+
+    String getHidden() {
+      return "hidden";
+    }
+
+    public String getFailure() {
+      throw new IllegalStateException("failure");
+    }
+  }
+
+  @Test
+  void testGetValue() throws NoSuchMethodException {
+    Property property = new Property(String.class, Bean.class.getMethod("getName"), null);
+
+    assertEquals("name", property.getValue(new Bean()));
+  }
+
+  @Test
+  void testGetValuePrimitive() throws NoSuchMethodException {
+    Property property = new Property(int.class, Bean.class.getMethod("getCount"), null);
+
+    assertEquals(42, (Integer) property.getValue(new Bean()));
+  }
+
+  @Test
+  void testGetValueInheritedGetter() throws NoSuchMethodException {
+    DataElement dataElement = new DataElement("A");
+    Property property = new Property(String.class, DataElement.class.getMethod("getName"), null);
+
+    assertEquals("A", property.getValue(dataElement));
+  }
+
+  @Test
+  void testGetValueJdkGetter() throws NoSuchMethodException {
+    Property property = new Property(Class.class, Object.class.getMethod("getClass"), null);
+
+    assertEquals(Bean.class, property.getValue(new Bean()));
+  }
+
+  @Test
+  void testGetValueNull() throws NoSuchMethodException {
+    assertNull(new Property(String.class).getValue(new Bean()));
+    assertNull(new Property(String.class, Bean.class.getMethod("getName"), null).getValue(null));
+    assertNull(
+        new Property(String.class, Bean.class.getDeclaredMethod("getHidden"), null)
+            .getValue(new Bean()));
+  }
+
+  @Test
+  void testGetValueThrows() throws NoSuchMethodException {
+    Property property = new Property(String.class, Bean.class.getMethod("getFailure"), null);
+    Bean bean = new Bean();
+
+    assertThrows(IllegalStateException.class, () -> property.getValue(bean));
+  }
+
+  @Test
+  void testSetGetterMethodResetsAccessor() throws NoSuchMethodException {
+    Property property = new Property(String.class, Bean.class.getMethod("getName"), null);
+    Bean bean = new Bean();
+    assertEquals("name", property.getValue(bean));
+
+    property.setGetterMethod(Bean.class.getMethod("getCount"));
+
+    assertEquals(42, (Integer) property.getValue(bean));
+  }
+}
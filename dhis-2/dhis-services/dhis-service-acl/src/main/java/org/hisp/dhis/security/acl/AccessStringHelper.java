@@ -48,9 +48,12 @@ public class AccessStringHelper {
 
     private int position;
 
+    private int mask;
+
     Permission(char value, int position) {
       this.value = value;
       this.position = position;
+      this.mask = 1 << position;
     }
 
     public char getValue() {
@@ -60,8 +63,24 @@ public class AccessStringHelper {
     public int getPosition() {
       return position;
     }
+
+    /**
+     * @return the bit of this permission in an access mask, see {@link #toMask(String)}
+     */
+    public int getMask() {
+      return mask;
+    }
   }
 
+  /** Access mask with all permissions enabled. */
+  public static final int FULL_MASK =
+      Permission.READ.mask
+          | Permission.WRITE.mask
+          | Permission.DATA_READ.mask
+          | Permission.DATA_WRITE.mask;
+
+  private static final Permission[] PERMISSIONS = Permission.values();
+
   private char[] access = DEFAULT.toCharArray();
 
   public static final String DEFAULT = "--------";
@@ -176,9 +195,35 @@ public class AccessStringHelper {
   }
 
   public static boolean isEnabled(String access, Permission permission) {
-    return access == null
-        || (validateAccessString(access)
-            && access.charAt(permission.getPosition()) == permission.getValue());
+    return (toMask(access) & permission.getMask()) != 0;
+  }
+
+  /**
+   * Converts an access string to a bit mask of the enabled permissions, so that permissions can be
+   * checked with {@code (mask & permission.getMask()) != 0}.
+   *
+   * @param access the access string
+   * @return the mask of enabled permissions, {@link #FULL_MASK} for null and 0 for invalid access
+   *     strings
+   */
+  public static int toMask(String access) {
+    if (access == null) {
+      return FULL_MASK;
+    }
+
+    if (!validateAccessString(access)) {
+      return 0;
+    }
+
+    int mask = 0;
+
+    for (Permission permission : PERMISSIONS) {
+      if (access.charAt(permission.getPosition()) == permission.getValue()) {
+        mask |= permission.getMask();
+      }
+    }
+
+    return mask;
   }
 
   public static boolean isValid(String access) {
@@ -192,12 +237,15 @@ public class AccessStringHelper {
       return false;
     }
 
-    byte[] bytes = access.getBytes();
+    char read = access.charAt(0);
+    char write = access.charAt(1);
+    char dataRead = access.charAt(2);
+    char dataWrite = access.charAt(3);
 
-    return (bytes[0] == '-' || bytes[0] == 'r')
-        && (bytes[1] == '-' || bytes[1] == 'w')
-        && (bytes[2] == '-' || bytes[2] == 'r')
-        && (bytes[3] == '-' || bytes[3] == 'w');
+    return (read == '-' || read == 'r')
+        && (write == '-' || write == 'w')
+        && (dataRead == '-' || dataRead == 'r')
+        && (dataWrite == '-' || dataWrite == 'w');
   }
 
   public static boolean hasDataSharing(String access) {
@@ -42,7 +42,6 @@ import org.hisp.dhis.cache.CacheProvider;
 import org.hisp.dhis.category.CategoryOption;
 import org.hisp.dhis.category.CategoryOptionCombo;
 import org.hisp.dhis.common.IdentifiableObject;
-import org.hisp.dhis.common.collection.CollectionUtils;
 import org.hisp.dhis.feedback.ErrorCode;
 import org.hisp.dhis.feedback.ErrorReport;
 import org.hisp.dhis.hibernate.HibernateProxyUtils;
@@ -65,6 +64,8 @@ import org.springframework.stereotype.Service;
  */
 @Service("org.hisp.dhis.security.acl.AclService")
 public class DefaultAclService implements AclService {
+  private static final int DATA_READ_OR_WRITE =
+      Permission.DATA_READ.getMask() | Permission.DATA_WRITE.getMask();
 
   private final SchemaService schemaService;
   private final Cache<CurrentUserGroupInfo> userGroupInfoCache;
@@ -171,13 +172,11 @@ public class DefaultAclService implements AclService {
     if (canAccess(userDetails, schema.getAuthorityByType(AuthorityType.DATA_READ))) {
 
       if (object instanceof CategoryOptionCombo) {
-        return checkOptionComboSharingPermission(userDetails, object, Permission.DATA_READ)
-            || checkOptionComboSharingPermission(userDetails, object, Permission.DATA_WRITE);
+        return checkOptionComboSharingPermission(userDetails, object, DATA_READ_OR_WRITE);
       } else {
 
         return schema.isDataShareable()
-            && (checkSharingPermission(userDetails, object, Permission.DATA_READ)
-                || checkSharingPermission(userDetails, object, Permission.DATA_WRITE));
+            && checkSharingPermission(userDetails, object, DATA_READ_OR_WRITE);
       }
     }
 
@@ -713,41 +712,29 @@ public class DefaultAclService implements AclService {
    */
   private boolean checkSharingPermission(
       @Nonnull UserDetails userDetails, IdentifiableObject object, Permission permission) {
+    return checkSharingPermission(userDetails, object, permission.getMask());
+  }
 
-    Sharing sharing = object.getSharing();
-    if (AccessStringHelper.isEnabled(sharing.getPublicAccess(), permission)) {
-      return true;
-    }
-
-    if (sharing.getUserGroups() != null
-        && !CollectionUtils.isEmpty(userDetails.getUserGroupIds())) {
-      for (UserGroupAccess userGroupAccess : sharing.getUserGroups().values()) {
-        // Check if user is allowed to read this object through group
-        // access
-        if (AccessStringHelper.isEnabled(userGroupAccess.getAccess(), permission)
-            && hasUserGroupAccess(userDetails.getUserGroupIds(), userGroupAccess.getId())) {
-          return true;
-        }
-      }
-    }
-
-    if (sharing.getUsers() != null) {
-      for (UserAccess userAccess : sharing.getUsers().values()) {
-        // Check if user is allowed to read to this object through user
-        // access
-
-        if (AccessStringHelper.isEnabled(userAccess.getAccess(), permission)
-            && userDetails.getUid().equals(userAccess.getId())) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+  /**
+   * If the given user allowed to access the given object using any of the permissions given.
+   *
+   * @param userDetails to check against
+   * @param object Object to check against
+   * @param permissions mask of the permissions to check against
+   * @return true if user can access object, false otherwise
+   */
+  private boolean checkSharingPermission(
+      @Nonnull UserDetails userDetails, IdentifiableObject object, int permissions) {
+    return SharingPermissions.hasAnyPermission(userDetails, object.getSharing(), permissions);
   }
 
   private boolean checkOptionComboSharingPermission(
       UserDetails userDetails, IdentifiableObject object, Permission permission) {
+    return checkOptionComboSharingPermission(userDetails, object, permission.getMask());
+  }
+
+  private boolean checkOptionComboSharingPermission(
+      UserDetails userDetails, IdentifiableObject object, int permissions) {
     CategoryOptionCombo optionCombo = (CategoryOptionCombo) object;
 
     if (optionCombo.isDefault() || optionCombo.getCategoryOptions().isEmpty()) {
@@ -757,7 +744,7 @@ public class DefaultAclService implements AclService {
     List<Long> accessibleOptions = new ArrayList<>();
 
     for (CategoryOption option : optionCombo.getCategoryOptions()) {
-      if (checkSharingPermission(userDetails, option, permission)) {
+      if (checkSharingPermission(userDetails, option, permissions)) {
         accessibleOptions.add(option.getId());
       }
     }
@@ -782,14 +769,4 @@ public class DefaultAclService implements AclService {
     return checkSharingAccess(userDetails, object, objType)
         && (checkMetadataSharingPermission(userDetails, object, Permission.WRITE));
   }
-
-  private boolean hasUserGroupAccess(Set<String> userGroups, String userGroupUid) {
-    for (String groupUid : userGroups) {
-      if (groupUid.equals(userGroupUid)) {
-        return true;
-      }
-    }
-
-    return false;
-  }
 }
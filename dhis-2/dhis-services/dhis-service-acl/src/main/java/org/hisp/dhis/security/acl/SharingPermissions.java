@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.security.acl;
+
+import static org.hisp.dhis.security.acl.AccessStringHelper.toMask;
+
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.hisp.dhis.user.UserDetails;
+import org.hisp.dhis.user.sharing.Sharing;
+import org.hisp.dhis.user.sharing.UserAccess;
+import org.hisp.dhis.user.sharing.UserGroupAccess;
+
+/**
+ * Evaluates {@link Sharing} against a user using access masks, see {@link
+ * AccessStringHelper#toMask(String)}.
+ *
+ * <p>Access strings are only converted to masks for entries that can grant access, and user group
+ * membership is checked with a set lookup, so the cost of a check grows with the number of sharing
+ * entries of the object but not with the number of user groups of the user.
+ */
+final class SharingPermissions {
+  private SharingPermissions() {
+    throw new UnsupportedOperationException("util");
+  }
+
+  /**
+   * @param userDetails the user
+   * @param sharing the sharing of an object
+   * @param permissions the mask of the permissions to check
+   * @return true if the sharing grants the user any of the given permissions
+   */
+  static boolean hasAnyPermission(
+      @Nonnull UserDetails userDetails, @Nonnull Sharing sharing, int permissions) {
+    if ((toMask(sharing.getPublicAccess()) & permissions) != 0) {
+      return true;
+    }
+
+    Map<String, UserGroupAccess> userGroups = sharing.getUserGroups();
+    Set<String> userGroupIds = userDetails.getUserGroupIds();
+
+    if (userGroups != null && userGroupIds != null && !userGroupIds.isEmpty()) {
+      for (UserGroupAccess userGroupAccess : userGroups.values()) {
+        String userGroupId = userGroupAccess.getId();
+
+        if (userGroupId != null
+            && (toMask(userGroupAccess.getAccess()) & permissions) != 0
+            && userGroupIds.contains(userGroupId)) {
+          return true;
+        }
+      }
+    }
+
+    Map<String, UserAccess> users = sharing.getUsers();
+
+    if (users != null && !users.isEmpty()) {
+      String userUid = userDetails.getUid();
+
+      for (UserAccess userAccess : users.values()) {
+        if (userUid.equals(userAccess.getId())
+            && (toMask(userAccess.getAccess()) & permissions) != 0) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+}
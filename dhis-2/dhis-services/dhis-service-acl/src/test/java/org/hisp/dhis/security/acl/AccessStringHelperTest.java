@@ -29,9 +29,11 @@
  */
 package org.hisp.dhis.security.acl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.hisp.dhis.security.acl.AccessStringHelper.Permission;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -74,4 +76,15 @@ class AccessStringHelperTest {
     assertTrue(AccessStringHelper.canRead(AccessStringHelper.READ_WRITE));
     assertTrue(AccessStringHelper.canWrite(AccessStringHelper.READ_WRITE));
   }
+
+  @Test
+  void testToMask() {
+    assertEquals(0, AccessStringHelper.toMask(AccessStringHelper.DEFAULT));
+    assertEquals(AccessStringHelper.FULL_MASK, AccessStringHelper.toMask(null));
+    assertEquals(AccessStringHelper.FULL_MASK, AccessStringHelper.toMask(AccessStringHelper.FULL));
+    assertEquals(
+        Permission.READ.getMask() | Permission.DATA_WRITE.getMask(),
+        AccessStringHelper.toMask("r--w----"));
+    assertEquals(0, AccessStringHelper.toMask("rw--r---"));
+  }
 }
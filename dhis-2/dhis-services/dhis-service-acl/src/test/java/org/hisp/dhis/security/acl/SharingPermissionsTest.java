@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.security.acl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.hisp.dhis.security.acl.AccessStringHelper.Permission;
+import org.hisp.dhis.user.UserDetails;
+import org.hisp.dhis.user.sharing.Sharing;
+import org.hisp.dhis.user.sharing.UserAccess;
+import org.hisp.dhis.user.sharing.UserGroupAccess;
+import org.junit.jupiter.api.Test;
+
+class SharingPermissionsTest {
+  private final UserDetails user =
+      UserDetails.empty().uid("userA").userGroupIds(Set.of("groupA", "groupB")).build();
+
+  @Test
+  void testPublicAccess() {
+    Sharing sharing = Sharing.builder().publicAccess("r-------").build();
+
+    assertTrue(hasAny(sharing, Permission.READ));
+    assertFalse(hasAny(sharing, Permission.WRITE));
+  }
+
+  @Test
+  void testNullPublicAccessGrantsAll() {
+    Sharing sharing = Sharing.builder().build();
+
+    assertTrue(hasAny(sharing, Permission.DATA_WRITE));
+  }
+
+  @Test
+  void testInvalidAccessGrantsNothing() {
+    Sharing sharing = Sharing.builder().publicAccess("rwrwrwrw").build();
+
+    assertFalse(hasAny(sharing, Permission.READ));
+  }
+
+  @Test
+  void testUserGroupAccess() {
+    Sharing sharing = Sharing.builder().publicAccess(AccessStringHelper.DEFAULT).build();
+    sharing.addUserGroupAccess(new UserGroupAccess("--rw----", "groupB"));
+    sharing.addUserGroupAccess(new UserGroupAccess("rw------", "groupC"));
+
+    assertTrue(hasAny(sharing, Permission.DATA_WRITE));
+    assertFalse(hasAny(sharing, Permission.WRITE));
+  }
+
+  @Test
+  void testUserAccess() {
+    Sharing sharing = Sharing.builder().publicAccess(AccessStringHelper.DEFAULT).build();
+    sharing.addUserAccess(new UserAccess("r-------", "userA"));
+    sharing.addUserAccess(new UserAccess("rw------", "userB"));
+
+    assertTrue(hasAny(sharing, Permission.READ));
+    assertFalse(hasAny(sharing, Permission.WRITE));
+  }
+
+  @Test
+  void testAnyOfSeveralPermissions() {
+    Sharing sharing = Sharing.builder().publicAccess("---w----").build();
+
+    assertTrue(
+        SharingPermissions.hasAnyPermission(
+            user, sharing, Permission.DATA_READ.getMask() | Permission.DATA_WRITE.getMask()));
+  }
+
+  private boolean hasAny(Sharing sharing, Permission permission) {
+    return SharingPermissions.hasAnyPermission(user, sharing, permission.getMask());
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dataintegrity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.hisp.dhis.scheduling.JobProgress;
+
+/**
+ * Runs data integrity checks as the work items of a {@link JobProgress} stage, using the recorded
+ * execution times of the checks as cost model.
+ *
+ * <p>With a parallelism of 1 the checks run sequentially from fast to slow, so that results become
+ * available as early as possible. Otherwise the SQL checks run on a pool of at most parallelism
+ * threads, which bounds the number of database connections used at once. They are started from
+ * slow to fast (longest processing time first), which keeps the total run time close to that of
+ * the slowest check when there are enough threads. Programmatic checks run on the calling thread
+ * meanwhile, as they use services which rely on the transaction of the caller.
+ */
+final class DataIntegrityCheckScheduler {
+  private DataIntegrityCheckScheduler() {
+    throw new UnsupportedOperationException("util");
+  }
+
+  /**
+   * Runs the checks and waits for all of them to complete.
+   *
+   * @param progress the progress to report work items to, the stage must have been started
+   * @param parallelism the maximum number of SQL checks to run at once
+   * @param checks the checks to run
+   * @param work runs a single check
+   */
+  static void runChecks(
+      JobProgress progress,
+      int parallelism,
+      List<DataIntegrityCheck> checks,
+      Consumer<DataIntegrityCheck> work) {
+    if (parallelism <= 1) {
+      progress.runStage(
+          checks.stream().sorted(DataIntegrityCheck.FAST_TO_SLOW),
+          DataIntegrityCheck::getDescription,
+          work);
+      return;
+    }
+
+    List<DataIntegrityCheck> sqlChecks =
+        checks.stream()
+            .filter(check -> !check.isProgrammatic())
+            .sorted(DataIntegrityCheck.FAST_TO_SLOW.reversed())
+            .toList();
+    List<DataIntegrityCheck> programmaticChecks =
+        checks.stream()
+            .filter(DataIntegrityCheck::isProgrammatic)
+            .sorted(DataIntegrityCheck.FAST_TO_SLOW)
+            .toList();
+
+    AtomicInteger success = new AtomicInteger();
+    AtomicInteger failed = new AtomicInteger();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, sqlChecks.size())));
+
+    try {
+      // the fixed pool takes tasks from its queue in submission order
+      List<Future<?>> futures = new ArrayList<>(sqlChecks.size());
+      for (DataIntegrityCheck check : sqlChecks) {
+        futures.add(executor.submit(() -> runCheck(progress, check, work, success, failed)));
+      }
+      for (DataIntegrityCheck check : programmaticChecks) {
+        runCheck(progress, check, work, success, failed);
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException ex) {
+      progress.failedStage(ex);
+      Thread.currentThread().interrupt();
+      return;
+    } catch (ExecutionException ex) {
+      progress.failedStage(ex);
+      return;
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int successful = success.get();
+    int failures = failed.get();
+    if (!progress.autoSkipStage(DataIntegrityCheckScheduler::summary, successful, failures)) {
+      progress.completedStage(summary(successful, failures));
+    }
+  }
+
+  private static void runCheck(
+      JobProgress progress,
+      DataIntegrityCheck check,
+      Consumer<DataIntegrityCheck> work,
+      AtomicInteger success,
+      AtomicInteger failed) {
+    if (progress.isSkipCurrentStage()) {
+      return;
+    }
+    String description = check.getDescription();
+    progress.startingWorkItem(description != null ? description : check.getName());
+    try {
+      work.accept(check);
+      progress.completedWorkItem(null);
+      success.incrementAndGet();
+    } catch (RuntimeException ex) {
+      progress.failedWorkItem(ex);
+      failed.incrementAndGet();
+    }
+  }
+
+  private static String summary(int success, int failed) {
+    return success + " successful and " + failed + " failed items";
+  }
+}
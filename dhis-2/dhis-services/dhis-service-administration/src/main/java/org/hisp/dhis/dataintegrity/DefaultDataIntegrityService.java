@@ -75,6 +75,7 @@ import org.hisp.dhis.antlr.ParserException;
 import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheProvider;
 import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.commons.util.SystemUtils;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementService;
 import org.hisp.dhis.dataentryform.DataEntryFormService;
@@ -104,6 +105,7 @@ import org.hisp.dhis.programrule.ProgramRuleVariableService;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
+import org.hisp.dhis.setting.SystemSettingsProvider;
 import org.hisp.dhis.validation.ValidationRule;
 import org.hisp.dhis.validation.ValidationRuleService;
 import org.springframework.stereotype.Service;
@@ -149,6 +151,8 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
 
   private final SchemaService schemaService;
 
+  private final SystemSettingsProvider settingsProvider;
+
   private Cache<DataIntegritySummary> summaryCache;
 
   private Cache<DataIntegrityDetails> detailsCache;
@@ -723,12 +727,10 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
       running.addAll(checks);
       progress.startingProcess("Data integrity check");
       progress.startingStage(stageDesc, checks.size(), SKIP_ITEM);
-      progress.runStage(
-          checks.stream()
-              .map(checksByName::get)
-              .filter(Objects::nonNull)
-              .sorted(DataIntegrityCheck.FAST_TO_SLOW),
-          DataIntegrityCheck::getDescription,
+      DataIntegrityCheckScheduler.runChecks(
+          progress,
+          getParallelJobs(),
+          checks.stream().map(checksByName::get).filter(Objects::nonNull).toList(),
           check -> {
             Date startTime = new Date();
             T res;
@@ -751,6 +753,12 @@ public class DefaultDataIntegrityService implements DataIntegrityService {
     }
   }
 
+  private int getParallelJobs() {
+    int parallelJobs = settingsProvider.getCurrentSettings().getParallelJobsInDataIntegrityChecks();
+
+    return parallelJobs > 0 ? parallelJobs : Math.max(1, SystemUtils.getCpuCores() / 2);
+  }
+
   private Set<String> expandChecks(Set<String> names, boolean restricted) {
     ensureConfigurationsAreLoaded();
 
@@ -33,14 +33,19 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Date;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.dataintegrity.DataIntegrityCheck;
 import org.hisp.dhis.dataintegrity.DataIntegrityDetails;
 import org.hisp.dhis.dataintegrity.DataIntegrityDetails.DataIntegrityIssue;
 import org.hisp.dhis.dataintegrity.DataIntegrityStore;
 import org.hisp.dhis.dataintegrity.DataIntegritySummary;
+import org.hisp.dhis.setting.SystemSettingsProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,20 +53,35 @@ import org.springframework.transaction.annotation.Transactional;
  * As we want each check to be its own transaction the @{@link Transactional} annotation is used on
  * the store and not the service level in this case.
  *
+ * <p>When the {@code keyDataIntegrityChecksOnReadReplica} setting is enabled the checks run on the
+ * read-only data source instead, which is the primary data source when no read replicas are
+ * configured.
+ *
  * @author Jan Bernitt
  */
 @Repository
-@RequiredArgsConstructor
 public class HibernateDataIntegrityStore implements DataIntegrityStore {
   @PersistenceContext private final EntityManager entityManager;
 
+  private final JdbcTemplate readOnlyJdbcTemplate;
+
+  private final SystemSettingsProvider settingsProvider;
+
+  public HibernateDataIntegrityStore(
+      EntityManager entityManager,
+      @Qualifier("readOnlyJdbcTemplate") JdbcTemplate readOnlyJdbcTemplate,
+      SystemSettingsProvider settingsProvider) {
+    this.entityManager = entityManager;
+    this.readOnlyJdbcTemplate = readOnlyJdbcTemplate;
+    this.settingsProvider = settingsProvider;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public DataIntegritySummary querySummary(DataIntegrityCheck check, String sql) {
     Date startTime = new Date();
     // Note! that the SQL here can be touching any table so we cannot sync it
-    Object summary =
-        entityManager.createNativeQuery(sql).getResultStream().findFirst().orElse(null);
+    Object summary = queryRows(sql).stream().findFirst().orElse(null);
     return new DataIntegritySummary(
         check, startTime, new Date(), null, parseCount(summary), parsePercentage(summary));
   }
@@ -71,8 +91,7 @@ public class HibernateDataIntegrityStore implements DataIntegrityStore {
   public DataIntegrityDetails queryDetails(DataIntegrityCheck check, String sql) {
     Date startTime = new Date();
     // Note! that the SQL here can be touching any table so we cannot sync it
-    @SuppressWarnings("unchecked")
-    List<Object[]> rows = entityManager.createNativeQuery(sql).getResultList();
+    List<Object[]> rows = queryRows(sql);
     return new DataIntegrityDetails(
         check,
         startTime,
@@ -86,6 +105,26 @@ public class HibernateDataIntegrityStore implements DataIntegrityStore {
             .collect(toUnmodifiableList()));
   }
 
+  @SuppressWarnings("unchecked")
+  private List<Object[]> queryRows(String sql) {
+    if (settingsProvider.getCurrentSettings().getDataIntegrityChecksOnReadReplica()) {
+      return readOnlyJdbcTemplate.query(sql, HibernateDataIntegrityStore::toRow);
+    }
+    List<Object> rows = entityManager.createNativeQuery(sql).getResultList();
+    // single column queries return the values rather than rows
+    return rows.stream().map(r -> r instanceof Object[] row ? row : new Object[] {r}).toList();
+  }
+
+  /** Maps a JDBC row to the same shape as a Hibernate native query row with array columns. */
+  private static Object[] toRow(ResultSet rs, int rowNum) throws SQLException {
+    Object[] row = new Object[rs.getMetaData().getColumnCount()];
+    for (int i = 0; i < row.length; i++) {
+      Object value = rs.getObject(i + 1);
+      row[i] = value instanceof Array array ? array.getArray() : value;
+    }
+    return row;
+  }
+
   private static String getIndex(Object[] row, int index) {
     return row.length <= index ? null : (String) row[index];
   }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dataintegrity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.scheduling.JobProgress;
+import org.junit.jupiter.api.Test;
+
+class DataIntegrityCheckSchedulerTest {
+
+  @Test
+  void testRunChecksSequentiallyFromFastToSlow() {
+    List<DataIntegrityCheck> checks =
+        List.of(
+            createCheck("c", 300, false),
+            createCheck("a", 100, false),
+            createCheck("b", 200, true));
+    List<String> started = new CopyOnWriteArrayList<>();
+
+    DataIntegrityCheckScheduler.runChecks(
+        JobProgress.noop(), 1, checks, check -> started.add(check.getName()));
+
+    assertEquals(List.of("a", "b", "c"), started);
+  }
+
+  @Test
+  void testRunChecksInParallelFromSlowToFast() throws InterruptedException {
+    List<DataIntegrityCheck> checks =
+        List.of(
+            createCheck("a", 100, false),
+            createCheck("d", 400, false),
+            createCheck("b", 200, false),
+            createCheck("c", 300, false));
+    List<String> started = new CopyOnWriteArrayList<>();
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    DataIntegrityCheckScheduler.runChecks(
+        JobProgress.noop(),
+        2,
+        checks,
+        check -> {
+          started.add(check.getName());
+          bothStarted.countDown();
+          try {
+            bothStarted.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        });
+
+    assertEquals(4, started.size());
+    assertEquals(Set.of("d", "c"), Set.copyOf(started.subList(0, 2)));
+    assertEquals(Set.of("b", "a"), Set.copyOf(started.subList(2, 4)));
+  }
+
+  @Test
+  void testRunChecksRunsProgrammaticChecksOnCallingThread() {
+    List<DataIntegrityCheck> checks =
+        List.of(
+            createCheck("sql_a", 100, false),
+            createCheck("programmatic_a", 100, true),
+            createCheck("sql_b", 200, false),
+            createCheck("programmatic_b", 200, true));
+    Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+    DataIntegrityCheckScheduler.runChecks(
+        JobProgress.noop(),
+        4,
+        checks,
+        check -> threads.put(check.getName(), Thread.currentThread()));
+
+    assertEquals(4, threads.size());
+    assertEquals(Thread.currentThread(), threads.get("programmatic_a"));
+    assertEquals(Thread.currentThread(), threads.get("programmatic_b"));
+    assertNotEquals(Thread.currentThread(), threads.get("sql_a"));
+    assertNotEquals(Thread.currentThread(), threads.get("sql_b"));
+  }
+
+  @Test
+  void testRunChecksContinuesAfterFailedCheck() {
+    List<DataIntegrityCheck> checks =
+        List.of(createCheck("a", 100, false), createCheck("b", 200, false));
+    Set<String> completed = ConcurrentHashMap.newKeySet();
+
+    DataIntegrityCheckScheduler.runChecks(
+        JobProgress.noop(),
+        2,
+        checks,
+        check -> {
+          if (check.getName().equals("b")) {
+            throw new IllegalStateException("failed");
+          }
+          completed.add(check.getName());
+        });
+
+    assertTrue(completed.contains("a"));
+  }
+
+  private static DataIntegrityCheck createCheck(String name, long time, boolean programmatic) {
+    return DataIntegrityCheck.builder()
+        .name(name)
+        .isProgrammatic(programmatic)
+        .build()
+        .addExecution(time);
+  }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics;
+
+import static org.hisp.dhis.common.DimensionConstants.DIMENSION_SEP;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact container of aggregated values. Each row holds the identifiers of the dimension items of
+ * the row and the aggregated value. Dimension item identifiers are stored once and referenced by
+ * ordinal, and numeric values are stored as primitive doubles. This avoids building, splitting and
+ * joining dimension keys concatenated by {@link
+ * org.hisp.dhis.common.DimensionConstants#DIMENSION_SEP} for every value.
+ *
+ * <p>Rows are unique by dimension items. Putting a row with dimension items which are already
+ * present replaces the value of the existing row. This class is not thread-safe.
+ */
+public class AggregatedValues {
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** Distinct dimension item identifiers, indexed by ordinal. */
+  private final List<String> items = new ArrayList<>();
+
+  /** Mapping between dimension item identifiers and ordinals. */
+  private final Map<String, Integer> itemOrdinals = new HashMap<>();
+
+  /** Number of dimension items per row, -1 if no rows were added yet. */
+  private int dimensionCount = -1;
+
+  /** Dimension item ordinals of all rows, with {@link #dimensionCount} ordinals per row. */
+  private int[] rowItems = new int[0];
+
+  /** Numeric values of all rows, used as long as all values are doubles. */
+  private double[] doubleValues = new double[INITIAL_CAPACITY];
+
+  /** Values of all rows, used instead of numeric values if any value is not a double. */
+  private Object[] objectValues;
+
+  /** Number of rows. */
+  private int size;
+
+  /** Mapping between row keys and row indexes, built when the first lookup is done. */
+  private Map<RowKey, Integer> rowIndex;
+
+  // -------------------------------------------------------------------------
+  // Factory methods
+  // -------------------------------------------------------------------------
+
+  /**
+   * Creates aggregated values from the given map, where the key represents the dimension item
+   * identifiers concatenated by {@link org.hisp.dhis.common.DimensionConstants#DIMENSION_SEP}.
+   *
+   * @param map the map of dimension keys and aggregated values.
+   * @return {@link AggregatedValues}.
+   */
+  public static AggregatedValues of(Map<String, Object> map) {
+    AggregatedValues values = new AggregatedValues();
+    map.forEach((key, value) -> values.put(key.split(DIMENSION_SEP), value));
+    return values;
+  }
+
+  // -------------------------------------------------------------------------
+  // Write methods
+  // -------------------------------------------------------------------------
+
+  /**
+   * Adds a row with the given dimension items and value. The caller must ensure that no row with
+   * the same dimension items is present, which is the case for rows of a grouped query result.
+   *
+   * @param dimensionItems the dimension item identifiers.
+   * @param value the value.
+   */
+  public void append(String[] dimensionItems, double value) {
+    int row = addRow(dimensionItems);
+
+    if (objectValues != null) {
+      objectValues[row] = value;
+    } else {
+      doubleValues[row] = value;
+    }
+  }
+
+  /**
+   * Adds a row with the given dimension items and value. The caller must ensure that no row with
+   * the same dimension items is present, which is the case for rows of a grouped query result.
+   *
+   * @param dimensionItems the dimension item identifiers.
+   * @param value the value.
+   */
+  public void append(String[] dimensionItems, Object value) {
+    int row = addRow(dimensionItems);
+    setValue(row, value);
+  }
+
+  /**
+   * Puts the given value for the given dimension items. Replaces the value if a row with the given
+   * dimension items is present, otherwise adds a row.
+   *
+   * @param dimensionItems the dimension item identifiers.
+   * @param value the value.
+   */
+  public void put(String[] dimensionItems, Object value) {
+    int row = indexOf(dimensionItems);
+
+    if (row == -1) {
+      append(dimensionItems, value);
+    } else {
+      setValue(row, value);
+    }
+  }
+
+  /**
+   * Puts all rows of the given aggregated values. Values of rows with dimension items which are
+   * already present are replaced.
+   *
+   * @param other the {@link AggregatedValues} to put.
+   */
+  public void putAll(AggregatedValues other) {
+    boolean distinct = size == 0;
+
+    for (int row = 0; row < other.size; row++) {
+      String[] dimensionItems = other.getItems(row);
+      Object value = other.getValue(row);
+
+      if (distinct) {
+        append(dimensionItems, value);
+      } else {
+        put(dimensionItems, value);
+      }
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // Read methods
+  // -------------------------------------------------------------------------
+
+  /** Returns the number of rows. */
+  public int size() {
+    return size;
+  }
+
+  /** Indicates whether no rows are present. */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the dimension item identifiers of the given row.
+   *
+   * @param row the row index.
+   * @return an array of dimension item identifiers.
+   */
+  public String[] getItems(int row) {
+    checkRow(row);
+    String[] dimensionItems = new String[dimensionCount];
+    int offset = row * dimensionCount;
+
+    for (int i = 0; i < dimensionCount; i++) {
+      dimensionItems[i] = items.get(rowItems[offset + i]);
+    }
+
+    return dimensionItems;
+  }
+
+  /**
+   * Returns the dimension key of the given row, which is the dimension item identifiers
+   * concatenated by {@link org.hisp.dhis.common.DimensionConstants#DIMENSION_SEP}.
+   *
+   * @param row the row index.
+   * @return the dimension key.
+   */
+  public String getKey(int row) {
+    return String.join(DIMENSION_SEP, getItems(row));
+  }
+
+  /**
+   * Returns the value of the given row.
+   *
+   * @param row the row index.
+   * @return the value, a {@link Double} for numeric values.
+   */
+  public Object getValue(int row) {
+    checkRow(row);
+    return objectValues != null ? objectValues[row] : Double.valueOf(doubleValues[row]);
+  }
+
+  /**
+   * Returns the value for the given dimension items.
+   *
+   * @param dimensionItems the dimension item identifiers.
+   * @return the value, or null if no row with the given dimension items is present.
+   */
+  public Object get(String[] dimensionItems) {
+    int row = indexOf(dimensionItems);
+    return row == -1 ? null : getValue(row);
+  }
+
+  /**
+   * Converts the rows to a mapping between dimension keys and values.
+   *
+   * @return a mapping between dimension keys and values.
+   */
+  public Map<String, Object> toMap() {
+    Map<String, Object> map = new HashMap<>(Math.max(INITIAL_CAPACITY, size * 4 / 3 + 1));
+
+    for (int row = 0; row < size; row++) {
+      map.put(getKey(row), getValue(row));
+    }
+
+    return map;
+  }
+
+  // -------------------------------------------------------------------------
+  // Supportive methods
+  // -------------------------------------------------------------------------
+
+  /**
+   * Adds a row with the given dimension items, growing the storage if required.
+   *
+   * @param dimensionItems the dimension item identifiers.
+   * @return the index of the added row.
+   */
+  private int addRow(String[] dimensionItems) {
+    if (dimensionCount == -1) {
+      dimensionCount = dimensionItems.length;
+      rowItems = new int[INITIAL_CAPACITY * dimensionCount];
+    } else if (dimensionItems.length != dimensionCount) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected %d dimension items but got %d: '%s'",
+              dimensionCount, dimensionItems.length, Arrays.toString(dimensionItems)));
+    }
+
+    ensureCapacity(size + 1);
+
+    int row = size++;
+    int offset = row * dimensionCount;
+
+    for (int i = 0; i < dimensionCount; i++) {
+      rowItems[offset + i] = getOrAddOrdinal(dimensionItems[i]);
+    }
+
+    if (rowIndex != null) {
+      rowIndex.put(new RowKey(rowItems, offset, dimensionCount), row);
+    }
+
+    return row;
+  }
+
+  /**
+   * Sets the value of the given row, switching to object storage if the value is not a double.
+   *
+   * @param row the row index.
+   * @param value the value.
+   */
+  private void setValue(int row, Object value) {
+    if (objectValues == null && value instanceof Double doubleValue) {
+      doubleValues[row] = doubleValue;
+      return;
+    }
+
+    if (objectValues == null) {
+      objectValues = new Object[doubleValues.length];
+
+      for (int i = 0; i < size; i++) {
+        objectValues[i] = doubleValues[i];
+      }
+
+      doubleValues = null;
+    }
+
+    objectValues[row] = value;
+  }
+
+  /**
+   * Ensures that the storage can hold the given number of rows.
+   *
+   * @param rows the number of rows.
+   */
+  private void ensureCapacity(int rows) {
+    int capacity = objectValues != null ? objectValues.length : doubleValues.length;
+
+    if (rows > capacity) {
+      int newCapacity = Math.max(rows, capacity * 2);
+      rowItems = Arrays.copyOf(rowItems, newCapacity * dimensionCount);
+
+      if (objectValues != null) {
+        objectValues = Arrays.copyOf(objectValues, newCapacity);
+      } else {
+        doubleValues = Arrays.copyOf(doubleValues, newCapacity);
+      }
+    }
+  }
+
+  /**
+   * Returns the ordinal of the given dimension item, adding the dimension item if not present.
+   *
+   * @param item the dimension item identifier.
+   * @return the ordinal of the dimension item.
+   */
+  private int getOrAddOrdinal(String item) {
+    Integer ordinal = itemOrdinals.get(item);
+
+    if (ordinal == null) {
+      ordinal = items.size();
+      items.add(item);
+      itemOrdinals.put(item, ordinal);
+    }
+
+    return ordinal;
+  }
+
+  /**
+   * Returns the index of the row with the given dimension items.
+   *
+   * @param dimensionItems the dimension item identifiers.
+   * @return the row index, or -1 if no row with the given dimension items is present.
+   */
+  private int indexOf(String[] dimensionItems) {
+    if (size == 0 || dimensionItems.length != dimensionCount) {
+      return -1;
+    }
+
+    int[] ordinals = new int[dimensionCount];
+
+    for (int i = 0; i < dimensionCount; i++) {
+      Integer ordinal = itemOrdinals.get(dimensionItems[i]);
+
+      if (ordinal == null) {
+        return -1;
+      }
+
+      ordinals[i] = ordinal;
+    }
+
+    Integer row = getRowIndex().get(new RowKey(ordinals, 0, dimensionCount));
+    return row != null ? row : -1;
+  }
+
+  /** Returns the mapping between row keys and row indexes, building it if required. */
+  private Map<RowKey, Integer> getRowIndex() {
+    if (rowIndex == null) {
+      rowIndex = new HashMap<>(Math.max(INITIAL_CAPACITY, size * 4 / 3 + 1));
+
+      for (int row = 0; row < size; row++) {
+        rowIndex.put(new RowKey(rowItems, row * dimensionCount, dimensionCount), row);
+      }
+    }
+
+    return rowIndex;
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException(
+          String.format("Row index %d out of bounds for size %d", row, size));
+    }
+  }
+
+  /**
+   * Key of a row, referring to a range of dimension item ordinals. Rows are never modified once
+   * added, which means that a key remains valid when the ordinal array is replaced on growth.
+   */
+  private record RowKey(int[] ordinals, int offset, int length) {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof RowKey other
+          && Arrays.equals(
+              ordinals,
+              offset,
+              offset + length,
+              other.ordinals,
+              other.offset,
+              other.offset + other.length);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 1;
+
+      for (int i = offset; i < offset + length; i++) {
+        hash = 31 * hash + ordinals[i];
+      }
+
+      return hash;
+    }
+  }
+}
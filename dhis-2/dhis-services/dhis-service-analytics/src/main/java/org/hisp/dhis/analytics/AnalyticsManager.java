@@ -29,7 +29,6 @@
  */
 package org.hisp.dhis.analytics;
 
-import java.util.Map;
 import java.util.concurrent.Future;
 import org.hisp.dhis.common.DimensionalItemObject;
 import org.hisp.dhis.common.IllegalQueryException;
@@ -42,31 +41,31 @@ import org.hisp.dhis.common.ListMap;
  */
 public interface AnalyticsManager {
   /**
-   * Retrieves aggregated data values for the given query. The data is returned as a mapping where
-   * the key is concatenated from the dimension options for all dimensions separated by "-", and the
-   * value is the data value. This method is invoked asynchronously. The value class can be Double
-   * or String.
+   * Retrieves aggregated data values for the given query. The data is returned as rows where each
+   * row holds the dimension options for all dimensions and the data value. This method is invoked
+   * asynchronously. The value class can be Double or String.
    *
    * @param params the {@link DataQueryParams} to retrieve aggregated data for.
    * @param tableType the {@link AnalyticsTableType}.
    * @param maxLimit the max number of records to retrieve.
-   * @return a map.
+   * @return the {@link AggregatedValues}.
    * @throws IllegalQueryException if query result set exceeds the max limit.
    */
-  Future<Map<String, Object>> getAggregatedDataValues(
+  Future<AggregatedValues> getAggregatedDataValues(
       DataQueryParams params, AnalyticsTableType tableType, int maxLimit);
 
   /**
-   * Inserts entries for the aggregation periods mapped to each data period in the given data value
-   * map. Removes the original entry for the data period.
+   * Replaces the data period of each row in the given aggregated values with the aggregation
+   * periods mapped to the data period.
    *
-   * @param dataValueMap map with entries for data values produced for the query.
+   * @param dataValues the {@link AggregatedValues} produced for the query.
    * @param params the {@link DataQueryParams}.
    * @param dataPeriodAggregationPeriodMap the mapping between data periods and aggregation periods
    *     for the query.
+   * @return the {@link AggregatedValues} with aggregation periods.
    */
-  void replaceDataPeriodsWithAggregationPeriods(
-      Map<String, Object> dataValueMap,
+  AggregatedValues replaceDataPeriodsWithAggregationPeriods(
+      AggregatedValues dataValues,
       DataQueryParams params,
       ListMap<DimensionalItemObject, DimensionalItemObject> dataPeriodAggregationPeriodMap);
 }
@@ -67,6 +67,12 @@ public class AnalyticsTableUpdateParams {
   /** Indicates whether to refresh the period resource table before analytics table update. */
   private final boolean refreshPeriodResourceTable;
 
+  /**
+   * Indicates whether to only update year partitions with data changed since the last full
+   * analytics table update, and to retain the remaining partitions of the existing tables.
+   */
+  private final boolean skipUnchangedPartitions;
+
   /** Analytics table types to skip. */
   @Builder.Default private final Set<AnalyticsTableType> skipTableTypes = new HashSet<>();
 
@@ -138,6 +144,7 @@ public class AnalyticsTableUpdateParams {
         .add("last years", lastYears)
         .add("skip resource tables", skipResourceTables)
         .add("refresh period resource table", refreshPeriodResourceTable)
+        .add("skip unchanged partitions", skipUnchangedPartitions)
         .add("skip table types", skipTableTypes)
         .add("skip programs", skipPrograms)
         .add("skip outliers statistics", skipOutliers)
@@ -30,26 +30,70 @@
 package org.hisp.dhis.analytics.cache;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_CACHE_COALESCING_TIMEOUT;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.SerializationUtils;
 import org.hisp.dhis.analytics.DataQueryParams;
 import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.CacheType;
 import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.common.QueryRuntimeException;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.system.grid.ListGrid;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * This is a wrapper class responsible for keeping and isolating all cache definitions related to
  * the analytics.
+ *
+ * <p>Grids are stored as read-only snapshots, see {@link ListGrid#snapshotOf(Grid)}, which are
+ * taken once when the grid is put in the cache. Readers are handed copy-on-write views of the
+ * snapshot, see {@link ListGrid#copyOnWrite()}, so that a cache hit does not copy the rows of the
+ * grid unless the reader modifies it.
+ *
+ * <p>Identical concurrent queries are coalesced, meaning that only one of them computes the grid
+ * while the others wait for its result. Within a node this is tracked by the in-flight fetches of
+ * this class. When the cache is backed by Redis, a marker is put in a shared cache region while the
+ * grid is computed, so that identical queries on other nodes wait for the grid to appear in the
+ * cache. The marker expires shortly unless the owning node keeps refreshing it, so that waiters
+ * stop waiting soon after the owning node dies. Waiting is bounded by {@code
+ * analytics.cache.coalescing.timeout}, after which the waiting query computes the grid on its own.
  */
 @Slf4j
 @Component
 public class AnalyticsCache {
+  /** Interval for polling the shared cache while another node computes a grid. */
+  private static final long CLUSTER_POLL_INTERVAL_MILLIS = 100;
+
+  /** Time to live of the in-flight markers, matching the expiry of their cache region. */
+  static final long IN_FLIGHT_MARKER_TTL_SECONDS = 30;
+
+  /** Interval for refreshing the in-flight markers held by this node. */
+  private static final long IN_FLIGHT_MARKER_REFRESH_MILLIS = 10_000;
+
   private final AnalyticsCacheSettings analyticsCacheSettings;
   private final Cache<Grid> queryCache;
+  private final Cache<Boolean> inFlightMarkers;
+  private final Map<String, CompletableFuture<Grid>> inFlightFetches = new ConcurrentHashMap<>();
+  private final Set<String> heldInFlightMarkers = ConcurrentHashMap.newKeySet();
+  private final long coalescingTimeoutMillis;
+  private final Counter localCoalescedCounter;
+  private final Counter clusterCoalescedCounter;
+  private final Counter coalescingTimeoutCounter;
   // Track nested call chain
   private static final ThreadLocal<Integer> nestingLevel = ThreadLocal.withInitial(() -> 0);
 
@@ -58,16 +102,37 @@ public class AnalyticsCache {
    * overwritten during cache put operations.
    */
   public AnalyticsCache(
-      CacheProvider cacheProvider, AnalyticsCacheSettings analyticsCacheSettings) {
+      CacheProvider cacheProvider,
+      AnalyticsCacheSettings analyticsCacheSettings,
+      DhisConfigurationProvider config,
+      MeterRegistry meterRegistry) {
     checkNotNull(cacheProvider);
     checkNotNull(analyticsCacheSettings);
+    checkNotNull(config);
+    checkNotNull(meterRegistry);
 
     this.analyticsCacheSettings = analyticsCacheSettings;
     this.queryCache = cacheProvider.createAnalyticsCache();
+    this.inFlightMarkers = cacheProvider.createAnalyticsInFlightCache();
+    this.coalescingTimeoutMillis =
+        TimeUnit.SECONDS.toMillis(config.getIntProperty(ANALYTICS_CACHE_COALESCING_TIMEOUT));
+    this.localCoalescedCounter = coalescedCounter(meterRegistry, "local");
+    this.clusterCoalescedCounter = coalescedCounter(meterRegistry, "cluster");
+    this.coalescingTimeoutCounter =
+        Counter.builder("analytics.cache.coalescing.timeouts")
+            .description("Number of analytics queries which gave up waiting for an identical query")
+            .register(meterRegistry);
+  }
+
+  private static Counter coalescedCounter(MeterRegistry meterRegistry, String scope) {
+    return Counter.builder("analytics.cache.coalesced")
+        .description("Number of analytics queries served by an identical in-flight query")
+        .tag("scope", scope)
+        .register(meterRegistry);
   }
 
   public Optional<Grid> get(String key) {
-    return getGridClone(queryCache.get(key));
+    return queryCache.get(key).map(this::getGridView);
   }
 
   /**
@@ -75,14 +140,19 @@ public class AnalyticsCache {
    * nested calls.
    *
    * <p>This method first checks if the Grid for the given DataQueryParams is already in the cache.
-   * If found, it returns a clone of the cached Grid. If not found, it computes the Grid using the
-   * provided function and caches the result, but only if this is a top-level call (not a nested
-   * call within another getOrFetch operation).
+   * If found, it returns a copy-on-write view of the cached Grid. If not found, it computes the
+   * Grid using the provided function and caches the result, but only if this is a top-level call
+   * (not a nested call within another getOrFetch operation).
    *
    * <p>The nested call detection prevents duplicate cache entries when one Grid computation
    * triggers another Grid computation with different parameters. Only the top-level call's result
    * is cached, while nested calls compute their results without caching them.
    *
+   * <p>Top-level calls for the same key which run concurrently are coalesced, so that the Grid is
+   * computed only once and the other calls wait for the result. Nested calls are never coalesced,
+   * as waiting for another computation from within a computation could deadlock. If a waiting call
+   * times out, or the computation it waits for fails, it computes the Grid on its own.
+   *
    * <p>The TTL of the cached object is determined according to the configuration in {@link
    * org.hisp.dhis.analytics.cache.AnalyticsCacheSettings}, which supports both fixed and
    * progressive expiration strategies.
@@ -91,7 +161,8 @@ public class AnalyticsCache {
    *
    * @param params The DataQueryParams used as the cache key and computation input
    * @param function A function that computes a Grid based on the provided DataQueryParams
-   * @return A clone of the Grid, either from cache or newly computed
+   * @return A copy-on-write view of the cached Grid, or the newly computed Grid
+   * @throws QueryRuntimeException if the thread is interrupted while waiting for an identical query
    */
   public Grid getOrFetch(DataQueryParams params, Function<DataQueryParams, Grid> function) {
     String key = params.getKey();
@@ -99,7 +170,7 @@ public class AnalyticsCache {
     // First check if it's already cached
     Optional<Grid> cachedGrid = get(key);
     if (cachedGrid.isPresent()) {
-      return getGridClone(cachedGrid.get());
+      return cachedGrid.get();
     }
 
     // Get current nesting level and increment
@@ -107,22 +178,12 @@ public class AnalyticsCache {
     nestingLevel.set(currentLevel + 1);
 
     try {
-      // Compute the grid
-      Grid grid = function.apply(params);
-
-      // Only add to cache if this is the top level call (level was 0)
+      // Only coalesce and add to cache if this is the top level call (level was 0)
       if (currentLevel == 0) {
-        if (analyticsCacheSettings.isProgressiveCachingEnabled()) {
-          put(
-              params.getKey(),
-              grid,
-              analyticsCacheSettings.progressiveExpirationTimeOrDefault(params.getLatestEndDate()));
-        } else {
-          put(params.getKey(), grid, analyticsCacheSettings.fixedExpirationTimeOrDefault());
-        }
+        return getGridView(fetchCoalesced(params, function));
       }
 
-      return getGridClone(grid);
+      return function.apply(params);
     } finally {
       // Restore previous nesting level
       nestingLevel.set(currentLevel);
@@ -144,16 +205,7 @@ public class AnalyticsCache {
    * @param grid the associated Grid.
    */
   public void put(DataQueryParams params, Grid grid) {
-    if (analyticsCacheSettings.isProgressiveCachingEnabled()) {
-      // Uses the progressive TTL
-      put(
-          params.getKey(),
-          grid,
-          analyticsCacheSettings.progressiveExpirationTimeOrDefault(params.getLatestEndDate()));
-    } else {
-      // Respects the fixed (predefined) caching TTL
-      put(params.getKey(), grid, analyticsCacheSettings.fixedExpirationTimeOrDefault());
-    }
+    put(params.getKey(), grid, getTtlInSeconds(params));
   }
 
   /**
@@ -165,11 +217,7 @@ public class AnalyticsCache {
    * @param ttlInSeconds the time to live (expiration time) in seconds.
    */
   public void put(String key, Grid grid, long ttlInSeconds) {
-    if (ttlInSeconds <= 0) {
-      // Do not cache if TTL is zero or negative
-      return;
-    }
-    queryCache.put(key, getGridClone(grid), ttlInSeconds);
+    putSnapshot(key, ListGrid.snapshotOf(grid), ttlInSeconds);
   }
 
   /** Clears the current cache by removing all existing entries. */
@@ -183,15 +231,209 @@ public class AnalyticsCache {
     return analyticsCacheSettings.isCachingEnabled();
   }
 
-  private Grid getGridClone(Grid grid) {
-    if (grid != null) {
-      return SerializationUtils.clone(grid);
+  /**
+   * Refreshes the in-flight markers held by this node, so that they do not expire while the grid
+   * is still being computed. Markers of a node which dies are no longer refreshed and expire
+   * within {@link #IN_FLIGHT_MARKER_TTL_SECONDS}.
+   */
+  @Scheduled(fixedDelay = IN_FLIGHT_MARKER_REFRESH_MILLIS)
+  public void refreshInFlightMarkers() {
+    for (String key : heldInFlightMarkers) {
+      inFlightMarkers.put(key, Boolean.TRUE, IN_FLIGHT_MARKER_TTL_SECONDS);
+    }
+  }
+
+  /**
+   * Computes the snapshot of the Grid for the given params, unless an identical computation is
+   * already in flight on this node, in which case its result is awaited.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @param function the function computing the Grid.
+   * @return a read-only snapshot of the Grid.
+   */
+  private Grid fetchCoalesced(DataQueryParams params, Function<DataQueryParams, Grid> function) {
+    String key = params.getKey();
+    CompletableFuture<Grid> fetch = new CompletableFuture<>();
+    CompletableFuture<Grid> inFlight = inFlightFetches.putIfAbsent(key, fetch);
+
+    if (inFlight != null) {
+      Optional<Grid> snapshot = awaitInFlight(key, inFlight);
+
+      if (snapshot.isPresent()) {
+        localCoalescedCounter.increment();
+        return snapshot.get();
+      }
+
+      return fetchAndPut(params, function);
+    }
+
+    try {
+      Grid snapshot = fetchExclusively(params, function);
+      fetch.complete(snapshot);
+      return snapshot;
+    } catch (RuntimeException | Error ex) {
+      fetch.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlightFetches.remove(key, fetch);
+    }
+  }
+
+  /**
+   * Waits for the given in-flight computation on this node.
+   *
+   * @param key the cache key.
+   * @param inFlight the in-flight computation.
+   * @return the snapshot of the Grid, or empty if the computation failed or did not complete in
+   *     time.
+   */
+  private Optional<Grid> awaitInFlight(String key, CompletableFuture<Grid> inFlight) {
+    try {
+      return Optional.of(inFlight.get(coalescingTimeoutMillis, TimeUnit.MILLISECONDS));
+    } catch (TimeoutException ex) {
+      coalescingTimeoutCounter.increment();
+      log.debug("Timed out waiting for in-flight analytics query with key: '{}'", key);
+      return Optional.empty();
+    } catch (ExecutionException ex) {
+      log.debug("In-flight analytics query with key: '{}' failed", key, ex.getCause());
+      return Optional.empty();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new QueryRuntimeException("Analytics query was cancelled while waiting for result");
+    }
+  }
+
+  /**
+   * Computes the snapshot of the Grid for the given params. When the cache is shared between
+   * nodes, an identical computation in flight on another node is awaited instead.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @param function the function computing the Grid.
+   * @return a read-only snapshot of the Grid.
+   */
+  private Grid fetchExclusively(DataQueryParams params, Function<DataQueryParams, Grid> function) {
+    if (queryCache.getCacheType() != CacheType.REDIS) {
+      return fetchAndPut(params, function);
+    }
+
+    String key = params.getKey();
+    long ttlInSeconds = getTtlInSeconds(params);
+
+    // Other nodes can only pick up the result if it is going to be cached
+    if (ttlInSeconds <= 0) {
+      return fetchAndPut(params, function, ttlInSeconds);
+    }
+
+    if (inFlightMarkers.putIfAbsent(key, Boolean.TRUE)) {
+      heldInFlightMarkers.add(key);
+      try {
+        return fetchAndPut(params, function, ttlInSeconds);
+      } finally {
+        heldInFlightMarkers.remove(key);
+        inFlightMarkers.invalidate(key);
+      }
+    }
+
+    Optional<Grid> snapshot = awaitCluster(key);
+
+    if (snapshot.isPresent()) {
+      clusterCoalescedCounter.increment();
+      return snapshot.get();
+    }
+
+    return fetchAndPut(params, function, ttlInSeconds);
+  }
+
+  /**
+   * Polls the shared cache for the Grid computed by another node, for as long as the other node
+   * holds the in-flight marker for the key and the coalescing timeout is not reached. If the other
+   * node dies, its marker expires as it is no longer refreshed, and waiting stops.
+   *
+   * @param key the cache key.
+   * @return the snapshot of the Grid, or empty if it did not appear in the cache in time.
+   */
+  private Optional<Grid> awaitCluster(String key) {
+    long giveUpTime = System.currentTimeMillis() + coalescingTimeoutMillis;
+
+    while (System.currentTimeMillis() < giveUpTime) {
+      try {
+        Thread.sleep(CLUSTER_POLL_INTERVAL_MILLIS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new QueryRuntimeException("Analytics query was cancelled while waiting for result");
+      }
+
+      boolean inFlight = inFlightMarkers.getIfPresent(key).isPresent();
+      Optional<Grid> snapshot = queryCache.getIfPresent(key);
+
+      if (snapshot.isPresent() || !inFlight) {
+        return snapshot;
+      }
     }
 
-    return null;
+    coalescingTimeoutCounter.increment();
+    log.debug("Timed out waiting for analytics query with key: '{}' on other node", key);
+    return Optional.empty();
+  }
+
+  private Grid fetchAndPut(DataQueryParams params, Function<DataQueryParams, Grid> function) {
+    return fetchAndPut(params, function, getTtlInSeconds(params));
   }
 
-  private Optional<Grid> getGridClone(Optional<Grid> grid) {
-    return grid.map(SerializationUtils::clone);
+  /**
+   * Computes the Grid for the given params and caches a snapshot of it.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @param function the function computing the Grid.
+   * @param ttlInSeconds the time to live of the cached snapshot.
+   * @return a read-only snapshot of the Grid.
+   */
+  private Grid fetchAndPut(
+      DataQueryParams params, Function<DataQueryParams, Grid> function, long ttlInSeconds) {
+    ListGrid snapshot = ListGrid.snapshotOf(function.apply(params));
+
+    putSnapshot(params.getKey(), snapshot, ttlInSeconds);
+
+    return snapshot;
+  }
+
+  private void putSnapshot(String key, ListGrid snapshot, long ttlInSeconds) {
+    if (ttlInSeconds <= 0) {
+      // Do not cache if TTL is zero or negative
+      return;
+    }
+    queryCache.put(key, snapshot, ttlInSeconds);
+  }
+
+  /**
+   * Returns the TTL for the given params, according to the cache settings available at {@link
+   * AnalyticsCacheSettings}.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @return the TTL in seconds.
+   */
+  private long getTtlInSeconds(DataQueryParams params) {
+    if (analyticsCacheSettings.isProgressiveCachingEnabled()) {
+      // Uses the progressive TTL
+      return analyticsCacheSettings.progressiveExpirationTimeOrDefault(params.getLatestEndDate());
+    }
+
+    // Respects the fixed (predefined) caching TTL
+    return analyticsCacheSettings.fixedExpirationTimeOrDefault();
+  }
+
+  /**
+   * Returns a view of the given cached grid which can be modified without affecting the cache.
+   * Grids which were not cached as {@link ListGrid} snapshots are cloned.
+   *
+   * @param grid the cached {@link Grid}.
+   * @return a {@link Grid} which is safe to hand out to a single reader.
+   */
+  private Grid getGridView(Grid grid) {
+    if (grid instanceof ListGrid listGrid) {
+      return listGrid.copyOnWrite();
+    }
+
+    return SerializationUtils.clone(grid);
   }
 }
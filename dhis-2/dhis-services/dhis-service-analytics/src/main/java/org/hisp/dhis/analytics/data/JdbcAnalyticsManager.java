@@ -45,7 +45,6 @@ import static org.hisp.dhis.analytics.DataType.TEXT;
 import static org.hisp.dhis.analytics.data.SubexpressionPeriodOffsetUtils.getParamsWithOffsetPeriods;
 import static org.hisp.dhis.analytics.util.AnalyticsUtils.throwIllegalQueryEx;
 import static org.hisp.dhis.analytics.util.AnalyticsUtils.withExceptionHandling;
-import static org.hisp.dhis.common.DimensionConstants.DIMENSION_SEP;
 import static org.hisp.dhis.common.IdentifiableObjectUtils.getUids;
 import static org.hisp.dhis.common.collection.CollectionUtils.concat;
 import static org.hisp.dhis.util.DateUtils.toMediumDate;
@@ -53,11 +52,8 @@ import static org.hisp.dhis.util.SqlExceptionUtils.ERR_MSG_SILENT_FALLBACK;
 import static org.hisp.dhis.util.SqlExceptionUtils.relationDoesNotExist;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -66,6 +62,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.analytics.AggregatedValues;
 import org.hisp.dhis.analytics.AggregationType;
 import org.hisp.dhis.analytics.AnalyticsAggregationType;
 import org.hisp.dhis.analytics.AnalyticsManager;
@@ -164,7 +161,7 @@ public class JdbcAnalyticsManager implements AnalyticsManager {
 
   @Override
   @Async
-  public Future<Map<String, Object>> getAggregatedDataValues(
+  public Future<AggregatedValues> getAggregatedDataValues(
       DataQueryParams params, AnalyticsTableType tableType, int maxLimit) {
     assertQuery(params);
 
@@ -191,26 +188,27 @@ public class JdbcAnalyticsManager implements AnalyticsManager {
       if (params.analyzeOnly()) {
         withExceptionHandling(
             () -> executionPlanStore.addExecutionPlan(immutableParams.getExplainOrderId(), sql));
-        return CompletableFuture.completedFuture(Maps.newHashMap());
+        return CompletableFuture.completedFuture(new AggregatedValues());
       }
 
-      Map<String, Object> map;
+      AggregatedValues values;
 
       try {
-        map =
-            withExceptionHandling(() -> getKeyValueMap(immutableParams, sql, maxLimit))
-                .orElse(Map.of());
+        values =
+            withExceptionHandling(() -> getAggregatedValues(immutableParams, sql, maxLimit))
+                .orElseGet(AggregatedValues::new);
       } catch (BadSqlGrammarException ex) {
         if (relationDoesNotExist(ex.getSQLException())) {
           throw ex;
         }
         log.warn(ERR_MSG_SILENT_FALLBACK, ex);
-        return CompletableFuture.completedFuture(Maps.newHashMap());
+        return CompletableFuture.completedFuture(new AggregatedValues());
       }
 
-      replaceDataPeriodsWithAggregationPeriods(map, params, dataPeriodAggregationPeriodMap);
+      values =
+          replaceDataPeriodsWithAggregationPeriods(values, params, dataPeriodAggregationPeriodMap);
 
-      return CompletableFuture.completedFuture(map);
+      return CompletableFuture.completedFuture(values);
     } catch (DataAccessResourceFailureException ex) {
       throw new QueryRuntimeException(ErrorCode.E7131);
     } catch (RuntimeException ex) {
@@ -220,61 +218,69 @@ public class JdbcAnalyticsManager implements AnalyticsManager {
   }
 
   @Override
-  public void replaceDataPeriodsWithAggregationPeriods(
-      Map<String, Object> dataValueMap,
+  public AggregatedValues replaceDataPeriodsWithAggregationPeriods(
+      AggregatedValues dataValues,
       DataQueryParams params,
       ListMap<DimensionalItemObject, DimensionalItemObject> dataPeriodAggregationPeriodMap) {
-    if (params.isDisaggregation()) {
-      int periodIndex = params.getPeriodDimensionIndex();
+    if (!params.isDisaggregation()) {
+      return dataValues;
+    }
 
-      if (periodIndex == -1) {
-        return; // Period is filter, nothing to replace
-      }
+    int periodIndex = params.getPeriodDimensionIndex();
 
-      Set<String> keys = new HashSet<>(dataValueMap.keySet());
+    if (periodIndex == -1) {
+      return dataValues; // Period is filter, nothing to replace
+    }
 
-      for (String key : keys) {
-        String[] keyArray = key.split(DIMENSION_SEP);
+    AggregatedValues replacedValues = new AggregatedValues();
 
-        String periodKey = keyArray[periodIndex];
+    for (int row = 0; row < dataValues.size(); row++) {
+      final int currentRow = row;
+      String[] items = dataValues.getItems(row);
 
-        Assert.notNull(periodKey, String.format("Period key cannot be null, key: '%s'", key));
+      String periodKey = items[periodIndex];
 
-        List<DimensionalItemObject> periods =
-            dataPeriodAggregationPeriodMap.get(PeriodDimension.of(Period.ofNullable(periodKey)));
+      Assert.notNull(
+          periodKey,
+          () ->
+              String.format(
+                  "Period key cannot be null, key: '%s'", dataValues.getKey(currentRow)));
 
-        Assert.notNull(
-            periods,
-            String.format(
-                "Period list cannot be null, key: '%s', map: '%s'",
-                key, dataPeriodAggregationPeriodMap));
+      List<DimensionalItemObject> periods =
+          dataPeriodAggregationPeriodMap.get(PeriodDimension.of(Period.ofNullable(periodKey)));
 
-        Object value = dataValueMap.get(key);
+      Assert.notNull(
+          periods,
+          () ->
+              String.format(
+                  "Period list cannot be null, key: '%s', map: '%s'",
+                  dataValues.getKey(currentRow), dataPeriodAggregationPeriodMap));
 
-        for (DimensionalItemObject period : periods) {
-          String[] keyCopy = keyArray.clone();
+      Object value = dataValues.getValue(row);
 
-          keyCopy[periodIndex] = ((PeriodDimension) period).getIsoDate();
+      for (DimensionalItemObject period : periods) {
+        String[] itemsCopy = items.clone();
 
-          String replacementKey = TextUtils.toString(keyCopy, DIMENSION_SEP);
+        itemsCopy[periodIndex] = ((PeriodDimension) period).getIsoDate();
 
-          if (dataValueMap.containsKey(replacementKey)
-              && ((PeriodDimension) period).getPeriodType().spansMultipleCalendarYears()) {
-            Object weightedAverage =
-                AnalyticsUtils.calculateYearlyWeightedAverage(
-                    (Double) dataValueMap.get(replacementKey),
-                    (Double) value,
-                    AnalyticsUtils.getBaseMonth(((PeriodDimension) period).getPeriodType()));
+        Object existingValue = replacedValues.get(itemsCopy);
 
-            dataValueMap.put(TextUtils.toString(keyCopy, DIMENSION_SEP), weightedAverage);
-          } else {
-            dataValueMap.put(TextUtils.toString(keyCopy, DIMENSION_SEP), value);
-          }
-        }
+        if (existingValue != null
+            && ((PeriodDimension) period).getPeriodType().spansMultipleCalendarYears()) {
+          Object weightedAverage =
+              AnalyticsUtils.calculateYearlyWeightedAverage(
+                  (Double) existingValue,
+                  (Double) value,
+                  AnalyticsUtils.getBaseMonth(((PeriodDimension) period).getPeriodType()));
 
-        dataValueMap.remove(key);
+          replacedValues.put(itemsCopy, weightedAverage);
+        } else {
+          replacedValues.put(itemsCopy, value);
+        }
       }
     }
+
+    return replacedValues;
   }
 
   // -------------------------------------------------------------------------
@@ -867,18 +873,22 @@ public class JdbcAnalyticsManager implements AnalyticsManager {
   }
 
   /**
-   * Retrieves data from the database based on the given query and SQL and puts into a value key and
-   * value mapping.
+   * Retrieves data from the database based on the given query and SQL and puts the dimension items
+   * and value of each row into aggregated values.
    *
    * @param params the {@link DataQueryParams}.
    * @param sql the SQL query.
    * @param maxLimit the max limit of records to return, 0 indicates unlimited.
    */
-  private Map<String, Object> getKeyValueMap(DataQueryParams params, String sql, int maxLimit) {
-    Map<String, Object> map = new HashMap<>();
+  private AggregatedValues getAggregatedValues(DataQueryParams params, String sql, int maxLimit) {
+    AggregatedValues values = new AggregatedValues();
 
     log.debug("Analytics query SQL: '{}'", sql);
 
+    List<DimensionalObject> dimensions = params.getDimensions();
+    String[] queryModsIds = dimensions.stream().map(params::getQueryModsId).toArray(String[]::new);
+    boolean textValue = params.isDataType(TEXT);
+
     SqlRowSet rowSet = jdbcTemplate.queryForRowSet(sql);
 
     int counter = 0;
@@ -890,28 +900,24 @@ public class JdbcAnalyticsManager implements AnalyticsManager {
         throwIllegalQueryEx(ErrorCode.E7128, maxLimit);
       }
 
-      StringBuilder key = new StringBuilder();
+      String[] items = new String[dimensions.size()];
 
-      for (DimensionalObject dim : params.getDimensions()) {
+      for (int i = 0; i < items.length; i++) {
+        DimensionalObject dim = dimensions.get(i);
         String value =
             dim.isFixed() ? dim.getDimensionName() : rowSet.getString(dim.getDimensionName());
-        String queryModsId = params.getQueryModsId(dim);
-        key.append(value).append(queryModsId).append(DIMENSION_SEP);
+        items[i] = queryModsIds[i].isEmpty() ? String.valueOf(value) : value + queryModsIds[i];
       }
 
-      key.deleteCharAt(key.length() - 1);
-
-      if (params.isDataType(TEXT)) {
-        String value = rowSet.getString(VALUE_ID);
-        map.put(key.toString(), value);
+      if (textValue) {
+        values.append(items, rowSet.getString(VALUE_ID));
       } else // NUMERIC
       {
-        Double value = rowSet.getDouble(VALUE_ID);
-        map.put(key.toString(), value);
+        values.append(items, rowSet.getDouble(VALUE_ID));
       }
     }
 
-    return map;
+    return values;
   }
 
   /**
@@ -122,6 +122,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
+import org.hisp.dhis.analytics.AggregatedValues;
 import org.hisp.dhis.analytics.AnalyticsManager;
 import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.analytics.DataQueryGroups;
@@ -273,13 +274,12 @@ public class DataHandler {
                 .withIncludeNumDen(false)
                 .build();
 
-        Map<String, Object> aggregatedDataMap =
-            getAggregatedDataValueMapObjectTyped(dataSourceParams);
+        AggregatedValues aggregatedValues = getAggregatedDataValues(dataSourceParams);
 
-        for (Map.Entry<String, Object> entry : aggregatedDataMap.entrySet()) {
-          Object value = getRoundedValueObject(params, entry.getValue());
+        for (int row = 0; row < aggregatedValues.size(); row++) {
+          Object value = getRoundedValueObject(params, aggregatedValues.getValue(row));
 
-          grid.addRow().addValues(entry.getKey().split(DIMENSION_SEP)).addValue(value);
+          grid.addRow().addValues(aggregatedValues.getItems(row)).addValue(value);
         }
       }
     }
@@ -399,13 +399,12 @@ public class DataHandler {
       DataQueryParams dataSourceParams =
           newBuilder(params).retainDataDimension(DATA_ELEMENT).withIncludeNumDen(false).build();
 
-      Map<String, Object> aggregatedDataMap =
-          getAggregatedDataValueMapObjectTyped(dataSourceParams);
+      AggregatedValues aggregatedValues = getAggregatedDataValues(dataSourceParams);
 
-      for (Map.Entry<String, Object> entry : aggregatedDataMap.entrySet()) {
-        Object value = getRoundedValueObject(params, entry.getValue());
+      for (int row = 0; row < aggregatedValues.size(); row++) {
+        Object value = getRoundedValueObject(params, aggregatedValues.getValue(row));
 
-        grid.addRow().addValues(entry.getKey().split(DIMENSION_SEP)).addValue(value);
+        grid.addRow().addValues(aggregatedValues.getItems(row)).addValue(value);
 
         if (params.isIncludeNumDen()) {
           grid.addNullValues(NUMERATOR_DENOMINATOR_PROPERTIES_COUNT);
@@ -517,10 +516,11 @@ public class DataHandler {
   @Transactional(readOnly = true)
   public void addDynamicDimensionValues(DataQueryParams params, Grid grid) {
     if (params.getDataDimensionAndFilterOptions().isEmpty() && !params.isSkipData()) {
-      Map<String, Double> aggregatedDataMap =
-          getAggregatedDataValueMap(newBuilder(params).withIncludeNumDen(false).build());
+      AggregatedValues aggregatedValues =
+          getAggregatedValues(
+              newBuilder(params).withIncludeNumDen(false).build(), DATA_VALUE, newArrayList());
 
-      fillGridWithAggregatedDataMap(params, grid, aggregatedDataMap);
+      fillGridWithAggregatedValues(params, grid, aggregatedValues);
     }
   }
 
@@ -540,10 +540,10 @@ public class DataHandler {
               .withIncludeNumDen(false)
               .build();
 
-      Map<String, Double> aggregatedDataMap =
-          getAggregatedValidationResultMapObjectTyped(dataSourceParams);
+      AggregatedValues aggregatedValues =
+          getAggregatedValues(dataSourceParams, VALIDATION_RESULT, newArrayList());
 
-      fillGridWithAggregatedDataMap(params, grid, aggregatedDataMap);
+      fillGridWithAggregatedValues(params, grid, aggregatedValues);
     }
   }
 
@@ -587,31 +587,25 @@ public class DataHandler {
   }
 
   /**
-   * Generates a mapping between the count of a validation result.
-   *
-   * @param params the {@link DataQueryParams}.
-   * @return a mapping between validation results and counts of them
-   */
-  private Map<String, Double> getAggregatedValidationResultMapObjectTyped(DataQueryParams params) {
-    return getDoubleMap(getAggregatedValueMap(params, VALIDATION_RESULT, newArrayList()));
-  }
-
-  /**
-   * Fill grid with aggregated data map with key and value
+   * Fill grid with the numeric aggregated values, skipping values which are not numeric.
    *
    * @param params the {@link DataQueryParams}.
    * @param grid the grid
-   * @param aggregatedDataMap the aggregated data map
+   * @param aggregatedValues the {@link AggregatedValues}.
    */
-  private void fillGridWithAggregatedDataMap(
-      DataQueryParams params, Grid grid, Map<String, Double> aggregatedDataMap) {
-    for (Map.Entry<String, Double> entry : aggregatedDataMap.entrySet()) {
+  private void fillGridWithAggregatedValues(
+      DataQueryParams params, Grid grid, AggregatedValues aggregatedValues) {
+    for (int row = 0; row < aggregatedValues.size(); row++) {
+      if (!(aggregatedValues.getValue(row) instanceof Double doubleValue)) {
+        continue;
+      }
+
       Number value =
           params.isSkipRounding()
-              ? entry.getValue()
-              : (Number) getRoundedValueObject(params, entry.getValue());
+              ? doubleValue
+              : (Number) getRoundedValueObject(params, doubleValue);
 
-      grid.addRow().addValues(entry.getKey().split(DIMENSION_SEP)).addValue(value);
+      grid.addRow().addValues(aggregatedValues.getItems(row)).addValue(value);
 
       if (params.isIncludeNumDen()) {
         grid.addNullValues(NUMERATOR_DENOMINATOR_PROPERTIES_COUNT);
@@ -642,10 +636,12 @@ public class DataHandler {
               .withAggregationType(SUM)
               .build();
 
-      Map<String, Double> targetMap = getAggregatedCompletenessTargetMap(targetParams);
+      AggregatedValues targetValues = getAggregatedCompletenessTargetValues(targetParams);
 
-      Map<String, Double> dataMap =
-          metric != EXPECTED_REPORTS ? getAggregatedCompletenessValueMap(params) : new HashMap<>();
+      AggregatedValues dataValues =
+          metric != EXPECTED_REPORTS
+              ? getAggregatedCompletenessValues(params)
+              : new AggregatedValues();
 
       Integer periodIndex = params.getPeriodDimensionIndex();
       Integer dataSetIndex = DX_INDEX;
@@ -654,11 +650,12 @@ public class DataHandler {
 
       int timeUnits = getTimeUnits(params);
 
-      for (Map.Entry<String, Double> entry : targetMap.entrySet()) {
-        List<String> dataRow = newArrayList(entry.getKey().split(DIMENSION_SEP));
+      for (int row = 0; row < targetValues.size(); row++) {
+        String[] dimensionItems = targetValues.getItems(row);
+        List<String> dataRow = newArrayList(dimensionItems);
 
-        Double target = entry.getValue();
-        Double actual = firstNonNull(dataMap.get(entry.getKey()), 0d);
+        Double target = getDoubleValue(targetValues.getValue(row));
+        Double actual = firstNonNull(getDoubleValue(dataValues.get(dimensionItems)), 0d);
 
         if (target != null) {
           // ---------------------------------------------------------
@@ -704,11 +701,11 @@ public class DataHandler {
    * @param params the {@link DataQueryParams}.
    * @param grid the {@link Grid} to be manipulated.
    * @param metric the object to assist with the report rate calculation.
-   * @param dataRow the current dataRow, based on the key map built by
-   *        {@link #getAggregatedCompletenessTargetMap(DataQueryParams)).
+   * @param dataRow the current dataRow, based on the values built by
+   *        {@link #getAggregatedCompletenessTargetValues(DataQueryParams)).
    * @param target the current value of the respective key ("dataRow"). See
    * @param actual the current actual value from
-   *        {@link #getAggregatedCompletenessValueMap(DataQueryParams)} or
+   *        {@link #getAggregatedCompletenessValues(DataQueryParams)} or
    *        zero (default).
    */
   private void addReportRateToGrid(
@@ -774,30 +771,38 @@ public class DataHandler {
   }
 
   /**
-   * Generates aggregated values for the given query. Creates a mapping between a dimension key and
-   * the aggregated value. The dimension key is a concatenation of the identifiers of the dimension
-   * items separated by "-".
+   * Generates aggregated completeness values for the given query, with the dimension items and the
+   * count of actual data set reports for each row.
    *
    * @param params the {@link DataQueryParams}.
-   * @return a mapping between a dimension key and the aggregated value.
+   * @return the {@link AggregatedValues}.
    */
-  private Map<String, Double> getAggregatedCompletenessValueMap(DataQueryParams params) {
-    return getDoubleMap(getAggregatedValueMap(params, COMPLETENESS, newArrayList()));
+  private AggregatedValues getAggregatedCompletenessValues(DataQueryParams params) {
+    return getAggregatedValues(params, COMPLETENESS, newArrayList());
   }
 
   /**
-   * Generates a mapping between the data set dimension key and the count of expected data sets to
-   * report.
+   * Generates aggregated completeness target values for the given query, with the dimension items
+   * and the count of expected data sets to report for each row.
    *
    * @param params the {@link DataQueryParams}.
-   * @return a mapping between the data set dimension key and the count of expected data sets to
-   *     report.
+   * @return the {@link AggregatedValues}.
    */
-  private Map<String, Double> getAggregatedCompletenessTargetMap(DataQueryParams params) {
+  private AggregatedValues getAggregatedCompletenessTargetValues(DataQueryParams params) {
     List<Function<DataQueryParams, List<DataQueryParams>>> queryGroupers = newArrayList();
     queryGroupers.add(queryPlanner::groupByStartEndDateRestriction);
 
-    return getDoubleMap(getAggregatedValueMap(params, COMPLETENESS_TARGET, queryGroupers));
+    return getAggregatedValues(params, COMPLETENESS_TARGET, queryGroupers);
+  }
+
+  /**
+   * Returns the given value if it is a {@link Double}, otherwise null.
+   *
+   * @param value the value.
+   * @return a {@link Double} or null.
+   */
+  private static Double getDoubleValue(Object value) {
+    return value instanceof Double doubleValue ? doubleValue : null;
   }
 
   /**
@@ -1088,6 +1093,17 @@ public class DataHandler {
     return getAggregatedValueMap(params, DATA_VALUE, newArrayList());
   }
 
+  /**
+   * Generates aggregated values for the given query, with the dimension items and the aggregated
+   * value for each row.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @return the {@link AggregatedValues}.
+   */
+  private AggregatedValues getAggregatedDataValues(DataQueryParams params) {
+    return getAggregatedValues(params, DATA_VALUE, newArrayList());
+  }
+
   /**
    * Returns a mapping of permutation keys and mappings of data element operands and values based on
    * the given query.
@@ -1450,6 +1466,22 @@ public class DataHandler {
       DataQueryParams params,
       AnalyticsTableType tableType,
       List<Function<DataQueryParams, List<DataQueryParams>>> queryGroupers) {
+    return getAggregatedValues(params, tableType, queryGroupers).toMap();
+  }
+
+  /**
+   * Generates aggregated values with the dimension items and the aggregated value for each row.
+   *
+   * @param params the {@link DataQueryParams}.
+   * @param tableType the {@link AnalyticsTableType}.
+   * @param queryGroupers the list of additional query groupers to use for query planning, use empty
+   *     list for none.
+   * @return the {@link AggregatedValues}.
+   */
+  private AggregatedValues getAggregatedValues(
+      DataQueryParams params,
+      AnalyticsTableType tableType,
+      List<Function<DataQueryParams, List<DataQueryParams>>> queryGroupers) {
     int optimalQueries = getWithin(getProcessNo(), 1, MAX_QUERIES);
 
     int maxLimit =
@@ -1471,15 +1503,15 @@ public class DataHandler {
         queryGroups.getLargestGroupSize(),
         optimalQueries);
 
-    Map<String, Object> map = new HashMap<>();
+    AggregatedValues values = new AggregatedValues();
 
     for (List<DataQueryParams> queries : queryGroups.getSequentialQueries()) {
-      executeQueries(tableType, maxLimit, map, queries);
+      executeQueries(tableType, maxLimit, values, queries);
     }
 
     timer.getTime("Got analytics values");
 
-    return map;
+    return values;
   }
 
   /**
@@ -1487,26 +1519,26 @@ public class DataHandler {
    *
    * @param tableType the {@link AnalyticsTableType}.
    * @param maxLimit the max limit of records to retrieve.
-   * @param map the map of metadata identifiers to data values.
+   * @param values the {@link AggregatedValues} to put the retrieved values into.
    * @param queries the list of {@link DataQueryParams} to execute.
    */
   private void executeQueries(
       AnalyticsTableType tableType,
       int maxLimit,
-      Map<String, Object> map,
+      AggregatedValues values,
       List<DataQueryParams> queries) {
-    List<Future<Map<String, Object>>> futures = new ArrayList<>();
+    List<Future<AggregatedValues>> futures = new ArrayList<>();
 
     for (DataQueryParams query : queries) {
       futures.add(analyticsManager.getAggregatedDataValues(query, tableType, maxLimit));
     }
 
-    for (Future<Map<String, Object>> future : futures) {
+    for (Future<AggregatedValues> future : futures) {
       try {
-        Map<String, Object> taskValues = future.get();
+        AggregatedValues taskValues = future.get();
 
         if (taskValues != null) {
-          map.putAll(taskValues);
+          values.putAll(taskValues);
         }
       } catch (Exception ex) {
         log.error(getStackTrace(ex));
@@ -1533,18 +1565,6 @@ public class DataHandler {
     return cores == 0 ? getCpuCores() : cores;
   }
 
-  /**
-   * Generates aggregated values for the given query. Creates a mapping between a dimension key and
-   * the aggregated value. The dimension key is a concatenation of the identifiers of the dimension
-   * items separated by "-".
-   *
-   * @param params the {@link DataQueryParams}.
-   * @return a mapping between a dimension key and the aggregated value.
-   */
-  private Map<String, Double> getAggregatedDataValueMap(DataQueryParams params) {
-    return getDoubleMap(getAggregatedValueMap(params, DATA_VALUE, newArrayList()));
-  }
-
   void require(DataAggregator dataAggregator) {
     this.dataAggregator = dataAggregator;
   }
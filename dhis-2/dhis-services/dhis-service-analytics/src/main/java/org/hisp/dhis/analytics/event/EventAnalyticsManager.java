@@ -29,6 +29,8 @@
  */
 package org.hisp.dhis.analytics.event;
 
+import java.util.List;
+import java.util.function.Consumer;
 import org.hisp.dhis.analytics.Rectangle;
 import org.hisp.dhis.common.Grid;
 
@@ -40,6 +42,19 @@ public interface EventAnalyticsManager {
 
   Grid getEvents(EventQueryParams params, Grid grid, int maxLimit);
 
+  /**
+   * Reads the events matching the given query from a forward-only cursor and passes each row to
+   * the given row handler as soon as it is read. The grid provides the headers and is used as a
+   * buffer for the current row only, so that no rows are retained in memory.
+   *
+   * @param params the query to retrieve events for.
+   * @param grid the grid providing the headers.
+   * @param maxLimit the max number of records to retrieve.
+   * @param rowHandler the handler of each row.
+   */
+  void streamEvents(
+      EventQueryParams params, Grid grid, int maxLimit, Consumer<List<Object>> rowHandler);
+
   Grid getEventClusters(EventQueryParams params, Grid grid, int maxLimit);
 
   long getEventCount(EventQueryParams params);
@@ -96,6 +96,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -112,6 +114,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -183,7 +186,9 @@ import org.hisp.dhis.setting.SystemSettingsService;
 import org.hisp.dhis.system.util.MathUtils;
 import org.hisp.dhis.trackedentity.TrackedEntityAttribute;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.ResultSetWrappingSqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -247,6 +252,9 @@ public abstract class AbstractJdbcEventAnalyticsManager {
 
   private static final String LIMIT = "limit";
 
+  /** Fetch size of cursors when none is configured for the {@link JdbcTemplate}. */
+  private static final int DEFAULT_CURSOR_FETCH_SIZE = 1000;
+
   private static final Collector<CharSequence, ?, String> OR_JOINER = joining(OR, "(", ")");
 
   private static final Collector<CharSequence, ?, String> AND_JOINER = joining(AND);
@@ -1780,6 +1788,47 @@ public abstract class AbstractJdbcEventAnalyticsManager {
     return unlimitedPaging && (Objects.isNull(params.getPageSize()) || params.getPageSize() == 0);
   }
 
+  /**
+   * Executes the given SQL query and passes the result to the given handler as a {@link SqlRowSet}
+   * backed by a forward-only cursor. Unlike {@link JdbcTemplate#queryForRowSet(String)}, the rows
+   * are not cached in memory but fetched from the database in batches of the fetch size of the
+   * {@link JdbcTemplate}, or of {@link #DEFAULT_CURSOR_FETCH_SIZE} if none is set. Databases which
+   * support transactions only use a cursor outside of auto-commit mode, hence auto-commit is
+   * disabled while the query runs.
+   *
+   * @param sql the SQL query.
+   * @param rowSetHandler the handler of the {@link SqlRowSet}.
+   */
+  protected void queryWithCursor(String sql, Consumer<SqlRowSet> rowSetHandler) {
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              boolean disableAutoCommit =
+                  connection.getAutoCommit() && connection.getMetaData().supportsTransactions();
+
+              if (disableAutoCommit) {
+                connection.setAutoCommit(false);
+              }
+
+              try (Statement statement =
+                  connection.createStatement(
+                      ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                int fetchSize = jdbcTemplate.getFetchSize();
+                statement.setFetchSize(fetchSize > 0 ? fetchSize : DEFAULT_CURSOR_FETCH_SIZE);
+
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                  rowSetHandler.accept(new ResultSetWrappingSqlRowSet(resultSet));
+                }
+              } finally {
+                if (disableAutoCommit) {
+                  connection.setAutoCommit(true);
+                }
+              }
+
+              return null;
+            });
+  }
+
   /**
    * Returns a coalesce expression for coordinates fallback.
    *
@@ -40,12 +40,14 @@ import static org.hisp.dhis.analytics.tracker.ResponseHelper.addPaging;
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.applyHeaders;
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.getDimensionsKeywords;
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.setRowContextColumns;
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.writeGrid;
 import static org.hisp.dhis.common.ValueType.DATETIME;
 import static org.hisp.dhis.common.ValueType.NUMBER;
 import static org.hisp.dhis.common.ValueType.TEXT;
 import static org.hisp.dhis.commons.util.TextUtils.EMPTY;
 
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.AnalyticsSecurityManager;
 import org.hisp.dhis.analytics.event.EnrollmentAnalyticsManager;
@@ -60,6 +62,7 @@ import org.hisp.dhis.common.DimensionalObject;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.GridHeader;
 import org.hisp.dhis.db.sql.SqlBuilder;
+import org.hisp.dhis.system.grid.GridRowWriter;
 import org.hisp.dhis.system.grid.ListGrid;
 import org.hisp.dhis.util.Timer;
 import org.springframework.stereotype.Service;
@@ -90,6 +93,77 @@ public class EnrollmentQueryService {
    * @return enrollments data as a {@link Grid} object.
    */
   public Grid getEnrollments(EventQueryParams params) {
+    PreparedQuery query = prepareQuery(params);
+    Grid grid = query.grid();
+
+    // Data
+
+    long count = 0;
+
+    if (!query.params().isSkipData() || query.params().analyzeOnly()) {
+      count = addData(grid, query.params());
+    }
+
+    // Metadata
+
+    params = query.metadataParams();
+
+    metadataHandler.addMetadata(grid, params, query.keywords());
+    schemeIdHandler.applyScheme(grid, params);
+
+    // Paging
+
+    addPaging(params, count, grid);
+    applyHeaders(grid, params);
+    setRowContextColumns(grid);
+
+    return grid;
+  }
+
+  /**
+   * Writes the enrollments matching the given query to the given writer. The headers and meta-data
+   * are written before the enrollments are read, and each enrollment is written as soon as it is
+   * read from the database, so that the enrollments are never held in memory together. The query
+   * must be streamable as defined by {@link
+   * org.hisp.dhis.analytics.tracker.ResponseHelper#isStreamable}.
+   *
+   * <p>As the meta-data is written ahead of the enrollments, options in the meta-data are taken
+   * from the query items rather than from the enrollments, see {@link
+   * MetadataItemsHandler#addStreamingMetadata}.
+   *
+   * @param params the {@link EventQueryParams} parameters.
+   * @param writer the {@link GridRowWriter}.
+   */
+  public void streamEnrollments(EventQueryParams params, GridRowWriter writer) {
+    PreparedQuery query = prepareQuery(params);
+    Grid grid = query.grid();
+
+    // Metadata
+
+    metadataHandler.addStreamingMetadata(grid, query.metadataParams(), query.keywords());
+
+    // Data
+
+    writeGrid(
+        grid,
+        query.metadataParams(),
+        writer,
+        rowHandler -> {
+          if (!query.params().isSkipData()) {
+            streamData(grid, query.params(), rowHandler);
+          }
+        });
+  }
+
+  /**
+   * Applies security constraints to and validates the given query, and creates the grid with
+   * headers. This is shared by {@link #getEnrollments(EventQueryParams)} and {@link
+   * #streamEnrollments(EventQueryParams, GridRowWriter)}.
+   *
+   * @param params the {@link EventQueryParams} parameters.
+   * @return the {@link PreparedQuery}.
+   */
+  private PreparedQuery prepareQuery(EventQueryParams params) {
     // Security
 
     securityManager.decideAccessEventQuery(params);
@@ -111,34 +185,17 @@ public class EnrollmentQueryService {
     Grid grid = createGridWithHeaders(params);
     addCommonHeaders(grid, params, List.of());
 
-    // Data
-
-    long count = 0;
-
-    if (!params.isSkipData() || params.analyzeOnly()) {
-      count = addData(grid, params);
-    }
-
     // Re-add period items for metadata generation (items + dimensions sections)
+    EventQueryParams metadataParams = params;
+
     if (!periods.isEmpty()) {
-      params =
+      metadataParams =
           new EventQueryParams.Builder(params)
               .withPeriods(periods.stream().flatMap(p -> p.getItems().stream()).toList(), EMPTY)
               .build();
     }
 
-    // Metadata
-
-    metadataHandler.addMetadata(grid, params, keywords);
-    schemeIdHandler.applyScheme(grid, params);
-
-    // Paging
-
-    addPaging(params, count, grid);
-    applyHeaders(grid, params);
-    setRowContextColumns(grid);
-
-    return grid;
+    return new PreparedQuery(params, metadataParams, grid, keywords);
   }
 
   /**
@@ -248,9 +305,45 @@ public class EnrollmentQueryService {
     return count;
   }
 
+  /**
+   * Passes the enrollments matching the given query to the given row handler.
+   *
+   * @param grid the {@link Grid} providing the headers.
+   * @param params the {@link EventQueryParams}.
+   * @param rowHandler the handler of each enrollment row.
+   */
+  private void streamData(Grid grid, EventQueryParams params, Consumer<List<Object>> rowHandler) {
+    Timer timer = new Timer().start().disablePrint();
+
+    EventQueryParams queryParams = queryPlanner.planEnrollmentQuery(params);
+
+    timer.getSplitTime("Planned enrollment query, got partitions: {}", queryParams.getPartitions());
+
+    int maxLimit =
+        params.isAggregatedEnrollments() ? UNLIMITED_PAGING : queryValidator.getMaxLimit();
+
+    enrollmentAnalyticsManager.streamEnrollments(queryParams, grid, maxLimit, rowHandler);
+
+    timer.getTime("Streamed enrollments");
+  }
+
   private static List<DimensionalObject> getPeriodDimensions(EventQueryParams params) {
     return params.getDimensions().stream()
         .filter(d -> d.getDimensionType() == DimensionType.PERIOD)
         .toList();
   }
+
+  /**
+   * An enrollment query which has passed security and validation.
+   *
+   * @param params the parameters for reading the enrollments.
+   * @param metadataParams the parameters for the meta-data, with the original period items.
+   * @param grid the grid with headers.
+   * @param keywords the dimension keywords.
+   */
+  private record PreparedQuery(
+      EventQueryParams params,
+      EventQueryParams metadataParams,
+      Grid grid,
+      List<Keyword> keywords) {}
 }
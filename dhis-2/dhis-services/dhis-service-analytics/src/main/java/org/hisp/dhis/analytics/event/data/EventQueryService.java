@@ -42,6 +42,7 @@ import static org.hisp.dhis.analytics.tracker.ResponseHelper.addPaging;
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.applyHeaders;
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.getDimensionsKeywords;
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.setRowContextColumns;
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.writeGrid;
 import static org.hisp.dhis.analytics.util.AnalyticsUtils.throwIllegalQueryEx;
 import static org.hisp.dhis.common.ValueType.DATETIME;
 import static org.hisp.dhis.common.ValueType.NUMBER;
@@ -50,6 +51,7 @@ import static org.hisp.dhis.commons.util.TextUtils.EMPTY;
 import static org.hisp.dhis.feedback.ErrorCode.E7218;
 
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.AnalyticsSecurityManager;
 import org.hisp.dhis.analytics.Rectangle;
@@ -65,6 +67,7 @@ import org.hisp.dhis.common.DimensionalObject;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.GridHeader;
 import org.hisp.dhis.db.sql.SqlBuilder;
+import org.hisp.dhis.system.grid.GridRowWriter;
 import org.hisp.dhis.system.grid.ListGrid;
 import org.hisp.dhis.util.Timer;
 import org.springframework.stereotype.Service;
@@ -95,6 +98,75 @@ public class EventQueryService {
    * @return events as a {@Grid} object.
    */
   public Grid getEvents(EventQueryParams params) {
+    PreparedQuery query = prepareQuery(params);
+    Grid grid = query.grid();
+
+    // Data
+
+    long count = 0;
+
+    if (!query.params().isSkipData() || query.params().analyzeOnly()) {
+      count = addData(grid, query.params());
+    }
+
+    // Metadata
+
+    params = query.metadataParams();
+
+    metadataHandler.addMetadata(grid, params, query.keywords());
+    schemeIdHandler.applyScheme(grid, params);
+
+    // Paging
+
+    addPaging(params, count, grid);
+    applyHeaders(grid, params);
+    setRowContextColumns(grid);
+
+    return grid;
+  }
+
+  /**
+   * Writes the events matching the given query to the given writer. The headers and meta-data are
+   * written before the events are read, and each event is written as soon as it is read from the
+   * database, so that the events are never held in memory together. The query must be streamable
+   * as defined by {@link org.hisp.dhis.analytics.tracker.ResponseHelper#isStreamable}.
+   *
+   * <p>As the meta-data is written ahead of the events, options in the meta-data are taken from the
+   * query items rather than from the events, see {@link MetadataItemsHandler#addStreamingMetadata}.
+   *
+   * @param params the event query parameters.
+   * @param writer the {@link GridRowWriter}.
+   */
+  public void streamEvents(EventQueryParams params, GridRowWriter writer) {
+    PreparedQuery query = prepareQuery(params);
+    Grid grid = query.grid();
+
+    // Metadata
+
+    metadataHandler.addStreamingMetadata(grid, query.metadataParams(), query.keywords());
+
+    // Data
+
+    writeGrid(
+        grid,
+        query.metadataParams(),
+        writer,
+        rowHandler -> {
+          if (!query.params().isSkipData()) {
+            streamData(grid, query.params(), rowHandler);
+          }
+        });
+  }
+
+  /**
+   * Applies security constraints to and validates the given query, and creates the grid with
+   * headers. This is shared by {@link #getEvents(EventQueryParams)} and {@link
+   * #streamEvents(EventQueryParams, GridRowWriter)}.
+   *
+   * @param params the event query parameters.
+   * @return the {@link PreparedQuery}.
+   */
+  private PreparedQuery prepareQuery(EventQueryParams params) {
     // Security
 
     securityManager.decideAccessEventQuery(params);
@@ -116,34 +188,17 @@ public class EventQueryService {
     Grid grid = createGridWithHeaders(params);
     addCommonHeaders(grid, params, List.of());
 
-    // Data
-
-    long count = 0;
-
-    if (!params.isSkipData() || params.analyzeOnly()) {
-      count = addData(grid, params);
-    }
-
     // Re-add period items for metadata generation (items + dimensions sections)
+    EventQueryParams metadataParams = params;
+
     if (!periods.isEmpty()) {
-      params =
+      metadataParams =
           new EventQueryParams.Builder(params)
               .withPeriods(periods.stream().flatMap(p -> p.getItems().stream()).toList(), EMPTY)
               .build();
     }
 
-    // Metadata
-
-    metadataHandler.addMetadata(grid, params, keywords);
-    schemeIdHandler.applyScheme(grid, params);
-
-    // Paging
-
-    addPaging(params, count, grid);
-    applyHeaders(grid, params);
-    setRowContextColumns(grid);
-
-    return grid;
+    return new PreparedQuery(params, metadataParams, grid, keywords);
   }
 
   /**
@@ -347,6 +402,30 @@ public class EventQueryService {
     return count;
   }
 
+  /**
+   * Passes the events matching the given query to the given row handler.
+   *
+   * @param grid the {@link Grid} providing the headers.
+   * @param params the {@link EventQueryParams}.
+   * @param rowHandler the handler of each event row.
+   */
+  private void streamData(Grid grid, EventQueryParams params, Consumer<List<Object>> rowHandler) {
+    Timer timer = new Timer().start().disablePrint();
+
+    params = queryPlanner.planEventQuery(params);
+
+    timer.getSplitTime("Planned event query, got partitions: {}", params.getPartitions());
+
+    if (params.getPartitions().hasAny() || params.isSkipPartitioning()) {
+      EventQueryParams immutableParams = new EventQueryParams.Builder(params).build();
+
+      eventAnalyticsManager.streamEvents(
+          immutableParams, grid, queryValidator.getMaxLimit(), rowHandler);
+
+      timer.getTime("Streamed events");
+    }
+  }
+
   /**
    * Indicates whether the DBMS supports geospatial data types and functions.
    *
@@ -361,4 +440,18 @@ public class EventQueryService {
         .filter(d -> d.getDimensionType() == DimensionType.PERIOD)
         .toList();
   }
+
+  /**
+   * An event query which has passed security and validation.
+   *
+   * @param params the parameters for reading the events.
+   * @param metadataParams the parameters for the meta-data, with the original period items.
+   * @param grid the grid with headers.
+   * @param keywords the dimension keywords.
+   */
+  private record PreparedQuery(
+      EventQueryParams params,
+      EventQueryParams metadataParams,
+      Grid grid,
+      List<Keyword> keywords) {}
 }
@@ -65,9 +65,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.hisp.dhis.analytics.analyze.ExecutionPlanStore;
@@ -180,18 +182,7 @@ public class JdbcEnrollmentAnalyticsManager extends AbstractJdbcEventAnalyticsMa
 
   @Override
   public void getEnrollments(EventQueryParams params, Grid grid, int maxLimit) {
-    String sql;
-    if (params.isAggregatedEnrollments()) {
-      sql =
-          useExperimentalAnalyticsQueryEngine()
-              ? buildAggregatedEnrollmentQueryWithCte(grid.getHeaders(), params)
-              : getAggregatedEnrollmentsSql(grid.getHeaders(), params);
-    } else {
-      sql =
-          useExperimentalAnalyticsQueryEngine()
-              ? buildAnalyticsQuery(params, maxLimit)
-              : getAggregatedEnrollmentsSql(params, maxLimit);
-    }
+    String sql = getEnrollmentsSql(params, grid, maxLimit);
     if (params.analyzeOnly()) {
       withExceptionHandling(
           () -> executionPlanStore.addExecutionPlan(params.getExplainOrderId(), sql));
@@ -201,6 +192,39 @@ public class JdbcEnrollmentAnalyticsManager extends AbstractJdbcEventAnalyticsMa
     }
   }
 
+  @Override
+  public void streamEnrollments(
+      EventQueryParams params, Grid grid, int maxLimit, Consumer<List<Object>> rowHandler) {
+    String sql = getEnrollmentsSql(params, grid, maxLimit);
+
+    log.debug("Analytics enrollment query SQL: '{}'", sql);
+
+    Consumer<SqlRowSet> rowSetHandler =
+        rowSet -> addEnrollments(params, grid, rowSet, maxLimit == 0, rowHandler);
+
+    withExceptionHandling(() -> queryWithCursor(sql, rowSetHandler), params.isMultipleQueries());
+  }
+
+  /**
+   * Returns the SQL statement used to retrieve enrollments.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @param grid the {@link Grid}.
+   * @param maxLimit the max number of records to retrieve.
+   * @return the SQL statement.
+   */
+  private String getEnrollmentsSql(EventQueryParams params, Grid grid, int maxLimit) {
+    if (params.isAggregatedEnrollments()) {
+      return useExperimentalAnalyticsQueryEngine()
+          ? buildAggregatedEnrollmentQueryWithCte(grid.getHeaders(), params)
+          : getAggregatedEnrollmentsSql(grid.getHeaders(), params);
+    } else {
+      return useExperimentalAnalyticsQueryEngine()
+          ? buildAnalyticsQuery(params, maxLimit)
+          : getAggregatedEnrollmentsSql(params, maxLimit);
+    }
+  }
+
   /**
    * Adds enrollments to the given grid based on the given parameters and SQL statement.
    *
@@ -213,6 +237,27 @@ public class JdbcEnrollmentAnalyticsManager extends AbstractJdbcEventAnalyticsMa
     log.debug("Analytics enrollment query SQL: '{}'", sql);
 
     SqlRowSet rowSet = jdbcTemplate.queryForRowSet(sql);
+
+    addEnrollments(params, grid, rowSet, unlimitedPaging, null);
+  }
+
+  /**
+   * Adds the enrollments of the given {@link SqlRowSet} to the given grid. If a row handler is
+   * given, each row is passed to the handler and removed from the grid once complete. The row
+   * context is not supported together with a row handler, as it refers to rows by index.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @param grid the {@link Grid}.
+   * @param rowSet the {@link SqlRowSet}.
+   * @param unlimitedPaging the analytics unlimited paging setting.
+   * @param rowHandler the handler of each row, or null to retain the rows in the grid.
+   */
+  private void addEnrollments(
+      EventQueryParams params,
+      Grid grid,
+      SqlRowSet rowSet,
+      boolean unlimitedPaging,
+      @Nullable Consumer<List<Object>> rowHandler) {
     List<String> columnLabels = getColumnLabels(rowSet);
 
     int rowsRed = 0;
@@ -239,10 +284,17 @@ public class JdbcEnrollmentAnalyticsManager extends AbstractJdbcEventAnalyticsMa
         addGridValue(grid, grid.getHeaders().get(i), i + 1 + columnOffset, rowSet, params);
 
         if (params.isRowContext()) {
-          addValueOriginInfo(grid, rowSet, grid.getHeaders().get(i).getName());
+          if (rowHandler == null) {
+            addValueOriginInfo(grid, rowSet, grid.getHeaders().get(i).getName());
+          }
           columnOffset += getRowSetOriginItems(columnLabels, grid.getHeaders().get(i).getName());
         }
       }
+
+      if (rowHandler != null) {
+        rowHandler.accept(grid.getRow(grid.getHeight() - 1));
+        grid.removeCurrentWriteRow();
+      }
     }
   }
 
@@ -62,7 +62,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.math3.util.Precision;
@@ -168,10 +170,7 @@ public class JdbcEventAnalyticsManager extends AbstractJdbcEventAnalyticsManager
 
   @Override
   public Grid getEvents(EventQueryParams params, Grid grid, int maxLimit) {
-    String sql =
-        useExperimentalAnalyticsQueryEngine()
-            ? buildAnalyticsQuery(params, maxLimit)
-            : getAggregatedEnrollmentsSql(params, maxLimit);
+    String sql = getEventsSql(params, maxLimit);
     if (params.analyzeOnly()) {
       withExceptionHandling(
           () -> executionPlanStore.addExecutionPlan(params.getExplainOrderId(), sql));
@@ -183,6 +182,32 @@ public class JdbcEventAnalyticsManager extends AbstractJdbcEventAnalyticsManager
     return grid;
   }
 
+  @Override
+  public void streamEvents(
+      EventQueryParams params, Grid grid, int maxLimit, Consumer<List<Object>> rowHandler) {
+    String sql = getEventsSql(params, maxLimit);
+
+    log.debug("Analytics event query SQL: '{}'", sql);
+
+    Consumer<SqlRowSet> rowSetHandler =
+        rowSet -> addEvents(params, grid, rowSet, maxLimit == 0, rowHandler);
+
+    withExceptionHandling(() -> queryForCursor(sql, rowSetHandler), params.isMultipleQueries());
+  }
+
+  /**
+   * Returns the SQL statement used to retrieve events.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @param maxLimit the max number of records to retrieve.
+   * @return the SQL statement.
+   */
+  private String getEventsSql(EventQueryParams params, int maxLimit) {
+    return useExperimentalAnalyticsQueryEngine()
+        ? buildAnalyticsQuery(params, maxLimit)
+        : getAggregatedEnrollmentsSql(params, maxLimit);
+  }
+
   /**
    * Adds event to the given grid based on the given parameters and SQL statement.
    *
@@ -195,6 +220,25 @@ public class JdbcEventAnalyticsManager extends AbstractJdbcEventAnalyticsManager
 
     SqlRowSet rowSet = queryForRows(sql);
 
+    addEvents(params, grid, rowSet, unlimitedPaging, null);
+  }
+
+  /**
+   * Adds the events of the given {@link SqlRowSet} to the given grid. If a row handler is given,
+   * each row is passed to the handler and removed from the grid once complete.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @param grid the {@link Grid}.
+   * @param rowSet the {@link SqlRowSet}.
+   * @param unlimitedPaging the analytics unlimited paging setting.
+   * @param rowHandler the handler of each row, or null to retain the rows in the grid.
+   */
+  private void addEvents(
+      EventQueryParams params,
+      Grid grid,
+      SqlRowSet rowSet,
+      boolean unlimitedPaging,
+      @Nullable Consumer<List<Object>> rowHandler) {
     int rowsRed = 0;
 
     grid.setLastDataRow(true);
@@ -224,6 +268,11 @@ public class JdbcEventAnalyticsManager extends AbstractJdbcEventAnalyticsManager
           columnIndex++;
         }
       }
+
+      if (rowHandler != null) {
+        rowHandler.accept(grid.getRow(grid.getHeight() - 1));
+        grid.removeCurrentWriteRow();
+      }
     }
   }
 
@@ -340,6 +389,17 @@ public class JdbcEventAnalyticsManager extends AbstractJdbcEventAnalyticsManager
     return rectangle;
   }
 
+  private void queryForCursor(String sql, Consumer<SqlRowSet> rowSetHandler) {
+    try {
+      queryWithCursor(sql, rowSetHandler);
+    } catch (DataAccessResourceFailureException ex) {
+      log.warn(E7131.getMessage(), ex);
+      throw new QueryRuntimeException(E7131);
+    } catch (DataIntegrityViolationException ex) {
+      ExceptionHandler.handle(ex);
+    }
+  }
+
   private SqlRowSet queryForRows(String sql) {
     try {
       return jdbcTemplate.queryForRowSet(sql);
@@ -34,6 +34,10 @@ import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.apache.commons.lang3.StringUtils.trimToEmpty;
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.getItemUid;
+import static org.hisp.dhis.common.QueryOperator.EQ;
+import static org.hisp.dhis.common.QueryOperator.IEQ;
+import static org.hisp.dhis.common.QueryOperator.IN;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -41,6 +45,7 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -57,6 +62,7 @@ import org.hisp.dhis.common.GridHeader;
 import org.hisp.dhis.common.IdScheme;
 import org.hisp.dhis.common.QueryFilter;
 import org.hisp.dhis.common.QueryItem;
+import org.hisp.dhis.common.QueryOperator;
 import org.hisp.dhis.legend.Legend;
 import org.hisp.dhis.option.Option;
 import org.hisp.dhis.option.OptionSet;
@@ -70,6 +76,8 @@ public class QueryItemHelper {
 
   private static final String NA = "[N/A]";
 
+  private static final Set<QueryOperator> OPTION_FILTER_OPERATORS = EnumSet.of(EQ, IEQ, IN);
+
   private QueryItemHelper() {}
 
   /**
@@ -192,6 +200,38 @@ public class QueryItemHelper {
     return options;
   }
 
+  /**
+   * Returns the options which can be part of the rows of the given query items, keyed by the item
+   * identifier, which may have a program stage prefix. These are the options specified as element
+   * "filter" when the item is filtered by option codes, ie.: Zj7UnCAulEk.K6uUAvq500H:IN:A03;B01,
+   * or all options of the option set otherwise.
+   *
+   * <p>Unlike {@link #getItemOptions(Grid, List)}, this method does not depend on the rows, and can
+   * be used when the meta-data is produced before the rows are read.
+   *
+   * @param queryItems the list of {@link QueryItem}.
+   * @return a map of list of options.
+   */
+  public static Map<String, List<Option>> getItemOptions(List<QueryItem> queryItems) {
+    Map<String, List<Option>> options = new HashMap<>();
+
+    for (QueryItem item : queryItems) {
+      if (item.hasOptionSet()) {
+        boolean hasOptionFilter =
+            item.getFilters().stream()
+                .anyMatch(filter -> OPTION_FILTER_OPERATORS.contains(filter.getOperator()));
+
+        options.put(
+            getItemUid(item),
+            hasOptionFilter
+                ? getItemOptionsForFilter(item)
+                : new ArrayList<>(item.getOptionSet().getOptions()));
+      }
+    }
+
+    return options;
+  }
+
   /**
    * Based on the given options, it returns a set of {@link Option} objects which are referenced as
    * filter by any one of the query items provided.
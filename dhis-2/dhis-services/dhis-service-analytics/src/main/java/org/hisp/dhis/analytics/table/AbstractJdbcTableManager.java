@@ -31,6 +31,7 @@ package org.hisp.dhis.analytics.table;
 
 import static java.util.function.Predicate.not;
 import static org.hisp.dhis.analytics.table.util.PartitionUtils.getEndDate;
+import static org.hisp.dhis.analytics.table.util.PartitionUtils.getPartitionName;
 import static org.hisp.dhis.analytics.table.util.PartitionUtils.getStartDate;
 import static org.hisp.dhis.commons.util.TextUtils.format;
 import static org.hisp.dhis.db.model.DataType.CHARACTER_11;
@@ -225,8 +226,9 @@ public abstract class AbstractJdbcTableManager implements AnalyticsTableManager
   @Override
   public void swapTable(AnalyticsTableUpdateParams params, AnalyticsTable table) {
     boolean tableExists = tableExists(table.getMainName());
+    boolean partialUpdate = params.isPartialUpdate() || table.isRetainUnchangedPartitions();
     boolean skipMasterTable =
-        params.isPartialUpdate() && tableExists && table.getTableType().isLatestPartition();
+        partialUpdate && tableExists && table.getTableType().isLatestPartition();
 
     log.info("Swapping table: '{}'", table.getMainName());
     log.info("Master table exists: '{}', skip master table: '{}'", tableExists, skipMasterTable);
@@ -248,6 +250,11 @@ public abstract class AbstractJdbcTableManager implements AnalyticsTableManager
             partition -> swapParentTable(partition, table.getName(), table.getMainName()));
       }
       dropTable(table);
+
+      if (table.isRetainUnchangedPartitions()) {
+        // Latest data is now part of the year partitions, drop latest partition
+        dropTable(getPartitionName(table.getMainName(), AnalyticsTablePartition.LATEST_PARTITION));
+      }
     }
   }
 
@@ -328,6 +335,27 @@ public abstract class AbstractJdbcTableManager implements AnalyticsTableManager
     return !jdbcTemplate.queryForList(sqlBuilder.tableExists(name)).isEmpty();
   }
 
+  /**
+   * Indicates whether a table with the given name exists and has the same set of columns as the
+   * given columns. Partitions built with the given columns can only be attached to such a table.
+   *
+   * @param name the table name.
+   * @param columns the list of {@link AnalyticsTableColumn}.
+   * @return true if the table exists and has matching columns.
+   */
+  protected boolean tableHasColumns(String name, List<AnalyticsTableColumn> columns) {
+    String sql =
+        """
+        select column_name from information_schema.columns \
+        where table_schema = current_schema() and table_name = ?""";
+
+    Set<String> existingColumns = Set.copyOf(jdbcTemplate.queryForList(sql, String.class, name));
+    Set<String> newColumns =
+        columns.stream().map(AnalyticsTableColumn::getName).collect(Collectors.toSet());
+
+    return !existingColumns.isEmpty() && existingColumns.equals(newColumns);
+  }
+
   // -------------------------------------------------------------------------
   // Abstract methods
   // -------------------------------------------------------------------------
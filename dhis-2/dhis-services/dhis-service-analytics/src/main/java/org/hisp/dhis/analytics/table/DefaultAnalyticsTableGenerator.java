@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.analytics.table;
 
+import static org.hisp.dhis.analytics.AnalyticsTableType.DATA_VALUE;
 import static org.hisp.dhis.analytics.AnalyticsTableType.ENROLLMENT;
 import static org.hisp.dhis.analytics.AnalyticsTableType.EVENT;
 import static org.hisp.dhis.analytics.AnalyticsTableType.TRACKED_ENTITY_INSTANCE;
@@ -37,9 +38,7 @@ import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_STAGE;
 import static org.hisp.dhis.util.DateUtils.toLongDate;
 
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -132,7 +131,7 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
     }
 
     progress.startingStage("Updating system settings");
-    progress.runStage(() -> updateLastSuccessfulSystemSettings(params, clock));
+    progress.runStage(() -> updateLastSuccessfulSystemSettings(params, skipTypes, clock));
 
     progress.startingStage("Invalidate analytics caches", SKIP_STAGE);
     progress.runStage(analyticsCache::invalidateAll);
@@ -145,9 +144,11 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
    * Updates the system settings related to last successful analytics table update.
    *
    * @param params the {@link AnalyticsTableUpdateParams}.
+   * @param skipTypes the analytics table types which were skipped.
    * @param clock the {@link Clock}.
    */
-  private void updateLastSuccessfulSystemSettings(AnalyticsTableUpdateParams params, Clock clock) {
+  private void updateLastSuccessfulSystemSettings(
+      AnalyticsTableUpdateParams params, Set<AnalyticsTableType> skipTypes, Clock clock) {
     if (params.isLatestUpdate()) {
       settingsService.put("keyLastSuccessfulLatestAnalyticsPartitionUpdate", params.getStartTime());
       settingsService.put("keyLastSuccessfulLatestAnalyticsPartitionRuntime", clock.time());
@@ -155,6 +156,11 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
       settingsService.put("keyLastSuccessfulAnalyticsTablesUpdate", params.getStartTime());
       settingsService.put("keyLastSuccessfulAnalyticsTablesRuntime", clock.time());
     }
+
+    // unchanged data value partitions are only retained relative to a complete data value table
+    if (!params.isPartialUpdate() && !params.hasFromDate() && !skipTypes.contains(DATA_VALUE)) {
+      settingsService.put("keyLastSuccessfulFullAnalyticsTablesUpdate", params.getStartTime());
+    }
   }
 
   @Override
@@ -183,10 +189,7 @@ public class DefaultAnalyticsTableGenerator implements AnalyticsTableGenerator {
   private void generateResourceTablesInternal(JobProgress progress) {
     resourceTableService.dropAllSqlViews(progress);
 
-    Map<String, Runnable> generators = new LinkedHashMap<>();
-    generators.put("Generating resource tables", resourceTableService::generateResourceTables);
-    progress.startingStage("Generating resource tables", generators.size(), SKIP_STAGE);
-    progress.runStage(generators);
+    resourceTableService.generateResourceTables(progress);
 
     resourceTableService.createAllSqlViews(progress);
 
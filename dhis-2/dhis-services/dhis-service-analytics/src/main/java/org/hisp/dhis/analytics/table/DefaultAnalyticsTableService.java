@@ -150,9 +150,13 @@ public class DefaultAnalyticsTableService implements AnalyticsTableService {
     if (sqlBuilder.requiresIndexesForAnalytics()) {
       List<Index> indexes = getIndexes(partitions);
       int indexSize = indexes.size();
+      int indexJobs = getIndexParallelJobs(parallelJobs);
       progress.startingStage(
-          format("Creating {} indexes: '{}'", indexSize, tableType), indexSize, SKIP_ITEM_OUTLIER);
-      createIndexes(indexes, progress);
+          format(
+              "Creating {} indexes with {} parallel jobs: '{}'", indexSize, indexJobs, tableType),
+          indexSize,
+          SKIP_ITEM_OUTLIER);
+      createIndexes(indexes, indexJobs, progress);
       clock.logTime("Created indexes");
     }
 
@@ -286,11 +290,12 @@ public class DefaultAnalyticsTableService implements AnalyticsTableService {
    * Creates indexes on the given tables.
    *
    * @param indexes the list of {@link Index}.
+   * @param parallelJobs the number of parallel jobs.
    * @param progress the {@link JobProgress}.
    */
-  private void createIndexes(List<Index> indexes, JobProgress progress) {
+  private void createIndexes(List<Index> indexes, int parallelJobs, JobProgress progress) {
     progress.runStageInParallel(
-        getParallelJobs(), indexes, index -> index.getName(), tableManager::createIndex);
+        parallelJobs, indexes, index -> index.getName(), tableManager::createIndex);
   }
 
   /**
@@ -384,4 +389,19 @@ public class DefaultAnalyticsTableService implements AnalyticsTableService {
     }
     return serverCpus;
   }
+
+  /**
+   * Returns the number of parallel jobs to use for creating indexes. Each index build allocates
+   * maintenance memory in the database, which means that running as many index builds as other
+   * table operations in parallel can exhaust database memory. The system setting for parallel jobs
+   * in analytics table indexing is used if set, capped by the given number of parallel jobs for
+   * processing analytics tables.
+   *
+   * @param parallelJobs the number of parallel jobs to use for processing analytics tables.
+   * @return the number of parallel jobs to use for creating indexes.
+   */
+  int getIndexParallelJobs(int parallelJobs) {
+    int indexJobs = settingsProvider.getCurrentSettings().getParallelJobsInAnalyticsTableIndexing();
+    return indexJobs > 0 ? Math.min(indexJobs, parallelJobs) : parallelJobs;
+  }
 }
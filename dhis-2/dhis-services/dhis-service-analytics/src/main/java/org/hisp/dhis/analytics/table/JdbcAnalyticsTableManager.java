@@ -56,6 +56,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.hisp.dhis.analytics.AggregationType;
@@ -167,6 +168,27 @@ public class JdbcAnalyticsTableManager extends AbstractJdbcTableManager {
 
   private static final List<String> SORT_KEY = List.of("dx", "co");
 
+  /**
+   * Metadata tables which are denormalized into the analytics table through resource tables, such
+   * as the org unit hierarchy, group set memberships and data approval levels.
+   */
+  private static final List<String> DENORMALIZED_METADATA_TABLES =
+      List.of(
+          "organisationunit",
+          "orgunitgroup",
+          "orgunitgroupset",
+          "dataelement",
+          "dataelementgroup",
+          "dataelementgroupset",
+          "categorycombo",
+          "category",
+          "categoryoption",
+          "categoryoptioncombo",
+          "categoryoptiongroup",
+          "categoryoptiongroupset",
+          "dataapprovallevel",
+          "dataapproval");
+
   public JdbcAnalyticsTableManager(
       IdentifiableObjectManager idObjectManager,
       OrganisationUnitService organisationUnitService,
@@ -209,10 +231,17 @@ public class JdbcAnalyticsTableManager extends AbstractJdbcTableManager {
   @Override
   @Transactional
   public List<AnalyticsTable> getAnalyticsTables(AnalyticsTableUpdateParams params) {
-    AnalyticsTable table =
-        params.isLatestUpdate()
-            ? getLatestAnalyticsTable(params, getColumns(params))
-            : getRegularAnalyticsTable(params, getDataYears(params), getColumns(params), SORT_KEY);
+    List<AnalyticsTableColumn> columns = getColumns(params);
+    AnalyticsTable table;
+
+    if (params.isLatestUpdate()) {
+      table = getLatestAnalyticsTable(params, columns);
+    } else if (canSkipUnchangedPartitions(params, columns)) {
+      table = getRegularAnalyticsTable(params, getChangedDataYears(params), columns, SORT_KEY);
+      table.setRetainUnchangedPartitions(true);
+    } else {
+      table = getRegularAnalyticsTable(params, getDataYears(params), columns, SORT_KEY);
+    }
 
     return table.hasTablePartitions() ? List.of(table) : List.of();
   }
@@ -709,6 +738,131 @@ public class JdbcAnalyticsTableManager extends AbstractJdbcTableManager {
     return jdbcTemplate.queryForList(sql.toString(), Integer.class);
   }
 
+  /**
+   * Indicates whether unchanged year partitions can be skipped, which requires that skipping is
+   * requested, that partitions are separate tables, that a full update has been run before, that
+   * the existing main table has the same columns as the table to be generated and that no
+   * denormalized metadata has changed since the last full update.
+   *
+   * @param params the {@link AnalyticsTableUpdateParams}.
+   * @param columns the list of {@link AnalyticsTableColumn}.
+   * @return true if unchanged year partitions can be skipped.
+   */
+  private boolean canSkipUnchangedPartitions(
+      AnalyticsTableUpdateParams params, List<AnalyticsTableColumn> columns) {
+    if (!params.isSkipUnchangedPartitions() || sqlBuilder.supportsDeclarativePartitioning()) {
+      return false;
+    }
+
+    Date lastFullUpdate =
+        settingsProvider.getCurrentSettings().getLastSuccessfulFullAnalyticsTablesUpdate();
+
+    if (lastFullUpdate.getTime() == 0L) {
+      log.info("No previous full analytics table update found, updating all partitions");
+      return false;
+    }
+
+    if (!tableHasColumns(getAnalyticsTableType().getTableName(), columns)) {
+      log.info("Analytics table columns changed since last update, updating all partitions");
+      return false;
+    }
+
+    if (hasMetadataChangedSince(lastFullUpdate)) {
+      log.info("Metadata changed since last full update, updating all partitions");
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Indicates whether any metadata which is denormalized into the analytics table was created or
+   * updated since the given date. Such changes affect rows in all year partitions. Unapprovals
+   * delete the data approval, so they are detected through the data approval audit table.
+   *
+   * @param date the date.
+   * @return true if metadata has changed since the given date.
+   */
+  private boolean hasMetadataChangedSince(Date date) {
+    String sql =
+        Stream.concat(
+                DENORMALIZED_METADATA_TABLES.stream()
+                    .map(table -> getExistsSinceClause(table, "lastupdated", date)),
+                Stream.of(getExistsSinceClause("dataapprovalaudit", "created", date)))
+            .collect(Collectors.joining(" or ", "select ", ";"));
+
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class));
+  }
+
+  /**
+   * Returns a SQL clause which checks whether the given table has rows with the given timestamp
+   * column at or after the given date.
+   *
+   * @param table the table name.
+   * @param column the timestamp column name.
+   * @param date the date.
+   * @return a SQL exists clause.
+   */
+  private String getExistsSinceClause(String table, String column, Date date) {
+    return replace(
+        "exists (select 1 from ${table} where ${column} >= '${date}')",
+        Map.of(
+            "table", sqlBuilder.qualifyTable(table), "column", column, "date", toLongDate(date)));
+  }
+
+  /**
+   * Returns the distinct years which contain data values created, updated or deleted since the last
+   * full analytics table update, relative to the from date in the given parameters, if it exists.
+   * Deleted data values are detected through the data value audit table.
+   *
+   * @param params the {@link AnalyticsTableUpdateParams}.
+   * @return a list of data years.
+   */
+  private List<Integer> getChangedDataYears(AnalyticsTableUpdateParams params) {
+    Date lastFullUpdate =
+        settingsProvider.getCurrentSettings().getLastSuccessfulFullAnalyticsTablesUpdate();
+    String fromDateClause =
+        params.hasFromDate()
+            ? replace(
+                "and pes.startdate >= '${fromDate}' ",
+                Map.of("fromDate", DateUtils.toMediumDate(params.getFromDate())))
+            : "";
+
+    String sql =
+        replaceQualify(
+            sqlBuilder,
+            """
+            select distinct(year) \
+            from ${datavalue} dv \
+            inner join analytics_rs_periodstructure pes on dv.periodid=pes.periodid \
+            where pes.startdate is not null \
+            and dv.lastupdated >= '${lastFullUpdate}' \
+            and dv.lastupdated < '${startTime}' \
+            ${fromDateClause}\
+            union \
+            select distinct(year) \
+            from ${datavalueaudit} dva \
+            inner join analytics_rs_periodstructure pes on dva.periodid=pes.periodid \
+            where pes.startdate is not null \
+            and dva.audittype = 'DELETE' \
+            and dva.created >= '${lastFullUpdate}' \
+            and dva.created < '${startTime}' \
+            ${fromDateClause}""",
+            Map.of(
+                "lastFullUpdate", toLongDate(lastFullUpdate),
+                "startTime", toLongDate(params.getStartTime()),
+                "fromDateClause", fromDateClause));
+
+    List<Integer> years = jdbcTemplate.queryForList(sql, Integer.class);
+
+    log.info(
+        "Found {} years with data changed since last full update: '{}'",
+        years.size(),
+        toLongDate(lastFullUpdate));
+
+    return years;
+  }
+
   @Override
   public void applyAggregationLevels(
       Table table, Collection<String> dataElements, int aggregationLevel) {
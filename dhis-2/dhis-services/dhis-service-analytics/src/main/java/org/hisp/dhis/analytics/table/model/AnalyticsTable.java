@@ -33,6 +33,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.commons.collection.UniqueArrayList;
@@ -67,6 +68,12 @@ public class AnalyticsTable extends Table {
   /** Analytics table partitions for this base analytics table. */
   private List<AnalyticsTablePartition> tablePartitions = new UniqueArrayList<>();
 
+  /**
+   * Indicates whether the table partitions only cover data which changed since the last full
+   * update, meaning that the remaining partitions of the existing main table must be retained.
+   */
+  @Setter private boolean retainUnchangedPartitions;
+
   // -------------------------------------------------------------------------
   // Constructors
   // -------------------------------------------------------------------------
@@ -68,6 +68,7 @@ public class AnalyticsTableJob implements Job {
             .skipOutliers(parameters.isSkipOutliers() || !sqlBuilder.supportsPercentileCont())
             .skipTableTypes(parameters.getSkipTableTypes())
             .skipPrograms(parameters.getSkipPrograms())
+            .skipUnchangedPartitions(parameters.isSkipUnchangedPartitions())
             .startTime(new Date())
             .build();
 
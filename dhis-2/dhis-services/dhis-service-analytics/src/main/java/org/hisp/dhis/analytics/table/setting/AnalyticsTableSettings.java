@@ -44,6 +44,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.table.model.Skip;
+import org.hisp.dhis.commons.util.SystemUtils;
 import org.hisp.dhis.db.model.Logged;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.period.PeriodDataProvider.PeriodSource;
@@ -98,6 +99,26 @@ public class AnalyticsTableSettings {
     return getMaxPeriodYearsOffset() == null ? SYSTEM_DEFINED : DATABASE;
   }
 
+  /**
+   * Returns the number of resource tables to generate in parallel. Defined by {@link
+   * SystemSettings#getParallelJobsInResourceTableGeneration()}, falls back to the number of
+   * database server CPUs and then to the number of server CPU cores.
+   *
+   * @return the number of parallel jobs, at least 1.
+   */
+  public int getResourceTableParallelJobs() {
+    SystemSettings settings = settingsProvider.getCurrentSettings();
+    int parallelJobs = settings.getParallelJobsInResourceTableGeneration();
+    if (parallelJobs > 0) {
+      return parallelJobs;
+    }
+    int databaseCpus = settings.getDatabaseServerCpus();
+    if (databaseCpus > 0) {
+      return databaseCpus;
+    }
+    return Math.max(1, SystemUtils.getCpuCores() - 1);
+  }
+
   /**
    * Indicates whether an analytics database instance is configured.
    *
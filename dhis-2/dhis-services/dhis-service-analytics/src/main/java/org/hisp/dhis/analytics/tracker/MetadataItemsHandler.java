@@ -31,6 +31,7 @@ package org.hisp.dhis.analytics.tracker;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
+import static java.util.stream.Collectors.toCollection;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.trimToEmpty;
 import static org.hisp.dhis.analytics.AnalyticsMetaDataKey.DIMENSIONS;
@@ -70,6 +71,7 @@ import org.hisp.dhis.analytics.TimeField;
 import org.hisp.dhis.analytics.event.EventQueryParams;
 import org.hisp.dhis.analytics.event.LabelMapper;
 import org.hisp.dhis.analytics.event.data.OrganisationUnitResolver;
+import org.hisp.dhis.analytics.event.data.QueryItemHelper;
 import org.hisp.dhis.analytics.orgunit.OrgUnitHelper;
 import org.hisp.dhis.analytics.util.AnalyticsUtils;
 import org.hisp.dhis.calendar.Calendar;
@@ -111,14 +113,54 @@ public class MetadataItemsHandler {
    * @param keywords the list of {@link Keyword}.
    */
   public void addMetadata(Grid grid, EventQueryParams params, List<Keyword> keywords) {
+    Map<String, List<Option>> itemOptions = getItemOptions(grid, params.getItems());
+
+    addMetadata(grid, params, keywords, itemOptions, collectOptionItems(grid, params, itemOptions));
+  }
+
+  /**
+   * Adds meta-data values to the given grid based on the given data query parameters, before the
+   * rows of the grid are read. The options are derived from the query items rather than from the
+   * rows, see {@link QueryItemHelper#getItemOptions(List)}.
+   *
+   * @param grid the {@link Grid}.
+   * @param params the {@link EventQueryParams}.
+   * @param keywords the list of {@link Keyword}.
+   */
+  public void addStreamingMetadata(Grid grid, EventQueryParams params, List<Keyword> keywords) {
+    Map<String, List<Option>> itemOptions = getItemOptions(params.getItems());
+
+    Set<Option> optionItems =
+        itemOptions.values().stream()
+            .flatMap(Collection::stream)
+            .collect(toCollection(LinkedHashSet::new));
+
+    addMetadata(grid, params, keywords, itemOptions, optionItems);
+  }
+
+  /**
+   * Adds meta-data values to the given grid based on the given data query parameters and options.
+   *
+   * @param grid the {@link Grid}.
+   * @param params the {@link EventQueryParams}.
+   * @param keywords the list of {@link Keyword}.
+   * @param itemOptions the options by item identifier.
+   * @param optionItems the options to add as meta-data items.
+   */
+  private void addMetadata(
+      Grid grid,
+      EventQueryParams params,
+      List<Keyword> keywords,
+      Map<String, List<Option>> itemOptions,
+      Set<Option> optionItems) {
     if (params.isSkipMeta()) {
       return;
     }
 
     Map<String, Object> metadata =
         MetadataBuilder.builder()
-            .put(ITEMS, buildMetadataItems(grid, params, keywords))
-            .put(DIMENSIONS, buildDimensionItems(grid, params))
+            .put(ITEMS, buildMetadataItems(grid, params, keywords, optionItems))
+            .put(DIMENSIONS, buildDimensionItems(params, itemOptions))
             .putIf(
                 ORG_UNIT_HIERARCHY,
                 () -> buildOrgUnitHierarchy(grid, params),
@@ -138,16 +180,16 @@ public class MetadataItemsHandler {
    * @param grid the {@link Grid}.
    * @param params the {@link EventQueryParams}.
    * @param keywords the list of {@link Keyword}.
+   * @param optionItems the set of options.
    * @return a map of metadata items.
    */
   private Map<String, Object> buildMetadataItems(
-      Grid grid, EventQueryParams params, List<Keyword> keywords) {
+      Grid grid, EventQueryParams params, List<Keyword> keywords, Set<Option> optionItems) {
     Map<String, Object> items = new HashMap<>();
 
     addUserOrgUnitItems(items, params);
 
     if (params.isComingFromQuery()) {
-      Set<Option> optionItems = collectOptionItems(grid, params);
       items.putAll(getMetadataItems(params, keywords, optionItems, grid));
     } else {
       items.putAll(getMetadataItems(params, null, null, null));
@@ -174,11 +216,12 @@ public class MetadataItemsHandler {
    *
    * @param grid the {@link Grid}.
    * @param params the {@link EventQueryParams}.
+   * @param optionsPresentInGrid the options present in the grid by header name.
    * @return a set of options.
    */
-  private Set<Option> collectOptionItems(Grid grid, EventQueryParams params) {
+  private Set<Option> collectOptionItems(
+      Grid grid, EventQueryParams params, Map<String, List<Option>> optionsPresentInGrid) {
     Set<Option> optionItems = new LinkedHashSet<>();
-    Map<String, List<Option>> optionsPresentInGrid = getItemOptions(grid, params.getItems());
 
     if (isNotEmpty(grid.getRows())) {
       optionItems.addAll(
@@ -193,14 +236,14 @@ public class MetadataItemsHandler {
   /**
    * Builds the dimension items map.
    *
-   * @param grid the {@link Grid}.
    * @param params the {@link EventQueryParams}.
+   * @param itemOptions the options by item identifier.
    * @return a map of dimension items.
    */
-  private Map<String, List<String>> buildDimensionItems(Grid grid, EventQueryParams params) {
+  private Map<String, List<String>> buildDimensionItems(
+      EventQueryParams params, Map<String, List<Option>> itemOptions) {
     if (params.isComingFromQuery()) {
-      Map<String, List<Option>> optionsPresentInGrid = getItemOptions(grid, params.getItems());
-      return getDimensionItems(params, Optional.of(optionsPresentInGrid));
+      return getDimensionItems(params, Optional.of(itemOptions));
     }
     return getDimensionItems(params, empty());
   }
@@ -33,13 +33,18 @@ import static lombok.AccessLevel.PRIVATE;
 import static org.apache.commons.lang3.StringUtils.joinWith;
 import static org.hisp.dhis.analytics.AnalyticsMetaDataKey.PAGER;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.analytics.common.ColumnHeader;
 import org.hisp.dhis.analytics.event.EventQueryParams;
 import org.hisp.dhis.common.DimensionItemKeywords.Keyword;
@@ -51,6 +56,8 @@ import org.hisp.dhis.common.Pager;
 import org.hisp.dhis.common.QueryItem;
 import org.hisp.dhis.common.SlimPager;
 import org.hisp.dhis.common.ValueStatus;
+import org.hisp.dhis.system.grid.GridRowWriter;
+import org.hisp.dhis.system.grid.ListGrid;
 
 @NoArgsConstructor(access = PRIVATE)
 public class ResponseHelper {
@@ -133,6 +140,60 @@ public class ResponseHelper {
     grid.setRowContext(newRowContext);
   }
 
+  /**
+   * Indicates whether the response to the given query can be streamed, i.e. written row by row
+   * while the rows are read from the database. This is the case for queries without paging which
+   * do not require post-processing of the complete grid, like identifier scheme substitution,
+   * organisation unit hierarchy meta-data or row context.
+   *
+   * @param params the {@link EventQueryParams}.
+   * @return true if the response to the given query can be streamed.
+   */
+  public static boolean isStreamable(EventQueryParams params) {
+    return !params.isPaging()
+        && !params.analyzeOnly()
+        && !params.hasDataIdScheme()
+        && !params.hasCustomIdSchemeSet()
+        && !params.isHierarchyMeta()
+        && !params.isShowHierarchy()
+        && !params.isRowContext();
+  }
+
+  /**
+   * Writes the given grid to the given writer, followed by the rows produced by the given row
+   * producer. The grid holds the headers and meta-data but no rows. The headers specified by the
+   * query are applied to the written headers and to each written row.
+   *
+   * <p>Nothing is written before the row producer passes the first row or completes, which means
+   * that the query has been executed. Errors raised by the query therefore propagate before the
+   * response is committed, and can be returned as a regular error response.
+   *
+   * @param grid the {@link Grid} with headers and meta-data.
+   * @param params the {@link EventQueryParams}.
+   * @param writer the {@link GridRowWriter}.
+   * @param rowProducer the producer of rows, which passes each row to the given row handler.
+   */
+  public static void writeGrid(
+      Grid grid,
+      EventQueryParams params,
+      GridRowWriter writer,
+      Consumer<Consumer<List<Object>>> rowProducer) {
+    Grid responseGrid = new ListGrid();
+    grid.getHeaders().forEach(responseGrid::addHeader);
+    responseGrid.setMetaData(grid.getMetaData());
+    applyHeaders(responseGrid, params);
+
+    int[] columns =
+        responseGrid.getHeaders().stream()
+            .mapToInt(header -> grid.getIndexOfHeader(header.getName()))
+            .toArray();
+
+    DeferredGridWriter gridWriter = new DeferredGridWriter(writer, responseGrid, columns);
+
+    rowProducer.accept(gridWriter::writeRow);
+    gridWriter.writeEnd();
+  }
+
   /**
    * Applies paging to the given grid if the given query specifies paging.
    *
@@ -208,4 +269,58 @@ public class ResponseHelper {
     }
     return item.getItem().getDisplayProperty(displayProperty);
   }
+
+  /**
+   * Writes the start of a grid lazily when the first row is written, or when the end is written if
+   * there are no rows.
+   */
+  @RequiredArgsConstructor
+  private static final class DeferredGridWriter {
+    private final GridRowWriter writer;
+
+    private final Grid grid;
+
+    /** Indexes of the columns of each row to write. */
+    private final int[] columns;
+
+    private boolean started;
+
+    /**
+     * Writes the values of the columns of the given row, preceded by the start of the grid if not
+     * yet written.
+     *
+     * @param row the row.
+     */
+    void writeRow(List<Object> row) {
+      List<Object> values = new ArrayList<>(columns.length);
+
+      for (int column : columns) {
+        values.add(row.get(column));
+      }
+
+      try {
+        writeStartIfRequired();
+        writer.writeRow(values);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    /** Writes the end of the grid, preceded by the start of the grid if not yet written. */
+    void writeEnd() {
+      try {
+        writeStartIfRequired();
+        writer.writeEnd();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    private void writeStartIfRequired() throws IOException {
+      if (!started) {
+        writer.writeStart(grid);
+        started = true;
+      }
+    }
+  }
 }
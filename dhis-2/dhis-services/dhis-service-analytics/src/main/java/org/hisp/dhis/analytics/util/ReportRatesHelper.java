@@ -56,9 +56,9 @@ public final class ReportRatesHelper {
    * @param timeUnits the time unit size found in the current DataQueryParams.
    *        See {@link #DataHandler.getTimeUnits(DataQueryParams)}.
    * @param dataRow the current dataRow, based on the key map built by
-   *        {@link #DataHandler.getAggregatedCompletenessTargetMap(DataQueryParams)).
+   *        {@link #DataHandler.getAggregatedCompletenessTargetValues(DataQueryParams)).
    * @param target the current value of the respective key ("dataRow"). See
-   *        {@link #DataHandler.getAggregatedCompletenessTargetMap(DataQueryParams).
+   *        {@link #DataHandler.getAggregatedCompletenessTargetValues(DataQueryParams).
    * @param queryPt the filter period in the current "dataRow". See
    *        {@link PeriodType#getPeriodTypeFromIsoString}.
    * @param dataSetPt the dataset period.
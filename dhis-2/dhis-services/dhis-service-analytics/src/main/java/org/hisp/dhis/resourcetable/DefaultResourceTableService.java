@@ -32,12 +32,16 @@ package org.hisp.dhis.resourcetable;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static java.util.Comparator.reverseOrder;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.hisp.dhis.commons.util.TextUtils.format;
 import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_ITEM;
+import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_STAGE;
 
 import com.google.common.collect.Lists;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -113,9 +117,22 @@ public class DefaultResourceTableService implements ResourceTableService {
 
   @Override
   @Transactional
-  public void generateResourceTables() {
-    for (ResourceTable table : getResourceTables()) {
-      resourceTableStore.generateResourceTable(table);
+  public void generateResourceTables(JobProgress progress) {
+    progress.startingStage("Preparing resource tables");
+    List<ResourceTable> tables = progress.runStage(List.of(), this::getPreparedResourceTables);
+
+    int parallelJobs = analyticsTableSettings.getResourceTableParallelJobs();
+
+    for (List<ResourceTable> group : getTableGroups(tables)) {
+      progress.startingStage(
+          format("Generating {} resource tables with {} parallel jobs", group.size(), parallelJobs),
+          group.size(),
+          SKIP_STAGE);
+      progress.runStageInParallel(
+          parallelJobs,
+          group,
+          table -> table.getMainTable().getName(),
+          resourceTableStore::generateResourceTable);
     }
   }
 
@@ -181,6 +198,56 @@ public class DefaultResourceTableService implements ResourceTableService {
         new RelationshipCountResourceTable(logged));
   }
 
+  /**
+   * Returns the resource tables prepared on the calling thread, so that they can be generated on
+   * other threads.
+   *
+   * @return a list of {@link ResourceTable}.
+   */
+  private List<ResourceTable> getPreparedResourceTables() {
+    return getResourceTables().stream().<ResourceTable>map(PreparedResourceTable::of).toList();
+  }
+
+  /**
+   * Groups the given resource tables so that each table comes after the tables it depends on.
+   * Tables within a group do not depend on each other and can be generated in parallel.
+   * Dependencies on tables which are not in the given list are ignored.
+   *
+   * @param tables the list of {@link ResourceTable}.
+   * @return a list of groups of {@link ResourceTable}.
+   */
+  static List<List<ResourceTable>> getTableGroups(List<ResourceTable> tables) {
+    Set<ResourceTableType> types = EnumSet.noneOf(ResourceTableType.class);
+    tables.forEach(table -> types.add(table.getTableType()));
+
+    Set<ResourceTableType> generated = EnumSet.noneOf(ResourceTableType.class);
+    List<ResourceTable> remaining = new ArrayList<>(tables);
+    List<List<ResourceTable>> groups = new ArrayList<>();
+
+    while (!remaining.isEmpty()) {
+      List<ResourceTable> group =
+          remaining.stream()
+              .filter(
+                  table ->
+                      table.getDependencies().stream()
+                          .filter(types::contains)
+                          .allMatch(generated::contains))
+              .toList();
+
+      if (group.isEmpty()) {
+        throw new IllegalStateException(
+            "Resource tables have circular dependencies: "
+                + remaining.stream().map(ResourceTable::getTableType).toList());
+      }
+
+      group.forEach(table -> generated.add(table.getTableType()));
+      remaining.removeAll(group);
+      groups.add(group);
+    }
+
+    return groups;
+  }
+
   /**
    * Returns a list of data approval resource tables.
    *
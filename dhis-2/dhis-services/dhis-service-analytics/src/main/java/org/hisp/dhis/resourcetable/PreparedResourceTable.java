@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.resourcetable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hisp.dhis.db.model.Index;
+import org.hisp.dhis.db.model.Table;
+
+/**
+ * A {@link ResourceTable} with its definition and content computed up front. Resource tables read
+ * metadata objects bound to the session of the calling thread, so they are prepared on that thread
+ * before being generated on other threads.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PreparedResourceTable implements ResourceTable {
+  private final Table table;
+
+  private final Table mainTable;
+
+  private final List<Index> indexes;
+
+  private final ResourceTableType tableType;
+
+  private final Set<ResourceTableType> dependencies;
+
+  private final Optional<String> populateTempTableStatement;
+
+  private final Optional<List<Object[]>> populateTempTableContent;
+
+  /**
+   * Prepares the given resource table. The content is only computed if the table has no populate
+   * statement, as the statement takes precedence.
+   *
+   * @param table the {@link ResourceTable}.
+   * @return a {@link PreparedResourceTable}.
+   */
+  static PreparedResourceTable of(ResourceTable table) {
+    Optional<String> statement = table.getPopulateTempTableStatement();
+    return new PreparedResourceTable(
+        table.getTable(),
+        table.getMainTable(),
+        table.getIndexes(),
+        table.getTableType(),
+        table.getDependencies(),
+        statement,
+        statement.isPresent() ? Optional.empty() : table.getPopulateTempTableContent());
+  }
+}
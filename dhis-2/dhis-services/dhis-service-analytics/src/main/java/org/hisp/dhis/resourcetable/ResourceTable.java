@@ -31,6 +31,7 @@ package org.hisp.dhis.resourcetable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.hisp.dhis.db.model.Index;
 import org.hisp.dhis.db.model.Table;
 
@@ -70,6 +71,16 @@ public interface ResourceTable {
    */
   ResourceTableType getTableType();
 
+  /**
+   * Returns the types of the resource tables which must be generated before this table, as the
+   * populate statement of this table reads from them.
+   *
+   * @return a set of {@link ResourceTableType}, may be empty.
+   */
+  default Set<ResourceTableType> getDependencies() {
+    return Set.of();
+  }
+
   /**
    * Returns an optional SQL statement for populating the resource table.
    *
@@ -87,9 +87,7 @@ public class JdbcResourceTableStore implements ResourceTableStore {
 
     analyzeTable(stagingTable);
 
-    jdbcTemplate.execute(sqlBuilder.dropTableIfExists(tableName));
-
-    jdbcTemplate.execute(sqlBuilder.renameTable(stagingTable, tableName));
+    swapTable(stagingTable, tableName);
 
     log.info("Resource table update done: '{}' '{}'", tableName, clock.time());
   }
@@ -182,6 +180,27 @@ public class JdbcResourceTableStore implements ResourceTableStore {
     }
   }
 
+  /**
+   * Swaps the given staging table with the main table, meaning drops the main table and renames the
+   * staging table to become the main table. The statements are sent as a single statement where
+   * supported, which the database runs in one implicit transaction, so that readers never observe
+   * a missing main table.
+   *
+   * @param stagingTable the staging {@link Table}.
+   * @param mainTableName the main table name.
+   */
+  private void swapTable(Table stagingTable, String mainTableName) {
+    String dropSql = sqlBuilder.dropTableIfExists(mainTableName);
+    String renameSql = sqlBuilder.renameTable(stagingTable, mainTableName);
+
+    if (sqlBuilder.supportsMultiStatements()) {
+      jdbcTemplate.execute(String.join(" ", dropSql, renameSql));
+    } else {
+      jdbcTemplate.execute(dropSql);
+      jdbcTemplate.execute(renameSql);
+    }
+  }
+
   /**
    * Performs a batch update.
    *
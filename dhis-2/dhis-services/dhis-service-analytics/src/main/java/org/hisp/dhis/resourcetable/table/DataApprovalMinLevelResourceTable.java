@@ -35,6 +35,7 @@ import static org.hisp.dhis.db.model.Table.toStaging;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.commons.util.TextUtils;
 import org.hisp.dhis.db.model.Column;
@@ -85,6 +86,12 @@ public class DataApprovalMinLevelResourceTable implements ResourceTable {
     return ResourceTableType.DATA_APPROVAL_MIN_LEVEL;
   }
 
+  @Override
+  public Set<ResourceTableType> getDependencies() {
+    return Set.of(
+        ResourceTableType.DATA_APPROVAL_REMAP_LEVEL, ResourceTableType.ORG_UNIT_STRUCTURE);
+  }
+
   @Override
   public Optional<String> getPopulateTempTableStatement() {
     String sql =
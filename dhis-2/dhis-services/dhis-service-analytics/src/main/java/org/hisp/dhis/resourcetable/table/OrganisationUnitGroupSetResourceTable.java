@@ -41,6 +41,7 @@ import com.google.common.collect.Lists;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.db.model.Column;
 import org.hisp.dhis.db.model.DataType;
@@ -123,6 +124,11 @@ public class OrganisationUnitGroupSetResourceTable implements ResourceTable {
     return ResourceTableType.ORG_UNIT_GROUP_SET_STRUCTURE;
   }
 
+  @Override
+  public Set<ResourceTableType> getDependencies() {
+    return Set.of(ResourceTableType.ORG_UNIT_STRUCTURE);
+  }
+
   @Override
   public Optional<String> getPopulateTempTableStatement() {
     String sql =
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AggregatedValuesTest {
+  @Test
+  void testAppendAndGet() {
+    AggregatedValues values = new AggregatedValues();
+    values.append(new String[] {"dxA", "202401", "ouA"}, 1d);
+    values.append(new String[] {"dxA", "202402", "ouA"}, 2d);
+
+    assertEquals(2, values.size());
+    assertArrayEquals(new String[] {"dxA", "202402", "ouA"}, values.getItems(1));
+    assertEquals("dxA-202401-ouA", values.getKey(0));
+    assertEquals(1d, values.getValue(0));
+    assertEquals(2d, values.get(new String[] {"dxA", "202402", "ouA"}));
+    assertNull(values.get(new String[] {"dxA", "202403", "ouA"}));
+    assertNull(values.get(new String[] {"dxB", "202401", "ouA"}));
+  }
+
+  @Test
+  void testPutReplacesValue() {
+    AggregatedValues values = new AggregatedValues();
+    values.put(new String[] {"dxA", "202401"}, 1d);
+    values.put(new String[] {"dxA", "202401"}, 3d);
+    values.put(new String[] {"dxB", "202401"}, 5d);
+
+    assertEquals(2, values.size());
+    assertEquals(3d, values.get(new String[] {"dxA", "202401"}));
+    assertEquals(5d, values.get(new String[] {"dxB", "202401"}));
+  }
+
+  @Test
+  void testTextValues() {
+    AggregatedValues values = new AggregatedValues();
+    values.append(new String[] {"dxA", "202401"}, 1d);
+    values.append(new String[] {"dxB", "202401"}, "Positive");
+
+    assertEquals(1d, values.getValue(0));
+    assertEquals("Positive", values.getValue(1));
+  }
+
+  @Test
+  void testPutAll() {
+    AggregatedValues valuesA = new AggregatedValues();
+    valuesA.append(new String[] {"dxA", "202401"}, 1d);
+    valuesA.append(new String[] {"dxB", "202401"}, 2d);
+
+    AggregatedValues valuesB = new AggregatedValues();
+    valuesB.append(new String[] {"dxB", "202401"}, 4d);
+    valuesB.append(new String[] {"dxC", "202401"}, 8d);
+
+    AggregatedValues values = new AggregatedValues();
+    values.putAll(valuesA);
+    values.putAll(valuesB);
+
+    assertEquals(Map.of("dxA-202401", 1d, "dxB-202401", 4d, "dxC-202401", 8d), values.toMap());
+  }
+
+  @Test
+  void testGrowth() {
+    AggregatedValues values = new AggregatedValues();
+
+    for (int i = 0; i < 1000; i++) {
+      values.append(new String[] {"dx" + (i % 10), "pe" + i}, (double) i);
+    }
+
+    values.put(new String[] {"dx5", "pe5"}, -1d);
+
+    assertEquals(1000, values.size());
+    assertEquals(999d, values.get(new String[] {"dx9", "pe999"}));
+    assertEquals(-1d, values.get(new String[] {"dx5", "pe5"}));
+  }
+
+  @Test
+  void testOf() {
+    AggregatedValues values = AggregatedValues.of(Map.of("dxA-202401-ouA", 1d));
+
+    assertEquals(1, values.size());
+    assertArrayEquals(new String[] {"dxA", "202401", "ouA"}, values.getItems(0));
+    assertTrue(values.toMap().containsKey("dxA-202401-ouA"));
+  }
+
+  @Test
+  void testDimensionCountMismatch() {
+    AggregatedValues values = new AggregatedValues();
+    values.append(new String[] {"dxA", "202401"}, 1d);
+
+    assertThrows(IllegalArgumentException.class, () -> values.append(new String[] {"dxA"}, 1d));
+  }
+}
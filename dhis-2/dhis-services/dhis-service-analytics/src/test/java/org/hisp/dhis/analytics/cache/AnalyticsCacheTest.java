@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.analytics.cache;
 
+import static org.hisp.dhis.external.conf.ConfigurationKey.ANALYTICS_CACHE_COALESCING_TIMEOUT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -39,20 +40,27 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.hisp.dhis.analytics.AnalyticsCacheTtlMode;
 import org.hisp.dhis.analytics.DataQueryParams;
 import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheBuilder;
+import org.hisp.dhis.cache.CacheType;
 import org.hisp.dhis.cache.DefaultCacheProvider;
 import org.hisp.dhis.cache.LocalCache;
 import org.hisp.dhis.cache.SimpleCacheBuilder;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.GridHeader;
 import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.setting.SystemSettings;
 import org.hisp.dhis.setting.SystemSettingsProvider;
 import org.hisp.dhis.setting.SystemSettingsService;
@@ -74,6 +82,9 @@ class AnalyticsCacheTest {
   @Mock private DefaultCacheProvider cacheProvider;
   @Mock private SystemSettings systemSettings;
   @Mock private SystemSettingsProvider systemSettingsProvider;
+  @Mock private DhisConfigurationProvider config;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   private AnalyticsCache analyticsCache;
 
@@ -85,7 +96,7 @@ class AnalyticsCacheTest {
     cacheBuilder.expireAfterWrite(1L, TimeUnit.MINUTES);
     Cache<Grid> cache = new LocalCache<>(cacheBuilder);
     Mockito.<Cache<Grid>>when(cacheProvider.createAnalyticsCache()).thenReturn(cache);
-    analyticsCache = new AnalyticsCache(cacheProvider, settings);
+    analyticsCache = new AnalyticsCache(cacheProvider, settings, config, meterRegistry);
   }
 
   @Test
@@ -101,7 +112,8 @@ class AnalyticsCacheTest {
 
     Mockito.<Cache<Grid>>when(cacheProvider.createAnalyticsCache()).thenReturn(cache);
 
-    AnalyticsCache analyticsCache = new AnalyticsCache(cacheProvider, settings);
+    AnalyticsCache analyticsCache =
+        new AnalyticsCache(cacheProvider, settings, config, meterRegistry);
 
     Grid grid = new ListGrid();
     grid.addHeader(new GridHeader("Header1"))
@@ -143,6 +155,32 @@ class AnalyticsCacheTest {
     assertEquals(2, optCachedGrid.get().getRows().size());
   }
 
+  @Test
+  void modifyingRetrievedGridDoesNotModifyCachedGrid() {
+    Grid grid = new ListGrid();
+    grid.addHeader(new GridHeader("Header1"))
+        .addHeader(new GridHeader("Header2"))
+        .addRow()
+        .addValue("Value11")
+        .addValue("Value12");
+
+    analyticsCache.put("key", grid, 60);
+
+    Grid retrievedGrid = analyticsCache.get("key").orElseThrow();
+    retrievedGrid.addRow().addValue("Value21").addValue("Value22");
+    retrievedGrid.removeColumn(1);
+    retrievedGrid.addMetaData("metaKey", "metaValue");
+
+    Grid cachedGrid = analyticsCache.get("key").orElseThrow();
+
+    assertEquals(2, retrievedGrid.getHeight());
+    assertEquals(1, retrievedGrid.getWidth());
+    assertEquals(1, cachedGrid.getHeight());
+    assertEquals(2, cachedGrid.getWidth());
+    assertEquals(2, cachedGrid.getHeaderWidth());
+    assertFalse(cachedGrid.hasMetaDataKey("metaKey"));
+  }
+
   @Test
   void onlyTopLevelCallsAddToCache() {
     when(settingsService.getCurrentSettings()).thenReturn(systemSettings);
@@ -451,4 +489,131 @@ class AnalyticsCacheTest {
         analyticsCache.get(thread2NestedKey).isPresent(),
         "Thread 2 nested grid should NOT be cached");
   }
+
+  @Test
+  void concurrentIdenticalQueriesAreCoalesced() throws Exception {
+    when(settingsService.getCurrentSettings()).thenReturn(systemSettings);
+    when(systemSettings.getAnalyticsCacheTtlMode()).thenReturn(AnalyticsCacheTtlMode.FIXED);
+    when(config.getIntProperty(ANALYTICS_CACHE_COALESCING_TIMEOUT)).thenReturn(10);
+
+    AnalyticsCache coalescingCache =
+        new AnalyticsCache(
+            cacheProvider, new AnalyticsCacheSettings(settingsService), config, meterRegistry);
+
+    DataQueryParams params = mock(DataQueryParams.class);
+    when(params.getKey()).thenReturn("coalescedKey");
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger computations = new AtomicInteger();
+
+    Function<DataQueryParams, Grid> function =
+        p -> {
+          computations.incrementAndGet();
+          started.countDown();
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          Grid grid = new ListGrid();
+          grid.addHeader(new GridHeader("CoalescedHeader"));
+          return grid;
+        };
+
+    AtomicReference<Grid> firstGrid = new AtomicReference<>();
+    AtomicReference<Grid> secondGrid = new AtomicReference<>();
+
+    Thread first = new Thread(() -> firstGrid.set(coalescingCache.getOrFetch(params, function)));
+    first.start();
+    started.await(10, TimeUnit.SECONDS);
+
+    Thread second = new Thread(() -> secondGrid.set(coalescingCache.getOrFetch(params, function)));
+    second.start();
+
+    // Wait until the second thread waits for the in-flight query
+    while (second.getState() != Thread.State.TIMED_WAITING && second.isAlive()) {
+      Thread.sleep(10);
+    }
+
+    release.countDown();
+    first.join();
+    second.join();
+
+    assertEquals(1, computations.get());
+    assertEquals("CoalescedHeader", firstGrid.get().getHeaders().get(0).getName());
+    assertEquals("CoalescedHeader", secondGrid.get().getHeaders().get(0).getName());
+    assertEquals(
+        1.0, meterRegistry.counter("analytics.cache.coalesced", "scope", "local").count());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void clusterWaitStopsWhenMarkerOfOtherNodeExpires() {
+    when(settingsService.getCurrentSettings()).thenReturn(systemSettings);
+    when(systemSettings.getAnalyticsCacheTtlMode()).thenReturn(AnalyticsCacheTtlMode.FIXED);
+    when(config.getIntProperty(ANALYTICS_CACHE_COALESCING_TIMEOUT)).thenReturn(60);
+
+    Cache<Grid> queryCache = mock(Cache.class);
+    Cache<Boolean> inFlightMarkers = mock(Cache.class);
+    when(queryCache.getCacheType()).thenReturn(CacheType.REDIS);
+    Mockito.<Cache<Grid>>when(cacheProvider.createAnalyticsCache()).thenReturn(queryCache);
+    Mockito.<Cache<Boolean>>when(cacheProvider.createAnalyticsInFlightCache())
+        .thenReturn(inFlightMarkers);
+
+    // The other node holds the marker and dies, so the marker expires after the second poll
+    when(inFlightMarkers.putIfAbsent("clusterKey", Boolean.TRUE)).thenReturn(false);
+    when(inFlightMarkers.getIfPresent("clusterKey"))
+        .thenReturn(Optional.of(Boolean.TRUE), Optional.empty());
+
+    AnalyticsCache clusterCache =
+        new AnalyticsCache(
+            cacheProvider, new AnalyticsCacheSettings(settingsService), config, meterRegistry);
+
+    DataQueryParams params = mock(DataQueryParams.class);
+    when(params.getKey()).thenReturn("clusterKey");
+
+    long start = System.currentTimeMillis();
+    Grid grid = clusterCache.getOrFetch(params, p -> new ListGrid().setTitle("Computed"));
+
+    assertEquals("Computed", grid.getTitle());
+    assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(10));
+    assertEquals(0.0, meterRegistry.counter("analytics.cache.coalescing.timeouts").count());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void inFlightMarkerIsRefreshedWhileComputing() {
+    when(settingsService.getCurrentSettings()).thenReturn(systemSettings);
+    when(systemSettings.getAnalyticsCacheTtlMode()).thenReturn(AnalyticsCacheTtlMode.FIXED);
+
+    Cache<Grid> queryCache = mock(Cache.class);
+    Cache<Boolean> inFlightMarkers = mock(Cache.class);
+    when(queryCache.getCacheType()).thenReturn(CacheType.REDIS);
+    Mockito.<Cache<Grid>>when(cacheProvider.createAnalyticsCache()).thenReturn(queryCache);
+    Mockito.<Cache<Boolean>>when(cacheProvider.createAnalyticsInFlightCache())
+        .thenReturn(inFlightMarkers);
+    when(inFlightMarkers.putIfAbsent("ownedKey", Boolean.TRUE)).thenReturn(true);
+
+    AnalyticsCache clusterCache =
+        new AnalyticsCache(
+            cacheProvider, new AnalyticsCacheSettings(settingsService), config, meterRegistry);
+
+    DataQueryParams params = mock(DataQueryParams.class);
+    when(params.getKey()).thenReturn("ownedKey");
+
+    clusterCache.getOrFetch(
+        params,
+        p -> {
+          clusterCache.refreshInFlightMarkers();
+          return new ListGrid();
+        });
+
+    // Markers are no longer refreshed once the computation completes
+    clusterCache.refreshInFlightMarkers();
+
+    verify(inFlightMarkers, times(1))
+        .put("ownedKey", Boolean.TRUE, AnalyticsCache.IN_FLIGHT_MARKER_TTL_SECONDS);
+    verify(inFlightMarkers).invalidate("ownedKey");
+  }
 }
@@ -47,6 +47,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.hisp.dhis.analytics.AggregatedValues;
 import org.hisp.dhis.analytics.AggregationType;
 import org.hisp.dhis.analytics.AnalyticsAggregationType;
 import org.hisp.dhis.analytics.DataQueryParams;
@@ -122,8 +123,11 @@ class AnalyticsManagerTest extends TestBase {
             .withAggregationType(aggregationType)
             .build();
 
-    analyticsManager.replaceDataPeriodsWithAggregationPeriods(
-        dataValueMap, params, dataPeriodAggregationPeriodMap);
+    dataValueMap =
+        analyticsManager
+            .replaceDataPeriodsWithAggregationPeriods(
+                AggregatedValues.of(dataValueMap), params, dataPeriodAggregationPeriodMap)
+            .toMap();
 
     assertEquals(1, dataValueMap.size());
 
@@ -212,8 +216,11 @@ class AnalyticsManagerTest extends TestBase {
     dataPeriodAggregationPeriodMap.putValue(y2012, PeriodDimension.of(createPeriod("2012Q3")));
     dataPeriodAggregationPeriodMap.putValue(y2012, PeriodDimension.of(createPeriod("2012Q4")));
 
-    analyticsManager.replaceDataPeriodsWithAggregationPeriods(
-        dataValueMap, params, dataPeriodAggregationPeriodMap);
+    dataValueMap =
+        analyticsManager
+            .replaceDataPeriodsWithAggregationPeriods(
+                AggregatedValues.of(dataValueMap), params, dataPeriodAggregationPeriodMap)
+            .toMap();
 
     assertEquals(8, dataValueMap.size());
 
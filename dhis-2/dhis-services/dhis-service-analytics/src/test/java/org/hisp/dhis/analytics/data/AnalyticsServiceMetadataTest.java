@@ -50,6 +50,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import org.hisp.dhis.analytics.AggregatedValues;
 import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.analytics.DataQueryParams;
 import org.hisp.dhis.category.CategoryCombo;
@@ -82,7 +83,7 @@ class AnalyticsServiceMetadataTest extends AnalyticsServiceBaseTest {
     Map<String, Object> aggregatedValues = new HashMap<>();
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.DATA_VALUE), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(aggregatedValues));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(aggregatedValues)));
   }
 
   @SuppressWarnings("unchecked")
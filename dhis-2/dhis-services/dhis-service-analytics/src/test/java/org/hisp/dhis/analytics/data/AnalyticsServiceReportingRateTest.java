@@ -48,6 +48,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
+import org.hisp.dhis.analytics.AggregatedValues;
 import org.hisp.dhis.analytics.AnalyticsTableType;
 import org.hisp.dhis.analytics.DataQueryParams;
 import org.hisp.dhis.common.BaseDimensionalObject;
@@ -120,14 +121,14 @@ class AnalyticsServiceReportingRateTest extends AnalyticsServiceBaseTest {
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(actualReports));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(actualReports)));
 
     Map<String, Object> reportingRate = new HashMap<>();
     reportingRate.put(dataSetA.getUid() + "-" + ou.getUid(), expectedReports);
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS_TARGET), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(reportingRate));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(reportingRate)));
 
     Grid grid = target.getAggregatedDataValueGrid(params);
 
@@ -189,7 +190,7 @@ class AnalyticsServiceReportingRateTest extends AnalyticsServiceBaseTest {
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS_TARGET), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(reportingRate));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(reportingRate)));
 
     Grid grid = target.getAggregatedDataValueGrid(params);
 
@@ -230,7 +231,7 @@ class AnalyticsServiceReportingRateTest extends AnalyticsServiceBaseTest {
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(actualReports));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(actualReports)));
 
     // NO TARGET RETURNED
     when(analyticsManager.getAggregatedDataValues(
@@ -283,11 +284,11 @@ class AnalyticsServiceReportingRateTest extends AnalyticsServiceBaseTest {
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS_TARGET), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(targets));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(targets)));
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(actuals));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(actuals)));
 
     Grid grid = target.getAggregatedDataValueGrid(params);
     assertReportingRatesGrid(grid, dataSetA, "201902");
@@ -333,11 +334,11 @@ class AnalyticsServiceReportingRateTest extends AnalyticsServiceBaseTest {
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS_TARGET), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(targets));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(targets)));
 
     when(analyticsManager.getAggregatedDataValues(
             any(DataQueryParams.class), eq(AnalyticsTableType.COMPLETENESS), eq(0)))
-        .thenReturn(CompletableFuture.completedFuture(actuals));
+        .thenReturn(CompletableFuture.completedFuture(AggregatedValues.of(actuals)));
 
     Grid grid = target.getAggregatedDataValueGrid(params);
     assertReportingRatesGrid(grid, dataSetA, "201901");
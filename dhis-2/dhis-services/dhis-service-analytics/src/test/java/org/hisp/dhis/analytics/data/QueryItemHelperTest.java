@@ -30,6 +30,7 @@
 package org.hisp.dhis.analytics.data;
 
 import static org.hisp.dhis.common.QueryOperator.IN;
+import static org.hisp.dhis.common.QueryOperator.LIKE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -50,6 +51,7 @@ import org.hisp.dhis.common.QueryFilter;
 import org.hisp.dhis.common.QueryItem;
 import org.hisp.dhis.common.RepeatableStageParams;
 import org.hisp.dhis.common.ValueType;
+import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.legend.Legend;
 import org.hisp.dhis.legend.LegendSet;
 import org.hisp.dhis.option.Option;
@@ -284,6 +286,38 @@ class QueryItemHelperTest extends TestBase {
     assertTrue(options.values().stream().flatMap(Collection::stream).toList().contains(option));
   }
 
+  @Test
+  void testGetItemOptionsForQueryItemsWithOptionFilter() {
+    Option option1 = new Option("Opt-A", "Code-A");
+    Option option2 = new Option("Opt-B", "Code-B");
+    OptionSet optionSet = createOptionSet('A', option1, option2);
+    DataElement dataElement = createDataElement('A');
+
+    QueryItem queryItem = new QueryItem(dataElement, null, null, null, optionSet);
+    queryItem.addFilter(new QueryFilter(IN, "Code-B"));
+
+    Map<String, List<Option>> options = QueryItemHelper.getItemOptions(List.of(queryItem));
+
+    assertEquals(Map.of(dataElement.getUid(), List.of(option2)), options);
+  }
+
+  @Test
+  void testGetItemOptionsForQueryItemsWithoutOptionFilter() {
+    Option option1 = new Option("Opt-A", "Code-A");
+    Option option2 = new Option("Opt-B", "Code-B");
+    OptionSet optionSet = createOptionSet('A', option1, option2);
+    DataElement dataElement = createDataElement('A');
+
+    QueryItem queryItem = new QueryItem(dataElement, null, null, null, optionSet);
+    queryItem.addFilter(new QueryFilter(LIKE, "Code"));
+    QueryItem queryItemWithoutOptionSet = new QueryItem(createDataElement('B'));
+
+    Map<String, List<Option>> options =
+        QueryItemHelper.getItemOptions(List.of(queryItem, queryItemWithoutOptionSet));
+
+    assertEquals(Map.of(dataElement.getUid(), List.of(option1, option2)), options);
+  }
+
   @Test
   void testisItemOptionEqualToRowContentForText() {
     assertTrue(QueryItemHelper.isItemOptionEqualToRowContent("abc", "AbC"));
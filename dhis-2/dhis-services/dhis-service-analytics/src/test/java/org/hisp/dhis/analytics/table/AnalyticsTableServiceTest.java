@@ -113,4 +113,21 @@ class AnalyticsTableServiceTest {
 
     assertEquals(8, tableService.getParallelJobs());
   }
+
+  @Test
+  void testGetIndexParallelJobsA() {
+    when(settingsProvider.getCurrentSettings()).thenReturn(settings);
+    when(settings.getParallelJobsInAnalyticsTableIndexing()).thenReturn(-1);
+
+    assertEquals(8, tableService.getIndexParallelJobs(8));
+  }
+
+  @Test
+  void testGetIndexParallelJobsB() {
+    when(settingsProvider.getCurrentSettings()).thenReturn(settings);
+    when(settings.getParallelJobsInAnalyticsTableIndexing()).thenReturn(2);
+
+    assertEquals(2, tableService.getIndexParallelJobs(8));
+    assertEquals(1, tableService.getIndexParallelJobs(1));
+  }
 }
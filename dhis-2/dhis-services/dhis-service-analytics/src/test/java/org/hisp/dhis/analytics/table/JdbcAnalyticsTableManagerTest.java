@@ -260,6 +260,132 @@ class JdbcAnalyticsTableManagerTest {
         partitionB.getYear().intValue(), new DateTime(partitionB.getStartDate()).getYear());
   }
 
+  @Test
+  void testGetAnalyticsTableSkipUnchangedPartitions() {
+    Date startTime = new DateTime(2019, 3, 1, 10, 0).toDate();
+    Date lastFullUpdate = new DateTime(2019, 2, 1, 10, 0).toDate();
+
+    AnalyticsTableUpdateParams params =
+        AnalyticsTableUpdateParams.newBuilder()
+            .startTime(startTime)
+            .skipUnchangedPartitions(true)
+            .build();
+
+    when(settings.getLastSuccessfulFullAnalyticsTablesUpdate()).thenReturn(lastFullUpdate);
+    when(analyticsTableSettings.getTableLogged()).thenReturn(UNLOGGED);
+    when(jdbcTemplate.queryForList(Mockito.anyString(), ArgumentMatchers.<Class<Integer>>any()))
+        .thenReturn(List.of(2017, 2018, 2019), List.of(2019));
+    when(configurationService.getConfiguration()).thenReturn(configuration);
+    when(configuration.getDataOutputPeriodTypes())
+        .thenReturn(PERIOD_TYPES.stream().collect(toUnmodifiableSet()));
+
+    List<String> columns =
+        subject
+            .getAnalyticsTables(AnalyticsTableUpdateParams.newBuilder().build())
+            .get(0)
+            .getAnalyticsTableColumns()
+            .stream()
+            .map(AnalyticsTableColumn::getName)
+            .toList();
+
+    when(jdbcTemplate.queryForList(
+            Mockito.anyString(),
+            ArgumentMatchers.eq(String.class),
+            ArgumentMatchers.eq("analytics")))
+        .thenReturn(columns);
+
+    List<AnalyticsTable> tables = subject.getAnalyticsTables(params);
+
+    assertEquals(1, tables.size());
+
+    AnalyticsTable table = tables.get(0);
+
+    assertTrue(table.isRetainUnchangedPartitions());
+    assertEquals(1, table.getTablePartitions().size());
+    assertEquals(2019, table.getTablePartitions().get(0).getYear().intValue());
+  }
+
+  @Test
+  void testGetAnalyticsTableSkipUnchangedPartitionsWithChangedColumns() {
+    Date startTime = new DateTime(2019, 3, 1, 10, 0).toDate();
+    Date lastFullUpdate = new DateTime(2019, 2, 1, 10, 0).toDate();
+
+    AnalyticsTableUpdateParams params =
+        AnalyticsTableUpdateParams.newBuilder()
+            .startTime(startTime)
+            .skipUnchangedPartitions(true)
+            .build();
+
+    when(settings.getLastSuccessfulFullAnalyticsTablesUpdate()).thenReturn(lastFullUpdate);
+    when(analyticsTableSettings.getTableLogged()).thenReturn(UNLOGGED);
+    when(jdbcTemplate.queryForList(Mockito.anyString(), ArgumentMatchers.<Class<Integer>>any()))
+        .thenReturn(List.of(2018, 2019));
+    when(jdbcTemplate.queryForList(
+            Mockito.anyString(),
+            ArgumentMatchers.eq(String.class),
+            ArgumentMatchers.eq("analytics")))
+        .thenReturn(List.of("dx", "pe", "value"));
+    when(configurationService.getConfiguration()).thenReturn(configuration);
+    when(configuration.getDataOutputPeriodTypes())
+        .thenReturn(PERIOD_TYPES.stream().collect(toUnmodifiableSet()));
+
+    List<AnalyticsTable> tables = subject.getAnalyticsTables(params);
+
+    assertEquals(1, tables.size());
+
+    AnalyticsTable table = tables.get(0);
+
+    assertFalse(table.isRetainUnchangedPartitions());
+    assertEquals(2, table.getTablePartitions().size());
+  }
+
+  @Test
+  void testGetAnalyticsTableSkipUnchangedPartitionsWithChangedMetadata() {
+    Date startTime = new DateTime(2019, 3, 1, 10, 0).toDate();
+    Date lastFullUpdate = new DateTime(2019, 2, 1, 10, 0).toDate();
+
+    AnalyticsTableUpdateParams params =
+        AnalyticsTableUpdateParams.newBuilder()
+            .startTime(startTime)
+            .skipUnchangedPartitions(true)
+            .build();
+
+    when(settings.getLastSuccessfulFullAnalyticsTablesUpdate()).thenReturn(lastFullUpdate);
+    when(analyticsTableSettings.getTableLogged()).thenReturn(UNLOGGED);
+    when(jdbcTemplate.queryForList(Mockito.anyString(), ArgumentMatchers.<Class<Integer>>any()))
+        .thenReturn(List.of(2018, 2019));
+    when(configurationService.getConfiguration()).thenReturn(configuration);
+    when(configuration.getDataOutputPeriodTypes())
+        .thenReturn(PERIOD_TYPES.stream().collect(toUnmodifiableSet()));
+
+    List<String> columns =
+        subject
+            .getAnalyticsTables(AnalyticsTableUpdateParams.newBuilder().build())
+            .get(0)
+            .getAnalyticsTableColumns()
+            .stream()
+            .map(AnalyticsTableColumn::getName)
+            .toList();
+
+    when(jdbcTemplate.queryForList(
+            Mockito.anyString(),
+            ArgumentMatchers.eq(String.class),
+            ArgumentMatchers.eq("analytics")))
+        .thenReturn(columns);
+    when(jdbcTemplate.queryForObject(
+            ArgumentMatchers.contains("organisationunit"), ArgumentMatchers.eq(Boolean.class)))
+        .thenReturn(true);
+
+    List<AnalyticsTable> tables = subject.getAnalyticsTables(params);
+
+    assertEquals(1, tables.size());
+
+    AnalyticsTable table = tables.get(0);
+
+    assertFalse(table.isRetainUnchangedPartitions());
+    assertEquals(2, table.getTablePartitions().size());
+  }
+
   @Test
   void testGetLatestAnalyticsTable() {
     Date lastFullTableUpdate = new DateTime(2019, 3, 1, 2, 0).toDate();
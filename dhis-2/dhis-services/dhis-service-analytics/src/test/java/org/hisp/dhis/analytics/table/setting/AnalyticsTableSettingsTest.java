@@ -32,10 +32,12 @@ package org.hisp.dhis.analytics.table.setting;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
+import java.util.Map;
 import java.util.Set;
 import org.hisp.dhis.analytics.table.model.Skip;
 import org.hisp.dhis.external.conf.ConfigurationKey;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.setting.SystemSettings;
 import org.hisp.dhis.setting.SystemSettingsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -79,6 +81,22 @@ class AnalyticsTableSettingsTest {
         settings.getSkipColumnDimensions());
   }
 
+  @Test
+  void testGetResourceTableParallelJobs() {
+    when(systemSettings.getCurrentSettings())
+        .thenReturn(SystemSettings.of(Map.of("keyParallelJobsInResourceTableGeneration", "3")));
+
+    assertEquals(3, settings.getResourceTableParallelJobs());
+  }
+
+  @Test
+  void testGetResourceTableParallelJobsFallsBackToDatabaseCpus() {
+    when(systemSettings.getCurrentSettings())
+        .thenReturn(SystemSettings.of(Map.of("keyDatabaseServerCpus", "6")));
+
+    assertEquals(6, settings.getResourceTableParallelJobs());
+  }
+
   @Test
   void testToSet() {
     Set<String> expected = Set.of("kJ7yGrfR413", "Hg5tGfr2fas", "Ju71jG19Kaq", "b5TgfRL9pUq");
@@ -1343,6 +1343,90 @@ class MetadataItemsHandlerTest {
     }
   }
 
+  @Nested
+  @DisplayName("Streaming Metadata Tests")
+  class StreamingMetadataTests {
+
+    @Test
+    @DisplayName("should add all options of unfiltered items ahead of the rows")
+    void shouldAddAllOptionsOfUnfilteredItems() {
+      // Given
+      Grid grid = new ListGrid();
+
+      EventQueryParams params = createParamsWithOptionSetItem(null);
+
+      when(userService.getUserByUsername(anyString())).thenReturn(null);
+      when(organisationUnitResolver.getMetadataItemsForOrgUnitDataElements(any()))
+          .thenReturn(Map.of());
+
+      // When
+      metadataItemsHandler.addStreamingMetadata(grid, params, List.of());
+
+      // Then
+      @SuppressWarnings("unchecked")
+      Map<String, Object> items = (Map<String, Object>) grid.getMetaData().get(ITEMS.getKey());
+      assertTrue(items.containsKey(optionA.getUid()));
+      assertTrue(items.containsKey(optionB.getUid()));
+
+      @SuppressWarnings("unchecked")
+      Map<String, List<String>> dimensions =
+          (Map<String, List<String>>) grid.getMetaData().get(DIMENSIONS.getKey());
+      assertEquals(
+          List.of(optionA.getUid(), optionB.getUid()), dimensions.get(dataElementA.getUid()));
+    }
+
+    @Test
+    @DisplayName("should add the filtered options of filtered items ahead of the rows")
+    void shouldAddFilteredOptionsOfFilteredItems() {
+      // Given
+      Grid grid = new ListGrid();
+
+      EventQueryParams params =
+          createParamsWithOptionSetItem(new QueryFilter(QueryOperator.IN, optionB.getCode()));
+
+      when(userService.getUserByUsername(anyString())).thenReturn(null);
+      when(organisationUnitResolver.getMetadataItemsForOrgUnitDataElements(any()))
+          .thenReturn(Map.of());
+
+      // When
+      metadataItemsHandler.addStreamingMetadata(grid, params, List.of());
+
+      // Then
+      @SuppressWarnings("unchecked")
+      Map<String, Object> items = (Map<String, Object>) grid.getMetaData().get(ITEMS.getKey());
+      assertFalse(items.containsKey(optionA.getUid()));
+      assertTrue(items.containsKey(optionB.getUid()));
+
+      @SuppressWarnings("unchecked")
+      Map<String, List<String>> dimensions =
+          (Map<String, List<String>>) grid.getMetaData().get(DIMENSIONS.getKey());
+      assertEquals(List.of(optionB.getUid()), dimensions.get(dataElementA.getUid()));
+    }
+
+    private EventQueryParams createParamsWithOptionSetItem(QueryFilter filter) {
+      QueryItem queryItem =
+          new QueryItem(
+              dataElementA,
+              null,
+              dataElementA.getValueType(),
+              dataElementA.getAggregationType(),
+              optionSetA);
+
+      if (filter != null) {
+        queryItem.addFilter(filter);
+      }
+
+      return new EventQueryParams.Builder()
+          .withProgram(programA)
+          .withSkipMeta(false)
+          .withEndpointAction(QUERY)
+          .withOrganisationUnits(List.of(orgUnitA))
+          .withPeriods(createPeriodDimensions("2023Q1"), "quarterly")
+          .addItem(queryItem)
+          .build();
+    }
+  }
+
   @Nested
   @DisplayName("Display Property Tests")
   class DisplayPropertyTests {
@@ -30,11 +30,17 @@
 package org.hisp.dhis.analytics.tracker;
 
 import static org.hisp.dhis.analytics.tracker.ResponseHelper.getItemUid;
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.isStreamable;
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.writeGrid;
 import static org.hisp.dhis.test.TestBase.createDataElement;
 import static org.hisp.dhis.test.TestBase.createProgram;
 import static org.hisp.dhis.test.TestBase.createProgramStage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -43,11 +49,13 @@ import org.hisp.dhis.common.AnalyticsCustomHeader;
 import org.hisp.dhis.common.BaseDimensionalItemObject;
 import org.hisp.dhis.common.Grid;
 import org.hisp.dhis.common.GridHeader;
+import org.hisp.dhis.common.IdScheme;
 import org.hisp.dhis.common.QueryItem;
 import org.hisp.dhis.common.ValueType;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.program.Program;
 import org.hisp.dhis.program.ProgramStage;
+import org.hisp.dhis.system.grid.GridRowWriter;
 import org.hisp.dhis.system.grid.ListGrid;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -276,4 +284,140 @@ class ResponseHelperTest {
       assertEquals(dataElementA.getUid(), resultWithoutFlag);
     }
   }
+
+  @Nested
+  @DisplayName("streaming tests")
+  class StreamingTests {
+
+    @Test
+    @DisplayName("should stream queries without paging only")
+    void shouldStreamQueriesWithoutPagingOnly() {
+      EventQueryParams paged =
+          new EventQueryParams.Builder().withPaging(true).withPageSize(50).build();
+      EventQueryParams unpaged =
+          new EventQueryParams.Builder().withPaging(false).withPageSize(50).build();
+
+      assertFalse(isStreamable(paged));
+      assertTrue(isStreamable(unpaged));
+    }
+
+    @Test
+    @DisplayName("should not stream queries which post-process the grid")
+    void shouldNotStreamQueriesWhichPostProcessTheGrid() {
+      assertFalse(
+          isStreamable(
+              new EventQueryParams.Builder().withPaging(false).withRowContext(true).build()));
+      assertFalse(
+          isStreamable(
+              new EventQueryParams.Builder().withPaging(false).withShowHierarchy(true).build()));
+      assertFalse(
+          isStreamable(
+              new EventQueryParams.Builder()
+                  .withPaging(false)
+                  .withOutputIdScheme(IdScheme.CODE)
+                  .build()));
+    }
+
+    @Test
+    @DisplayName("should write headers and rows in the order of the requested headers")
+    void shouldWriteHeadersAndRowsInOrderOfRequestedHeaders() {
+      // Given
+      Grid grid = new ListGrid();
+      grid.addHeader(new GridHeader("ou", "Org unit", ValueType.TEXT, false, true))
+          .addHeader(new GridHeader("pe", "Period", ValueType.TEXT, false, true))
+          .addHeader(new GridHeader("value", "Value", ValueType.NUMBER, false, false));
+
+      EventQueryParams params =
+          new EventQueryParams.Builder()
+              .withHeaders(new LinkedHashSet<>(List.of("value", "ou")))
+              .build();
+
+      CollectingGridRowWriter writer = new CollectingGridRowWriter();
+
+      // When
+      writeGrid(
+          grid,
+          params,
+          writer,
+          rowHandler -> {
+            rowHandler.accept(List.of("ouA", "202401", 1));
+            rowHandler.accept(List.of("ouB", "202402", 2));
+          });
+
+      // Then
+      assertEquals(List.of("value", "ou"), writer.headers);
+      assertEquals(List.of(List.of(1, "ouA"), List.of(2, "ouB")), writer.rows);
+      assertTrue(writer.ended);
+      assertEquals(3, grid.getHeaders().size());
+    }
+
+    @Test
+    @DisplayName("should not write anything when the query fails before the first row")
+    void shouldNotWriteAnythingWhenQueryFailsBeforeFirstRow() {
+      // Given
+      Grid grid = new ListGrid();
+      grid.addHeader(new GridHeader("ou", "Org unit", ValueType.TEXT, false, true));
+
+      CollectingGridRowWriter writer = new CollectingGridRowWriter();
+
+      // When
+      assertThrows(
+          IllegalStateException.class,
+          () ->
+              writeGrid(
+                  grid,
+                  new EventQueryParams.Builder().build(),
+                  writer,
+                  rowHandler -> {
+                    throw new IllegalStateException("Query failed");
+                  }));
+
+      // Then
+      assertTrue(writer.headers.isEmpty());
+      assertTrue(writer.rows.isEmpty());
+      assertFalse(writer.ended);
+    }
+
+    @Test
+    @DisplayName("should write headers when the query returns no rows")
+    void shouldWriteHeadersWhenQueryReturnsNoRows() {
+      // Given
+      Grid grid = new ListGrid();
+      grid.addHeader(new GridHeader("ou", "Org unit", ValueType.TEXT, false, true));
+
+      CollectingGridRowWriter writer = new CollectingGridRowWriter();
+
+      // When
+      writeGrid(grid, new EventQueryParams.Builder().build(), writer, rowHandler -> {});
+
+      // Then
+      assertEquals(List.of("ou"), writer.headers);
+      assertTrue(writer.rows.isEmpty());
+      assertTrue(writer.ended);
+    }
+  }
+
+  /** {@link GridRowWriter} which collects the written headers and rows. */
+  private static class CollectingGridRowWriter implements GridRowWriter {
+    private final List<String> headers = new ArrayList<>();
+
+    private final List<List<Object>> rows = new ArrayList<>();
+
+    private boolean ended;
+
+    @Override
+    public void writeStart(Grid grid) {
+      grid.getHeaders().forEach(header -> headers.add(header.getName()));
+    }
+
+    @Override
+    public void writeRow(List<Object> row) {
+      rows.add(row);
+    }
+
+    @Override
+    public void writeEnd() {
+      ended = true;
+    }
+  }
 }
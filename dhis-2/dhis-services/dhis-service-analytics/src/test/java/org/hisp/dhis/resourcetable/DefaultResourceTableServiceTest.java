@@ -33,14 +33,21 @@ import static java.time.temporal.ChronoUnit.YEARS;
 import static org.hisp.dhis.period.PeriodDataProvider.PeriodSource.DATABASE;
 import static org.hisp.dhis.test.utils.Assertions.assertNotEmpty;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import java.time.Year;
 import java.util.List;
 import org.hisp.dhis.analytics.table.setting.AnalyticsTableSettings;
+import org.hisp.dhis.db.model.Logged;
 import org.hisp.dhis.period.PeriodDataProvider;
 import org.hisp.dhis.period.PeriodDataProvider.PeriodSource;
+import org.hisp.dhis.resourcetable.table.DataApprovalMinLevelResourceTable;
+import org.hisp.dhis.resourcetable.table.DataApprovalRemapLevelResourceTable;
+import org.hisp.dhis.resourcetable.table.DataSetResourceTable;
+import org.hisp.dhis.resourcetable.table.OrganisationUnitGroupSetResourceTable;
+import org.hisp.dhis.resourcetable.table.OrganisationUnitStructureResourceTable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -117,4 +124,28 @@ class DefaultResourceTableServiceTest {
 
     assertDoesNotThrow(() -> defaultResourceTableService.getAndValidateAvailableDataYears());
   }
+
+  @Test
+  void testGetTableGroups() {
+    ResourceTable orgUnitGroupSet =
+        new OrganisationUnitGroupSetResourceTable(Logged.LOGGED, List.of(), 0);
+    ResourceTable orgUnitStructure =
+        new OrganisationUnitStructureResourceTable(Logged.LOGGED, 0, null);
+    ResourceTable dataSet = new DataSetResourceTable(Logged.LOGGED);
+
+    assertEquals(
+        List.of(List.of(orgUnitStructure, dataSet), List.of(orgUnitGroupSet)),
+        DefaultResourceTableService.getTableGroups(
+            List.of(orgUnitGroupSet, orgUnitStructure, dataSet)));
+  }
+
+  @Test
+  void testGetTableGroupsIgnoresDependenciesNotGenerated() {
+    ResourceTable remapLevel = new DataApprovalRemapLevelResourceTable(Logged.LOGGED);
+    ResourceTable minLevel = new DataApprovalMinLevelResourceTable(Logged.LOGGED, List.of());
+
+    assertEquals(
+        List.of(List.of(remapLevel), List.of(minLevel)),
+        DefaultResourceTableService.getTableGroups(List.of(minLevel, remapLevel)));
+  }
 }
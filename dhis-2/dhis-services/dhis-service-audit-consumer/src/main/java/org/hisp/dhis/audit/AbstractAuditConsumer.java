@@ -29,12 +29,19 @@
  */
 package org.hisp.dhis.audit;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.jms.TextMessage;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Consumes audit messages, which contain either a single audit or a batch of audits (see {@link
+ * org.hisp.dhis.artemis.audit.AuditBatch}). A batch is saved with a single call to the audit
+ * service.
+ *
  * @author Morten Olav Hansen <mortenoh@gmail.com>
  */
 @Slf4j
@@ -49,21 +56,29 @@ public abstract class AbstractAuditConsumer implements AuditConsumer {
 
   protected void _consume(TextMessage message) {
     try {
-      org.hisp.dhis.artemis.audit.Audit auditMessage =
-          objectMapper.readValue(message.getText(), org.hisp.dhis.artemis.audit.Audit.class);
+      JsonNode node = objectMapper.readTree(message.getText());
+      List<org.hisp.dhis.audit.Audit> audits = new ArrayList<>();
 
-      if (auditMessage.getData() != null && !(auditMessage.getData() instanceof String)) {
-        auditMessage.setData(objectMapper.writeValueAsString(auditMessage.getData()));
+      if (node.has("audits")) {
+        for (JsonNode auditNode : node.get("audits")) {
+          audits.add(toAudit(auditNode));
+        }
+      } else {
+        audits.add(toAudit(node));
       }
 
-      org.hisp.dhis.audit.Audit audit = auditMessage.toAudit();
-
       if (isAuditLogEnabled) {
-        log.info(objectMapper.writeValueAsString(audit));
+        for (org.hisp.dhis.audit.Audit audit : audits) {
+          log.info(objectMapper.writeValueAsString(audit));
+        }
       }
 
       if (isAuditDatabaseEnabled) {
-        auditService.addAudit(audit);
+        if (audits.size() == 1) {
+          auditService.addAudit(audits.get(0));
+        } else {
+          auditService.addAudits(audits);
+        }
       }
     } catch (IOException e) {
       log.error(
@@ -73,4 +88,15 @@ public abstract class AbstractAuditConsumer implements AuditConsumer {
       log.error("An error occurred persisting an audit message", e);
     }
   }
+
+  private org.hisp.dhis.audit.Audit toAudit(JsonNode node) throws IOException {
+    org.hisp.dhis.artemis.audit.Audit auditMessage =
+        objectMapper.treeToValue(node, org.hisp.dhis.artemis.audit.Audit.class);
+
+    if (auditMessage.getData() != null && !(auditMessage.getData() instanceof String)) {
+      auditMessage.setData(objectMapper.writeValueAsString(auditMessage.getData()));
+    }
+
+    return auditMessage.toAudit();
+  }
 }
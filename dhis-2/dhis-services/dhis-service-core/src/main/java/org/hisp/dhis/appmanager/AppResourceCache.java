@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.appmanager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hisp.dhis.external.conf.ConfigurationKey;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size bounded in-memory cache of {@link CachedAppResource}s which evicts the least recently used
+ * resources. Resources larger than an eighth of the max size are not cached.
+ */
+@Component
+class AppResourceCache {
+  private static final long MB = 1024L * 1024L;
+
+  record Key(String appKey, String appVersion, String contextPath, String pageName) {}
+
+  private final long maxSize;
+
+  private final long maxResourceSize;
+
+  /** Resources in access order, guarded by this. */
+  private final Map<Key, CachedAppResource> resources = new LinkedHashMap<>(64, 0.75f, true);
+
+  /** Total size of the cached resources, guarded by this. */
+  private long size;
+
+  @Autowired
+  AppResourceCache(DhisConfigurationProvider config) {
+    this(config.getIntProperty(ConfigurationKey.APPS_RESOURCE_CACHE_MAX_SIZE) * MB);
+  }
+
+  AppResourceCache(long maxSize) {
+    this.maxSize = Math.max(0, maxSize);
+    this.maxResourceSize = this.maxSize / 8;
+  }
+
+  boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * @param contentLength the content length of a resource, or -1 if unknown
+   * @return true if a resource of the given content length can be cached
+   */
+  boolean isCacheable(long contentLength) {
+    return contentLength >= 0 && contentLength <= maxResourceSize;
+  }
+
+  synchronized CachedAppResource get(Key key) {
+    return resources.get(key);
+  }
+
+  synchronized void put(Key key, CachedAppResource resource) {
+    if (resource.size() > maxResourceSize) {
+      return;
+    }
+
+    CachedAppResource previous = resources.put(key, resource);
+    size += resource.size() - (previous == null ? 0 : previous.size());
+
+    Iterator<CachedAppResource> eldest = resources.values().iterator();
+    while (size > maxSize && eldest.hasNext()) {
+      size -= eldest.next().size();
+      eldest.remove();
+    }
+  }
+
+  /** Removes the cached resources of the app with the given key. */
+  synchronized void invalidate(String appKey) {
+    Iterator<Map.Entry<Key, CachedAppResource>> entries = resources.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<Key, CachedAppResource> entry = entries.next();
+      if (entry.getKey().appKey().equals(appKey)) {
+        size -= entry.getValue().size();
+        entries.remove();
+      }
+    }
+  }
+
+  synchronized void invalidateAll() {
+    resources.clear();
+    size = 0;
+  }
+
+  synchronized long size() {
+    return size;
+  }
+}
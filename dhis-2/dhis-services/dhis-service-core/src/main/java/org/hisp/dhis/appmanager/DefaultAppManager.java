@@ -55,6 +55,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.PostConstruct;
@@ -68,6 +69,7 @@ import org.hisp.dhis.appmanager.webmodules.WebModule;
 import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheBuilderProvider;
 import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.HashUtils;
 import org.hisp.dhis.common.Locale;
 import org.hisp.dhis.datastore.DatastoreNamespace;
 import org.hisp.dhis.datastore.DatastoreNamespaceProtection;
@@ -117,6 +119,8 @@ public class DefaultAppManager implements AppManager {
    */
   private final Cache<App> appCache;
 
+  private final AppResourceCache appResourceCache;
+
   public DefaultAppManager(
       DhisConfigurationProvider dhisConfigurationProvider,
       AppHubService appHubService,
@@ -126,7 +130,8 @@ public class DefaultAppManager implements AppManager {
       CacheBuilderProvider cacheBuilderProvider,
       I18nManager i18nManager,
       LocaleManager localeManager,
-      BundledAppManager bundledAppManager) {
+      BundledAppManager bundledAppManager,
+      AppResourceCache appResourceCache) {
 
     checkNotNull(dhisConfigurationProvider);
     checkNotNull(jCloudsAppStorageService);
@@ -135,6 +140,7 @@ public class DefaultAppManager implements AppManager {
     checkNotNull(i18nManager);
     checkNotNull(bundledAppManager);
     checkNotNull(localeManager);
+    checkNotNull(appResourceCache);
 
     this.dhisConfigurationProvider = dhisConfigurationProvider;
     this.appHubService = appHubService;
@@ -144,6 +150,7 @@ public class DefaultAppManager implements AppManager {
     this.i18nManager = i18nManager;
     this.localeManager = localeManager;
     this.bundledAppManager = bundledAppManager;
+    this.appResourceCache = appResourceCache;
   }
 
   /**
@@ -159,6 +166,7 @@ public class DefaultAppManager implements AppManager {
     installBundledApps(installedApps);
     // Invalidate the previous app cache
     appCache.invalidateAll();
+    appResourceCache.invalidateAll();
     // Cache all discovered apps
     installedApps.values().forEach(app -> cacheApp(app.getLeft()));
     log.info("Loaded {} apps.", installedApps.size());
@@ -434,6 +442,7 @@ public class DefaultAppManager implements AppManager {
   @Nonnull
   private App installAppZipFile(@Nonnull File file, @CheckForNull BundledAppInfo bundledAppInfo) {
     App app = jCloudsAppStorageService.installApp(file, appCache, bundledAppInfo);
+    appResourceCache.invalidate(app.getKey());
     log.debug(
         String.format(
             "Installed App with AppHub ID %s (status: %s)", app.getAppHubId(), app.getAppState()));
@@ -610,6 +619,74 @@ public class DefaultAppManager implements AppManager {
     return resource;
   }
 
+  @Override
+  public ResourceResult getCachedAppResource(App app, String pageName, String contextPath)
+      throws IOException {
+    if (!appResourceCache.isEnabled()) {
+      return getAppResource(app, pageName, contextPath);
+    }
+
+    AppResourceCache.Key key =
+        new AppResourceCache.Key(app.getKey(), app.getVersion(), contextPath, pageName);
+    CachedAppResource cached = appResourceCache.get(key);
+
+    // The cache is local to this node, an app reinstalled with the same version on another node
+    // is detected by the last modified timestamp of the stored resource
+    if (cached != null && cached.lastModified() == getRawLastModified(app, pageName)) {
+      return new ResourceResult.CachedResourceFound(cached);
+    }
+
+    ResourceResult resource = getAppResource(app, pageName, contextPath);
+
+    if (!(resource instanceof ResourceResult.ResourceFound resourceFound)
+        || !appResourceCache.isCacheable(getUriContentLength(resourceFound.resource()))) {
+      return resource;
+    }
+
+    cached = toCachedAppResource(app, resourceFound);
+    appResourceCache.put(key, cached);
+    return new ResourceResult.CachedResourceFound(cached);
+  }
+
+  /**
+   * @return the last modified timestamp of the stored resource, without reading its content, or -1
+   *     if the resource is not found
+   */
+  private long getRawLastModified(App app, String pageName) throws IOException {
+    return getRawAppResource(app, pageName) instanceof ResourceResult.ResourceFound found
+        ? found.resource().lastModified()
+        : -1;
+  }
+
+  /**
+   * Reads the resource into memory, compresses it and computes its ETag from the app version and
+   * the last modified timestamp of the resource, as the ETag must change when the app is updated.
+   */
+  private static CachedAppResource toCachedAppResource(App app, ResourceResult.ResourceFound found)
+      throws IOException {
+    Resource resource = found.resource();
+    byte[] content;
+    try (InputStream in = resource.getInputStream()) {
+      content = in.readAllBytes();
+    }
+
+    ByteArrayOutputStream gzip = new ByteArrayOutputStream(content.length / 4 + 64);
+    try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+      out.write(content);
+    }
+
+    long lastModified = resource.lastModified();
+    String etagSource = String.format("%s-%s", app.getVersion(), lastModified);
+
+    return new CachedAppResource(
+        resource.getFilename(),
+        found.mimeType(),
+        HashUtils.hashMD5(etagSource.getBytes()),
+        lastModified,
+        content,
+        gzip.size() < content.length ? gzip.toByteArray() : null);
+  }
+
   /**
    * We need to handle scenarios when the Resource is a File (knowing the content length) or when
    * it's URL (not knowing the content length and having to make a call, e.g. remote web link in AWS
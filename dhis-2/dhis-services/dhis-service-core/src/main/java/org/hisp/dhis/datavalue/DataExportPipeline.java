@@ -40,6 +40,7 @@ import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.common.IdProperty;
@@ -117,6 +118,29 @@ public class DataExportPipeline {
     }
   }
 
+  /**
+   * Exports one page of values for synchronization.
+   *
+   * @param params what values to export, the limit is the page size
+   * @param after the position of the last value of the previous page, or null for the first page
+   * @param out the target to write the JSON to
+   * @return the position of the last value written, or null if the page was empty
+   */
+  @CheckForNull
+  @Transactional(readOnly = true)
+  public DataExportParams.Cursor exportAsJsonSync(
+      DataExportParams.Input params, @CheckForNull DataExportParams.Cursor after, OutputStream out)
+      throws ConflictException {
+    DataExportValue[] last = new DataExportValue[1];
+    DataExportGroup.Output group = service.exportSyncGroup(params, after, dv -> last[0] = dv);
+    try (OutputStream json = wrapWithCompression(params, () -> out)) {
+      DataExportOutput.toJson(group, json);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return last[0] == null ? null : DataExportParams.Cursor.of(last[0]);
+  }
+
   @Transactional(readOnly = true)
   public void exportAsCsv(DataExportParams.Input params, Supplier<OutputStream> out)
       throws ConflictException {
@@ -207,6 +207,10 @@ public class HibernateDataExportStore implements DataExportStore {
         AND coc.uid = ANY(:coc)
         AND aoc.uid = ANY(:aoc)
         AND dv.lastupdated >= :lastUpdated
+        -- the cursor is floored to milliseconds, so this index usable bound skips no rows
+        AND dv.lastupdated >= :afterLastUpdated
+        AND (date_trunc('milliseconds', dv.lastupdated), de.uid, pe.iso, ou.uid, coc.uid, aoc.uid) \
+          > (:afterLastUpdated, :afterDe, :afterPe, :afterOu, :afterCoc, :afterAoc)
         AND dv.deleted = :deleted
         AND ou.hierarchylevel = :level
         -- access check below must be 1 line for erasure
@@ -228,6 +232,7 @@ public class HibernateDataExportStore implements DataExportStore {
     List<Order> orders = params.getOrders();
     if (orders == null || orders.isEmpty()) orders = List.of(Order.PE, Order.CREATED, Order.DE);
 
+    DataExportParams.Cursor after = params.getAfter();
     List<UID> oug = params.getOrganisationUnitGroups();
     Set<String> ouCapture = currentUser.getUserOrgUnitIds();
     if (oug == null || oug.isEmpty() || isSuper) ouCapture = Set.of();
@@ -248,6 +253,12 @@ public class HibernateDataExportStore implements DataExportStore {
         .setParameter("coc", params.getCategoryOptionCombos())
         .setParameter("aoc", params.getAttributeOptionCombos())
         .setParameter("lastUpdated", lastUpdated)
+        .setParameter("afterLastUpdated", after == null ? null : after.lastUpdated())
+        .setParameter("afterDe", after == null ? null : after.dataElement())
+        .setParameter("afterPe", after == null ? null : after.period())
+        .setParameter("afterOu", after == null ? null : after.orgUnit())
+        .setParameter("afterCoc", after == null ? null : after.categoryOptionCombo())
+        .setParameter("afterAoc", after == null ? null : after.attributeOptionCombo())
         .setParameter("deleted", params.isIncludeDeleted() ? null : false)
         .setDynamicClause("aocAccess", aocAclSql)
         .eraseNullParameterLines()
@@ -266,7 +277,11 @@ public class HibernateDataExportStore implements DataExportStore {
                 Map.entry(Order.PE, "pe.startdate, pe.enddate"),
                 Map.entry(Order.CREATED, "dv.created"),
                 Map.entry(Order.DE, "deid"),
-                Map.entry(Order.AOC, "aocid")));
+                Map.entry(Order.AOC, "aocid"),
+                Map.entry(
+                    Order.LAST_UPDATED,
+                    "date_trunc('milliseconds', dv.lastupdated), "
+                        + "deid, pe.iso, ouid, cocid, aocid")));
   }
 
   @CheckForNull
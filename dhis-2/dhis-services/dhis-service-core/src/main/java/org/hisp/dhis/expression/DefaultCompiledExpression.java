@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.expression;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.hisp.dhis.antlr.ParserException;
+import org.hisp.dhis.parser.expression.antlr.ExpressionLexer;
+import org.hisp.dhis.parser.expression.antlr.ExpressionParser;
+import org.hisp.dhis.parser.expression.antlr.ExpressionParser.ExprContext;
+
+/**
+ * {@link CompiledExpression} holding the ANTLR parse tree of an expression. The parse tree is not
+ * modified when visited, so it can be evaluated concurrently with a separate visitor for each
+ * evaluation.
+ *
+ * <p>If the expression could not be parsed, the parse error is kept instead of the parse tree, so
+ * that evaluating the expression reports the error without parsing the expression again.
+ */
+final class DefaultCompiledExpression implements CompiledExpression {
+  private static final BaseErrorListener ERROR_LISTENER = new ThrowingErrorListener();
+
+  @Getter private final String expression;
+
+  @Getter private final ParseType parseType;
+
+  /** The parse tree of the expression, or null if the expression could not be parsed. */
+  @Getter(AccessLevel.PACKAGE)
+  private final ExprContext parseTree;
+
+  /** The parse error message, or null if the expression was parsed. */
+  @Getter(AccessLevel.PACKAGE)
+  private final String parseError;
+
+  private final DefaultExpressionService expressionService;
+
+  private DefaultCompiledExpression(
+      String expression,
+      ParseType parseType,
+      ExprContext parseTree,
+      String parseError,
+      DefaultExpressionService expressionService) {
+    this.expression = expression;
+    this.parseType = parseType;
+    this.parseTree = parseTree;
+    this.parseError = parseError;
+    this.expressionService = expressionService;
+  }
+
+  /**
+   * Parses the given expression.
+   *
+   * @param expression the expression string.
+   * @param parseType the type of expression.
+   * @param expressionService the service which evaluates the expression.
+   * @return the {@link DefaultCompiledExpression}.
+   */
+  static DefaultCompiledExpression compile(
+      String expression, ParseType parseType, DefaultExpressionService expressionService) {
+    try {
+      ExpressionLexer lexer = new ExpressionLexer(CharStreams.fromString(expression));
+      lexer.removeErrorListeners();
+      lexer.addErrorListener(ERROR_LISTENER);
+
+      ExpressionParser parser = new ExpressionParser(new CommonTokenStream(lexer));
+      parser.removeErrorListeners();
+      parser.addErrorListener(ERROR_LISTENER);
+
+      ExprContext parseTree = parser.expression().expr();
+
+      return new DefaultCompiledExpression(
+          expression, parseType, parseTree, null, expressionService);
+    } catch (ParserException ex) {
+      return new DefaultCompiledExpression(
+          expression, parseType, null, ex.getMessage(), expressionService);
+    }
+  }
+
+  @Override
+  public Object evaluate(ExpressionParams params) {
+    return expressionService.evaluate(this, params);
+  }
+
+  /** Error listener which turns syntax errors into a {@link ParserException}. */
+  private static final class ThrowingErrorListener extends BaseErrorListener {
+    @Override
+    public void syntaxError(
+        Recognizer<?, ?> recognizer,
+        Object offendingSymbol,
+        int line,
+        int charPositionInLine,
+        String msg,
+        RecognitionException e) {
+      throw new ParserException("Syntax error at position " + charPositionInLine + ": " + msg);
+    }
+  }
+}
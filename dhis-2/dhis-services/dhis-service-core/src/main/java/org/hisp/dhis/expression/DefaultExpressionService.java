@@ -245,6 +245,9 @@ public class DefaultExpressionService implements ExpressionService {
   /** Cache for the constant map. */
   private final Cache<Map<String, Constant>> constantMapCache;
 
+  /** Cache for compiled expressions by parse type and expression. */
+  private final Cache<CompiledExpression> compiledExpressionCache;
+
   // -------------------------------------------------------------------------
   // Constructor
   // -------------------------------------------------------------------------
@@ -274,6 +277,7 @@ public class DefaultExpressionService implements ExpressionService {
     this.idObjectManager = idObjectManager;
     this.i18nManager = i18nManager;
     this.constantMapCache = cacheProvider.createAllConstantsCache();
+    this.compiledExpressionCache = cacheProvider.createCompiledExpressionCache();
     this.sqlBuilder = sqlBuilder;
     this.settingsService = settingService;
   }
@@ -378,11 +382,11 @@ public class DefaultExpressionService implements ExpressionService {
 
     Double denominatorValue =
         castDouble(
-            getExpressionValue(params.toBuilder().expression(indicator.getDenominator()).build()));
+            compileExpression(indicator.getDenominator(), INDICATOR_EXPRESSION).evaluate(params));
 
     Double numeratorValue =
         castDouble(
-            getExpressionValue(params.toBuilder().expression(indicator.getNumerator()).build()));
+            compileExpression(indicator.getNumerator(), INDICATOR_EXPRESSION).evaluate(params));
 
     if (denominatorValue != null && denominatorValue != 0d && numeratorValue != null) {
       int multiplier = indicator.getIndicatorType().getFactor();
@@ -585,9 +589,35 @@ public class DefaultExpressionService implements ExpressionService {
       return null;
     }
 
+    return compileExpression(params.getExpression(), params.getParseType()).evaluate(params);
+  }
+
+  @Override
+  public CompiledExpression compileExpression(String expression, ParseType parseType) {
+    if (parseType == SIMPLE_TEST) {
+      return DefaultCompiledExpression.compile(expression, parseType, this);
+    }
+
+    return compiledExpressionCache.get(
+        parseType + ":" + expression,
+        key -> DefaultCompiledExpression.compile(expression, parseType, this));
+  }
+
+  /**
+   * Evaluates a compiled expression by visiting its parse tree.
+   *
+   * @param expression the {@link DefaultCompiledExpression}.
+   * @param params the expression parameters.
+   * @return the calculated value.
+   */
+  Object evaluate(DefaultCompiledExpression expression, ExpressionParams params) {
+    if (params.getParseType() != expression.getParseType()) {
+      params = params.toBuilder().parseType(expression.getParseType()).build();
+    }
+
     CommonExpressionVisitor visitor = newVisitor(ITEM_EVALUATE, params);
 
-    Object value = visit(params.getExpression(), params.getDataType(), visitor, true);
+    Object value = visit(expression, params.getDataType(), visitor);
 
     ExpressionState state = visitor.getState();
 
@@ -719,18 +749,7 @@ public class DefaultExpressionService implements ExpressionService {
   private Object visit(
       String expression, DataType dataType, CommonExpressionVisitor visitor, boolean logWarnings) {
     try {
-      Object result = Parser.visit(expression, visitor);
-
-      switch (dataType) {
-        case NUMERIC:
-          return castDouble(result);
-
-        case BOOLEAN:
-          return castBoolean(result);
-
-        case TEXT:
-          return castString(result);
-      }
+      return castResult(Parser.visit(expression, visitor), dataType);
     } catch (ParserException ex) {
       String message = ex.getMessage() + " parsing expression '" + expression + "'";
 
@@ -744,6 +763,41 @@ public class DefaultExpressionService implements ExpressionService {
     return DOUBLE_VALUE_IF_NULL;
   }
 
+  /**
+   * Visits the parse tree of a compiled expression and returns the expected expression type. Parse
+   * errors are logged rather than thrown.
+   */
+  private Object visit(
+      DefaultCompiledExpression expression, DataType dataType, CommonExpressionVisitor visitor) {
+    try {
+      if (expression.getParseError() != null) {
+        throw new ParserException(expression.getParseError());
+      }
+
+      return castResult(visitor.visitExpr(expression.getParseTree()), dataType);
+    } catch (ParserException ex) {
+      log.warn(ex.getMessage() + " parsing expression '" + expression.getExpression() + "'");
+    }
+
+    return DOUBLE_VALUE_IF_NULL;
+  }
+
+  /** Casts the result of visiting an expression to the expected expression type. */
+  private Object castResult(Object result, DataType dataType) {
+    switch (dataType) {
+      case NUMERIC:
+        return castDouble(result);
+
+      case BOOLEAN:
+        return castBoolean(result);
+
+      case TEXT:
+        return castString(result);
+    }
+
+    return DOUBLE_VALUE_IF_NULL;
+  }
+
   /**
    * Regenerates an expression from the parse tree, with values substituted for constants and
    * orgUnitCounts.
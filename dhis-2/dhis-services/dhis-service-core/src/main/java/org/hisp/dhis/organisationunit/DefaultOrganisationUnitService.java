@@ -31,7 +31,7 @@ package org.hisp.dhis.organisationunit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-import static org.hisp.dhis.commons.util.TextUtils.joinHyphen;
+import static org.hisp.dhis.common.IdentifiableObjectUtils.getUidsNonNull;
 
 import com.google.common.collect.Sets;
 import java.awt.geom.Point2D;
@@ -47,8 +47,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.apache.commons.lang3.ObjectUtils;
-import org.hisp.dhis.cache.Cache;
-import org.hisp.dhis.cache.CacheProvider;
 import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.SortProperty;
 import org.hisp.dhis.common.UID;
@@ -77,26 +75,25 @@ public class DefaultOrganisationUnitService implements OrganisationUnitService {
   private final OrganisationUnitLevelStore organisationUnitLevelStore;
   private final ConfigurationService configurationService;
 
-  private final Cache<Boolean> inUserOrgUnitHierarchyCache;
+  private final OrganisationUnitHierarchyIndex hierarchyIndex;
 
   public DefaultOrganisationUnitService(
       OrganisationUnitStore organisationUnitStore,
       IdentifiableObjectManager idObjectManager,
       OrganisationUnitLevelStore organisationUnitLevelStore,
       ConfigurationService configurationService,
-      CacheProvider cacheProvider) {
+      OrganisationUnitHierarchyIndex hierarchyIndex) {
 
     checkNotNull(organisationUnitStore);
     checkNotNull(idObjectManager);
     checkNotNull(organisationUnitLevelStore);
     checkNotNull(configurationService);
-    checkNotNull(cacheProvider);
+    checkNotNull(hierarchyIndex);
 
     this.organisationUnitStore = organisationUnitStore;
     this.organisationUnitLevelStore = organisationUnitLevelStore;
     this.configurationService = configurationService;
-
-    this.inUserOrgUnitHierarchyCache = cacheProvider.createInUserOrgUnitHierarchyCache();
+    this.hierarchyIndex = hierarchyIndex;
   }
 
   // -------------------------------------------------------------------------
@@ -360,9 +357,18 @@ public class DefaultOrganisationUnitService implements OrganisationUnitService {
   @Override
   @Transactional(readOnly = true)
   public boolean isInUserHierarchyCached(User user, OrganisationUnit organisationUnit) {
-    String cacheKey = joinHyphen(user.getUsername(), organisationUnit.getUid());
-    return inUserOrgUnitHierarchyCache.get(
-        cacheKey, ou -> isInUserHierarchy(user, organisationUnit));
+    if (isEmpty(user.getOrganisationUnits())) {
+      return false;
+    }
+
+    OrganisationUnitHierarchy hierarchy = hierarchyIndex.getHierarchy();
+
+    if (!hierarchy.contains(organisationUnit.getUid())) {
+      return isInUserHierarchy(user, organisationUnit);
+    }
+
+    return hierarchy.isDescendant(
+        organisationUnit.getUid(), getUidsNonNull(user.getOrganisationUnits()));
   }
 
   @Override
@@ -404,6 +410,12 @@ public class DefaultOrganisationUnitService implements OrganisationUnitService {
   @Override
   @Transactional(readOnly = true)
   public boolean isInUserHierarchy(String uid, Set<OrganisationUnit> organisationUnits) {
+    OrganisationUnitHierarchy hierarchy = hierarchyIndex.getHierarchy();
+
+    if (hierarchy.contains(uid)) {
+      return hierarchy.isDescendant(uid, getUidsNonNull(organisationUnits));
+    }
+
     OrganisationUnit organisationUnit = organisationUnitStore.getByUid(uid);
 
     return organisationUnit != null && organisationUnit.isDescendant(organisationUnits);
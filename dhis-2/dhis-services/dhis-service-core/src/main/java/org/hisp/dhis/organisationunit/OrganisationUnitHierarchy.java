@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.organisationunit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the organisation unit hierarchy, held in primitive arrays.
+ *
+ * <p>Organisation units are numbered in pre-order. The descendants of an organisation unit,
+ * including itself, are exactly the organisation units with a pre-order number between its own and
+ * the highest pre-order number in its subtree. This makes ancestry checks O(1) and enumerating a
+ * subtree of k organisation units O(k).
+ */
+public final class OrganisationUnitHierarchy {
+  public static final OrganisationUnitHierarchy EMPTY =
+      of(new long[0], new long[0], new String[0]);
+
+  /** Database identifiers by index. */
+  private final long[] ids;
+
+  /** Database identifiers of the parents by index, 0 for roots. */
+  private final long[] parentIds;
+
+  /** UIDs by index. */
+  private final String[] uids;
+
+  /** Pre-order numbers by index, -1 for organisation units not reachable from a root. */
+  private final int[] pre;
+
+  /** Highest pre-order number in the subtree by index. */
+  private final int[] last;
+
+  /** Levels by index, starting at 1 for roots. */
+  private final int[] levels;
+
+  /** Indexes by pre-order number. */
+  private final int[] byPre;
+
+  private final Map<String, Integer> indexByUid;
+
+  private OrganisationUnitHierarchy(long[] ids, long[] parentIds, String[] uids) {
+    int n = ids.length;
+    this.ids = ids;
+    this.parentIds = parentIds;
+    this.uids = uids;
+    this.pre = new int[n];
+    this.last = new int[n];
+    this.levels = new int[n];
+    this.indexByUid = new HashMap<>((int) (n / 0.75f) + 1);
+
+    Map<Long, Integer> indexById = new HashMap<>((int) (n / 0.75f) + 1);
+    for (int i = 0; i < n; i++) {
+      indexById.put(ids[i], i);
+      indexByUid.put(uids[i], i);
+    }
+
+    // children in compressed sparse row form, roots are children of the virtual node n
+    int[] parents = new int[n];
+    int[] offsets = new int[n + 3];
+    for (int i = 0; i < n; i++) {
+      Integer parent = parentIds[i] == 0 ? null : indexById.get(parentIds[i]);
+      parents[i] = parent == null || parent == i ? n : parent;
+      offsets[parents[i] + 2]++;
+    }
+    for (int i = 2; i < offsets.length; i++) {
+      offsets[i] += offsets[i - 1];
+    }
+    int[] children = new int[n];
+    for (int i = 0; i < n; i++) {
+      children[offsets[parents[i] + 1]++] = i;
+    }
+
+    Arrays.fill(pre, -1);
+    int count = number(n, children, offsets);
+    this.byPre = new int[count];
+    for (int i = 0; i < n; i++) {
+      if (pre[i] >= 0) {
+        byPre[pre[i]] = i;
+      }
+    }
+  }
+
+  /**
+   * Numbers the organisation units in pre-order with an iterative depth first traversal from the
+   * virtual root node.
+   *
+   * @return the number of organisation units numbered
+   */
+  private int number(int root, int[] children, int[] offsets) {
+    int n = pre.length;
+    int[] stack = new int[n + 1];
+    int[] cursor = new int[n + 1];
+    int depth = 0;
+    int next = 0;
+    stack[0] = root;
+    cursor[0] = offsets[root];
+
+    while (depth >= 0) {
+      int node = stack[depth];
+      if (cursor[depth] < offsets[node + 1]) {
+        int child = children[cursor[depth]++];
+        if (pre[child] >= 0 || depth == n) {
+          continue; // cycle
+        }
+        pre[child] = next++;
+        levels[child] = depth + 1;
+        depth++;
+        stack[depth] = child;
+        cursor[depth] = offsets[child];
+      } else {
+        if (node != root) {
+          last[node] = next - 1;
+        }
+        depth--;
+      }
+    }
+    return next;
+  }
+
+  /**
+   * Creates a hierarchy from the given organisation units.
+   *
+   * @param ids the database identifiers
+   * @param parentIds the database identifiers of the parents, 0 for roots
+   * @param uids the UIDs
+   * @return the hierarchy
+   */
+  public static OrganisationUnitHierarchy of(long[] ids, long[] parentIds, String[] uids) {
+    return new OrganisationUnitHierarchy(ids, parentIds, uids);
+  }
+
+  /**
+   * @return the number of organisation units in the hierarchy
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @return true if the organisation unit is in the hierarchy and reachable from a root
+   */
+  public boolean contains(String uid) {
+    return indexOf(uid) >= 0;
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @return the level of the organisation unit, starting at 1 for roots, or -1 if it is not in the
+   *     hierarchy
+   */
+  public int getLevel(String uid) {
+    int i = indexOf(uid);
+    return i < 0 ? -1 : levels[i];
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @return the database identifier of the parent, or 0 for roots and organisation units not in
+   *     the hierarchy
+   */
+  public long getParentId(String uid) {
+    Integer i = indexByUid.get(uid);
+    return i == null ? 0 : parentIds[i];
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @param ancestorUid the UID of a potential ancestor
+   * @return true if the organisation unit is the ancestor or one of its descendants
+   */
+  public boolean isDescendant(String uid, String ancestorUid) {
+    int i = indexOf(uid);
+    int a = indexOf(ancestorUid);
+    return i >= 0 && a >= 0 && pre[a] <= pre[i] && pre[i] <= last[a];
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @param ancestorUids the UIDs of potential ancestors
+   * @return true if the organisation unit is one of the ancestors or one of their descendants
+   */
+  public boolean isDescendant(String uid, Collection<String> ancestorUids) {
+    int i = indexOf(uid);
+    if (i < 0) {
+      return false;
+    }
+    for (String ancestorUid : ancestorUids) {
+      int a = indexOf(ancestorUid);
+      if (a >= 0 && pre[a] <= pre[i] && pre[i] <= last[a]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @return the UIDs of the organisation unit and its descendants in pre-order, empty if the
+   *     organisation unit is not in the hierarchy
+   */
+  public List<String> getDescendants(String uid) {
+    return getDescendants(uid, 0);
+  }
+
+  /**
+   * @param uid the UID of an organisation unit
+   * @param level the level of the descendants to return, or 0 for all levels
+   * @return the UIDs of the organisation unit and its descendants at the given level in pre-order
+   */
+  public List<String> getDescendants(String uid, int level) {
+    int i = indexOf(uid);
+    if (i < 0) {
+      return List.of();
+    }
+    List<String> descendants = new ArrayList<>(last[i] - pre[i] + 1);
+    for (int p = pre[i]; p <= last[i]; p++) {
+      int d = byPre[p];
+      if (level == 0 || levels[d] == level) {
+        descendants.add(uids[d]);
+      }
+    }
+    return descendants;
+  }
+
+  private int indexOf(String uid) {
+    Integer i = uid == null ? null : indexByUid.get(uid);
+    return i == null || pre[i] < 0 ? -1 : i;
+  }
+}
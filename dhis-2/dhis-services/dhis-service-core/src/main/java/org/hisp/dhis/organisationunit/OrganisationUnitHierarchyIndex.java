@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.organisationunit;
+
+import static java.util.Arrays.copyOf;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the {@link OrganisationUnitHierarchy} of this instance in memory.
+ *
+ * <p>The hierarchy is loaded on first use. Hibernate post commit listeners mark it as stale when
+ * an organisation unit is added, removed or moved. The next read then starts a reload on a
+ * background thread, so that a batch of changes causes a single reload. Until the reload completes
+ * readers keep getting the previous hierarchy and are never blocked by it. Changes made by other
+ * instances of a cluster are signalled through {@link #invalidate()} by the cache invalidation
+ * listener.
+ */
+@Slf4j
+@Component
+public class OrganisationUnitHierarchyIndex
+    implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+  private static final String HIERARCHY_SQL =
+      "select organisationunitid, coalesce(parentid, 0), uid from organisationunit";
+
+  @PersistenceUnit private EntityManagerFactory emf;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Executor of the background reloads. */
+  private final Executor reloadExecutor;
+
+  /** The current hierarchy, null until loaded. */
+  private volatile OrganisationUnitHierarchy hierarchy;
+
+  /** Whether organisation units changed since the hierarchy was loaded. */
+  private volatile boolean stale;
+
+  /** Whether a background reload is scheduled or running. */
+  private final AtomicBoolean reloading = new AtomicBoolean();
+
+  @Autowired
+  public OrganisationUnitHierarchyIndex(JdbcTemplate jdbcTemplate) {
+    this(
+        jdbcTemplate,
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "org-unit-hierarchy-reload");
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+
+  OrganisationUnitHierarchyIndex(JdbcTemplate jdbcTemplate, Executor reloadExecutor) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.reloadExecutor = reloadExecutor;
+  }
+
+  @PostConstruct
+  protected void init() {
+    SessionFactoryImpl sessionFactory = emf.unwrap(SessionFactoryImpl.class);
+
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+
+    registry.getEventListenerGroup(EventType.POST_COMMIT_INSERT).appendListener(this);
+    registry.getEventListenerGroup(EventType.POST_COMMIT_UPDATE).appendListener(this);
+    registry.getEventListenerGroup(EventType.POST_COMMIT_DELETE).appendListener(this);
+  }
+
+  @PreDestroy
+  protected void destroy() {
+    if (reloadExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * @return the current hierarchy, loaded from the database on first use. After changes the
+   *     previous hierarchy is returned until the background reload completes.
+   */
+  public OrganisationUnitHierarchy getHierarchy() {
+    OrganisationUnitHierarchy current = hierarchy;
+    if (current == null) {
+      return loadInitial();
+    }
+    if (stale) {
+      scheduleReload();
+    }
+    return current;
+  }
+
+  /** Marks the hierarchy as stale, so that it is reloaded on the next read. */
+  public void invalidate() {
+    stale = true;
+  }
+
+  private synchronized OrganisationUnitHierarchy loadInitial() {
+    if (hierarchy == null) {
+      stale = false;
+      hierarchy = load();
+    }
+    return hierarchy;
+  }
+
+  private void scheduleReload() {
+    if (!reloading.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      reloadExecutor.execute(this::reload);
+    } catch (RejectedExecutionException ex) {
+      reloading.set(false);
+      log.debug("Organisation unit hierarchy reload rejected", ex);
+    }
+  }
+
+  private void reload() {
+    try {
+      // reset before reading so that changes committed during the load trigger another reload
+      stale = false;
+      hierarchy = load();
+    } catch (RuntimeException ex) {
+      stale = true;
+      log.warn("Failed to reload organisation unit hierarchy", ex);
+    } finally {
+      reloading.set(false);
+    }
+  }
+
+  private OrganisationUnitHierarchy load() {
+    OrganisationUnitHierarchy loaded = jdbcTemplate.query(HIERARCHY_SQL, this::readHierarchy);
+    log.debug("Loaded organisation unit hierarchy of {} organisation units", loaded.size());
+    return loaded;
+  }
+
+  private OrganisationUnitHierarchy readHierarchy(ResultSet rs) throws SQLException {
+    int n = 0;
+    long[] ids = new long[1024];
+    long[] parentIds = new long[1024];
+    String[] uids = new String[1024];
+    while (rs.next()) {
+      if (n == ids.length) {
+        ids = copyOf(ids, n * 2);
+        parentIds = copyOf(parentIds, n * 2);
+        uids = copyOf(uids, n * 2);
+      }
+      ids[n] = rs.getLong(1);
+      parentIds[n] = rs.getLong(2);
+      uids[n++] = rs.getString(3);
+    }
+    return OrganisationUnitHierarchy.of(copyOf(ids, n), copyOf(parentIds, n), copyOf(uids, n));
+  }
+
+  /**
+   * @return true if the parent of the updated organisation unit changed, or if this is unknown
+   */
+  private static boolean isParentChanged(PostUpdateEvent event, OrganisationUnit unit) {
+    Object[] oldState = event.getOldState();
+    int parent = Arrays.asList(event.getPersister().getPropertyNames()).indexOf("parent");
+    if (oldState == null || parent < 0) {
+      return true;
+    }
+    OrganisationUnit oldParent = (OrganisationUnit) oldState[parent];
+    OrganisationUnit newParent = unit.getParent();
+    long oldParentId = oldParent == null ? 0 : oldParent.getId();
+    long newParentId = newParent == null ? 0 : newParent.getId();
+    return oldParentId != newParentId;
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (event.getEntity() instanceof OrganisationUnit) {
+      invalidate();
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (event.getEntity() instanceof OrganisationUnit unit && isParentChanged(event, unit)) {
+      invalidate();
+    }
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (event.getEntity() instanceof OrganisationUnit) {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean requiresPostCommitHanding(EntityPersister persister) {
+    return OrganisationUnit.class.isAssignableFrom(persister.getMappedClass());
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+    log.debug("onPostInsertCommitFailed: " + event);
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    log.debug("onPostUpdateCommitFailed: " + event);
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    log.debug("onPostDeleteCommitFailed: " + event);
+  }
+}
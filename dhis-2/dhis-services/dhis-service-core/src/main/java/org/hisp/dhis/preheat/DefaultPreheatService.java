@@ -512,14 +512,14 @@ public class DefaultPreheatService implements PreheatService {
                 if (!uidMap.containsKey(itemKlass)) uidMap.put(itemKlass, new HashSet<>());
                 if (!codeMap.containsKey(itemKlass)) codeMap.put(itemKlass, new HashSet<>());
 
-                Object reference = safeInvoke(object, p.getGetterMethod());
+                Object reference = safeInvoke(object, p);
 
                 if (reference != null) {
                   IdentifiableObject identifiableObject = (IdentifiableObject) reference;
                   addIdentifiers(map, identifiableObject);
                 }
               } else {
-                Collection<IdentifiableObject> reference = safeInvoke(object, p.getGetterMethod());
+                Collection<IdentifiableObject> reference = safeInvoke(object, p);
 
                 if (reference != null) {
                   reference.forEach(identifiableObject -> addIdentifiers(map, identifiableObject));
@@ -698,7 +698,7 @@ public class DefaultPreheatService implements PreheatService {
         properties.forEach(
             p -> {
               if (!p.isCollection()) {
-                IdentifiableObject reference = safeInvoke(object, p.getGetterMethod());
+                IdentifiableObject reference = safeInvoke(object, p);
 
                 if (reference != null) {
                   try {
@@ -713,7 +713,7 @@ public class DefaultPreheatService implements PreheatService {
               } else {
                 Collection<IdentifiableObject> refObjects =
                     ReflectionUtils.newCollectionInstance(p.getKlass());
-                Collection<IdentifiableObject> references = safeInvoke(object, p.getGetterMethod());
+                Collection<IdentifiableObject> references = safeInvoke(object, p);
 
                 if (references != null) {
                   for (IdentifiableObject reference : references) {
@@ -763,7 +763,7 @@ public class DefaultPreheatService implements PreheatService {
 
           objects.forEach(
               o -> {
-                Collection<Object> propertyValue = safeInvoke(o, property.getGetterMethod());
+                Collection<Object> propertyValue = safeInvoke(o, property);
                 if (!org.apache.commons.collections4.CollectionUtils.isEmpty(propertyValue)) {
                   list.addAll(propertyValue);
                 }
@@ -778,7 +778,7 @@ public class DefaultPreheatService implements PreheatService {
 
           objects.forEach(
               o -> {
-                Object item = safeInvoke(o, property.getGetterMethod());
+                Object item = safeInvoke(o, property);
                 if (item != null) {
                   list.add(item);
                 }
@@ -836,7 +836,7 @@ public class DefaultPreheatService implements PreheatService {
       }
 
       if (!property.isCollection()) {
-        IdentifiableObject refObject = safeInvoke(object, property.getGetterMethod());
+        IdentifiableObject refObject = safeInvoke(object, property);
         IdentifiableObject ref = getPersistedObject(preheat, identifier, refObject);
 
         ref = connectDefaults(preheat, property, object, refObject, ref);
@@ -849,7 +849,7 @@ public class DefaultPreheatService implements PreheatService {
       } else {
         Collection<IdentifiableObject> objects =
             ReflectionUtils.newCollectionInstance(property.getKlass());
-        Collection<IdentifiableObject> refObjects = safeInvoke(object, property.getGetterMethod());
+        Collection<IdentifiableObject> refObjects = safeInvoke(object, property);
 
         for (IdentifiableObject refObject : refObjects) {
           IdentifiableObject ref = getPersistedObject(preheat, identifier, refObject);
@@ -939,7 +939,7 @@ public class DefaultPreheatService implements PreheatService {
       uniqueProperties.forEach(
           property -> {
             if (!map.containsKey(property.getName())) map.put(property.getName(), new HashMap<>());
-            Object value = safeInvoke(object, property.getGetterMethod());
+            Object value = safeInvoke(object, property);
             if (value != null)
               map.get(property.getName()).put(value, identifier.getIdentifier(object));
           });
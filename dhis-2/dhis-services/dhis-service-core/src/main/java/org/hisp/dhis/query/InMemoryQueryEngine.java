@@ -34,7 +34,6 @@ import static org.hisp.dhis.query.Filters.ilike;
 import static org.hisp.dhis.query.Filters.in;
 import static org.hisp.dhis.schema.DefaultSchemaService.safeInvoke;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
@@ -51,7 +50,6 @@ import org.hisp.dhis.schema.Schema;
 import org.hisp.dhis.schema.SchemaService;
 import org.hisp.dhis.security.acl.Access;
 import org.hisp.dhis.security.acl.AclService;
-import org.hisp.dhis.system.util.ReflectionUtils;
 import org.hisp.dhis.user.CurrentUserUtil;
 import org.springframework.stereotype.Component;
 
@@ -127,9 +125,8 @@ public class InMemoryQueryEngine implements QueryEngine {
   }
 
   private static int compare(Object lside, Object rside, OrderBy orderBy) {
-    Method getter = orderBy.property.getGetterMethod();
-    Object left = safeInvoke(lside, getter);
-    Object right = safeInvoke(rside, getter);
+    Object left = safeInvoke(lside, orderBy.property);
+    Object right = safeInvoke(rside, orderBy.property);
 
     if (left == right) return 0;
 
@@ -263,12 +260,12 @@ public class InMemoryQueryEngine implements QueryEngine {
 
   private Predicate<Object> filterMatch(Property p, Filter f) {
     Operator<?> op = f.getOperator();
-    return obj -> op.test(ReflectionUtils.invokeMethod(obj, p.getGetterMethod()));
+    return obj -> op.test(safeInvoke(obj, p));
   }
 
   private Predicate<Object> filterMatch(Property p, Predicate<Object> tail) {
     return obj -> {
-      Object value = ReflectionUtils.invokeMethod(obj, p.getGetterMethod());
+      Object value = safeInvoke(obj, p);
       return p.isCollection() && value instanceof Collection<?> c
           ? c.stream().anyMatch(tail)
           : tail.test(value);
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.appmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hisp.dhis.appmanager.AppResourceCache.Key;
+import org.junit.jupiter.api.Test;
+
+class AppResourceCacheTest {
+  private final AppResourceCache cache = new AppResourceCache(800);
+
+  @Test
+  void testIsCacheable() {
+    assertTrue(cache.isCacheable(100));
+    assertFalse(cache.isCacheable(101));
+    assertFalse(cache.isCacheable(-1));
+    assertFalse(new AppResourceCache(0).isEnabled());
+  }
+
+  @Test
+  void testEvictsLeastRecentlyUsed() {
+    for (int i = 0; i < 8; i++) {
+      cache.put(key("app", i), resource(100));
+    }
+    assertNotNull(cache.get(key("app", 0)));
+
+    cache.put(key("app", 8), resource(100));
+
+    assertEquals(800, cache.size());
+    assertNotNull(cache.get(key("app", 0)));
+    assertNull(cache.get(key("app", 1)));
+  }
+
+  @Test
+  void testReplaceUpdatesSize() {
+    cache.put(key("app", 0), resource(100));
+    cache.put(key("app", 0), resource(50));
+
+    assertEquals(50, cache.size());
+  }
+
+  @Test
+  void testSkipsLargeResources() {
+    cache.put(key("app", 0), resource(101));
+
+    assertNull(cache.get(key("app", 0)));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testInvalidate() {
+    cache.put(key("app", 0), resource(100));
+    cache.put(key("other", 0), resource(100));
+
+    cache.invalidate("app");
+
+    assertNull(cache.get(key("app", 0)));
+    assertNotNull(cache.get(key("other", 0)));
+    assertEquals(100, cache.size());
+
+    cache.invalidateAll();
+
+    assertEquals(0, cache.size());
+  }
+
+  private static Key key(String appKey, int page) {
+    return new Key(appKey, "1.0", "/dhis", "/page" + page + ".js");
+  }
+
+  private static CachedAppResource resource(int size) {
+    return new CachedAppResource(null, null, "etag", 0, new byte[size], null);
+  }
+}
@@ -29,17 +29,30 @@
  */
 package org.hisp.dhis.appmanager;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.hisp.dhis.apphub.AppHubService;
+import org.hisp.dhis.appmanager.ResourceResult.CachedResourceFound;
+import org.hisp.dhis.appmanager.ResourceResult.ResourceFound;
 import org.hisp.dhis.cache.Cache;
 import org.hisp.dhis.cache.CacheBuilder;
 import org.hisp.dhis.cache.DefaultCacheBuilderProvider;
+import org.hisp.dhis.common.HashUtils;
 import org.hisp.dhis.common.Locale;
 import org.hisp.dhis.datastore.DatastoreService;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
@@ -51,6 +64,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 
 /**
  * Unit tests for {@link DefaultAppManager}.
@@ -114,6 +129,72 @@ class DefaultAppManagerTest {
     assertEquals(0, apps.size());
   }
 
+  @Test
+  void testGetCachedAppResource() throws IOException {
+    App app = stubApp("App 1", false);
+    app.setVersion("1.0.0");
+    byte[] content = "body { color: red; }\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+    when(jCloudsAppStorageService.getAppResource(app, "/main.css"))
+        .thenReturn(new ResourceFound(stubResource(content)));
+
+    ResourceResult first = appManager.getCachedAppResource(app, "/main.css", "anyPath");
+    ResourceResult second = appManager.getCachedAppResource(app, "/main.css", "anyPath");
+
+    CachedAppResource cached = assertInstanceOf(CachedResourceFound.class, first).resource();
+    assertSame(cached, assertInstanceOf(CachedResourceFound.class, second).resource());
+    // The second call only checks the last modified timestamp of the stored resource
+    verify(jCloudsAppStorageService, times(2)).getAppResource(app, "/main.css");
+    assertEquals("main.css", cached.filename());
+    assertEquals(HashUtils.hashMD5("1.0.0-42".getBytes()), cached.etag());
+    assertArrayEquals(content, cached.content());
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzipContent()))) {
+      assertArrayEquals(content, in.readAllBytes());
+    }
+  }
+
+  @Test
+  void testGetCachedAppResourceAfterReinstallWithSameVersion() throws IOException {
+    App app = stubApp("App 1", false);
+    app.setVersion("1.0.0");
+    byte[] oldContent = "body { color: red; }\n".getBytes(StandardCharsets.UTF_8);
+    byte[] newContent = "body { color: blue; }\n".getBytes(StandardCharsets.UTF_8);
+    when(jCloudsAppStorageService.getAppResource(app, "/main.css"))
+        .thenReturn(new ResourceFound(stubResource(oldContent, 42)))
+        .thenReturn(new ResourceFound(stubResource(newContent, 43)));
+
+    ResourceResult first = appManager.getCachedAppResource(app, "/main.css", "anyPath");
+    ResourceResult second = appManager.getCachedAppResource(app, "/main.css", "anyPath");
+
+    CachedAppResource stale = assertInstanceOf(CachedResourceFound.class, first).resource();
+    CachedAppResource fresh = assertInstanceOf(CachedResourceFound.class, second).resource();
+    assertArrayEquals(oldContent, stale.content());
+    assertArrayEquals(newContent, fresh.content());
+    assertEquals(HashUtils.hashMD5("1.0.0-43".getBytes()), fresh.etag());
+  }
+
+  private static Resource stubResource(byte[] content) {
+    return stubResource(content, 42);
+  }
+
+  private static Resource stubResource(byte[] content, long lastModified) {
+    return new ByteArrayResource(content) {
+      @Override
+      public String getFilename() {
+        return "main.css";
+      }
+
+      @Override
+      public boolean isFile() {
+        return true;
+      }
+
+      @Override
+      public long lastModified() {
+        return lastModified;
+      }
+    };
+  }
+
   /** Required by all tests to work. */
   private void requiredByAllTests() {
     doReturn(cacheBuilder).when(cacheBuilderProvider).newCacheBuilder();
@@ -130,7 +211,8 @@ class DefaultAppManagerTest {
             cacheBuilderProvider,
             i18nManager,
             localeManager,
-            bundledAppInstaller);
+            bundledAppInstaller,
+            new AppResourceCache(1024 * 1024));
   }
 
   /**
@@ -502,4 +502,57 @@ class DataExportQueryBuilderTest extends AbstractQueryBuilderTest {
         Set.of("lastUpdated"),
         createExportQuery(params, createSpyQuery(), new SystemUser()));
   }
+
+  @Test
+  void testFilter_LastUpdatedAfter() {
+    DataExportParams params =
+        DataExportParams.builder()
+            .lastUpdated(new Date())
+            .after(
+                new DataExportParams.Cursor(
+                    new Date(),
+                    UID.of("de123456789"),
+                    "2020",
+                    UID.of("ou123456789"),
+                    UID.of("coc23456789"),
+                    UID.of("aoc23456789")))
+            .includeDeleted(true)
+            .orders(List.of(LAST_UPDATED))
+            .build();
+    assertSQL(
+        """
+        SELECT
+          de.uid AS deid,
+          pe.iso,
+          ou.uid AS ouid,
+          coc.uid AS cocid,
+          aoc.uid AS aocid,
+          de.valuetype,
+          dv.value,
+          dv.comment,
+          dv.followup,
+          dv.storedby,
+          dv.created,
+          dv.lastupdated,
+          dv.deleted
+        FROM datavalue dv
+        JOIN dataelement de ON dv.dataelementid = de.dataelementid
+        JOIN period pe ON dv.periodid = pe.periodid
+        JOIN organisationunit ou ON dv.sourceid = ou.organisationunitid
+        JOIN categoryoptioncombo coc ON dv.categoryoptioncomboid = coc.categoryoptioncomboid
+        JOIN categoryoptioncombo aoc ON dv.attributeoptioncomboid = aoc.categoryoptioncomboid
+        WHERE dv.lastupdated >= :lastUpdated
+          AND dv.lastupdated >= :afterLastUpdated
+          AND (date_trunc('milliseconds', dv.lastupdated), de.uid, pe.iso, ou.uid, coc.uid, aoc.uid)     > (:afterLastUpdated, :afterDe, :afterPe, :afterOu, :afterCoc, :afterAoc)
+        ORDER BY date_trunc('milliseconds', dv.lastupdated), deid, pe.iso, ouid, cocid, aocid""",
+        Set.of(
+            "lastUpdated",
+            "afterLastUpdated",
+            "afterDe",
+            "afterPe",
+            "afterOu",
+            "afterCoc",
+            "afterAoc"),
+        createExportQuery(params, createSpyQuery(), new SystemUser()));
+  }
 }
@@ -254,6 +254,7 @@ class ExpressionServiceTest extends TestBase {
   @BeforeEach
   public void setUp() {
     when(cacheProvider.createAllConstantsCache()).thenReturn(new NoOpCache<>());
+    when(cacheProvider.createCompiledExpressionCache()).thenReturn(new NoOpCache<>());
     target =
         new DefaultExpressionService(
             hibernateGenericStore,
@@ -1270,4 +1271,44 @@ class ExpressionServiceTest extends TestBase {
 
     assertNull(value);
   }
+
+  @Test
+  void testCompileExpressionEvaluatesRepeatedly() {
+    CompiledExpression expression = target.compileExpression("2 * [days]", INDICATOR_EXPRESSION);
+
+    assertEquals("2 * [days]", expression.getExpression());
+    assertEquals(INDICATOR_EXPRESSION, expression.getParseType());
+    assertEquals(20d, castDouble(expression.evaluate(daysParams(10))), DELTA);
+    assertEquals(62d, castDouble(expression.evaluate(daysParams(31))), DELTA);
+  }
+
+  @Test
+  void testCompileExpressionEvaluatesAsExpressionValue() {
+    Map<DimensionalItemId, DimensionalItemObject> itemMap =
+        Map.of(getId(opA), opA, getId(opB), opB);
+    Map<DimensionalItemObject, Object> valueMap = Map.of(opA, 12d, opB, 34d);
+
+    CompiledExpression expression = target.compileExpression(expressionA, INDICATOR_EXPRESSION);
+
+    assertEquals(
+        exprValue(expressionA, itemMap, valueMap, null, null),
+        castDouble(
+            expression.evaluate(
+                ExpressionParams.builder()
+                    .itemMap(itemMap)
+                    .valueMap(valueMap)
+                    .missingValueStrategy(NEVER_SKIP)
+                    .build())));
+  }
+
+  @Test
+  void testCompileExpressionWithSyntaxError() {
+    CompiledExpression expression = target.compileExpression("1 +", INDICATOR_EXPRESSION);
+
+    assertEquals(0d, castDouble(expression.evaluate(daysParams(10))), DELTA);
+  }
+
+  private ExpressionParams daysParams(int days) {
+    return ExpressionParams.builder().days(days).missingValueStrategy(NEVER_SKIP).build();
+  }
 }
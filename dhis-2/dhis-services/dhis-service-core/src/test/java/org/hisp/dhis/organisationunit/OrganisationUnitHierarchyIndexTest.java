@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.organisationunit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hisp.dhis.dataelement.DataElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationUnitHierarchyIndexTest {
+  private static final OrganisationUnitHierarchy FIRST =
+      OrganisationUnitHierarchy.of(new long[] {1}, new long[] {0}, new String[] {"A"});
+
+  private static final OrganisationUnitHierarchy SECOND =
+      OrganisationUnitHierarchy.of(new long[] {1, 2}, new long[] {0, 1}, new String[] {"A", "B"});
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  /** Reloads scheduled by the index, run explicitly by the tests. */
+  private final List<Runnable> reloads = new ArrayList<>();
+
+  private OrganisationUnitHierarchyIndex index;
+
+  @BeforeEach
+  void setUp() {
+    when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class)))
+        .thenReturn(FIRST, SECOND);
+    index = new OrganisationUnitHierarchyIndex(jdbcTemplate, reloads::add);
+  }
+
+  @Test
+  void testHierarchyIsLoadedOnce() {
+    assertSame(FIRST, index.getHierarchy());
+    assertSame(FIRST, index.getHierarchy());
+
+    verifyLoads(1);
+  }
+
+  @Test
+  void testInsertReloadsOnNextRead() {
+    index.getHierarchy();
+
+    index.onPostInsert(insertEvent(new OrganisationUnit()));
+    index.onPostInsert(insertEvent(new OrganisationUnit()));
+    verifyLoads(1);
+
+    assertSame(FIRST, index.getHierarchy());
+    runReloads();
+    assertSame(SECOND, index.getHierarchy());
+    assertSame(SECOND, index.getHierarchy());
+    verifyLoads(2);
+  }
+
+  @Test
+  void testReadsServePreviousHierarchyDuringReload() {
+    index.getHierarchy();
+
+    index.invalidate();
+
+    assertSame(FIRST, index.getHierarchy());
+    assertSame(FIRST, index.getHierarchy());
+    assertEquals(1, reloads.size());
+    verifyLoads(1);
+
+    runReloads();
+
+    assertSame(SECOND, index.getHierarchy());
+    assertTrue(reloads.isEmpty());
+  }
+
+  @Test
+  void testFailedReloadIsRetriedOnNextRead() {
+    index.getHierarchy();
+    doThrow(new IllegalStateException("database down"))
+        .doReturn(SECOND)
+        .when(jdbcTemplate)
+        .query(anyString(), any(ResultSetExtractor.class));
+
+    index.invalidate();
+    index.getHierarchy();
+    runReloads();
+
+    assertSame(FIRST, index.getHierarchy());
+    runReloads();
+    assertSame(SECOND, index.getHierarchy());
+  }
+
+  @Test
+  void testDeleteReloadsOnNextRead() {
+    index.getHierarchy();
+
+    PostDeleteEvent event = mock(PostDeleteEvent.class);
+    when(event.getEntity()).thenReturn(new OrganisationUnit());
+    index.onPostDelete(event);
+
+    assertSame(FIRST, index.getHierarchy());
+    runReloads();
+    assertSame(SECOND, index.getHierarchy());
+  }
+
+  @Test
+  void testMoveReloadsOnNextRead() {
+    index.getHierarchy();
+
+    OrganisationUnit unit = createOrganisationUnit(2, createOrganisationUnit(3, null));
+    index.onPostUpdate(updateEvent(unit, createOrganisationUnit(1, null)));
+
+    assertSame(FIRST, index.getHierarchy());
+    runReloads();
+    assertSame(SECOND, index.getHierarchy());
+  }
+
+  @Test
+  void testUpdateWithoutMoveKeepsHierarchy() {
+    index.getHierarchy();
+
+    OrganisationUnit parent = createOrganisationUnit(1, null);
+    OrganisationUnit unit = createOrganisationUnit(2, parent);
+    index.onPostUpdate(updateEvent(unit, parent));
+
+    assertSame(FIRST, index.getHierarchy());
+    assertTrue(reloads.isEmpty());
+    verifyLoads(1);
+  }
+
+  @Test
+  void testOtherEntitiesKeepHierarchy() {
+    index.getHierarchy();
+
+    index.onPostInsert(insertEvent(new DataElement()));
+
+    assertSame(FIRST, index.getHierarchy());
+    assertTrue(reloads.isEmpty());
+    verifyLoads(1);
+  }
+
+  @Test
+  void testInvalidateReloadsOnNextRead() {
+    index.getHierarchy();
+
+    index.invalidate();
+
+    assertSame(FIRST, index.getHierarchy());
+    runReloads();
+    assertSame(SECOND, index.getHierarchy());
+  }
+
+  private void runReloads() {
+    List<Runnable> scheduled = List.copyOf(reloads);
+    reloads.clear();
+    scheduled.forEach(Runnable::run);
+  }
+
+  private void verifyLoads(int loads) {
+    verify(jdbcTemplate, times(loads)).query(anyString(), any(ResultSetExtractor.class));
+  }
+
+  private static PostInsertEvent insertEvent(Object entity) {
+    PostInsertEvent event = mock(PostInsertEvent.class);
+    when(event.getEntity()).thenReturn(entity);
+    return event;
+  }
+
+  private static PostUpdateEvent updateEvent(OrganisationUnit unit, OrganisationUnit oldParent) {
+    EntityPersister persister = mock(EntityPersister.class);
+    when(persister.getPropertyNames()).thenReturn(new String[] {"name", "parent"});
+    PostUpdateEvent event = mock(PostUpdateEvent.class);
+    when(event.getEntity()).thenReturn(unit);
+    when(event.getPersister()).thenReturn(persister);
+    when(event.getOldState()).thenReturn(new Object[] {"name", oldParent});
+    return event;
+  }
+
+  private static OrganisationUnit createOrganisationUnit(long id, OrganisationUnit parent) {
+    OrganisationUnit unit = new OrganisationUnit();
+    unit.setId(id);
+    unit.setParent(parent);
+    return unit;
+  }
+}
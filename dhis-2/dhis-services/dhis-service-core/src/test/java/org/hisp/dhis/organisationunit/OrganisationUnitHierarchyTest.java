@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.organisationunit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OrganisationUnitHierarchyTest {
+  /**
+   * <pre>
+   * A (1)
+   * +-- B (2)
+   * |   +-- D (4)
+   * |   +-- E (5)
+   * +-- C (3)
+   *     +-- F (6)
+   * </pre>
+   */
+  private final OrganisationUnitHierarchy hierarchy =
+      OrganisationUnitHierarchy.of(
+          new long[] {4, 2, 1, 6, 3, 5},
+          new long[] {2, 1, 0, 3, 1, 2},
+          new String[] {"D", "B", "A", "F", "C", "E"});
+
+  @Test
+  void testIsDescendant() {
+    assertTrue(hierarchy.isDescendant("D", "A"));
+    assertTrue(hierarchy.isDescendant("D", "B"));
+    assertTrue(hierarchy.isDescendant("D", "D"));
+    assertFalse(hierarchy.isDescendant("D", "C"));
+    assertFalse(hierarchy.isDescendant("B", "D"));
+    assertFalse(hierarchy.isDescendant("X", "A"));
+    assertFalse(hierarchy.isDescendant("A", "X"));
+  }
+
+  @Test
+  void testIsDescendantOfAny() {
+    assertTrue(hierarchy.isDescendant("F", List.of("B", "C")));
+    assertFalse(hierarchy.isDescendant("F", List.of("B", "D")));
+    assertFalse(hierarchy.isDescendant("F", List.of()));
+  }
+
+  @Test
+  void testGetDescendants() {
+    assertEquals(List.of("B", "D", "E"), hierarchy.getDescendants("B"));
+    assertEquals(List.of("F"), hierarchy.getDescendants("F"));
+    assertEquals(6, hierarchy.getDescendants("A").size());
+    assertEquals(List.of(), hierarchy.getDescendants("X"));
+  }
+
+  @Test
+  void testGetDescendantsAtLevel() {
+    assertEquals(List.of("D", "E", "F"), hierarchy.getDescendants("A", 3));
+    assertEquals(List.of("B", "C"), hierarchy.getDescendants("A", 2));
+    assertEquals(List.of("C"), hierarchy.getDescendants("C", 2));
+    assertEquals(List.of(), hierarchy.getDescendants("C", 1));
+  }
+
+  @Test
+  void testGetLevel() {
+    assertEquals(1, hierarchy.getLevel("A"));
+    assertEquals(2, hierarchy.getLevel("C"));
+    assertEquals(3, hierarchy.getLevel("E"));
+    assertEquals(-1, hierarchy.getLevel("X"));
+  }
+
+  @Test
+  void testCycleIsExcluded() {
+    OrganisationUnitHierarchy cycle =
+        OrganisationUnitHierarchy.of(
+            new long[] {1, 2, 3}, new long[] {0, 3, 2}, new String[] {"A", "B", "C"});
+
+    assertTrue(cycle.contains("A"));
+    assertFalse(cycle.contains("B"));
+    assertFalse(cycle.isDescendant("B", "C"));
+  }
+}
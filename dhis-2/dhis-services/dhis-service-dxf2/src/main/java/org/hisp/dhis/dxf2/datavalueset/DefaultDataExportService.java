@@ -44,6 +44,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
@@ -131,6 +132,27 @@ public class DefaultDataExportService implements DataExportService {
         new DataExportGroup(ds, pe, ou, aoc, store.exportValues(params)), encodeTo, encoding);
   }
 
+  @Override
+  @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+  public DataExportGroup.Output exportSyncGroup(
+      @Nonnull DataExportParams.Input parameters,
+      @CheckForNull DataExportParams.Cursor after,
+      @Nonnull Consumer<DataExportValue> exported)
+      throws ConflictException {
+    DataExportParams params =
+        decodeParams(parameters).toBuilder()
+            .includeDeleted(true)
+            .orders(List.of(Order.LAST_UPDATED))
+            .offset(null)
+            .after(after)
+            .build();
+    Stream<DataExportValue> values = store.exportValues(params).peek(exported);
+    return encodeGroup(
+        new DataExportGroup(null, null, null, null, values),
+        parameters.getOutputIdSchemes(),
+        parameters.geEncodingParams());
+  }
+
   private <T> T getUnique(List<T> elements) {
     if (elements == null || elements.size() != 1) return null;
     return elements.get(0);
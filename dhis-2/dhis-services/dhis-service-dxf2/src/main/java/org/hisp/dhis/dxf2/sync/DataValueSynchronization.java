@@ -29,17 +29,25 @@
  */
 package org.hisp.dhis.dxf2.sync;
 
-import static java.lang.String.format;
 import static org.hisp.dhis.scheduling.JobProgress.FailurePolicy.SKIP_ITEM;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.Date;
-import java.util.stream.IntStream;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.CheckForNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.hisp.dhis.common.Compression;
+import org.hisp.dhis.common.UID;
 import org.hisp.dhis.datavalue.DataExportParams;
 import org.hisp.dhis.datavalue.DataExportPipeline;
 import org.hisp.dhis.datavalue.DataValueService;
-import org.hisp.dhis.dxf2.metadata.sync.exception.MetadataSyncServiceException;
 import org.hisp.dhis.feedback.ConflictException;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.setting.SystemSettings;
@@ -141,34 +149,121 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
         skipChangedBefore, 0, null, pageSize, lastUpdatedAfter);
   }
 
+  /**
+   * Runs the synchronization page by page using keyset paging. The job thread exports the next page
+   * while up to {@link SystemSettings#getSyncMaxPagesInFlight()} previous pages are still being
+   * uploaded. Uploads are completed in page order so the checkpoint only ever advances over a
+   * contiguous sequence of successfully synchronized pages.
+   */
   private boolean runSyncWithPaging(DataValueSynchronisationContext context, JobProgress progress) {
+    SystemSettings settings = settingsService.getCurrentSettings();
+    Date lastUpdatedAfter = context.getLastUpdatedAfter();
+    DataExportParams.Cursor after =
+        decodeCheckpoint(settings.getDataSynchCheckpoint(), lastUpdatedAfter);
+
     String msg = context.getObjectsToSynchronize() + " DataValues to synchronize were found.\n";
     msg += "Remote server URL for DataValues POST sync: " + context.getInstance().getUrl() + "\n";
+    if (after != null) msg += "Resuming after checkpoint " + after + "\n";
     msg +=
         "DataValueSynchronization job has "
             + context.getPages()
             + " pages to sync. With page size: "
             + context.getPageSize();
-
     progress.startingStage(msg, context.getPages(), SKIP_ITEM);
-    progress.runStage(
-        IntStream.range(1, context.getPages() + 1).boxed(),
-        page -> format("Synchronizing page %d with page size %d", page, context.getPageSize()),
-        page -> synchronizePage(page, context));
-    return !progress.isSkipCurrentStage();
+
+    int maxInFlight = Math.max(1, settings.getSyncMaxPagesInFlight());
+    ExecutorService uploads = Executors.newFixedThreadPool(maxInFlight);
+    Deque<PageUpload> inFlight = new ArrayDeque<>(maxInFlight);
+    boolean success = true;
+    try {
+      int page = 1;
+      while (!progress.isCancelled()) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataExportParams.Cursor last = exportPage(context, after, body);
+        if (last == null) break; // no more values
+        if (inFlight.size() >= maxInFlight)
+          success = completeUpload(inFlight.poll(), lastUpdatedAfter, progress);
+        if (!success) break;
+        byte[] data = body.toByteArray();
+        inFlight.add(
+            new PageUpload(
+                page++,
+                last,
+                uploads.submit(() -> sendSyncRequest(data, context.getInstance(), settings))));
+        after = last;
+      }
+      // the checkpoint must not skip over a failed page
+      while (success && !inFlight.isEmpty())
+        success = completeUpload(inFlight.poll(), lastUpdatedAfter, progress);
+    } finally {
+      uploads.shutdownNow();
+    }
+    if (success && !progress.isCancelled()) {
+      settingsService.put("keyDataSynchCheckpoint", "");
+      progress.completedStage(null);
+      return true;
+    }
+    progress.failedStage("Not all pages were synchronised, the next run resumes from checkpoint");
+    return false;
   }
 
-  protected void synchronizePage(int page, DataValueSynchronisationContext context) {
-    if (!sendSyncRequest(page, context)) {
-      throw new MetadataSyncServiceException(format("Page %d synchronisation failed.", page));
+  /**
+   * @param page 1-based number of the page
+   * @param last position of the last value in the page
+   * @param upload the pending upload, true when successful
+   */
+  private record PageUpload(int page, DataExportParams.Cursor last, Future<Boolean> upload) {}
+
+  /**
+   * Waits for an upload to complete. When it was successful the checkpoint is moved to the end of
+   * its page.
+   *
+   * @return true, if the upload was successful
+   */
+  private boolean completeUpload(PageUpload next, Date lastUpdatedAfter, JobProgress progress) {
+    progress.startingWorkItem("Synchronizing page %d", next.page());
+    try {
+      if (Boolean.TRUE.equals(next.upload().get())) {
+        settingsService.put(
+            "keyDataSynchCheckpoint", encodeCheckpoint(lastUpdatedAfter, next.last()));
+        progress.completedWorkItem(null);
+        return true;
+      }
+      progress.failedWorkItem("Page %d synchronisation failed.", next.page());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      progress.failedWorkItem(ex);
+    } catch (ExecutionException ex) {
+      progress.failedWorkItem(ex.getCause() instanceof Exception cause ? cause : ex);
     }
+    return false;
   }
 
-  private boolean sendSyncRequest(int page, DataValueSynchronisationContext context) {
-    SystemInstance instance = context.getInstance();
-    Date lastUpdatedAfter = context.getLastUpdatedAfter();
-    int syncPageSize = context.getPageSize();
+  /**
+   * Exports the page of values following the given position as gzip compressed JSON.
+   *
+   * @return the position of the last value in the page, or null if there are no more values
+   */
+  @CheckForNull
+  private DataExportParams.Cursor exportPage(
+      DataValueSynchronisationContext context,
+      @CheckForNull DataExportParams.Cursor after,
+      OutputStream body) {
+    DataExportParams.Input params =
+        DataExportParams.Input.builder()
+            .lastUpdated(context.getLastUpdatedAfter())
+            .limit(context.getPageSize())
+            .compression(Compression.GZIP)
+            .build();
+    try {
+      return dataExportPipeline.exportAsJsonSync(params, after, body);
+    } catch (ConflictException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
 
+  private boolean sendSyncRequest(byte[] body, SystemInstance instance, SystemSettings settings) {
+    // the receiving end detects the compression from the content
     RequestCallback requestCallback =
         request -> {
           request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
@@ -177,25 +272,52 @@ public class DataValueSynchronization implements DataSynchronizationWithPaging {
               .add(
                   SyncUtils.HEADER_AUTHORIZATION,
                   CodecUtils.getBasicAuthString(instance.getUsername(), instance.getPassword()));
-
-          try {
-            DataExportParams.Input params =
-                DataExportParams.Input.builder()
-                    .lastUpdated(lastUpdatedAfter)
-                    .limit(syncPageSize)
-                    .offset((page - 1) * syncPageSize)
-                    .build();
-            dataExportPipeline.exportAsJsonSync(params, request.getBody());
-          } catch (ConflictException ex) {
-            throw new IllegalStateException(ex);
-          }
+          request.getBody().write(body);
         };
 
     return SyncUtils.sendSyncRequest(
-        settingsService.getCurrentSettings(),
-        restTemplate,
-        requestCallback,
-        instance,
-        SyncEndpoint.DATA_VALUE_SETS);
+        settings, restTemplate, requestCallback, instance, SyncEndpoint.DATA_VALUE_SETS);
+  }
+
+  /**
+   * @param lastUpdatedAfter the start of the synchronized time range the checkpoint belongs to
+   * @param last position of the last value synchronized
+   * @return the checkpoint as stored in the system setting
+   */
+  static String encodeCheckpoint(Date lastUpdatedAfter, DataExportParams.Cursor last) {
+    return String.join(
+        ",",
+        String.valueOf(lastUpdatedAfter.getTime()),
+        String.valueOf(last.lastUpdated().getTime()),
+        last.dataElement().getValue(),
+        last.period(),
+        last.orgUnit().getValue(),
+        last.categoryOptionCombo().getValue(),
+        last.attributeOptionCombo().getValue());
+  }
+
+  /**
+   * @param checkpoint as stored in the system setting
+   * @param lastUpdatedAfter the start of the time range about to be synchronized
+   * @return the position to resume after, or null if there is no valid checkpoint for the given
+   *     time range so that synchronization has to start from the beginning
+   */
+  @CheckForNull
+  static DataExportParams.Cursor decodeCheckpoint(String checkpoint, Date lastUpdatedAfter) {
+    if (checkpoint == null || checkpoint.isEmpty()) return null;
+    String[] parts = checkpoint.split(",");
+    if (parts.length != 7 || !parts[0].equals(String.valueOf(lastUpdatedAfter.getTime())))
+      return null;
+    try {
+      return new DataExportParams.Cursor(
+          new Date(Long.parseLong(parts[1])),
+          UID.of(parts[2]),
+          parts[3],
+          UID.of(parts[4]),
+          UID.of(parts[5]),
+          UID.of(parts[6]));
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
   }
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.dxf2.sync;
+
+import static org.hisp.dhis.dxf2.sync.DataValueSynchronization.decodeCheckpoint;
+import static org.hisp.dhis.dxf2.sync.DataValueSynchronization.encodeCheckpoint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.hisp.dhis.common.UID;
+import org.hisp.dhis.datavalue.DataExportParams;
+import org.hisp.dhis.datavalue.DataExportPipeline;
+import org.hisp.dhis.datavalue.DataValueService;
+import org.hisp.dhis.scheduling.JobProgress;
+import org.hisp.dhis.setting.SystemSettings;
+import org.hisp.dhis.setting.SystemSettingsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Tests the checkpoint handling of {@link DataValueSynchronization}, and the paging against a stub
+ * remote server.
+ */
+class DataValueSynchronizationTest {
+  private static final Date LAST_UPDATED_AFTER = new Date(1600000000000L);
+
+  /** All values to synchronize, sharing the same last updated timestamp. */
+  private static final List<DataExportParams.Cursor> VALUES =
+      IntStream.rangeClosed(1, 7)
+          .mapToObj(
+              i ->
+                  new DataExportParams.Cursor(
+                      new Date(1700000000123L),
+                      UID.of("de12345678" + i),
+                      "2024W3",
+                      UID.of("ou123456789"),
+                      UID.of("coc23456789"),
+                      UID.of("aoc23456789")))
+          .toList();
+
+  private static final Comparator<DataExportParams.Cursor> KEYSET_ORDER =
+      Comparator.comparing(DataExportParams.Cursor::lastUpdated)
+          .thenComparing(c -> c.dataElement().getValue())
+          .thenComparing(DataExportParams.Cursor::period)
+          .thenComparing(c -> c.orgUnit().getValue())
+          .thenComparing(c -> c.categoryOptionCombo().getValue())
+          .thenComparing(c -> c.attributeOptionCombo().getValue());
+
+  /** Bodies of the pages received by the stub server. */
+  private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+  /** Bodies of the pages the stub server imported successfully. */
+  private final List<String> imported = Collections.synchronizedList(new ArrayList<>());
+
+  /** Value of which the page is rejected by the stub server, if any. */
+  private volatile String rejected;
+
+  private final Map<String, String> settings = new ConcurrentHashMap<>();
+
+  private HttpServer server;
+
+  private DataValueSynchronization synchronization;
+
+  private static final DataExportParams.Cursor LAST =
+      new DataExportParams.Cursor(
+          new Date(1700000000123L),
+          UID.of("de123456789"),
+          "2024W3",
+          UID.of("ou123456789"),
+          UID.of("coc23456789"),
+          UID.of("aoc23456789"));
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/api/system/ping",
+        exchange -> {
+          exchange.sendResponseHeaders(200, -1);
+          exchange.close();
+        });
+    server.createContext(
+        "/api/dataValueSets",
+        exchange -> {
+          String body =
+              new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+          received.add(body);
+          boolean success = rejected == null || !body.contains(rejected);
+          if (success) imported.add(body);
+          byte[] response =
+              ("{\"status\":\"" + (success ? "SUCCESS" : "ERROR") + "\"}")
+                  .getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, response.length);
+          exchange.getResponseBody().write(response);
+          exchange.close();
+        });
+    server.start();
+
+    settings.put("keyRemoteInstanceUrl", "http://localhost:" + server.getAddress().getPort());
+    settings.put("keyRemoteInstanceUsername", "admin");
+    settings.put("keyRemoteInstancePassword", "district");
+    settings.put("keyLastSuccessfulDataSynch", String.valueOf(LAST_UPDATED_AFTER.getTime()));
+    settings.put("syncMaxRemoteServerAvailabilityCheckAttempts", "1");
+    settings.put("syncMaxAttempts", "0");
+
+    SystemSettingsService settingsService = mock(SystemSettingsService.class);
+    when(settingsService.getCurrentSettings()).thenAnswer(i -> SystemSettings.of(settings));
+    doAnswer(
+            i -> {
+              if (i.getArgument(1) instanceof String value) settings.put(i.getArgument(0), value);
+              return null;
+            })
+        .when(settingsService)
+        .put(anyString(), any());
+
+    DataValueService dataValueService = mock(DataValueService.class);
+    when(dataValueService.getDataValueCountLastUpdatedAfter(LAST_UPDATED_AFTER, true))
+        .thenReturn(VALUES.size());
+
+    DataExportPipeline pipeline = mock(DataExportPipeline.class);
+    when(pipeline.exportAsJsonSync(any(), any(), any())).thenAnswer(this::exportPage);
+
+    synchronization =
+        new DataValueSynchronization(
+            dataValueService, pipeline, settingsService, new RestTemplate());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  /** Pages the values by keyset, like the export store, writing one value per line. */
+  private DataExportParams.Cursor exportPage(InvocationOnMock invocation) throws IOException {
+    DataExportParams.Input params = invocation.getArgument(0);
+    DataExportParams.Cursor after = invocation.getArgument(1);
+    OutputStream out = invocation.getArgument(2);
+    List<DataExportParams.Cursor> page =
+        VALUES.stream()
+            .filter(value -> after == null || KEYSET_ORDER.compare(value, after) > 0)
+            .sorted(KEYSET_ORDER)
+            .limit(params.getLimit())
+            .toList();
+    for (DataExportParams.Cursor value : page)
+      out.write((value.dataElement().getValue() + "\n").getBytes(StandardCharsets.UTF_8));
+    return page.isEmpty() ? null : page.get(page.size() - 1);
+  }
+
+  @Test
+  void testSynchronizeData_PagesWithoutGapsOrDuplicates() {
+    SynchronizationResult result = synchronization.synchronizeData(2, JobProgress.noop());
+
+    assertEquals(SynchronizationStatus.SUCCESS, result.status);
+    assertEquals(4, received.size());
+    assertEquals(allValues(), importedValues());
+    assertEquals("", settings.get("keyDataSynchCheckpoint"));
+  }
+
+  @Test
+  void testSynchronizeData_FailedPageKeepsCheckpointAndResumes() {
+    settings.put("syncMaxPagesInFlight", "1");
+    rejected = VALUES.get(3).dataElement().getValue();
+
+    SynchronizationResult failed = synchronization.synchronizeData(2, JobProgress.noop());
+
+    // the second page failed, so the checkpoint stays at the end of the first page
+    assertEquals(SynchronizationStatus.FAILURE, failed.status);
+    assertEquals(2, received.size());
+    assertEquals(
+        encodeCheckpoint(LAST_UPDATED_AFTER, VALUES.get(1)),
+        settings.get("keyDataSynchCheckpoint"));
+
+    rejected = null;
+    received.clear();
+    SynchronizationResult resumed = synchronization.synchronizeData(2, JobProgress.noop());
+
+    assertEquals(SynchronizationStatus.SUCCESS, resumed.status);
+    assertEquals(3, received.size());
+    assertTrue(received.get(0).startsWith(VALUES.get(2).dataElement().getValue()));
+    assertEquals(allValues(), importedValues());
+    assertEquals("", settings.get("keyDataSynchCheckpoint"));
+  }
+
+  private static List<String> allValues() {
+    return VALUES.stream().map(value -> value.dataElement().getValue()).toList();
+  }
+
+  private List<String> importedValues() {
+    return imported.stream().flatMap(String::lines).toList();
+  }
+
+  @Test
+  void testCheckpoint_RoundTrip() {
+    Date lastUpdatedAfter = new Date(1600000000000L);
+    String checkpoint = encodeCheckpoint(lastUpdatedAfter, LAST);
+    assertEquals(
+        "1600000000000,1700000000123,de123456789,2024W3,ou123456789,coc23456789,aoc23456789",
+        checkpoint);
+    assertEquals(LAST, decodeCheckpoint(checkpoint, lastUpdatedAfter));
+  }
+
+  @Test
+  void testCheckpoint_DifferentTimeRange() {
+    String checkpoint = encodeCheckpoint(new Date(1600000000000L), LAST);
+    assertNull(decodeCheckpoint(checkpoint, new Date(1600000000001L)));
+  }
+
+  @Test
+  void testCheckpoint_NoneOrInvalid() {
+    Date lastUpdatedAfter = new Date(1600000000000L);
+    assertNull(decodeCheckpoint("", lastUpdatedAfter));
+    assertNull(decodeCheckpoint(null, lastUpdatedAfter));
+    assertNull(decodeCheckpoint("1600000000000,1700000000123,de", lastUpdatedAfter));
+    assertNull(
+        decodeCheckpoint(
+            "1600000000000,x,de123456789,2024W3,ou123456789,coc23456789,aoc23456789",
+            lastUpdatedAfter));
+  }
+}
@@ -53,4 +53,21 @@ public class EventHookConfig {
 
     return executor;
   }
+
+  /**
+   * Executor for the {@link EventHookOutboxSender}, separate from the event hook executor so that
+   * the sender waiting on a batch never competes with the targets run by the listener. The pool
+   * matches the batch size so that a batch is posted concurrently.
+   */
+  @Bean(name = "eventHookOutboxExecutor")
+  public Executor eventHookOutboxExecutor() {
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(EventHookOutboxSender.BATCH_SIZE);
+    executor.setMaxPoolSize(EventHookOutboxSender.BATCH_SIZE);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setThreadNamePrefix("EventHookOutbox-");
+    executor.initialize();
+
+    return executor;
+  }
 }
@@ -33,21 +33,37 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Setter;
 
 /**
  * @author Morten Olav Hansen
  */
 @Data
-@Builder
 public class EventHookContext {
-  @Builder.Default Map<String, List<Handler>> targets = new HashMap<>();
+  private Map<String, List<Handler>> targets;
 
-  @Builder.Default List<EventHook> eventHooks = new ArrayList<>();
+  private List<EventHook> eventHooks;
+
+  /** Index of the event hooks by source path, updated when the event hooks are set. */
+  @Setter(AccessLevel.NONE)
+  private EventHookIndex index;
+
+  @Builder
+  public EventHookContext(Map<String, List<Handler>> targets, List<EventHook> eventHooks) {
+    this.targets = targets != null ? targets : new HashMap<>();
+    setEventHooks(eventHooks != null ? eventHooks : new ArrayList<>());
+  }
+
+  public void setEventHooks(List<EventHook> eventHooks) {
+    this.eventHooks = eventHooks;
+    this.index = new EventHookIndex(eventHooks);
+  }
 
   public boolean hasTarget(String uid) {
-    return targets.containsKey(uid) || targets.get(uid).isEmpty();
+    return targets.containsKey(uid) && !targets.get(uid).isEmpty();
   }
 
   public List<Handler> getTarget(String uid) {
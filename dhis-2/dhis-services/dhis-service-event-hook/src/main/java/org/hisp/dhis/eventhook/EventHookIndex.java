@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.eventhook;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hisp.dhis.fieldfiltering.FieldFilterParser;
+import org.hisp.dhis.fieldfiltering.FieldPath;
+
+/**
+ * Index of event hooks by source path. An event matches an event hook when the event path starts
+ * with the source path of the event hook. The source paths are kept in a character trie, so that
+ * finding the event hooks for an event takes time proportional to the length of the event path
+ * rather than to the number of event hooks.
+ *
+ * <p>The source fields of each event hook are parsed once when the index is created.
+ */
+public class EventHookIndex {
+  private final Node root = new Node();
+
+  public EventHookIndex(List<EventHook> eventHooks) {
+    for (int i = 0; i < eventHooks.size(); i++) {
+      EventHook eventHook = eventHooks.get(i);
+      Node node = root;
+
+      for (char c : eventHook.getSource().getPath().toCharArray()) {
+        node = node.children.computeIfAbsent(c, k -> new Node());
+      }
+
+      node.entries.add(
+          new Entry(i, eventHook, FieldFilterParser.parse(eventHook.getSource().getFields())));
+    }
+  }
+
+  /**
+   * Gets the event hooks with a source path which is a prefix of the given event path.
+   *
+   * @param path the event path.
+   * @return the matching event hooks, in the order the event hooks were given.
+   */
+  public List<Entry> getEventHooks(String path) {
+    List<Entry> entries = new ArrayList<>(root.entries);
+    Node node = root;
+
+    for (int i = 0; i < path.length() && node != null; i++) {
+      node = node.children.get(path.charAt(i));
+
+      if (node != null) {
+        entries.addAll(node.entries);
+      }
+    }
+
+    entries.sort(Comparator.comparingInt(Entry::order));
+
+    return entries;
+  }
+
+  private static class Node {
+    private final Map<Character, Node> children = new HashMap<>();
+
+    private final List<Entry> entries = new ArrayList<>();
+  }
+
+  /**
+   * An indexed event hook with its parsed source fields.
+   *
+   * @param order the position of the event hook in the list it was indexed from.
+   * @param eventHook the event hook.
+   * @param parsedFields the parsed source fields.
+   */
+  public record Entry(int order, EventHook eventHook, List<FieldPath> parsedFields) {
+    /**
+     * Gets a copy of the parsed source fields. Field filtering sets schema properties on the field
+     * paths, so each event gets its own copy.
+     *
+     * @return the field paths.
+     */
+    public List<FieldPath> getFieldPaths() {
+      return parsedFields.stream()
+          .map(
+              fp ->
+                  new FieldPath(
+                      fp.getName(),
+                      fp.getPath(),
+                      fp.isExclude(),
+                      fp.isPreset(),
+                      fp.getTransformers()))
+          .toList();
+    }
+  }
+}
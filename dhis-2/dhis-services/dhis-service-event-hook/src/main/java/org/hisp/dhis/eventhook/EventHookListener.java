@@ -77,48 +77,77 @@ public class EventHookListener {
 
   private final AuthenticationService authenticationService;
 
+  private final EventHookOutbox eventHookOutbox;
+
+  /**
+   * Filters the event for each event hook with a matching source path and emits it to the targets
+   * of the event hook. Matching event hooks are looked up in the {@link EventHookIndex}, and the
+   * event hook user is only authenticated when it differs from the previous matching event hook.
+   */
   @Async("eventHookTaskExecutor")
   @TransactionalEventListener(
       classes = Event.class,
       phase = TransactionPhase.AFTER_COMMIT,
       fallbackExecution = true)
   public void onEvent(final Event event) throws JsonProcessingException, NotFoundException {
+    EventHookContext context = eventHookContext;
+    String authenticatedUserUid = null;
+
+    for (EventHookIndex.Entry entry : context.getIndex().getEventHooks(event.getPath())) {
+      EventHook eventHook = entry.eventHook();
+
+      if (!context.hasTarget(eventHook.getUid())) {
+        continue;
+      }
 
-    for (EventHook eventHook : eventHookContext.getEventHooks()) {
-      final Event filteredEvent;
       User eventHookUser = eventHook.getUser();
-      authenticationService.obtainAuthentication(eventHookUser.getUid());
 
-      if (event.getPath().startsWith(eventHook.getSource().getPath())) {
-        if (!eventHookContext.hasTarget(eventHook.getUid())) {
-          continue;
-        }
-        if (event.getObject() instanceof Collection) {
-          List<ObjectNode> objects = new ArrayList<>();
+      if (!eventHookUser.getUid().equals(authenticatedUserUid)) {
+        authenticationService.obtainAuthentication(eventHookUser.getUid());
+        authenticatedUserUid = eventHookUser.getUid();
+      }
+
+      final Event filteredEvent;
 
-          for (Object object : ((Collection<?>) event.getObject())) {
-            objects.add(fieldFilterService.toObjectNode(object, eventHook.getSource().getFields()));
-          }
+      if (event.getObject() instanceof Collection) {
+        List<ObjectNode> objects = new ArrayList<>();
 
-          filteredEvent = event.withObject(objects);
-        } else {
-          ObjectNode objectNode =
-              fieldFilterService.toObjectNode(event.getObject(), eventHook.getSource().getFields());
-          filteredEvent = event.withObject(objectNode);
+        for (Object object : ((Collection<?>) event.getObject())) {
+          objects.add(fieldFilterService.toObjectNode(object, entry.getFieldPaths()));
         }
 
-        emit(filteredEvent, eventHook);
+        filteredEvent = event.withObject(objects);
+      } else {
+        ObjectNode objectNode =
+            fieldFilterService.toObjectNode(event.getObject(), entry.getFieldPaths());
+        filteredEvent = event.withObject(objectNode);
       }
+
+      emit(context, filteredEvent, eventHook);
     }
   }
 
-  protected void emit(Event event, EventHook eventHook) throws JsonProcessingException {
+  /**
+   * Emits the event to the targets of the event hook. Webhook payloads are written to the {@link
+   * EventHookOutbox} and delivered by the {@link EventHookOutboxSender}, other targets are run
+   * directly.
+   */
+  protected void emit(EventHookContext context, Event event, EventHook eventHook)
+      throws JsonProcessingException {
     if (event != null) {
       String payload = objectMapper.writeValueAsString(event);
-      List<Handler> handlers = eventHookContext.getTarget(eventHook.getUid());
+      List<Handler> handlers = context.getTarget(eventHook.getUid());
 
       for (Handler handler : handlers) {
-        handler.run(eventHook, event, payload);
+        if (handler instanceof WebhookHandler webhookHandler) {
+          eventHookOutbox.add(
+              eventHook.getUid(),
+              webhookHandler.getClientId(),
+              eventHook.getLastUpdated(),
+              payload);
+        } else {
+          handler.run(eventHook, event, payload);
+        }
       }
     }
   }
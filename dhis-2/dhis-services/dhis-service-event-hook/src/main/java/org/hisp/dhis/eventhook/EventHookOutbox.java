@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.eventhook;
+
+import java.util.Date;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Durable queue of webhook deliveries. Each row holds the payload for one target of one event hook
+ * and is deleted once the payload has been delivered. Rows are claimed with {@code FOR UPDATE SKIP
+ * LOCKED} and a lease, so that several instances can drain the outbox concurrently without sending
+ * a payload twice while its lease is valid.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventHookOutbox {
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * A claimed outbox row.
+   *
+   * @param id the row identifier.
+   * @param eventHookUid the UID of the event hook.
+   * @param targetId the client ID of the webhook target.
+   * @param eventHookLastUpdated the last updated time of the event hook when the row was added.
+   * @param payload the serialized event.
+   * @param attempts the number of failed delivery attempts so far.
+   */
+  public record Message(
+      long id,
+      String eventHookUid,
+      String targetId,
+      Date eventHookLastUpdated,
+      String payload,
+      int attempts) {}
+
+  /**
+   * Adds a payload to be delivered to a target of an event hook.
+   *
+   * @param eventHookUid the UID of the event hook.
+   * @param targetId the client ID of the webhook target, which identifies the target across
+   *     changes of the event hook.
+   * @param eventHookLastUpdated the last updated time of the event hook.
+   * @param payload the serialized event.
+   */
+  public void add(
+      String eventHookUid, String targetId, Date eventHookLastUpdated, String payload) {
+    jdbcTemplate.update(
+        "insert into eventhookoutbox (eventhookuid, targetid, eventhooklastupdated, payload)"
+            + " values (?, ?, ?, ?)",
+        eventHookUid,
+        targetId,
+        eventHookLastUpdated,
+        payload);
+  }
+
+  /**
+   * Claims up to the given number of rows which are due for delivery, oldest first. Claimed rows
+   * are not due again until the lease has expired, so rows which are neither deleted nor
+   * rescheduled are retried after the lease.
+   *
+   * @param limit the maximum number of rows to claim.
+   * @param leaseSeconds the number of seconds the rows are claimed for.
+   * @return the claimed rows.
+   */
+  public List<Message> claim(int limit, int leaseSeconds) {
+    String sql =
+        """
+        update eventhookoutbox set nextattempt = now() + make_interval(secs => ?)
+        where eventhookoutboxid in (
+          select eventhookoutboxid from eventhookoutbox
+          where nextattempt <= now()
+          order by eventhookoutboxid
+          limit ?
+          for update skip locked)
+        returning eventhookoutboxid, eventhookuid, targetid, eventhooklastupdated, payload,
+          attempts""";
+
+    return jdbcTemplate.query(
+        sql,
+        (rs, rowNum) ->
+            new Message(
+                rs.getLong("eventhookoutboxid"),
+                rs.getString("eventhookuid"),
+                rs.getString("targetid"),
+                rs.getTimestamp("eventhooklastupdated"),
+                rs.getString("payload"),
+                rs.getInt("attempts")),
+        leaseSeconds,
+        limit);
+  }
+
+  /**
+   * Deletes the given rows.
+   *
+   * @param ids the row identifiers.
+   */
+  public void delete(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+        "delete from eventhookoutbox where eventhookoutboxid = ?",
+        ids,
+        ids.size(),
+        (ps, id) -> ps.setLong(1, id));
+  }
+
+  /**
+   * Records a failed delivery attempt and schedules the next attempt.
+   *
+   * @param id the row identifier.
+   * @param delaySeconds the number of seconds until the next attempt.
+   */
+  public void reschedule(long id, long delaySeconds) {
+    jdbcTemplate.update(
+        "update eventhookoutbox set attempts = attempts + 1,"
+            + " nextattempt = now() + make_interval(secs => ?) where eventhookoutboxid = ?",
+        delaySeconds,
+        id);
+  }
+}
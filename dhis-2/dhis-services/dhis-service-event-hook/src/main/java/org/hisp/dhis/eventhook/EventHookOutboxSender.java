@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.eventhook;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.eventhook.EventHookOutbox.Message;
+import org.hisp.dhis.eventhook.handlers.WebhookHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers webhook payloads from the {@link EventHookOutbox}. Every second a batch of due rows is
+ * claimed and the payloads are posted concurrently on a dedicated executor. Delivered rows are
+ * deleted, failed rows are retried with exponential backoff, and rows which failed {@value
+ * #MAX_ATTEMPTS} times or whose webhook target is gone are dropped. Targets are identified by their
+ * client ID, so changes to an event hook, such as new credentials, apply to the pending rows.
+ */
+@Slf4j
+@Component
+public class EventHookOutboxSender {
+  private static final long DELAY = 1_000; // 1 second
+
+  static final int BATCH_SIZE = 100;
+
+  private static final int LEASE_SECONDS = 60;
+
+  static final int MAX_ATTEMPTS = 10;
+
+  private static final long MAX_BACKOFF_SECONDS = 3_600;
+
+  /** Outcome of a delivery attempt. */
+  enum Outcome {
+    /** The payload was delivered. */
+    DELIVERED,
+    /** The payload could not be delivered and should be retried. */
+    FAILED,
+    /** The event hook or its target is gone, the payload cannot be delivered. */
+    DROPPED,
+    /** The event hook on this instance is older than the row, retry once it has been reloaded. */
+    DEFERRED
+  }
+
+  private final EventHookOutbox outbox;
+
+  private final EventHookListener eventHookListener;
+
+  private final Executor executor;
+
+  public EventHookOutboxSender(
+      EventHookOutbox outbox,
+      EventHookListener eventHookListener,
+      @Qualifier("eventHookOutboxExecutor") Executor executor) {
+    this.outbox = outbox;
+    this.eventHookListener = eventHookListener;
+    this.executor = executor;
+  }
+
+  @Scheduled(fixedDelay = DELAY)
+  public void process() {
+    List<Message> messages;
+
+    do {
+      messages = outbox.claim(BATCH_SIZE, LEASE_SECONDS);
+
+      if (!messages.isEmpty()) {
+        send(messages);
+      }
+    } while (messages.size() == BATCH_SIZE);
+  }
+
+  private void send(List<Message> messages) {
+    EventHookContext context = eventHookListener.getEventHookContext();
+    List<CompletableFuture<Outcome>> results = new ArrayList<>(messages.size());
+
+    for (Message message : messages) {
+      results.add(CompletableFuture.supplyAsync(() -> send(context, message), executor));
+    }
+
+    List<Long> done = new ArrayList<>();
+
+    for (int i = 0; i < messages.size(); i++) {
+      Message message = messages.get(i);
+      int attempts = message.attempts() + 1;
+
+      switch (results.get(i).join()) {
+        case DELIVERED, DROPPED -> done.add(message.id());
+        case FAILED -> {
+          if (attempts >= MAX_ATTEMPTS) {
+            log.error(
+                "EventHook '{}' payload dropped after {} failed attempts",
+                message.eventHookUid(),
+                attempts);
+            done.add(message.id());
+          } else {
+            outbox.reschedule(message.id(), getBackoffSeconds(attempts));
+          }
+        }
+        case DEFERRED -> {
+          // left claimed, the row is due again when the lease expires
+        }
+      }
+    }
+
+    outbox.delete(done);
+  }
+
+  /**
+   * Sends a message to its webhook target, using the current configuration of the target.
+   *
+   * @return the outcome of the delivery attempt.
+   */
+  private Outcome send(EventHookContext context, Message message) {
+    EventHook eventHook = getEventHook(context, message.eventHookUid());
+
+    if (eventHook != null && isOlderThan(eventHook, message)) {
+      log.debug(
+          "EventHook '{}' payload deferred until the event hook has been reloaded",
+          message.eventHookUid());
+      return Outcome.DEFERRED;
+    }
+
+    WebhookHandler handler = getWebhookHandler(context, message);
+
+    if (eventHook == null || handler == null) {
+      log.error(
+          "EventHook '{}' payload dropped as the webhook target no longer exists",
+          message.eventHookUid());
+      return Outcome.DROPPED;
+    }
+
+    try {
+      handler.send(eventHook, message.payload());
+      return Outcome.DELIVERED;
+    } catch (RuntimeException ex) {
+      log.warn(
+          "EventHook '{}' delivery attempt {} failed: {}",
+          eventHook.getUid(),
+          message.attempts() + 1,
+          ex.getMessage());
+      return Outcome.FAILED;
+    }
+  }
+
+  /**
+   * Indicates whether the loaded event hook is older than the version the message was added for,
+   * which means that this instance has not yet reloaded the event hook.
+   */
+  private static boolean isOlderThan(EventHook eventHook, Message message) {
+    Date lastUpdated = eventHook.getLastUpdated();
+
+    return lastUpdated != null && lastUpdated.before(message.eventHookLastUpdated());
+  }
+
+  private static WebhookHandler getWebhookHandler(EventHookContext context, Message message) {
+    List<Handler> handlers = context.getTarget(message.eventHookUid());
+
+    if (handlers == null) {
+      return null;
+    }
+
+    return handlers.stream()
+        .filter(WebhookHandler.class::isInstance)
+        .map(WebhookHandler.class::cast)
+        .filter(handler -> message.targetId().equals(handler.getClientId()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static EventHook getEventHook(EventHookContext context, String uid) {
+    return context.getEventHooks().stream()
+        .filter(eh -> eh.getUid().equals(uid))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Gets the delay before the next attempt, doubling from 2 seconds up to an hour.
+   *
+   * @param attempts the number of failed attempts.
+   * @return the delay in seconds.
+   */
+  static long getBackoffSeconds(int attempts) {
+    return Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 31));
+  }
+}
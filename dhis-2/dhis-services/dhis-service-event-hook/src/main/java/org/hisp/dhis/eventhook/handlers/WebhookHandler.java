@@ -72,10 +72,33 @@ public class WebhookHandler implements Handler {
     configure(this.restTemplate);
   }
 
-  // Exceptions thrown in this method cannot be handled in a meaningful way other than logging
-  @SuppressWarnings("java:S112")
+  /**
+   * @return the client ID of the target, which identifies the target within its event hook.
+   */
+  public String getClientId() {
+    return webhookTarget.getClientId();
+  }
+
   @Override
   public void run(EventHook eventHook, Event event, String payload) {
+    try {
+      send(eventHook, payload);
+    } catch (RestClientException ex) {
+      log.error(ex.getMessage());
+    }
+  }
+
+  /**
+   * Posts the payload to the webhook target.
+   *
+   * @param eventHook the event hook the payload was created for.
+   * @param payload the serialized event.
+   * @throws RestClientException if the payload could not be posted or the target did not respond
+   *     with a 2xx status.
+   */
+  // Exceptions thrown in this method cannot be handled in a meaningful way other than logging
+  @SuppressWarnings("java:S112")
+  public void send(EventHook eventHook, String payload) {
     HttpHeaders httpHeaders = new HttpHeaders();
     httpHeaders.setContentType(MediaType.parseMediaType(webhookTarget.getContentType()));
     httpHeaders.setAll(webhookTarget.getHeaders());
@@ -96,16 +119,17 @@ public class WebhookHandler implements Handler {
             .queryParams(queryParams)
             .toUriString();
 
-    try {
-      ResponseEntity<String> response =
-          restTemplate.postForEntity(webhookUri, httpEntity, String.class);
+    ResponseEntity<String> response =
+        restTemplate.postForEntity(webhookUri, httpEntity, String.class);
 
-      log.info(
-          "EventHook '{}' response status '{}'",
-          eventHook.getUid(),
-          HttpUtils.resolve(response.getStatusCode()).name());
-    } catch (RestClientException ex) {
-      log.error(ex.getMessage());
+    log.info(
+        "EventHook '{}' response status '{}'",
+        eventHook.getUid(),
+        HttpUtils.resolve(response.getStatusCode()).name());
+
+    if (!response.getStatusCode().is2xxSuccessful()) {
+      throw new RestClientException(
+          "EventHook '" + eventHook.getUid() + "' response status " + response.getStatusCode());
     }
   }
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.eventhook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.hisp.dhis.fieldfiltering.FieldPath;
+import org.junit.jupiter.api.Test;
+
+class EventHookIndexTest {
+
+  @Test
+  void testGetEventHooksMatchesSourcePathPrefixes() {
+    EventHook all = createEventHook("a", "");
+    EventHook metadata = createEventHook("b", "metadata.");
+    EventHook dataElements = createEventHook("c", "metadata.dataElement");
+    EventHook tracker = createEventHook("d", "tracker.");
+    EventHook metadataAgain = createEventHook("e", "metadata.");
+
+    EventHookIndex index =
+        new EventHookIndex(List.of(metadataAgain, tracker, dataElements, metadata, all));
+
+    assertEquals(
+        List.of("e", "c", "b", "a"), getUids(index, "metadata.dataElement.create.abcdefghijk"));
+    assertEquals(List.of("e", "b", "a"), getUids(index, "metadata.indicator.create"));
+    assertEquals(List.of("d", "a"), getUids(index, "tracker.event"));
+    assertEquals(List.of("a"), getUids(index, "scheduler"));
+  }
+
+  @Test
+  void testGetEventHooksWithoutMatches() {
+    EventHookIndex index = new EventHookIndex(List.of(createEventHook("a", "metadata.")));
+
+    assertTrue(index.getEventHooks("meta").isEmpty());
+    assertTrue(index.getEventHooks("tracker").isEmpty());
+  }
+
+  @Test
+  void testGetFieldPathsReturnsCopies() {
+    EventHook eventHook = createEventHook("a", "metadata.");
+    eventHook.getSource().setFields("id,name");
+
+    EventHookIndex.Entry entry =
+        new EventHookIndex(List.of(eventHook)).getEventHooks("metadata.").get(0);
+    List<FieldPath> first = entry.getFieldPaths();
+    List<FieldPath> second = entry.getFieldPaths();
+
+    assertEquals(List.of("id", "name"), first.stream().map(FieldPath::getName).toList());
+    assertEquals(2, second.size());
+    assertNotSame(first.get(0), second.get(0));
+  }
+
+  private List<String> getUids(EventHookIndex index, String path) {
+    return index.getEventHooks(path).stream().map(e -> e.eventHook().getUid()).toList();
+  }
+
+  private EventHook createEventHook(String uid, String path) {
+    Source source = new Source();
+    source.setPath(path);
+
+    EventHook eventHook = new EventHook();
+    eventHook.setUid(uid);
+    eventHook.setSource(source);
+
+    return eventHook;
+  }
+}
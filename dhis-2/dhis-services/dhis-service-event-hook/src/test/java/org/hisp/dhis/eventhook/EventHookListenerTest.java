@@ -219,7 +219,7 @@ class EventHookListenerTest {
     user.setUid(CodeGenerator.generateUid());
     EventHookListener eventHookListener =
         new EventHookListener(
-            null, objectMapper, fieldFilterService, null, mockAuthenticationService);
+            null, objectMapper, fieldFilterService, null, mockAuthenticationService, null);
 
     EventHook eventHook = createMockEventHook(user);
     eventHookListener.getEventHookContext().setEventHooks(List.of(eventHook));
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.eventhook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.hisp.dhis.eventhook.EventHookOutbox.Message;
+import org.hisp.dhis.eventhook.handlers.WebhookHandler;
+import org.hisp.dhis.eventhook.targets.WebhookTarget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EventHookOutboxSenderTest {
+  private static final String UID = "eventHook01";
+
+  private static final String TARGET_ID = "dhis2-webhook-target01";
+
+  private static final Date LAST_UPDATED = new Date(1_000_000);
+
+  private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+  private volatile int status = 200;
+
+  private HttpServer server;
+
+  private EventHookOutbox outbox;
+
+  private EventHookOutboxSender sender;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/webhook",
+        exchange -> {
+          byte[] body = exchange.getRequestBody().readAllBytes();
+          received.add(new String(body, StandardCharsets.UTF_8));
+          exchange.sendResponseHeaders(status, -1);
+          exchange.close();
+        });
+    server.start();
+
+    WebhookTarget target = new WebhookTarget();
+    target.setClientId(TARGET_ID);
+    target.setUrl("http://localhost:" + server.getAddress().getPort() + "/webhook");
+
+    Source source = new Source();
+    source.setPath("metadata.");
+
+    EventHook eventHook = new EventHook();
+    eventHook.setUid(UID);
+    eventHook.setLastUpdated(LAST_UPDATED);
+    eventHook.setSource(source);
+
+    EventHookContext context =
+        EventHookContext.builder()
+            .eventHooks(List.of(eventHook))
+            .targets(Map.of(UID, List.of(new WebhookHandler(null, target))))
+            .build();
+
+    EventHookListener listener = mock(EventHookListener.class);
+    when(listener.getEventHookContext()).thenReturn(context);
+
+    outbox = mock(EventHookOutbox.class);
+    sender = new EventHookOutboxSender(outbox, listener, Runnable::run);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void testDeliveredMessageIsDeleted() {
+    claim(new Message(1, UID, TARGET_ID, LAST_UPDATED, "{\"a\":1}", 0));
+
+    sender.process();
+
+    assertEquals(List.of("{\"a\":1}"), received);
+    verify(outbox).delete(List.of(1L));
+    verify(outbox, never()).reschedule(anyLong(), anyLong());
+  }
+
+  @Test
+  void testFailedMessageIsRescheduledWithBackoff() {
+    status = 500;
+    claim(new Message(1, UID, TARGET_ID, LAST_UPDATED, "{}", 2));
+
+    sender.process();
+
+    assertEquals(1, received.size());
+    verify(outbox).reschedule(1L, EventHookOutboxSender.getBackoffSeconds(3));
+    verify(outbox).delete(List.of());
+  }
+
+  @Test
+  void testMessageIsDroppedAfterMaxAttempts() {
+    status = 500;
+    claim(
+        new Message(
+            1, UID, TARGET_ID, LAST_UPDATED, "{}", EventHookOutboxSender.MAX_ATTEMPTS - 1));
+
+    sender.process();
+
+    assertEquals(1, received.size());
+    verify(outbox).delete(List.of(1L));
+    verify(outbox, never()).reschedule(anyLong(), anyLong());
+  }
+
+  @Test
+  void testMessageForRemovedTargetIsDropped() {
+    claim(
+        new Message(1, UID, "dhis2-webhook-target02", LAST_UPDATED, "{}", 0),
+        new Message(2, "eventHook02", TARGET_ID, LAST_UPDATED, "{}", 0));
+
+    sender.process();
+
+    assertEquals(List.of(), received);
+    verify(outbox).delete(List.of(1L, 2L));
+  }
+
+  @Test
+  void testMessageForChangedEventHookIsDelivered() {
+    claim(new Message(1, UID, TARGET_ID, new Date(LAST_UPDATED.getTime() - 1), "{}", 0));
+
+    sender.process();
+
+    assertEquals(1, received.size());
+    verify(outbox).delete(List.of(1L));
+  }
+
+  @Test
+  void testMessageForNewerEventHookIsDeferred() {
+    claim(
+        new Message(
+            1, UID, "dhis2-webhook-target02", new Date(LAST_UPDATED.getTime() + 1), "{}", 0));
+
+    sender.process();
+
+    assertEquals(List.of(), received);
+    verify(outbox).delete(List.of());
+    verify(outbox, never()).reschedule(anyLong(), anyLong());
+  }
+
+  @Test
+  void testGetBackoffSeconds() {
+    assertEquals(2, EventHookOutboxSender.getBackoffSeconds(1));
+    assertEquals(4, EventHookOutboxSender.getBackoffSeconds(2));
+    assertEquals(512, EventHookOutboxSender.getBackoffSeconds(9));
+    assertEquals(3_600, EventHookOutboxSender.getBackoffSeconds(12));
+    assertEquals(3_600, EventHookOutboxSender.getBackoffSeconds(100));
+  }
+
+  private void claim(Message... messages) {
+    when(outbox.claim(EventHookOutboxSender.BATCH_SIZE, 60)).thenReturn(List.of(messages));
+  }
+}
@@ -267,13 +267,13 @@ public class FieldPathHelper {
     }
 
     if (property.isCollection()) {
-      Collection<?> currentObjects = safeInvoke(object, property.getGetterMethod());
+      Collection<?> currentObjects = safeInvoke(object, property);
 
       for (Object o : currentObjects) {
         visitFieldPath(o, new ArrayList<>(paths), objectConsumer);
       }
     } else {
-      Object currentObject = safeInvoke(object, property.getGetterMethod());
+      Object currentObject = safeInvoke(object, property);
       visitFieldPath(currentObject, new ArrayList<>(paths), objectConsumer);
     }
   }
@@ -380,7 +380,7 @@ public class DefaultFieldFilterService implements FieldFilterService {
         continue;
       }
 
-      Object returnValue = safeInvoke(object, property.getGetterMethod());
+      Object returnValue = safeInvoke(object, property);
 
       Class<?> propertyClass = property.getKlass();
       Schema propertySchema = schemaService.getDynamicSchema(propertyClass);
@@ -692,7 +692,7 @@ public class DefaultFieldFilterService implements FieldFilterService {
         continue;
       }
 
-      Object returnValue = safeInvoke(object, property.getGetterMethod());
+      Object returnValue = safeInvoke(object, property);
 
       SimpleNode simpleNode = new SimpleNode(field, returnValue);
       simpleNode.setAttribute(property.isAttribute());
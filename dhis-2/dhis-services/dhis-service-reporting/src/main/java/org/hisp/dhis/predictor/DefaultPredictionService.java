@@ -30,8 +30,10 @@
 package org.hisp.dhis.predictor;
 
 import static com.google.common.base.MoreObjects.firstNonNull;
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.hisp.dhis.common.OrganisationUnitDescendants.DESCENDANTS;
 import static org.hisp.dhis.expression.MissingValueStrategy.NEVER_SKIP;
@@ -66,11 +68,13 @@ import org.hisp.dhis.common.IdentifiableObjectManager;
 import org.hisp.dhis.common.ListMap;
 import org.hisp.dhis.common.MapMap;
 import org.hisp.dhis.commons.util.DebugUtils;
+import org.hisp.dhis.commons.util.SystemUtils;
 import org.hisp.dhis.dataelement.DataElement;
 import org.hisp.dhis.dataelement.DataElementOperand;
 import org.hisp.dhis.datavalue.DataDumpService;
 import org.hisp.dhis.datavalue.DataValue;
 import org.hisp.dhis.datavalue.DataValueService;
+import org.hisp.dhis.expression.CompiledExpression;
 import org.hisp.dhis.expression.Expression;
 import org.hisp.dhis.expression.ExpressionInfo;
 import org.hisp.dhis.expression.ExpressionParams;
@@ -84,10 +88,13 @@ import org.hisp.dhis.period.PeriodService;
 import org.hisp.dhis.period.PeriodType;
 import org.hisp.dhis.scheduling.JobProgress;
 import org.hisp.dhis.scheduling.parameters.PredictorJobParameters;
+import org.hisp.dhis.setting.SystemSettingsProvider;
 import org.hisp.dhis.user.CurrentUserUtil;
 import org.hisp.dhis.user.User;
 import org.hisp.dhis.user.UserService;
 import org.springframework.context.ApplicationContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -122,6 +129,8 @@ public class DefaultPredictionService implements PredictionService {
 
   private final UserService userService;
 
+  private final SystemSettingsProvider settingsProvider;
+
   // -------------------------------------------------------------------------
   // Prediction business logic
   // -------------------------------------------------------------------------
@@ -168,22 +177,116 @@ public class DefaultPredictionService implements PredictionService {
     List<Predictor> predictorList =
         progress.runStage(List.of(), () -> fetchPredictors(predictors, predictorGroups));
 
+    progress.startingStage("Grouping predictors by dependencies");
+    List<List<PredictionTask>> taskGroups =
+        progress.runStage(
+            List.of(), () -> PredictionScheduler.getTaskGroups(getTasks(predictorList)));
+
     PredictionSummary summary = new PredictionSummary();
-    progress.startingStage(
-        format("Running predictors from %s to %s", startDate, endDate),
-        predictorList.size(),
-        SKIP_ITEM_OUTLIER);
-    progress.runStage(
-        predictorList.stream(),
-        predictor ->
-            format("Running predictor %s from %s to %s", predictor.getName(), startDate, endDate),
-        predictor -> predict(predictor, startDate, endDate, summary),
-        (success, failed) ->
-            format("Finished predictors from %s to %s: %s", startDate, endDate, summary));
+    int parallelJobs = getParallelJobs();
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+
+    for (List<PredictionTask> taskGroup : taskGroups) {
+      List<PredictionTask> tasks =
+          taskGroup.stream().flatMap(task -> task.splitByOrgUnitLevel().stream()).toList();
+
+      taskGroup.forEach(task -> summary.incrementPredictors());
+
+      progress.startingStage(
+          format("Running predictors from %s to %s", startDate, endDate),
+          tasks.size(),
+          SKIP_ITEM_OUTLIER);
+      progress.runStageInParallel(
+          parallelJobs,
+          tasks,
+          task -> format("Running predictor %s from %s to %s", task, startDate, endDate),
+          task -> runTask(task, startDate, endDate, summary, securityContext));
+    }
+
+    log.info("Finished predictors from {} to {}: {}", startDate, endDate, summary);
 
     return summary;
   }
 
+  /**
+   * Creates a prediction task for each simple predictor, in the order the predictors would run one
+   * by one.
+   */
+  private List<PredictionTask> getTasks(List<Predictor> predictorList) {
+    List<PredictionTask> tasks = new ArrayList<>();
+
+    for (Predictor predictor : predictorList) {
+      for (Predictor p : preprocessor.preprocess(predictor)) {
+        Set<Integer> orgUnitLevels =
+            p.getOrganisationUnitLevels().stream()
+                .map(OrganisationUnitLevel::getLevel)
+                .collect(toSet());
+
+        tasks.add(
+            new PredictionTask(
+                predictor.getUid(),
+                predictor.getName(),
+                p.getOutput().getUid(),
+                getInputUids(p),
+                orgUnitLevels));
+      }
+    }
+
+    return tasks;
+  }
+
+  /** Gets the UIDs of the data elements read by the generator and sample skip test. */
+  private Set<String> getInputUids(Predictor predictor) {
+    Set<String> inputUids =
+        new HashSet<>(
+            expressionService.getExpressionDataElementIds(
+                predictor.getGenerator().getExpression(), PREDICTOR_EXPRESSION));
+
+    Expression skipTest = predictor.getSampleSkipTest();
+
+    if (skipTest != null && !StringUtils.isEmpty(skipTest.getExpression())) {
+      inputUids.addAll(
+          expressionService.getExpressionDataElementIds(
+              skipTest.getExpression(), PREDICTOR_SKIP_TEST));
+    }
+
+    return inputUids;
+  }
+
+  /**
+   * Gets the number of prediction tasks to run in parallel, either from the system setting or from
+   * the number of CPU cores.
+   */
+  private int getParallelJobs() {
+    int parallelJobs = settingsProvider.getCurrentSettings().getParallelJobsInPredictions();
+
+    return parallelJobs > 0 ? parallelJobs : max(1, SystemUtils.getCpuCores() / 2);
+  }
+
+  /**
+   * Runs a prediction task in a new transaction, as the user who started the prediction run. The
+   * task may run on a worker thread or on the calling thread, so the previous security context is
+   * restored afterwards.
+   */
+  private void runTask(
+      PredictionTask task,
+      Date startDate,
+      Date endDate,
+      PredictionSummary summary,
+      SecurityContext securityContext) {
+    SecurityContext previousContext = SecurityContextHolder.getContext();
+    SecurityContextHolder.setContext(securityContext);
+
+    try {
+      // Trigger a new transaction when calling self
+      PredictionService self = applicationContext.getBean(PredictionService.class);
+
+      self.predictTask(task, startDate, endDate, summary);
+    } finally {
+      SecurityContextHolder.setContext(previousContext);
+    }
+  }
+
   private List<Predictor> fetchPredictors(
       @CheckForNull List<String> predictors, @CheckForNull List<String> predictorGroups) {
     if (isEmpty(predictors) && isEmpty(predictorGroups)) {
@@ -231,11 +334,51 @@ public class DefaultPredictionService implements PredictionService {
     return preprocessor.getDescription(expression);
   }
 
+  @Override
   @Transactional
   public void predictSimple(
       Predictor predictor, Date startDate, Date endDate, PredictionSummary predictionSummary) {
+    predictionSummary.incrementPredictors();
+
+    predictLevels(
+        predictor, predictor.getOrganisationUnitLevels(), startDate, endDate, predictionSummary);
+  }
+
+  @Override
+  @Transactional
+  public void predictTask(
+      PredictionTask task, Date startDate, Date endDate, PredictionSummary predictionSummary) {
+    Predictor predictor =
+        preprocessor.preprocess(idObjectManager.load(Predictor.class, task.getPredictorUid()))
+            .stream()
+            .filter(p -> p.getOutput().getUid().equals(task.getOutputUid()))
+            .findFirst()
+            .orElseThrow(
+                () -> new IllegalStateException("Predictor output not found for task " + task));
+
+    List<OrganisationUnitLevel> orgUnitLevels =
+        predictor.getOrganisationUnitLevels().stream()
+            .filter(level -> task.getOrgUnitLevels().contains(level.getLevel()))
+            .toList();
+
+    predictLevels(predictor, orgUnitLevels, startDate, endDate, predictionSummary);
+  }
+
+  /** Runs a simple predictor for the given organisation unit levels. */
+  private void predictLevels(
+      Predictor predictor,
+      Collection<OrganisationUnitLevel> orgUnitLevels,
+      Date startDate,
+      Date endDate,
+      PredictionSummary predictionSummary) {
     Expression generator = predictor.getGenerator();
     Expression skipTest = predictor.getSampleSkipTest();
+    CompiledExpression compiledGenerator =
+        expressionService.compileExpression(generator.getExpression(), PREDICTOR_EXPRESSION);
+    CompiledExpression compiledSkipTest =
+        skipTest == null || StringUtils.isEmpty(skipTest.getExpression())
+            ? null
+            : expressionService.compileExpression(skipTest.getExpression(), PREDICTOR_SKIP_TEST);
     DataElement outputDataElement = predictor.getOutput();
     DataType expressionDataType = DataType.fromValueType(outputDataElement.getValueType());
 
@@ -278,9 +421,7 @@ public class DefaultPredictionService implements PredictionService {
 
     PredictionWriter predictionWriter = new PredictionWriter(dataDumpService, predictionSummary);
 
-    predictionSummary.incrementPredictors();
-
-    for (OrganisationUnitLevel orgUnitLevel : predictor.getOrganisationUnitLevels()) {
+    for (OrganisationUnitLevel orgUnitLevel : orgUnitLevels) {
       List<OrganisationUnit> orgUnits =
           organisationUnitService.getOrganisationUnitsAtOrgUnitLevels(
               Lists.newArrayList(orgUnitLevel), currentUserOrgUnits);
@@ -314,6 +455,7 @@ public class DefaultPredictionService implements PredictionService {
                   baseExParams,
                   c.getPeriodValueMap(),
                   skipTest,
+                  compiledSkipTest,
                   data.getOrgUnit()));
 
           if (!isEvaluationRequired(
@@ -327,7 +469,7 @@ public class DefaultPredictionService implements PredictionService {
           }
 
           Object value =
-              expressionService.getExpressionValue(
+              compiledGenerator.evaluate(
                   baseExParams.toBuilder()
                       .expression(predictor.getGenerator().getExpression())
                       .parseType(PREDICTOR_EXPRESSION)
@@ -460,10 +602,11 @@ public class DefaultPredictionService implements PredictionService {
       ExpressionParams baseExParams,
       MapMap<Period, DimensionalItemObject, Object> aocData,
       Expression skipTest,
+      CompiledExpression compiledSkipTest,
       OrganisationUnit orgUnit) {
     Set<Period> skippedPeriods = new HashSet<>();
 
-    if (skipTest == null || StringUtils.isEmpty(skipTest.getExpression())) {
+    if (compiledSkipTest == null) {
       return skippedPeriods;
     }
 
@@ -472,7 +615,7 @@ public class DefaultPredictionService implements PredictionService {
           &&
           // Note: getExpressionValue could return null if no data is found
           Boolean.TRUE
-              == expressionService.getExpressionValue(
+              == compiledSkipTest.evaluate(
                   baseExParams.toBuilder()
                       .expression(skipTest.getExpression())
                       .parseType(PREDICTOR_SKIP_TEST)
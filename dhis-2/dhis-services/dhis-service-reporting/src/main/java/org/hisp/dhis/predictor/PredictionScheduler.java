@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.predictor;
+
+import static java.lang.Math.max;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Groups prediction tasks so that each group can run in parallel.
+ *
+ * <p>When predictors run one by one in the given order, a predictor can use the output of an
+ * earlier predictor as input. To keep the same results, a task is placed in a later group than
+ * every earlier task which writes its input or its output, or which reads its output. Tasks within
+ * a group neither read nor write the output of another task in the group, so they can run in any
+ * order.
+ */
+public class PredictionScheduler {
+  private PredictionScheduler() {
+    throw new UnsupportedOperationException("util");
+  }
+
+  /**
+   * Groups prediction tasks, keeping the order of tasks within each group.
+   *
+   * @param tasks the tasks in the order they would run one by one.
+   * @return the groups of tasks, in the order they must run.
+   */
+  public static List<List<PredictionTask>> getTaskGroups(List<PredictionTask> tasks) {
+    List<List<PredictionTask>> groups = new ArrayList<>();
+    int[] taskGroups = new int[tasks.size()];
+
+    for (int i = 0; i < tasks.size(); i++) {
+      PredictionTask task = tasks.get(i);
+      int group = 0;
+
+      for (int j = 0; j < i; j++) {
+        if (isDependent(task, tasks.get(j))) {
+          group = max(group, taskGroups[j] + 1);
+        }
+      }
+
+      taskGroups[i] = group;
+
+      if (group == groups.size()) {
+        groups.add(new ArrayList<>());
+      }
+
+      groups.get(group).add(task);
+    }
+
+    return groups;
+  }
+
+  /** Whether the given task must run after the given earlier task. */
+  private static boolean isDependent(PredictionTask task, PredictionTask earlier) {
+    return task.getOutputUid().equals(earlier.getOutputUid())
+        || task.getInputUids().contains(earlier.getOutputUid())
+        || earlier.getInputUids().contains(task.getOutputUid());
+  }
+}
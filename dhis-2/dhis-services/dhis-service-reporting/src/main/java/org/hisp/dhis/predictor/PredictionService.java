@@ -104,6 +104,18 @@ public interface PredictionService {
   void predictSimple(
       Predictor predictor, Date startDate, Date endDate, PredictionSummary predictionSummary);
 
+  /**
+   * Executes a prediction task for a date range. The predictor is loaded in the current
+   * transaction, so that tasks can run in parallel threads.
+   *
+   * @param task the prediction task to run
+   * @param startDate the start date of the predictor run
+   * @param endDate the end date of the predictor run
+   * @param predictionSummary the prediction summary to add to
+   */
+  void predictTask(
+      PredictionTask task, Date startDate, Date endDate, PredictionSummary predictionSummary);
+
   /**
    * Tests whether a predictor expression is valid.
    *
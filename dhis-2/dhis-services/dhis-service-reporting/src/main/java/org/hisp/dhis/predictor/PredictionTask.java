@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.predictor;
+
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A unit of work in a prediction run: a simple predictor evaluated for some or all of its
+ * organisation unit levels.
+ *
+ * <p>Tasks only hold identifiers, so that a task can run in a thread and transaction other than the
+ * one which planned it. The predictor is loaded again when the task runs.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PredictionTask {
+  /** UID of the predictor, before preprocessing. */
+  private final String predictorUid;
+
+  private final String predictorName;
+
+  /** UID of the output data element, which identifies a predictor after preprocessing. */
+  private final String outputUid;
+
+  /** UIDs of the data elements which are read from the data value table. */
+  private final Set<String> inputUids;
+
+  /** Organisation unit levels to predict at. */
+  private final Set<Integer> orgUnitLevels;
+
+  /**
+   * Whether the predictor reads its own output, in which case predictions at one organisation unit
+   * level may be input to predictions at another level.
+   */
+  public boolean isSelfReferencing() {
+    return inputUids.contains(outputUid);
+  }
+
+  /**
+   * Splits this task into a task for each organisation unit level, unless the predictor reads its
+   * own output.
+   *
+   * @return the tasks.
+   */
+  public List<PredictionTask> splitByOrgUnitLevel() {
+    if (isSelfReferencing() || orgUnitLevels.size() <= 1) {
+      return List.of(this);
+    }
+
+    return orgUnitLevels.stream()
+        .sorted()
+        .map(level -> withOrgUnitLevels(Set.of(level)))
+        .toList();
+  }
+
+  private PredictionTask withOrgUnitLevels(Set<Integer> levels) {
+    return new PredictionTask(predictorUid, predictorName, outputUid, inputUids, levels);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s at levels %s", predictorName, outputUid, orgUnitLevels);
+  }
+}
@@ -75,6 +75,7 @@ import org.hisp.dhis.dataelement.DataElementOperand;
 import org.hisp.dhis.datavalue.DataValueService;
 import org.hisp.dhis.datavalue.DeflatedDataValue;
 import org.hisp.dhis.datavalue.DeflatedDataValueParams;
+import org.hisp.dhis.expression.CompiledExpression;
 import org.hisp.dhis.expression.Expression;
 import org.hisp.dhis.expression.ExpressionParams;
 import org.hisp.dhis.expression.ExpressionService;
@@ -187,9 +188,11 @@ public class DataValidationRunner {
           getValueMap(orgUnit, ruleX.getRightSlidingWindow());
 
       Map<String, Double> leftSideValues =
-          getExpressionValueMap(orgUnit, ruleX.getRule().getLeftSide(), leftValueMap);
+          getExpressionValueMap(
+              orgUnit, ruleX.getRule().getLeftSide(), ruleX.getLeftSide(), leftValueMap);
       Map<String, Double> rightSideValues =
-          getExpressionValueMap(orgUnit, ruleX.getRule().getRightSide(), rightValueMap);
+          getExpressionValueMap(
+              orgUnit, ruleX.getRule().getRightSide(), ruleX.getRightSide(), rightValueMap);
 
       Set<String> attributeOptionCombos =
           Sets.union(leftSideValues.keySet(), rightSideValues.keySet());
@@ -418,12 +421,14 @@ public class DataValidationRunner {
      * Evaluates an expression, returning a map of values by attribute option combo.
      *
      * @param expression expression to evaluate.
+     * @param compiledExpression the compiled expression to evaluate.
      * @param valueMap Map of value maps, by attribute option combo.
      * @return map of values.
      */
     private Map<String, Double> getExpressionValueMap(
         OrganisationUnit orgUnit,
         Expression expression,
+        CompiledExpression compiledExpression,
         MapMap<String, DimensionalItemObject, Object> valueMap) {
       Map<String, Double> expressionValueMap = new HashMap<>();
 
@@ -442,7 +447,7 @@ public class DataValidationRunner {
 
         Double value =
             castDouble(
-                expressionService.getExpressionValue(
+                compiledExpression.evaluate(
                     context.getBaseExParams().toBuilder()
                         .expression(expression.getExpression())
                         .parseType(VALIDATION_RULE_EXPRESSION)
@@ -59,6 +59,7 @@ import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.datavalue.DataExportService;
 import org.hisp.dhis.datavalue.DataExportValue;
 import org.hisp.dhis.datavalue.DataValueKey;
+import org.hisp.dhis.expression.CompiledExpression;
 import org.hisp.dhis.expression.Expression;
 import org.hisp.dhis.expression.ExpressionInfo;
 import org.hisp.dhis.expression.ExpressionParams;
@@ -355,7 +356,11 @@ public class DefaultValidationService implements ValidationService {
         continue; // Don't include rule.
       }
 
-      ValidationRuleExtended ruleX = new ValidationRuleExtended(rule);
+      ValidationRuleExtended ruleX =
+          new ValidationRuleExtended(
+              rule,
+              compileExpression(rule.getLeftSide()),
+              compileExpression(rule.getRightSide()));
 
       periodX.getRuleXs().add(ruleX);
 
@@ -364,6 +369,11 @@ public class DefaultValidationService implements ValidationService {
     }
   }
 
+  private CompiledExpression compileExpression(Expression expression) {
+    return expressionService.compileExpression(
+        expression.getExpression(), VALIDATION_RULE_EXPRESSION);
+  }
+
   private ExpressionParams getExpressionInfo(
       Map<PeriodType, PeriodTypeExtended> periodTypeXMap, Collection<ValidationRule> rules) {
     SetMap<PeriodTypeExtended, DimensionalItemId> periodItemIds = new SetMap<>();
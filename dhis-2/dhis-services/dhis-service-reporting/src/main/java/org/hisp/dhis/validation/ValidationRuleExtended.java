@@ -33,6 +33,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
+import org.hisp.dhis.expression.CompiledExpression;
 
 /**
  * Holds information for each validation rule that is needed during a validation run (either
@@ -55,11 +56,18 @@ public class ValidationRuleExtended {
 
   private boolean rightSlidingWindow;
 
-  public ValidationRuleExtended(ValidationRule rule) {
+  private CompiledExpression leftSide;
+
+  private CompiledExpression rightSide;
+
+  public ValidationRuleExtended(
+      ValidationRule rule, CompiledExpression leftSide, CompiledExpression rightSide) {
     this.rule = rule;
     this.organisationUnitLevels = new HashSet<>(rule.getOrganisationUnitLevels());
     this.leftSlidingWindow = rule.getLeftSide().getSlidingWindow();
     this.rightSlidingWindow = rule.getRightSide().getSlidingWindow();
+    this.leftSide = leftSide;
+    this.rightSide = rightSide;
   }
 
   public String toString() {
@@ -90,4 +98,12 @@ public class ValidationRuleExtended {
   public boolean getRightSlidingWindow() {
     return rightSlidingWindow;
   }
+
+  public CompiledExpression getLeftSide() {
+    return leftSide;
+  }
+
+  public CompiledExpression getRightSide() {
+    return rightSide;
+  }
 }
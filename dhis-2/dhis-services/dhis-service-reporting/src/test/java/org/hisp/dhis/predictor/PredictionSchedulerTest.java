@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.predictor;
+
+import static org.hisp.dhis.predictor.PredictionScheduler.getTaskGroups;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Tests {@link PredictionScheduler}. */
+class PredictionSchedulerTest {
+  private final PredictionTask taskA = task("A", "deA", Set.of("deX"));
+
+  private final PredictionTask taskB = task("B", "deB", Set.of("deY"));
+
+  private final PredictionTask taskC = task("C", "deC", Set.of("deA", "deB"));
+
+  private final PredictionTask taskD = task("D", "deD", Set.of("deC"));
+
+  @Test
+  void testIndependentTasksAreGroupedTogether() {
+    assertEquals(List.of(List.of(taskA, taskB)), getTaskGroups(List.of(taskA, taskB)));
+  }
+
+  @Test
+  void testTaskReadingEarlierOutputRunsLater() {
+    assertEquals(
+        List.of(List.of(taskA, taskB), List.of(taskC), List.of(taskD)),
+        getTaskGroups(List.of(taskA, taskB, taskC, taskD)));
+  }
+
+  @Test
+  void testTaskWritingEarlierInputRunsLater() {
+    assertEquals(
+        List.of(List.of(taskC), List.of(taskA, taskB)),
+        getTaskGroups(List.of(taskC, taskA, taskB)));
+  }
+
+  @Test
+  void testTasksWithSameOutputRunInOrder() {
+    PredictionTask taskA2 = task("A2", "deA", Set.of("deZ"));
+
+    assertEquals(
+        List.of(List.of(taskA, taskB), List.of(taskA2)),
+        getTaskGroups(List.of(taskA, taskB, taskA2)));
+  }
+
+  @Test
+  void testEmpty() {
+    assertEquals(List.of(), getTaskGroups(List.of()));
+  }
+
+  @Test
+  void testSplitByOrgUnitLevel() {
+    PredictionTask task = new PredictionTask("A", "A", "deA", Set.of("deX"), Set.of(3, 1, 2));
+
+    assertFalse(task.isSelfReferencing());
+    assertEquals(
+        List.of(Set.of(1), Set.of(2), Set.of(3)),
+        task.splitByOrgUnitLevel().stream().map(PredictionTask::getOrgUnitLevels).toList());
+  }
+
+  @Test
+  void testSelfReferencingTaskIsNotSplit() {
+    PredictionTask task = new PredictionTask("A", "A", "deA", Set.of("deA"), Set.of(1, 2));
+
+    assertTrue(task.isSelfReferencing());
+    assertEquals(List.of(task), task.splitByOrgUnitLevel());
+  }
+
+  private static PredictionTask task(String uid, String outputUid, Set<String> inputUids) {
+    return new PredictionTask(uid, uid, outputUid, inputUids, Set.of(1, 2));
+  }
+}
@@ -41,6 +41,7 @@ import static org.hisp.dhis.test.TestBase.createOrganisationUnit;
 import static org.hisp.dhis.test.TestBase.createPeriod;
 import static org.hisp.dhis.test.TestBase.createValidationRule;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -57,6 +58,7 @@ import org.hisp.dhis.datavalue.DataValue;
 import org.hisp.dhis.datavalue.DataValueService;
 import org.hisp.dhis.datavalue.DeflatedDataValue;
 import org.hisp.dhis.datavalue.DeflatedDataValueParams;
+import org.hisp.dhis.expression.CompiledExpression;
 import org.hisp.dhis.expression.Expression;
 import org.hisp.dhis.expression.ExpressionParams;
 import org.hisp.dhis.expression.ExpressionService;
@@ -135,8 +137,12 @@ class DataValidationRunnerTest {
     Expression leftExpression = createExpression2('A', "#{FUrCpcvMAmC.OrDRjJL9bTS}");
     Expression rightExpression = createExpression2('B', "-10");
 
+    CompiledExpression compiledLeft = mock(CompiledExpression.class);
+    CompiledExpression compiledRight = mock(CompiledExpression.class);
+
     ValidationRuleExtended vre =
-        createValidationRuleExtended(leftExpression, rightExpression, Operator.not_equal_to);
+        createValidationRuleExtended(
+            leftExpression, rightExpression, compiledLeft, compiledRight, Operator.not_equal_to);
 
     List<PeriodTypeExtended> periodTypes = new ArrayList<>();
     PeriodTypeExtended periodType = createPeriodTypeExtended(vre);
@@ -170,8 +176,8 @@ class DataValidationRunnerTest {
     Map<DimensionalItemObject, Object> vals = new HashMap<>();
     vals.put(deA, 12.4);
 
-    mockExpressionService(leftExpression, vals, 8.4);
-    mockExpressionService(rightExpression, vals, -10.0);
+    mockCompiledExpression(compiledLeft, leftExpression, vals, 8.4);
+    mockCompiledExpression(compiledRight, rightExpression, vals, -10.0);
 
     when(expressionService.getExpressionValue(
             ExpressionParams.builder().expression("8.4!=-10.0").parseType(SIMPLE_TEST).build()))
@@ -188,7 +194,12 @@ class DataValidationRunnerTest {
     Expression rightExpression = createExpression2('B', "-10");
 
     ValidationRuleExtended vre =
-        createValidationRuleExtended(leftExpression, rightExpression, Operator.not_equal_to);
+        createValidationRuleExtended(
+            leftExpression,
+            rightExpression,
+            mock(CompiledExpression.class),
+            mock(CompiledExpression.class),
+            Operator.not_equal_to);
 
     List<PeriodTypeExtended> periodTypes = new ArrayList<>();
     PeriodTypeExtended periodType = createPeriodTypeExtended(vre);
@@ -216,8 +227,11 @@ class DataValidationRunnerTest {
     assertThat(ctx.getValidationResults().size(), is(0));
   }
 
-  private void mockExpressionService(
-      Expression expression, Map<DimensionalItemObject, Object> vals, Double val) {
+  private void mockCompiledExpression(
+      CompiledExpression compiledExpression,
+      Expression expression,
+      Map<DimensionalItemObject, Object> vals,
+      Double val) {
     ExpressionParams params =
         ExpressionParams.builder()
             .expression(expression.getExpression())
@@ -227,22 +241,24 @@ class DataValidationRunnerTest {
             .orgUnit(ouA)
             .build();
 
-    when(expressionService.getExpressionValue(
-            params.toBuilder().days(p1.getDaysInPeriod()).build()))
+    when(compiledExpression.evaluate(params.toBuilder().days(p1.getDaysInPeriod()).build()))
         .thenReturn(val);
 
-    when(expressionService.getExpressionValue(
-            params.toBuilder().days(p2.getDaysInPeriod()).build()))
+    when(compiledExpression.evaluate(params.toBuilder().days(p2.getDaysInPeriod()).build()))
         .thenReturn(val);
 
-    when(expressionService.getExpressionValue(
-            params.toBuilder().days(p3.getDaysInPeriod()).build()))
+    when(compiledExpression.evaluate(params.toBuilder().days(p3.getDaysInPeriod()).build()))
         .thenReturn(val);
   }
 
   private ValidationRuleExtended createValidationRuleExtended(
-      Expression left, Expression right, Operator op) {
-    return new ValidationRuleExtended(createValidationRule('A', op, left, right, MONTHLY));
+      Expression left,
+      Expression right,
+      CompiledExpression compiledLeft,
+      CompiledExpression compiledRight,
+      Operator op) {
+    return new ValidationRuleExtended(
+        createValidationRule('A', op, left, right, MONTHLY), compiledLeft, compiledRight);
   }
 
   private PeriodTypeExtended createPeriodTypeExtended(
@@ -583,6 +583,22 @@ public class DefaultSchemaService implements SchemaService {
     return null;
   }
 
+  /**
+   * Gets the value of a property using its compiled getter, falling back to {@link
+   * #safeInvoke(Object, Method)} when the object is not an instance of the class declaring the
+   * getter.
+   */
+  public static <T> T safeInvoke(Object object, Property property) {
+    Method getter = property.getGetterMethod();
+    if (object == null || getter == null) {
+      return null;
+    }
+    if (getter.getDeclaringClass().isInstance(object)) {
+      return property.getValue(object);
+    }
+    return safeInvoke(object, getter);
+  }
+
   public static <T> T safeInvoke(Object object, Method method) {
     try {
       return ReflectionUtils.invokeMethod(object, method);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2004-2022, University of Oslo
+ * Copyright (c) 2004-2026, University of Oslo
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -27,33 +27,31 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package org.hisp.dhis.tracker.export.trackedentity.aggregates;
+package org.hisp.dhis.artemis.audit;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.Getter;
+import org.hisp.dhis.artemis.MessageType;
+import org.hisp.dhis.artemis.SerializableMessage;
 
 /**
- * Exposes a static method to fetch an Executor for the Aggregates operations
+ * A batch of {@link Audit} messages of the same scope, sent as a single Artemis message.
  *
- * @author Luciano Fiandesio
+ * @see AuditScheduler
  */
-class ThreadPoolManager {
-  // Thread factory that sets a user-defined thread name (useful for debugging
-  // purposes)
-  private ThreadPoolManager() {
-    throw new IllegalStateException("only used for its static fields");
-  }
-
-  private static final ThreadFactory threadFactory =
-      new ThreadFactoryBuilder().setNameFormat("TRACKER-TE-FETCH-%d").setDaemon(true).build();
+@Getter
+public class AuditBatch implements SerializableMessage {
+  @JsonProperty private final List<Audit> audits;
 
-  /** Cached thread pool: not bound to a size, but can reuse existing threads. */
-  private static final Executor AGGREGATE_THREAD_POOL =
-      Executors.newCachedThreadPool(threadFactory);
+  @JsonCreator
+  public AuditBatch(@JsonProperty("audits") List<Audit> audits) {
+    this.audits = audits;
+  }
 
-  static Executor getPool() {
-    return AGGREGATE_THREAD_POOL;
+  @Override
+  public MessageType getMessageType() {
+    return MessageType.AUDIT;
   }
 }
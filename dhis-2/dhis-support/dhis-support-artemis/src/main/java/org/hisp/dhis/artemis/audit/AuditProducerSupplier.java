@@ -29,7 +29,12 @@
  */
 package org.hisp.dhis.artemis.audit;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
 import com.google.common.base.Strings;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.artemis.MessageManager;
@@ -69,6 +74,33 @@ public class AuditProducerSupplier {
     }
   }
 
+  /**
+   * Publishes the given audits with one message per topic. A single audit for a topic is sent as an
+   * {@link Audit} message, more audits as an {@link AuditBatch} message.
+   *
+   * @param audits the audits to publish.
+   */
+  public void publish(List<Audit> audits) {
+    Map<AuditScope, List<Audit>> auditsByScope =
+        audits.stream().collect(groupingBy(Audit::getAuditScope, LinkedHashMap::new, toList()));
+
+    auditsByScope.forEach(
+        (scope, scopeAudits) -> {
+          String topic = auditScopeDestinationMap.get(scope);
+
+          if (scopeAudits.size() == 1) {
+            publish(scopeAudits.get(0));
+          } else if (!Strings.isNullOrEmpty(topic)) {
+            log.debug("sending {} auditing messages to topic: [{}]", scopeAudits.size(), topic);
+            this.messageManager.send(topic, new AuditBatch(scopeAudits));
+          } else {
+            log.error(
+                String.format(
+                    "Unable to map AuditScope [%s] to a topic name. Sending aborted", scope));
+          }
+        });
+  }
+
   private String getTopicName(Audit audit) {
     return auditScopeDestinationMap.get(audit.getAuditScope());
   }
@@ -29,10 +29,12 @@
  */
 package org.hisp.dhis.artemis.audit;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.DelayQueue;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -42,11 +44,12 @@ import org.springframework.stereotype.Component;
  * default (config key: audit.inmemory-queue.enabled) and should be used only in very high-traffic
  * environments. Note that upon a JVM crash, the Audit messages in this queue will be lost.
  *
- * <p>The buffer is based on a {@link DelayQueue} where messages are buffered for 5 seconds, before
- * being de-queued to the Artemis broker.
+ * <p>Queued messages are published in batches, with one Artemis message per audit scope (see {@link
+ * AuditProducerSupplier#publish(List)}). A batch is published every 5 seconds, or as soon as 200
+ * messages are queued. In the latter case the thread adding the message publishes the batch, which
+ * slows down producers when the queue fills faster than it is drained.
  *
- * <p>To avoid excessive memory pressure, max 200 messages can stay in the queue: in-excess messages
- * are processed immediately.
+ * <p>Duplicate messages are ignored while queued, using a hash set.
  *
  * @author Luciano Fiandesio
  */
@@ -59,10 +62,22 @@ public class AuditScheduler {
 
   private final AuditProducerSupplier auditProducerSupplier;
 
-  private final BlockingQueue<QueuedAudit> delayed = new DelayQueue<>();
+  /** Queued audits in insertion order, guarded by this. */
+  private Set<Audit> queued = new LinkedHashSet<>();
 
-  public AuditScheduler(AuditProducerSupplier auditProducerSupplier) {
+  /** Time the oldest queued audit was added, guarded by this. */
+  private long oldestQueuedAt;
+
+  public AuditScheduler(AuditProducerSupplier auditProducerSupplier, MeterRegistry meterRegistry) {
     this.auditProducerSupplier = auditProducerSupplier;
+
+    Gauge.builder("audit.queue.size", this, AuditScheduler::getQueueSize)
+        .description("Number of audits waiting to be published")
+        .register(meterRegistry);
+    Gauge.builder("audit.queue.lag", this, AuditScheduler::getQueueLag)
+        .description("Milliseconds the oldest queued audit has been waiting to be published")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
   }
 
   public void addAuditItem(final Audit auditItem) {
@@ -71,24 +86,53 @@ public class AuditScheduler {
           String.format("add Audit object with content %s to delayed queue", auditItem.toLog()));
     }
 
-    final QueuedAudit postponed = new QueuedAudit(auditItem, DELAY);
+    List<Audit> batch = null;
+
+    synchronized (this) {
+      if (!queued.add(auditItem)) {
+        log.debug("Audit queue ignored duplicate audit item");
+        return;
+      }
+
+      if (queued.size() == 1) {
+        oldestQueuedAt = System.currentTimeMillis();
+      }
 
-    if (delayed.size() >= MAX_SIZE) {
-      auditProducerSupplier.publish(auditItem);
-    } else {
-      if (!delayed.contains(postponed)) {
-        boolean wasAddedToQueue = delayed.offer(postponed);
-        log.debug("Audit queue accepted new audit item: {}", wasAddedToQueue);
+      if (queued.size() >= MAX_SIZE) {
+        batch = drain();
       }
     }
+
+    if (batch != null) {
+      auditProducerSupplier.publish(batch);
+    }
   }
 
-  @Scheduled(fixedDelay = 5_000)
+  @Scheduled(fixedDelay = DELAY)
   public void process() {
-    final Collection<QueuedAudit> expired = new ArrayList<>();
+    List<Audit> batch;
 
-    delayed.drainTo(expired);
+    synchronized (this) {
+      batch = drain();
+    }
+
+    if (!batch.isEmpty()) {
+      auditProducerSupplier.publish(batch);
+    }
+  }
+
+  synchronized int getQueueSize() {
+    return queued.size();
+  }
+
+  synchronized long getQueueLag() {
+    return queued.isEmpty() ? 0 : System.currentTimeMillis() - oldestQueuedAt;
+  }
 
-    expired.stream().map(QueuedAudit::getAuditItem).forEach(auditProducerSupplier::publish);
+  /** Removes and returns all queued audits. Must be called holding the lock on this. */
+  private List<Audit> drain() {
+    List<Audit> batch = new ArrayList<>(queued);
+    queued = new LinkedHashSet<>();
+    return batch;
   }
 }
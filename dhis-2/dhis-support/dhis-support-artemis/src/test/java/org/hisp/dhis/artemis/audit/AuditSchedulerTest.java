@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.artemis.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.hisp.dhis.audit.AuditScope;
+import org.hisp.dhis.audit.AuditType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuditSchedulerTest {
+  @Mock private AuditProducerSupplier auditProducerSupplier;
+
+  private MeterRegistry meterRegistry;
+
+  private AuditScheduler auditScheduler;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    auditScheduler = new AuditScheduler(auditProducerSupplier, meterRegistry);
+  }
+
+  @Test
+  void testProcessPublishesQueuedAuditsAsBatch() {
+    Audit auditA = audit("uidA");
+    Audit auditB = audit("uidB");
+
+    auditScheduler.addAuditItem(auditA);
+    auditScheduler.addAuditItem(auditB);
+    auditScheduler.addAuditItem(audit("uidA"));
+
+    assertEquals(2.0, meterRegistry.get("audit.queue.size").gauge().value());
+
+    auditScheduler.process();
+
+    verify(auditProducerSupplier).publish(List.of(auditA, auditB));
+    assertEquals(0.0, meterRegistry.get("audit.queue.size").gauge().value());
+    assertEquals(0.0, meterRegistry.get("audit.queue.lag").gauge().value());
+  }
+
+  @Test
+  void testProcessEmptyQueue() {
+    auditScheduler.process();
+
+    verify(auditProducerSupplier, never()).publish(anyList());
+  }
+
+  @Test
+  void testFullQueueIsPublishedByProducer() {
+    for (int i = 0; i < 200; i++) {
+      auditScheduler.addAuditItem(audit("uid" + i));
+    }
+
+    verify(auditProducerSupplier).publish(anyList());
+    assertEquals(0.0, meterRegistry.get("audit.queue.size").gauge().value());
+  }
+
+  private static Audit audit(String uid) {
+    return Audit.builder()
+        .auditType(AuditType.CREATE)
+        .auditScope(AuditScope.METADATA)
+        .uid(uid)
+        .build();
+  }
+}
@@ -40,6 +40,7 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -59,6 +60,17 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public class JdbcAuditRepository implements AuditRepository {
+  /** Maximum number of rows per insert, keeping the parameter count well below the limit. */
+  private static final int INSERT_BATCH_SIZE = 500;
+
+  private static final int INSERT_COLUMN_COUNT = 9;
+
+  private static final String INSERT_SQL =
+      "insert into audit (auditType, auditScope, createdAt, createdBy, klass, uid, code, data, "
+          + "attributes) values ";
+
+  private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, cast(? as jsonb))";
+
   private final JdbcTemplate jdbcTemplate;
 
   private final SimpleJdbcInsert auditInsert;
@@ -81,11 +93,21 @@ public class JdbcAuditRepository implements AuditRepository {
     return auditInsert.executeAndReturnKey(parameterSource).longValue();
   }
 
+  /**
+   * Saves the audits with multi-row inserts of up to {@link #INSERT_BATCH_SIZE} rows, so that a
+   * batch of audits needs a few statements rather than one per audit.
+   */
   @Override
   public void save(List<Audit> audits) {
-    List<MapSqlParameterSource> parameterSources = new ArrayList<>();
-    audits.forEach(audit -> parameterSources.add(buildParameterSource(audit)));
-    auditInsert.executeBatch(parameterSources.toArray(new MapSqlParameterSource[0]));
+    for (int i = 0; i < audits.size(); i += INSERT_BATCH_SIZE) {
+      List<Audit> batch = audits.subList(i, Math.min(i + INSERT_BATCH_SIZE, audits.size()));
+      List<Object> args = new ArrayList<>(batch.size() * INSERT_COLUMN_COUNT);
+      batch.forEach(audit -> addInsertArgs(audit, args));
+
+      jdbcTemplate.update(
+          INSERT_SQL + String.join(", ", Collections.nCopies(batch.size(), INSERT_ROW)),
+          args.toArray());
+    }
   }
 
   @Override
@@ -215,6 +237,23 @@ public class JdbcAuditRepository implements AuditRepository {
     return parameters;
   }
 
+  private void addInsertArgs(Audit audit, List<Object> args) {
+    args.add(audit.getAuditType().name());
+    args.add(audit.getAuditScope().name());
+    args.add(audit.getCreatedAt() == null ? null : Timestamp.valueOf(audit.getCreatedAt()));
+    args.add(audit.getCreatedBy());
+    args.add(audit.getKlass());
+    args.add(audit.getUid());
+    args.add(audit.getCode());
+    args.add(compress(audit.getData()));
+
+    try {
+      args.add(jsonMapper.writeValueAsString(audit.getAttributes()));
+    } catch (JsonProcessingException ignored) {
+      args.add(null);
+    }
+  }
+
   private RowMapper<Audit> auditRowMapper =
       (rs, rowNum) -> {
         Date createdAt = rs.getDate("createdAt");
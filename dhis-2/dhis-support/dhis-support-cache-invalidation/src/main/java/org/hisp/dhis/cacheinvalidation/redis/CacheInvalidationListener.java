@@ -45,10 +45,12 @@ import org.hisp.dhis.dataset.CompleteDataSetRegistration;
 import org.hisp.dhis.dataset.DataSet;
 import org.hisp.dhis.datavalue.DataValue;
 import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.organisationunit.OrganisationUnitHierarchyIndex;
 import org.hisp.dhis.period.Period;
 import org.hisp.dhis.period.PeriodService;
 import org.hisp.dhis.trackedentity.TrackedEntityAttribute;
 import org.hisp.dhis.trackedentity.TrackedEntityAttributeService;
+import org.hisp.dhis.tracker.imports.MetadataCacheInvalidationListener;
 import org.hisp.dhis.tracker.model.TrackedEntity;
 import org.hisp.dhis.tracker.model.TrackedEntityAttributeValue;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -68,6 +70,10 @@ public class CacheInvalidationListener extends BaseCacheEvictionService
     implements RedisPubSubListener<String, String> {
   protected String serverInstanceId;
 
+  private final MetadataCacheInvalidationListener metadataCacheInvalidationListener;
+
+  private final OrganisationUnitHierarchyIndex organisationUnitHierarchyIndex;
+
   public CacheInvalidationListener(
       SessionFactory sessionFactory,
       PaginationCacheManager paginationCacheManager,
@@ -75,6 +81,8 @@ public class CacheInvalidationListener extends BaseCacheEvictionService
       IdentifiableObjectManager idObjectManager,
       TrackedEntityAttributeService trackedEntityAttributeService,
       PeriodService periodService,
+      MetadataCacheInvalidationListener metadataCacheInvalidationListener,
+      OrganisationUnitHierarchyIndex organisationUnitHierarchyIndex,
       @Qualifier("cacheInvalidationServerId") String serverInstanceId) {
     super(
         sessionFactory,
@@ -84,6 +92,8 @@ public class CacheInvalidationListener extends BaseCacheEvictionService
         trackedEntityAttributeService,
         periodService);
 
+    this.metadataCacheInvalidationListener = metadataCacheInvalidationListener;
+    this.organisationUnitHierarchyIndex = organisationUnitHierarchyIndex;
     this.serverInstanceId = serverInstanceId;
   }
 
@@ -115,6 +125,18 @@ public class CacheInvalidationListener extends BaseCacheEvictionService
 
     CacheEventOperation operationType = CacheEventOperation.valueOf(parts[1].toUpperCase());
 
+    Class<?> entityClass = Class.forName(parts[2]);
+    Objects.requireNonNull(entityClass, "Entity class can't be null");
+
+    // Tracker caches preheated and compiled metadata referencing other metadata
+    metadataCacheInvalidationListener.invalidateCaches(entityClass);
+
+    if (OrganisationUnit.class.isAssignableFrom(entityClass)
+        && CacheEventOperation.COLLECTION != operationType) {
+      // the message does not tell whether the parent changed, so any change reloads the hierarchy
+      organisationUnitHierarchyIndex.invalidate();
+    }
+
     if (CacheEventOperation.COLLECTION == operationType) {
       String role = parts[3];
       Long ownerEntityId = Long.parseLong(parts[4]);
@@ -124,9 +146,6 @@ public class CacheInvalidationListener extends BaseCacheEvictionService
 
     Serializable entityId = getEntityId(message);
 
-    Class<?> entityClass = Class.forName(parts[2]);
-    Objects.requireNonNull(entityClass, "Entity class can't be null");
-
     if (CacheEventOperation.INSERT == operationType) {
       // Make sure queries will refetch to capture the new object.
       queryCacheManager.evictQueryCache(sessionFactory.getCache(), entityClass);
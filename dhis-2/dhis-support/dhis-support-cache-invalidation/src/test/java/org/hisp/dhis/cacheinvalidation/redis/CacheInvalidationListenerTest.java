@@ -41,8 +41,11 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hisp.dhis.cache.PaginationCacheManager;
 import org.hisp.dhis.cache.QueryCacheManager;
 import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.organisationunit.OrganisationUnitHierarchyIndex;
 import org.hisp.dhis.period.PeriodService;
+import org.hisp.dhis.program.Program;
 import org.hisp.dhis.trackedentity.TrackedEntityAttributeService;
+import org.hisp.dhis.tracker.imports.MetadataCacheInvalidationListener;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -67,6 +70,10 @@ class CacheInvalidationListenerTest {
 
   @Mock protected PeriodService periodService;
 
+  @Mock protected MetadataCacheInvalidationListener metadataCacheInvalidationListener;
+
+  @Mock protected OrganisationUnitHierarchyIndex organisationUnitHierarchyIndex;
+
   @Mock protected DisabledCaching disabledCaching;
 
   private CacheInvalidationListener cacheInvalidationListener;
@@ -87,6 +94,8 @@ class CacheInvalidationListenerTest {
             idObjectManager,
             trackedEntityAttributeService,
             periodService,
+            metadataCacheInvalidationListener,
+            organisationUnitHierarchyIndex,
             "SERVER_A");
 
     lenient().when(sessionFactory.getCache()).thenReturn(disabledCaching);
@@ -147,4 +156,50 @@ class CacheInvalidationListenerTest {
     verify(sessionFactory.getCache(), times(1)).evict(any(), any());
     verify(paginationCacheManager, times(1)).evictCache(anyString());
   }
+
+  @Test
+  @DisplayName("Should pass the changed type to the tracker metadata caches")
+  void testMessageInvalidatesTrackerCachesByType() {
+    String message =
+        "SERVER_B" + ":" + "UPDATE" + ":" + "org.hisp.dhis.program.Program" + ":" + "1";
+    cacheInvalidationListener.message(CacheInvalidationConfig.CHANNEL_NAME, message);
+
+    verify(metadataCacheInvalidationListener, times(1)).invalidateCaches(Program.class);
+  }
+
+  @Test
+  @DisplayName("Should not invalidate the tracker metadata caches on messages from this server")
+  void testOwnMessageKeepsTrackerCaches() {
+    String message =
+        "SERVER_A" + ":" + "UPDATE" + ":" + "org.hisp.dhis.program.Program" + ":" + "1";
+    cacheInvalidationListener.message(CacheInvalidationConfig.CHANNEL_NAME, message);
+
+    verify(metadataCacheInvalidationListener, times(0)).invalidateCaches(any());
+  }
+
+  @Test
+  @DisplayName("Should invalidate the organisation unit hierarchy on organisation unit messages")
+  void testOrganisationUnitMessageInvalidatesHierarchy() {
+    String message =
+        "SERVER_B"
+            + ":"
+            + "UPDATE"
+            + ":"
+            + "org.hisp.dhis.organisationunit.OrganisationUnit"
+            + ":"
+            + "1";
+    cacheInvalidationListener.message(CacheInvalidationConfig.CHANNEL_NAME, message);
+
+    verify(organisationUnitHierarchyIndex, times(1)).invalidate();
+  }
+
+  @Test
+  @DisplayName("Should not invalidate the organisation unit hierarchy on other messages")
+  void testOtherMessageKeepsHierarchy() {
+    String message =
+        "SERVER_B" + ":" + "UPDATE" + ":" + "org.hisp.dhis.program.Program" + ":" + "1";
+    cacheInvalidationListener.message(CacheInvalidationConfig.CHANNEL_NAME, message);
+
+    verify(organisationUnitHierarchyIndex, times(0)).invalidate();
+  }
 }
@@ -0,0 +1,13 @@
+-- Durable outbox of webhook payloads for event hooks
+create table if not exists eventhookoutbox (
+    eventhookoutboxid bigserial primary key,
+    eventhookuid varchar(11) not null,
+    targetid varchar(255) not null,
+    eventhooklastupdated timestamp not null,
+    payload text not null,
+    attempts integer not null default 0,
+    created timestamp not null default now(),
+    nextattempt timestamp not null default now()
+);
+
+create index if not exists in_eventhookoutbox_nextattempt on eventhookoutbox (nextattempt);
@@ -454,6 +454,40 @@ public enum ConfigurationKey {
 
   PROGRAM_TEMPORARY_OWNERSHIP_TIMEOUT("tracker.temporary.ownership.timeout", "3", false),
 
+  /**
+   * Max number of concurrent database fetches of the tracked entity export, per data source
+   * (default: 20).
+   */
+  TRACKER_EXPORT_FETCH_MAX_CONCURRENCY("tracker.export.fetch.max_concurrency", "20", false),
+
+  /**
+   * Max number of tracker import preheat suppliers running concurrently on separate read
+   * connections, across all imports (default: 4).
+   */
+  TRACKER_IMPORT_PREHEAT_MAX_CONCURRENCY("tracker.import.preheat.max_concurrency", "4", false),
+
+  /**
+   * Cache tracker import preheat metadata across imports. Entries are invalidated on metadata
+   * changes, across nodes when Redis cache invalidation is enabled (default: off).
+   */
+  TRACKER_IMPORT_PREHEAT_CACHE_ENABLED(
+      "tracker.import.preheat.cache.enabled", Constants.OFF, false),
+
+  /**
+   * Max number of threads validating the tracked entities, enrollments, events or relationships of
+   * a tracker import concurrently, across all imports. 1 validates on the importing thread
+   * (default: 4).
+   */
+  TRACKER_IMPORT_VALIDATION_MAX_CONCURRENCY(
+      "tracker.import.validation.max_concurrency", "4", false),
+
+  /**
+   * Max number of threads evaluating the program rules of the enrollments of a tracker import
+   * concurrently, across all imports. 1 evaluates on the importing thread (default: 4).
+   */
+  TRACKER_IMPORT_RULE_ENGINE_MAX_CONCURRENCY(
+      "tracker.import.rule_engine.max_concurrency", "4", false),
+
   /** Use unlogged tables during analytics export. (default: ON) */
   ANALYTICS_TABLE_UNLOGGED("analytics.table.unlogged", Constants.ON),
 
@@ -469,6 +503,12 @@ public enum ConfigurationKey {
    */
   ANALYTICS_TABLE_SKIP_COLUMN("analytics.table.skip_column", "", false),
 
+  /**
+   * Maximum time in seconds an analytics query waits for an identical query which is already being
+   * computed, before computing the result on its own. (default: 120)
+   */
+  ANALYTICS_CACHE_COALESCING_TIMEOUT("analytics.cache.coalescing.timeout", "120", false),
+
   /**
    * Artemis support mode, 2 modes supported: EMBEDDED (starts up an embedded Artemis which lives in
    * the same process as your DHIS2 instance), NATIVE (connects to an external Artemis instance,
@@ -590,6 +630,9 @@ public enum ConfigurationKey {
   /** AppHub api URL. (default: https://apps.dhis2.org/api). */
   APPHUB_API_URL("apphub.api.url", "https://apps.dhis2.org/api", false),
 
+  /** Max size in MB of the in-memory cache of app resources, 0 to disable it. (default: 64). */
+  APPS_RESOURCE_CACHE_MAX_SIZE("apps.resource_cache.max_size", "64", false),
+
   /**
    * Enable/disable changelog/history log of aggregate data values. <br>
    * (default: on)
@@ -693,6 +736,12 @@ public enum ConfigurationKey {
    */
   ACTIVE_READ_REPLICAS("active.read.replicas", "0", false),
 
+  /** Max replication lag in seconds before a read replica stops receiving queries (default: 30). */
+  READ_REPLICA_MAX_LAG("read.replica.max_lag", "30", false),
+
+  /** Interval in seconds between health and lag checks of read replicas (default: 10). */
+  READ_REPLICA_HEALTH_CHECK_INTERVAL("read.replica.health_check_interval", "10", false),
+
   /**
    * Allows enabling/disabling audits system-wide (without configuring the audit matrix). (default:
    * true)
@@ -118,11 +118,16 @@ public class AnalyticsDataSourceConfig {
     return getJdbcTemplate(dataSource);
   }
 
+  @Bean("analyticsReadOnlyDataSourceManager")
+  public ReadOnlyDataSourceManager readOnlyDataSourceManager() {
+    return new ReadOnlyDataSourceManager(config, meterRegistry);
+  }
+
   @Bean("analyticsReadOnlyJdbcTemplate")
   @DependsOn("analyticsDataSource")
   public JdbcTemplate readOnlyJdbcTemplate(
+      @Qualifier("analyticsReadOnlyDataSourceManager") ReadOnlyDataSourceManager manager,
       @Qualifier("analyticsDataSource") DataSource dataSource) {
-    ReadOnlyDataSourceManager manager = new ReadOnlyDataSourceManager(config, meterRegistry);
     DataSource ds = MoreObjects.firstNonNull(manager.getReadOnlyDataSource(), dataSource);
     return getJdbcTemplate(ds);
   }
@@ -139,18 +144,24 @@ public class AnalyticsDataSourceConfig {
     return getJdbcTemplate(dataSource);
   }
 
+  @Bean("analyticsPostgresReadOnlyDataSourceManager")
+  public ReadOnlyDataSourceManager readOnlyPostgresDataSourceManager() {
+    return new ReadOnlyDataSourceManager(config, meterRegistry);
+  }
+
   /**
    * Creates a Postgres-specific read-only JdbcTemplate for the analytics database. This is required
    * for analytics operations that can't be performed against the configured analytics database,
    * such as ClickHouse or Doris.
    *
+   * @param manager the read-only data source manager
    * @param dataSource the actual data source
    * @return a JdbcTemplate for the analytics database
    */
   @Bean("analyticsPostgresReadOnlyJdbcTemplate")
   public JdbcTemplate readOnlyPostgresJdbcTemplate(
+      @Qualifier("analyticsPostgresReadOnlyDataSourceManager") ReadOnlyDataSourceManager manager,
       @Qualifier("actualDataSource") DataSource dataSource) {
-    ReadOnlyDataSourceManager manager = new ReadOnlyDataSourceManager(config, meterRegistry);
     DataSource ds = MoreObjects.firstNonNull(manager.getReadOnlyDataSource(), dataSource);
     return getJdbcTemplate(ds);
   }
@@ -61,6 +61,7 @@ import org.hisp.dhis.datasource.model.DbPoolConfig;
 import org.hisp.dhis.external.conf.ConfigurationKey;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -91,11 +92,19 @@ public class DataSourceConfig {
     return jdbcTemplate;
   }
 
+  /**
+   * Exposed as a bean so that the read replica health checks are stopped through {@link
+   * ReadOnlyDataSourceManager#close()} on shutdown.
+   */
   @Bean
-  public JdbcTemplate readOnlyJdbcTemplate(
-      DhisConfigurationProvider config, DataSource dataSource) {
-    ReadOnlyDataSourceManager manager = new ReadOnlyDataSourceManager(config, meterRegistry);
+  public ReadOnlyDataSourceManager readOnlyDataSourceManager(DhisConfigurationProvider config) {
+    return new ReadOnlyDataSourceManager(config, meterRegistry);
+  }
 
+  @Bean
+  public JdbcTemplate readOnlyJdbcTemplate(
+      @Qualifier("readOnlyDataSourceManager") ReadOnlyDataSourceManager manager,
+      DataSource dataSource) {
     JdbcTemplate jdbcTemplate =
         new JdbcTemplate(MoreObjects.firstNonNull(manager.getReadOnlyDataSource(), dataSource));
     jdbcTemplate.setFetchSize(1000);
@@ -80,6 +80,7 @@ import com.google.common.collect.ImmutableMap;
 import com.mchange.v2.c3p0.ComboPooledDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.beans.PropertyVetoException;
@@ -214,6 +215,39 @@ public final class DatabasePoolUtils {
     return dataSource;
   }
 
+  /**
+   * Returns the utilization of the connection pool of the given data source, as the number of busy
+   * connections plus the number of threads waiting for a connection, divided by the maximum pool
+   * size. A value above 1 indicates that threads are waiting for connections. Returns 0 if the
+   * data source is not pooled or the pool is not yet started.
+   *
+   * @param dataSource the {@link DataSource}.
+   * @return the pool utilization.
+   */
+  public static double getPoolUtilization(DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikariDataSource) {
+      HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+
+      return pool != null
+          ? (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+              / Math.max(1, hikariDataSource.getMaximumPoolSize())
+          : 0d;
+    }
+
+    if (dataSource instanceof ComboPooledDataSource c3p0DataSource) {
+      try {
+        return (double)
+                (c3p0DataSource.getNumBusyConnectionsDefaultUser()
+                    + c3p0DataSource.getNumThreadsAwaitingCheckoutDefaultUser())
+            / Math.max(1, c3p0DataSource.getMaxPoolSize());
+      } catch (SQLException ex) {
+        return 0d;
+      }
+    }
+
+    return 0d;
+  }
+
   public static void testConnection(DataSource dataSource) {
     try (Connection conn = dataSource.getConnection();
         Statement stmt = conn.createStatement()) {
@@ -37,8 +37,11 @@ import static org.hisp.dhis.external.conf.ConfigurationKey.CONNECTION_USERNAME;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.beans.PropertyVetoException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import javax.sql.DataSource;
 import lombok.AccessLevel;
@@ -51,15 +54,17 @@ import org.hisp.dhis.datasource.model.ReadOnlyDataSourceConfig;
 import org.hisp.dhis.external.conf.ConfigurationKey;
 import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.util.ObjectUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 /**
  * Class responsible for detecting read-only databases configured in the DHIS2 configuration file.
+ * Closing the manager stops the health checks of the read replicas.
  *
  * @author Lars Helge Overland
  */
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
-public class ReadOnlyDataSourceManager {
+public class ReadOnlyDataSourceManager implements AutoCloseable {
   private static final String FORMAT_READ_PREFIX = "read%d.";
 
   private static final String FORMAT_CONNECTION_URL = FORMAT_READ_PREFIX + CONNECTION_URL.getKey();
@@ -76,6 +81,12 @@ public class ReadOnlyDataSourceManager {
 
   private static final int MAX_READ_REPLICAS = 5;
 
+  /** Connect timeout in seconds of the health check connections to read replicas. */
+  private static final int PROBE_CONNECT_TIMEOUT_SECONDS = 5;
+
+  /** Read timeout in seconds of the health check connections to read replicas. */
+  private static final int PROBE_SOCKET_TIMEOUT_SECONDS = 10;
+
   public ReadOnlyDataSourceManager(DhisConfigurationProvider config, MeterRegistry meterRegistry) {
     checkNotNull(config);
     checkNotNull(meterRegistry);
@@ -93,10 +104,20 @@ public class ReadOnlyDataSourceManager {
   // -------------------------------------------------------------------------
 
   public void init(DhisConfigurationProvider config, MeterRegistry meterRegistry) {
-    List<DataSource> ds = getReadOnlyDataSources(config, meterRegistry);
-
-    this.internalReadOnlyInstanceList = ds;
-    this.internalReadOnlyDataSource = !ds.isEmpty() ? new CircularRoutingDataSource(ds) : null;
+    Map<String, DataSource> ds = getReadOnlyDataSources(config, meterRegistry);
+    Map<String, DataSource> probes = getProbeDataSources(config);
+
+    Duration maxLag =
+        Duration.ofSeconds(config.getIntProperty(ConfigurationKey.READ_REPLICA_MAX_LAG));
+    Duration healthCheckInterval =
+        Duration.ofSeconds(
+            config.getIntProperty(ConfigurationKey.READ_REPLICA_HEALTH_CHECK_INTERVAL));
+
+    this.internalReadOnlyInstanceList = List.copyOf(ds.values());
+    this.internalReadOnlyDataSource =
+        !ds.isEmpty()
+            ? new ReplicaRoutingDataSource(ds, probes, maxLag, healthCheckInterval, meterRegistry)
+            : null;
   }
 
   public DataSource getReadOnlyDataSource() {
@@ -107,11 +128,18 @@ public class ReadOnlyDataSourceManager {
     return internalReadOnlyInstanceList != null ? internalReadOnlyInstanceList.size() : 0;
   }
 
+  @Override
+  public void close() {
+    if (internalReadOnlyDataSource instanceof ReplicaRoutingDataSource routingDataSource) {
+      routingDataSource.close();
+    }
+  }
+
   // -------------------------------------------------------------------------
   // Supportive methods
   // -------------------------------------------------------------------------
 
-  private List<DataSource> getReadOnlyDataSources(
+  private Map<String, DataSource> getReadOnlyDataSources(
       DhisConfigurationProvider config, MeterRegistry meterRegistry) {
     String mainUser = config.getProperty(ConfigurationKey.CONNECTION_USERNAME);
     String mainPassword = config.getProperty(ConfigurationKey.CONNECTION_PASSWORD);
@@ -119,7 +147,7 @@ public class ReadOnlyDataSourceManager {
     String maxPoolSize = config.getProperty(ConfigurationKey.CONNECTION_POOL_MAX_SIZE);
     String dbPoolType = config.getProperty(ConfigurationKey.DB_POOL_TYPE);
 
-    List<DataSource> dataSources = new ArrayList<>();
+    Map<String, DataSource> dataSources = new LinkedHashMap<>();
 
     List<ReadOnlyDataSourceConfig> dataSourceConfigs = getReadOnlyDataSourceConfigs(config);
 
@@ -129,7 +157,9 @@ public class ReadOnlyDataSourceManager {
       String username = StringUtils.defaultIfEmpty(dataSourceConfig.getUsername(), mainUser);
       String password = StringUtils.defaultIfEmpty(dataSourceConfig.getPassword(), mainPassword);
 
-      DbPoolConfig.DbPoolConfigBuilder builder = DbPoolConfig.builder("read_" + replicaIndex);
+      String name = "read_" + replicaIndex;
+
+      DbPoolConfig.DbPoolConfigBuilder builder = DbPoolConfig.builder(name);
       builder.dhisConfig(config);
       builder.password(password);
       builder.username(username);
@@ -140,7 +170,7 @@ public class ReadOnlyDataSourceManager {
       builder.maxIdleTime(String.valueOf(VAL_MAX_IDLE_TIME));
 
       try {
-        dataSources.add(DatabasePoolUtils.createDbPool(builder.build(), meterRegistry));
+        dataSources.put(name, DatabasePoolUtils.createDbPool(builder.build(), meterRegistry));
         log.info("Created read-only data source with connection URL: '{}'", url);
       } catch (SQLException | PropertyVetoException e) {
         String message =
@@ -167,6 +197,37 @@ public class ReadOnlyDataSourceManager {
     return dataSources;
   }
 
+  /**
+   * Returns unpooled data sources for the health checks of the read replicas, mapped by the same
+   * replica names as the pooled data sources. The connections time out quickly, using the timeout
+   * properties of the PostgreSQL JDBC driver.
+   *
+   * @param config the {@link DhisConfigurationProvider}.
+   * @return the probe data sources mapped by replica name.
+   */
+  private Map<String, DataSource> getProbeDataSources(DhisConfigurationProvider config) {
+    Map<String, DataSource> dataSources = new LinkedHashMap<>();
+
+    int replicaIndex = 1;
+    for (ReadOnlyDataSourceConfig dataSourceConfig : getReadOnlyDataSourceConfigs(config)) {
+      Properties properties = new Properties();
+      properties.setProperty("connectTimeout", String.valueOf(PROBE_CONNECT_TIMEOUT_SECONDS));
+      properties.setProperty("socketTimeout", String.valueOf(PROBE_SOCKET_TIMEOUT_SECONDS));
+
+      DriverManagerDataSource dataSource =
+          new DriverManagerDataSource(
+              dataSourceConfig.getUrl(),
+              dataSourceConfig.getUsername(),
+              dataSourceConfig.getPassword());
+      dataSource.setConnectionProperties(properties);
+
+      dataSources.put("read_" + replicaIndex, dataSource);
+      replicaIndex++;
+    }
+
+    return dataSources;
+  }
+
   /**
    * Returns a list of read-only data source configurations. The configurations are detected from
    * the DHIS2 configuration file.
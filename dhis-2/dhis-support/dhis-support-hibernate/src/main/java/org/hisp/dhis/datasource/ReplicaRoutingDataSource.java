@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.datasource;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Data source implementation which routes to the least loaded healthy read replica.
+ *
+ * <p>The load of a replica is the utilization of its connection pool plus the average time spent
+ * acquiring a connection, where one second counts as a fully utilized pool. Replicas are selected
+ * without locking, starting at a random replica so that replicas with equal load receive an equal
+ * share of connections.
+ *
+ * <p>A replica is ejected when connections can not be acquired from it a number of consecutive
+ * times, or when its replication lag exceeds the max lag. Replicas are checked in the background
+ * and re-admitted once the replica can be reached and the lag is below the max lag. If no replica
+ * is healthy, connections are acquired from the least loaded replica regardless of health.
+ *
+ * <p>Health checks connect through a dedicated probe data source per replica rather than the
+ * replica's pool, so that a saturated but healthy pool does not get its replica ejected. Each
+ * replica is checked on its own thread, so that a replica which does not respond does not delay
+ * the checks of the others. The background health checks run until the data source is closed.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+  /** Number of consecutive failures to acquire a connection before a replica is ejected. */
+  static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+  /** Weight of the latest connection acquisition time in the average acquisition time. */
+  private static final double LATENCY_WEIGHT = 0.2;
+
+  /** Connection acquisition time in milliseconds which counts as a fully utilized pool. */
+  private static final double LATENCY_SCALE_MILLIS = 1000d;
+
+  /**
+   * Replication lag of a PostgreSQL replica in seconds. The lag is 0 for a primary, and for a
+   * replica which has replayed all received WAL, as the last replay timestamp is not updated while
+   * the primary is idle.
+   */
+  private static final String SQL_REPLICATION_LAG =
+      """
+      select case when not pg_is_in_recovery()
+        or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+        else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end""";
+
+  private final List<Replica> replicas;
+
+  private final long maxLagMillis;
+
+  private final ToDoubleFunction<DataSource> poolUtilization;
+
+  /** Timeout in seconds of the health check query. */
+  static final int PROBE_QUERY_TIMEOUT_SECONDS = 5;
+
+  /** Executor of the background health checks, null if no background checks are run. */
+  private final ScheduledExecutorService healthCheckExecutor;
+
+  /**
+   * @param dataSources the replica data sources mapped by replica name.
+   * @param probeDataSources the unpooled data sources used for health checks mapped by replica
+   *     name, which should connect with a short timeout.
+   * @param maxLag the max replication lag of a healthy replica.
+   * @param healthCheckInterval the interval between health checks, no background checks are run
+   *     if zero.
+   * @param meterRegistry the {@link MeterRegistry}.
+   */
+  public ReplicaRoutingDataSource(
+      Map<String, DataSource> dataSources,
+      Map<String, DataSource> probeDataSources,
+      Duration maxLag,
+      Duration healthCheckInterval,
+      MeterRegistry meterRegistry) {
+    this(
+        dataSources,
+        probeDataSources,
+        maxLag,
+        healthCheckInterval,
+        meterRegistry,
+        DatabasePoolUtils::getPoolUtilization);
+  }
+
+  ReplicaRoutingDataSource(
+      Map<String, DataSource> dataSources,
+      Map<String, DataSource> probeDataSources,
+      Duration maxLag,
+      Duration healthCheckInterval,
+      MeterRegistry meterRegistry,
+      ToDoubleFunction<DataSource> poolUtilization) {
+    this.maxLagMillis = maxLag.toMillis();
+    this.poolUtilization = poolUtilization;
+
+    List<Replica> list = new ArrayList<>();
+    dataSources.forEach(
+        (name, dataSource) ->
+            list.add(new Replica(name, dataSource, checkNotNull(probeDataSources.get(name)))));
+    this.replicas = List.copyOf(list);
+
+    replicas.forEach(replica -> registerMetrics(replica, meterRegistry));
+
+    if (!healthCheckInterval.isZero()) {
+      AtomicInteger threadCount = new AtomicInteger();
+
+      healthCheckExecutor =
+          Executors.newScheduledThreadPool(
+              replicas.size(),
+              runnable -> {
+                Thread thread =
+                    new Thread(runnable, "replica-health-check-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+
+      for (Replica replica : replicas) {
+        healthCheckExecutor.scheduleWithFixedDelay(
+            () -> checkHealth(replica), 0, healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+      }
+    } else {
+      healthCheckExecutor = null;
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // AutoCloseable implementation
+  // -------------------------------------------------------------------------
+
+  /** Stops the background health checks. The replica data sources are not closed. */
+  @Override
+  public void close() {
+    if (healthCheckExecutor != null) {
+      healthCheckExecutor.shutdownNow();
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // AbstractDataSource implementation
+  // -------------------------------------------------------------------------
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(DataSource::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return getConnection(dataSource -> dataSource.getConnection(username, password));
+  }
+
+  // -------------------------------------------------------------------------
+  // Health checks
+  // -------------------------------------------------------------------------
+
+  /** Checks the health of all replicas, see {@link #checkHealth(Replica)}. */
+  void checkHealth() {
+    replicas.forEach(this::checkHealth);
+  }
+
+  /**
+   * Checks the health and replication lag of the given replica through its probe data source, and
+   * ejects or re-admits the replica accordingly.
+   */
+  void checkHealth(Replica replica) {
+    try (Connection connection = replica.probeDataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.setQueryTimeout(PROBE_QUERY_TIMEOUT_SECONDS);
+
+      try (ResultSet resultSet = statement.executeQuery(SQL_REPLICATION_LAG)) {
+        long lagMillis = resultSet.next() ? (long) (resultSet.getDouble(1) * 1000) : 0L;
+
+        replica.lagMillis = lagMillis;
+        replica.consecutiveFailures.set(0);
+
+        if (lagMillis > maxLagMillis) {
+          eject(replica, String.format("replication lag of %d ms", lagMillis));
+        } else {
+          readmit(replica);
+        }
+      }
+    } catch (SQLException | RuntimeException ex) {
+      log.debug("Health check failed for read replica '{}'", replica.name, ex);
+
+      eject(replica, "failed health check: " + ex.getMessage());
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // Supportive methods
+  // -------------------------------------------------------------------------
+
+  /**
+   * Acquires a connection from the least loaded healthy replica. If acquiring fails, the remaining
+   * replicas are tried in order of load, and the last exception is thrown if all replicas fail.
+   */
+  private Connection getConnection(ConnectionSupplier supplier) throws SQLException {
+    boolean[] attempted = new boolean[replicas.size()];
+    SQLException lastException = null;
+
+    for (int attempt = 0; attempt < replicas.size(); attempt++) {
+      int index = selectReplica(attempted);
+      attempted[index] = true;
+      Replica replica = replicas.get(index);
+
+      long start = System.nanoTime();
+
+      try {
+        Connection connection = supplier.get(replica.dataSource);
+        replica.recordSuccess(System.nanoTime() - start);
+        return connection;
+      } catch (SQLException ex) {
+        lastException = ex;
+
+        if (replica.consecutiveFailures.incrementAndGet() >= MAX_CONSECUTIVE_FAILURES) {
+          eject(replica, "failed to acquire connection: " + ex.getMessage());
+        }
+      }
+    }
+
+    throw lastException;
+  }
+
+  /**
+   * Returns the index of the least loaded healthy replica which is not yet attempted, or of the
+   * least loaded replica not yet attempted if none is healthy.
+   */
+  int selectReplica(boolean[] attempted) {
+    int size = replicas.size();
+    int offset = ThreadLocalRandom.current().nextInt(size);
+    int selected = -1;
+    double selectedLoad = Double.MAX_VALUE;
+    boolean selectedHealthy = false;
+
+    for (int i = 0; i < size; i++) {
+      int index = (offset + i) % size;
+
+      if (attempted[index]) {
+        continue;
+      }
+
+      Replica replica = replicas.get(index);
+      double load = getLoad(replica);
+      boolean healthy = replica.healthy;
+
+      if (selected == -1
+          || (healthy && !selectedHealthy)
+          || (healthy == selectedHealthy && load < selectedLoad)) {
+        selected = index;
+        selectedLoad = load;
+        selectedHealthy = healthy;
+      }
+    }
+
+    return selected;
+  }
+
+  /** Returns the load of the given replica. */
+  double getLoad(Replica replica) {
+    return poolUtilization.applyAsDouble(replica.dataSource)
+        + replica.getLatencyMillis() / LATENCY_SCALE_MILLIS;
+  }
+
+  private void eject(Replica replica, String reason) {
+    if (replica.healthy) {
+      replica.healthy = false;
+      replica.ejections.increment();
+
+      log.warn("Ejected read replica '{}' due to {}", replica.name, reason);
+    }
+  }
+
+  private void readmit(Replica replica) {
+    if (!replica.healthy) {
+      replica.healthy = true;
+
+      log.info("Re-admitted read replica '{}'", replica.name);
+    }
+  }
+
+  private void registerMetrics(Replica replica, MeterRegistry meterRegistry) {
+    Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+        .description("Whether the read replica receives queries")
+        .tag("replica", replica.name)
+        .register(meterRegistry);
+    Gauge.builder("db.replica.lag", replica, r -> r.lagMillis / 1000d)
+        .description("Replication lag of the read replica in seconds")
+        .tag("replica", replica.name)
+        .register(meterRegistry);
+    Gauge.builder("db.replica.load", replica, this::getLoad)
+        .description("Load of the read replica used for routing")
+        .tag("replica", replica.name)
+        .register(meterRegistry);
+
+    replica.connections =
+        Counter.builder("db.replica.connections")
+            .description("Connections acquired from the read replica")
+            .tag("replica", replica.name)
+            .register(meterRegistry);
+    replica.ejections =
+        Counter.builder("db.replica.ejections")
+            .description("Number of times the read replica was ejected")
+            .tag("replica", replica.name)
+            .register(meterRegistry);
+  }
+
+  List<Replica> getReplicas() {
+    return replicas;
+  }
+
+  boolean isHealthCheckRunning() {
+    return healthCheckExecutor != null && !healthCheckExecutor.isShutdown();
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+    Connection get(DataSource dataSource) throws SQLException;
+  }
+
+  /** Routing state of a read replica. */
+  static final class Replica {
+    private final String name;
+
+    private final DataSource dataSource;
+
+    private final DataSource probeDataSource;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /** Average connection acquisition time in milliseconds, stored as double bits. */
+    private final AtomicLong latencyMillis = new AtomicLong(Double.doubleToLongBits(0d));
+
+    private volatile boolean healthy = true;
+
+    private volatile long lagMillis;
+
+    private Counter connections;
+
+    private Counter ejections;
+
+    Replica(String name, DataSource dataSource, DataSource probeDataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+      this.probeDataSource = probeDataSource;
+    }
+
+    boolean isHealthy() {
+      return healthy;
+    }
+
+    double getLatencyMillis() {
+      return Double.longBitsToDouble(latencyMillis.get());
+    }
+
+    private void recordSuccess(long nanos) {
+      double millis = nanos / 1_000_000d;
+
+      latencyMillis.getAndUpdate(
+          bits ->
+              Double.doubleToLongBits(
+                  LATENCY_WEIGHT * millis + (1 - LATENCY_WEIGHT) * Double.longBitsToDouble(bits)));
+      consecutiveFailures.set(0);
+      connections.increment();
+    }
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hisp.dhis.datasource.ReplicaRoutingDataSource.Replica;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicaRoutingDataSourceTest {
+  private DataSource replicaA;
+
+  private DataSource replicaB;
+
+  private DataSource probeA;
+
+  private DataSource probeB;
+
+  private Map<DataSource, Double> utilization;
+
+  private MeterRegistry meterRegistry;
+
+  private ReplicaRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    replicaA = mock(DataSource.class);
+    replicaB = mock(DataSource.class);
+    probeA = mock(DataSource.class);
+    probeB = mock(DataSource.class);
+    utilization = new LinkedHashMap<>(Map.of(replicaA, 0d, replicaB, 0d));
+    meterRegistry = new SimpleMeterRegistry();
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("read_1", replicaA);
+    replicas.put("read_2", replicaB);
+
+    dataSource =
+        new ReplicaRoutingDataSource(
+            replicas,
+            Map.of("read_1", probeA, "read_2", probeB),
+            Duration.ofSeconds(30),
+            Duration.ZERO,
+            meterRegistry,
+            utilization::get);
+  }
+
+  @Test
+  void testRoutesToLeastLoadedReplica() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(replicaB.getConnection()).thenReturn(connection);
+    utilization.put(replicaA, 0.8);
+    utilization.put(replicaB, 0.1);
+
+    for (int i = 0; i < 10; i++) {
+      assertSame(connection, dataSource.getConnection());
+    }
+
+    verify(replicaA, never()).getConnection();
+    assertEquals(
+        10, meterRegistry.get("db.replica.connections").tag("replica", "read_2").counter().count());
+  }
+
+  @Test
+  void testFailsOverToNextReplica() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+    when(replicaB.getConnection()).thenReturn(connection);
+    utilization.put(replicaB, 0.5);
+
+    assertSame(connection, dataSource.getConnection());
+  }
+
+  @Test
+  void testEjectsReplicaAfterConsecutiveFailures() throws SQLException {
+    Connection connection = mock(Connection.class);
+    when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+    when(replicaB.getConnection()).thenReturn(connection);
+    utilization.put(replicaB, 0.5);
+
+    for (int i = 0; i < ReplicaRoutingDataSource.MAX_CONSECUTIVE_FAILURES; i++) {
+      dataSource.getConnection();
+    }
+
+    assertFalse(dataSource.getReplicas().get(0).isHealthy());
+    assertTrue(dataSource.getReplicas().get(1).isHealthy());
+    assertEquals(
+        1, meterRegistry.get("db.replica.ejections").tag("replica", "read_1").counter().count());
+    assertEquals(
+        0, meterRegistry.get("db.replica.healthy").tag("replica", "read_1").gauge().value());
+  }
+
+  @Test
+  void testThrowsWhenAllReplicasFail() throws SQLException {
+    when(replicaA.getConnection()).thenThrow(new SQLException("a down"));
+    when(replicaB.getConnection()).thenThrow(new SQLException("b down"));
+
+    assertThrows(SQLException.class, dataSource::getConnection);
+  }
+
+  @Test
+  void testHealthCheckEjectsLaggingReplicaAndReadmits() throws SQLException {
+    ResultSet resultA = mockLag(probeA);
+    mockLag(probeB);
+    when(resultA.getDouble(1)).thenReturn(120d, 2d);
+
+    dataSource.checkHealth();
+
+    assertFalse(dataSource.getReplicas().get(0).isHealthy());
+    assertTrue(dataSource.getReplicas().get(1).isHealthy());
+    assertEquals(120, meterRegistry.get("db.replica.lag").tag("replica", "read_1").gauge().value());
+
+    dataSource.checkHealth();
+
+    assertTrue(dataSource.getReplicas().get(0).isHealthy());
+    assertEquals(2, meterRegistry.get("db.replica.lag").tag("replica", "read_1").gauge().value());
+  }
+
+  @Test
+  void testHealthCheckDoesNotUseReplicaPool() throws SQLException {
+    mockLag(probeA);
+    mockLag(probeB);
+
+    dataSource.checkHealth();
+
+    verify(probeA).getConnection();
+    verify(replicaA, never()).getConnection();
+    assertTrue(dataSource.getReplicas().get(0).isHealthy());
+  }
+
+  @Test
+  void testHealthCheckOfUnresponsiveReplicaDoesNotDelayOthers() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(probeA.getConnection())
+        .thenAnswer(
+            invocation -> {
+              release.await(10, TimeUnit.SECONDS);
+              throw new SQLException("a timed out");
+            });
+    when(mockLag(probeB).getDouble(1)).thenReturn(120d);
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("read_1", replicaA);
+    replicas.put("read_2", replicaB);
+
+    ReplicaRoutingDataSource checkedDataSource =
+        new ReplicaRoutingDataSource(
+            replicas,
+            Map.of("read_1", probeA, "read_2", probeB),
+            Duration.ofSeconds(30),
+            Duration.ofHours(1),
+            meterRegistry,
+            utilization::get);
+
+    try {
+      // The check of read_1 hangs, read_2 is still checked and ejected for its lag
+      Replica lagging = checkedDataSource.getReplicas().get(1);
+      long giveUpTime = System.currentTimeMillis() + 5000;
+      while (lagging.isHealthy() && System.currentTimeMillis() < giveUpTime) {
+        Thread.sleep(10);
+      }
+
+      assertFalse(lagging.isHealthy());
+      assertTrue(checkedDataSource.getReplicas().get(0).isHealthy());
+    } finally {
+      release.countDown();
+      checkedDataSource.close();
+    }
+  }
+
+  @Test
+  void testFallsBackToUnhealthyReplicasWhenNoneHealthy() throws SQLException {
+    when(probeA.getConnection()).thenThrow(new SQLException("a down"));
+    when(probeB.getConnection()).thenThrow(new SQLException("b down"));
+
+    dataSource.checkHealth();
+
+    assertFalse(dataSource.getReplicas().get(0).isHealthy());
+    assertFalse(dataSource.getReplicas().get(1).isHealthy());
+
+    Connection connection = mock(Connection.class);
+    when(replicaB.getConnection()).thenReturn(connection);
+    utilization.put(replicaA, 0.9);
+
+    assertSame(connection, dataSource.getConnection());
+  }
+
+  @Test
+  void testCloseStopsHealthChecks() {
+    ReplicaRoutingDataSource checkedDataSource =
+        new ReplicaRoutingDataSource(
+            Map.of("read_1", replicaA),
+            Map.of("read_1", probeA),
+            Duration.ofSeconds(30),
+            Duration.ofHours(1),
+            meterRegistry,
+            utilization::get);
+
+    assertTrue(checkedDataSource.isHealthCheckRunning());
+
+    checkedDataSource.close();
+
+    assertFalse(checkedDataSource.isHealthCheckRunning());
+    assertFalse(dataSource.isHealthCheckRunning());
+  }
+
+  private ResultSet mockLag(DataSource probe) throws SQLException {
+    Connection connection = mock(Connection.class);
+    Statement statement = mock(Statement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(probe.getConnection()).thenReturn(connection);
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true);
+    return resultSet;
+  }
+}
@@ -130,6 +130,21 @@ public class DefaultCacheProvider implements CacheProvider {
             .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
   }
 
+  /**
+   * Cache for markers of analytics queries which are being computed, used to coalesce identical
+   * queries across nodes. Markers are removed when the computation completes. The expiry is kept
+   * short and the owning node refreshes its markers, so that markers of nodes which went down
+   * expire quickly.
+   */
+  @Override
+  public <V> Cache<V> createAnalyticsInFlightCache() {
+    return registerCache(
+        this.<V>newBuilder()
+            .forRegion(Region.analyticsInFlight.name())
+            .expireAfterWrite(30, TimeUnit.SECONDS)
+            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_1K))));
+  }
+
   @Override
   public <V> Cache<V> createOutliersCache() {
     return registerCache(
@@ -165,17 +180,6 @@ public class DefaultCacheProvider implements CacheProvider {
             .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_1))));
   }
 
-  @Override
-  public <V> Cache<V> createInUserOrgUnitHierarchyCache() {
-    return registerCache(
-        this.<V>newBuilder()
-            .forRegion(Region.inUserOrgUnitHierarchy.name())
-            .expireAfterWrite(1, TimeUnit.HOURS)
-            .withInitialCapacity((int) getActualSize(SIZE_1K))
-            .forceInMemory()
-            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
-  }
-
   @Override
   public <V> Cache<V> createUserAccountRecoverAttemptCache(V defaultValue) {
     return registerCache(
@@ -456,4 +460,34 @@ public class DefaultCacheProvider implements CacheProvider {
             .forceInMemory()
             .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_1))));
   }
+
+  /**
+   * Cache for parsed expressions. Entries hold parse trees which can not be shared between
+   * instances, so the cache is always kept in memory.
+   */
+  @Override
+  public <V> Cache<V> createCompiledExpressionCache() {
+    return registerCache(
+        this.<V>newBuilder()
+            .forRegion(Region.compiledExpressionCache.name())
+            .expireAfterAccess(12, TimeUnit.HOURS)
+            .withInitialCapacity((int) getActualSize(SIZE_1K))
+            .forceInMemory()
+            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_10K))));
+  }
+
+  /**
+   * Cache for program rules compiled for the rule engine, per program and user scope. Entries hold
+   * rule engine models which are not serializable, so the cache is always kept in memory.
+   */
+  @Override
+  public <V> Cache<V> createRuleEngineContextCache() {
+    return registerCache(
+        this.<V>newBuilder()
+            .forRegion(Region.ruleEngineContextCache.name())
+            .expireAfterWrite(1, HOURS)
+            .withInitialCapacity((int) getActualSize(SIZE_100))
+            .forceInMemory()
+            .withMaximumSize(orZeroInTestRun(getActualSize(SIZE_1K))));
+  }
 }
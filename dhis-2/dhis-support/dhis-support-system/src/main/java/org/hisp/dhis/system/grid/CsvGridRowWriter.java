@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2004-2022, University of Oslo
+ * Copyright (c) 2004-2026, University of Oslo
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -27,51 +27,53 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-package org.hisp.dhis.datasource;
+package org.hisp.dhis.system.grid;
 
-import com.google.common.collect.Iterators;
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.Collections;
-import java.util.Iterator;
+import static org.hisp.dhis.common.adapter.OutputFormatter.maybeFormat;
+
+import com.csvreader.CsvWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
-import javax.sql.DataSource;
-import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.common.GridHeader;
 
 /**
- * Data source implementation which routes to the configured target data sources in a circular
- * fashion.
- *
- * @author Lars Helge Overland
+ * {@link GridRowWriter} which writes the CSV representation of a grid, equal to the output of
+ * {@link GridUtils#toCsv(Grid, Writer)}. The meta-data of the grid is not part of the output.
  */
-public class CircularRoutingDataSource extends AbstractDataSource {
-  private Iterator<DataSource> dataSourceIterator;
+public class CsvGridRowWriter implements GridRowWriter {
+  private static final char CSV_DELIMITER = ',';
 
-  public CircularRoutingDataSource() {}
+  private final CsvWriter csvWriter;
 
-  public CircularRoutingDataSource(List<DataSource> targetDataSources) {
-    this.dataSourceIterator = Iterators.cycle(Collections.synchronizedList(targetDataSources));
+  public CsvGridRowWriter(Writer writer) {
+    this.csvWriter = new CsvWriter(writer, CSV_DELIMITER);
   }
 
-  // -------------------------------------------------------------------------
-  // AbstractDataSource implementation
-  // -------------------------------------------------------------------------
-
   @Override
-  public Connection getConnection() throws SQLException {
-    return getDataSource().getConnection();
+  public void writeStart(Grid grid) throws IOException {
+    if (!grid.getHeaders().isEmpty()) {
+      for (GridHeader header : grid.getHeaders()) {
+        csvWriter.write(header.getDisplayColumn());
+      }
+
+      csvWriter.endRecord();
+    }
   }
 
   @Override
-  public Connection getConnection(String username, String password) throws SQLException {
-    return getDataSource().getConnection(username, password);
-  }
+  public void writeRow(List<Object> row) throws IOException {
+    for (Object value : row) {
+      csvWriter.write(value != null ? String.valueOf(maybeFormat(value)) : StringUtils.EMPTY);
+    }
 
-  // -------------------------------------------------------------------------
-  // Private methods
-  // -------------------------------------------------------------------------
+    csvWriter.endRecord();
+  }
 
-  private synchronized DataSource getDataSource() {
-    return dataSourceIterator.next();
+  @Override
+  public void writeEnd() throws IOException {
+    csvWriter.flush();
   }
 }
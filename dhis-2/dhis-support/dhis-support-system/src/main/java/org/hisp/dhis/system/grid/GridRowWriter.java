@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.grid;
+
+import java.io.IOException;
+import java.util.List;
+import org.hisp.dhis.common.Grid;
+
+/**
+ * Writes a grid to an output row by row, so that the rows of large grids do not have to be held in
+ * memory. The headers and meta-data are written first, followed by any number of rows, and the
+ * output is completed by {@link #writeEnd()}.
+ *
+ * @see JsonGridRowWriter
+ * @see CsvGridRowWriter
+ */
+public interface GridRowWriter {
+  /**
+   * Writes the headers and the meta-data of the given grid. The rows of the grid are not written.
+   *
+   * @param grid the {@link Grid} holding the headers and meta-data.
+   * @throws IOException if writing to the output fails.
+   */
+  void writeStart(Grid grid) throws IOException;
+
+  /**
+   * Writes the given row. The row must hold one value per header written by {@link
+   * #writeStart(Grid)}.
+   *
+   * @param row the row values.
+   * @throws IOException if writing to the output fails.
+   */
+  void writeRow(List<Object> row) throws IOException;
+
+  /**
+   * Completes the output and flushes it. No rows can be written after this method is invoked.
+   *
+   * @throws IOException if writing to the output fails.
+   */
+  void writeEnd() throws IOException;
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.grid;
+
+import static org.hisp.dhis.common.adapter.OutputFormatter.maybeFormat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.hisp.dhis.common.Grid;
+
+/**
+ * {@link GridRowWriter} which writes the JSON representation of a grid. The output has the same
+ * structure as a serialized {@link ListGrid}, where the height is written after the rows as it is
+ * only known once all rows are written.
+ */
+public class JsonGridRowWriter implements GridRowWriter {
+  private final ObjectMapper objectMapper;
+
+  private final OutputStream out;
+
+  private JsonGenerator generator;
+
+  private int width;
+
+  private int height;
+
+  public JsonGridRowWriter(ObjectMapper objectMapper, OutputStream out) {
+    this.objectMapper = objectMapper;
+    this.out = out;
+  }
+
+  @Override
+  public void writeStart(Grid grid) throws IOException {
+    generator = objectMapper.getFactory().createGenerator(out);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    width = grid.getHeaders().size();
+
+    generator.writeStartObject();
+    generator.writeObjectField("headers", grid.getHeaders());
+    generator.writeObjectField("metaData", grid.getMetaData());
+    generator.writeNumberField("headerWidth", width);
+    generator.writeArrayFieldStart("rows");
+  }
+
+  @Override
+  public void writeRow(List<Object> row) throws IOException {
+    generator.writeStartArray();
+
+    for (Object value : row) {
+      generator.writeString(value != null ? String.valueOf(maybeFormat(value)) : StringUtils.EMPTY);
+    }
+
+    generator.writeEndArray();
+    height++;
+  }
+
+  @Override
+  public void writeEnd() throws IOException {
+    generator.writeEndArray();
+    generator.writeNumberField("height", height);
+    generator.writeNumberField("width", height > 0 ? width : 0);
+    generator.writeEndObject();
+    generator.close();
+  }
+}
@@ -48,6 +48,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -58,6 +59,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JRField;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.math3.stat.regression.SimpleRegression;
@@ -135,6 +137,12 @@ public class ListGrid implements Grid, Serializable {
 
   private boolean lastDataRow;
 
+  /**
+   * Indicates whether the rows of this grid are shared with a read-only snapshot, in which case
+   * they are copied before the first modification.
+   */
+  private boolean sharedRows;
+
   /** Default constructor. */
   public ListGrid() {
     this.headers = new ArrayList<>();
@@ -156,6 +164,67 @@ public class ListGrid implements Grid, Serializable {
     this.grid = new ArrayList<>();
   }
 
+  /**
+   * Creates a read-only snapshot of the given grid. The rows are copied once into unmodifiable
+   * lists and the meta data is deep copied, so that the snapshot is isolated from the given grid
+   * and can be shared by any number of readers through {@link #copyOnWrite()}.
+   *
+   * @param grid the {@link Grid} to take a snapshot of.
+   * @return a read-only {@link ListGrid}.
+   */
+  public static ListGrid snapshotOf(Grid grid) {
+    ListGrid snapshot =
+        new ListGrid(deepCopy(grid.getMetaData()), deepCopy(grid.getInternalMetaData()));
+
+    List<List<Object>> rows = new ArrayList<>(grid.getHeight());
+
+    for (List<Object> row : grid.getRows()) {
+      rows.add(Collections.unmodifiableList(new ArrayList<>(row)));
+    }
+
+    snapshot.title = grid.getTitle();
+    snapshot.subtitle = grid.getSubtitle();
+    snapshot.table = grid.getTable();
+    snapshot.headers = deepCopy(new ArrayList<>(grid.getHeaders()));
+    snapshot.performanceMetrics = grid.getPerformanceMetrics();
+    snapshot.rowContext = deepCopy(grid.getRowContext());
+    snapshot.refs = grid.getRefs() != null ? new ArrayList<>(grid.getRefs()) : null;
+    snapshot.grid = Collections.unmodifiableList(rows);
+    snapshot.sharedRows = true;
+    snapshot.currentRowWriteIndex = rows.size() - 1;
+    snapshot.lastDataRow = grid.hasLastDataRow();
+    snapshot.updateColumnIndexMap();
+
+    return snapshot;
+  }
+
+  /**
+   * Returns a grid which shares the rows of this grid instead of copying them. The rows are copied
+   * lazily the first time the returned grid is modified through one of the {@link Grid} methods,
+   * which leaves this grid untouched. Until then, the lists returned by {@link #getRows()} and
+   * {@link #getRow(int)} are read-only. Headers are copied, and the top level of the meta data maps
+   * is copied, whereas nested meta data values are shared and must be treated as read-only.
+   *
+   * @return a copy-on-write {@link ListGrid}.
+   */
+  public ListGrid copyOnWrite() {
+    ListGrid copy = new ListGrid(shallowCopy(metaData), shallowCopy(internalMetaData));
+    copy.title = title;
+    copy.subtitle = subtitle;
+    copy.table = table;
+    copy.headers = deepCopy(new ArrayList<>(headers));
+    copy.performanceMetrics = performanceMetrics;
+    copy.rowContext = rowContext != null ? new TreeMap<>(rowContext) : null;
+    copy.refs = refs != null ? new ArrayList<>(refs) : null;
+    copy.grid = grid;
+    copy.sharedRows = true;
+    copy.currentRowWriteIndex = currentRowWriteIndex;
+    copy.lastDataRow = lastDataRow;
+    copy.updateColumnIndexMap();
+
+    return copy;
+  }
+
   // ---------------------------------------------------------------------
   // Public methods
   // ---------------------------------------------------------------------
@@ -361,6 +430,8 @@ public class ListGrid implements Grid, Serializable {
 
   @Override
   public Grid addRow() {
+    ensureRowsWritable();
+
     grid.add(new ArrayList<>());
 
     currentRowWriteIndex++;
@@ -370,10 +441,14 @@ public class ListGrid implements Grid, Serializable {
 
   @Override
   public Grid addRows(Grid grid) {
+    ensureRowsWritable();
+
     List<List<Object>> rows = grid.getRows();
 
+    boolean shared = grid instanceof ListGrid listGrid && listGrid.sharedRows;
+
     for (List<Object> row : rows) {
-      this.grid.add(row);
+      this.grid.add(shared ? new ArrayList<>(row) : row);
 
       currentRowWriteIndex++;
     }
@@ -383,6 +458,8 @@ public class ListGrid implements Grid, Serializable {
 
   @Override
   public Grid addValue(Object value) {
+    ensureRowsWritable();
+
     grid.get(currentRowWriteIndex).add(value);
 
     return this;
@@ -390,6 +467,8 @@ public class ListGrid implements Grid, Serializable {
 
   @Override
   public Grid addValues(Object[] values) {
+    ensureRowsWritable();
+
     List<Object> row = grid.get(currentRowWriteIndex);
 
     row.addAll(Arrays.asList(values));
@@ -499,6 +578,7 @@ public class ListGrid implements Grid, Serializable {
   @Override
   public Grid addColumn(List<Object> columnValues) {
     verifyGridState();
+    ensureRowsWritable();
 
     int currentRowIndex = 0;
     int currentColumnIndex = 0;
@@ -520,6 +600,7 @@ public class ListGrid implements Grid, Serializable {
   @Override
   public Grid addColumn(int columnIndex, List<Object> columnValues) {
     verifyGridState();
+    ensureRowsWritable();
 
     int currentRowIndex = 0;
     int currentColumnIndex = 0;
@@ -544,6 +625,7 @@ public class ListGrid implements Grid, Serializable {
     Validate.inclusiveBetween(0, getWidth() - 1L, referenceColumnIndex);
     Objects.requireNonNull(valueMap);
     verifyGridState();
+    ensureRowsWritable();
 
     for (List<Object> row : grid) {
       Object refVal = row.get(referenceColumnIndex);
@@ -594,6 +676,7 @@ public class ListGrid implements Grid, Serializable {
   @Override
   public Grid removeColumn(int columnIndex) {
     verifyGridState();
+    ensureRowsWritable();
 
     if (!headers.isEmpty()) {
       headers.remove(columnIndex);
@@ -621,6 +704,8 @@ public class ListGrid implements Grid, Serializable {
 
   @Override
   public Grid removeCurrentWriteRow() {
+    ensureRowsWritable();
+
     grid.remove(currentRowWriteIndex);
 
     currentRowWriteIndex--;
@@ -675,6 +760,8 @@ public class ListGrid implements Grid, Serializable {
       throw new IllegalArgumentException("Column index out of bounds: " + columnIndex);
     }
 
+    ensureRowsWritable();
+
     Collections.sort(grid, new GridRowComparator(columnIndex, order));
 
     return this;
@@ -829,6 +916,8 @@ public class ListGrid implements Grid, Serializable {
       return this;
     }
 
+    ensureRowsWritable();
+
     List<Object> sourceColumn = getColumn(sourceColumnIndex);
 
     for (int rowIndex = 0; rowIndex < sourceColumn.size(); rowIndex++) {
@@ -1088,6 +1177,7 @@ public class ListGrid implements Grid, Serializable {
   @Override
   public void repositionColumns(List<Integer> columnIndexes) {
     verifyGridState();
+    ensureRowsWritable();
 
     List<List<Object>> rows = getRows();
 
@@ -1164,6 +1254,39 @@ public class ListGrid implements Grid, Serializable {
     }
   }
 
+  /**
+   * Copies the rows of this grid if they are shared with a read-only snapshot, so that they can be
+   * modified without affecting other readers of the snapshot.
+   */
+  private void ensureRowsWritable() {
+    if (!sharedRows) {
+      return;
+    }
+
+    List<List<Object>> rows = new ArrayList<>(grid.size());
+
+    for (List<Object> row : grid) {
+      rows.add(new ArrayList<>(row));
+    }
+
+    grid = rows;
+    sharedRows = false;
+  }
+
+  /**
+   * Returns a copy of the given map where the top level entries are copied and the values are
+   * shared. The iteration order of the given map is retained.
+   */
+  private static <K, V> Map<K, V> shallowCopy(Map<K, V> map) {
+    return map != null ? new LinkedHashMap<>(map) : null;
+  }
+
+  /** Returns a deep copy of the given serializable object through Java serialization. */
+  @SuppressWarnings("unchecked")
+  private static <T> T deepCopy(T object) {
+    return object != null ? (T) SerializationUtils.clone((Serializable) object) : null;
+  }
+
   /**
    * Updates the mapping between header columns and grid indexes. This method should be invoked
    * whenever the columns are manipulated.
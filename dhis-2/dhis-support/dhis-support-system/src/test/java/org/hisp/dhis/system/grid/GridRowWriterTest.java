@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.common.GridHeader;
+import org.hisp.dhis.common.ValueType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link JsonGridRowWriter} and {@link CsvGridRowWriter}. */
+class GridRowWriterTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private Grid grid;
+
+  @BeforeEach
+  void setUp() {
+    Map<String, Object> metaData = new HashMap<>();
+    metaData.put("items", Map.of("ouA", "Org unit A"));
+
+    grid = new ListGrid();
+    grid.addHeader(new GridHeader("ou", "Org unit", ValueType.TEXT, false, true))
+        .addHeader(new GridHeader("value", "Value", ValueType.NUMBER, false, false));
+    grid.setMetaData(metaData);
+  }
+
+  @Test
+  void testWriteJson() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GridRowWriter writer = new JsonGridRowWriter(objectMapper, out);
+
+    writer.writeStart(grid);
+    writer.writeRow(List.of("ouA", 12));
+    writer.writeRow(Arrays.asList("ouB", null));
+    writer.writeEnd();
+
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+
+    assertEquals(2, json.get("headers").size());
+    assertEquals("ou", json.get("headers").get(0).get("name").asText());
+    assertEquals("Org unit A", json.get("metaData").get("items").get("ouA").asText());
+    assertEquals(2, json.get("headerWidth").asInt());
+    assertEquals(2, json.get("height").asInt());
+    assertEquals(2, json.get("width").asInt());
+    assertEquals("ouA", json.get("rows").get(0).get(0).asText());
+    assertEquals("12", json.get("rows").get(0).get(1).asText());
+    assertEquals("", json.get("rows").get(1).get(1).asText());
+  }
+
+  @Test
+  void testWriteJsonWithoutRows() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    GridRowWriter writer = new JsonGridRowWriter(objectMapper, out);
+
+    writer.writeStart(grid);
+    writer.writeEnd();
+
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+
+    assertEquals(0, json.get("rows").size());
+    assertEquals(0, json.get("height").asInt());
+    assertEquals(0, json.get("width").asInt());
+  }
+
+  @Test
+  void testWriteCsvEqualsGridUtils() throws Exception {
+    List<List<Object>> rows = List.of(List.of("ouA", 12), List.of("ouB, 2", 3));
+
+    StringWriter streamed = new StringWriter();
+    GridRowWriter writer = new CsvGridRowWriter(streamed);
+    writer.writeStart(grid);
+
+    for (List<Object> row : rows) {
+      writer.writeRow(row);
+      grid.addRow().addValuesAsList(row);
+    }
+
+    writer.writeEnd();
+
+    StringWriter expected = new StringWriter();
+    GridUtils.toCsv(grid, expected);
+
+    assertEquals(expected.toString(), streamed.toString());
+  }
+}
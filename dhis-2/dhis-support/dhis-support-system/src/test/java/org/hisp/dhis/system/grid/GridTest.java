@@ -35,7 +35,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hisp.dhis.feedback.ErrorCode.E7230;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -1002,4 +1004,54 @@ class GridTest {
     // Then
     assertEquals("Header param `headerDoesNotExist` does not exist", thrown.getMessage());
   }
+
+  @Test
+  void testSnapshotOfIsIsolatedFromSource() {
+    ListGrid snapshot = ListGrid.snapshotOf(gridA);
+
+    gridA.addRow().addValue(51).addValue(52).addValue(53);
+    gridA.getRow(0).set(0, 99);
+
+    assertEquals(4, snapshot.getHeight());
+    assertEquals(11, snapshot.getValue(0, 0));
+    assertEquals(3, snapshot.getHeaderWidth());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.getRow(0).set(0, 99));
+  }
+
+  @Test
+  void testCopyOnWriteSharesRowsUntilModified() {
+    ListGrid snapshot = ListGrid.snapshotOf(gridA);
+
+    ListGrid copy = snapshot.copyOnWrite();
+
+    assertSame(snapshot.getRows(), copy.getRows());
+
+    copy.addRow().addValue(51).addValue(52).addValue(53);
+    copy.substituteMetaData(0, 0, Map.of(11, "Eleven"));
+
+    assertNotSame(snapshot.getRows(), copy.getRows());
+    assertEquals(5, copy.getHeight());
+    assertEquals("Eleven", copy.getValue(0, 0));
+    assertEquals(4, snapshot.getHeight());
+    assertEquals(11, snapshot.getValue(0, 0));
+  }
+
+  @Test
+  void testCopyOnWriteHeadersAndMetaData() {
+    gridA.addMetaData("keyA", "valueA");
+
+    ListGrid snapshot = ListGrid.snapshotOf(gridA);
+
+    ListGrid copy = snapshot.copyOnWrite();
+    copy.addMetaData("keyB", "valueB");
+    copy.substituteMetaData(Map.of("ColA", "Column A"));
+    copy.removeColumn(2);
+
+    assertEquals("valueA", copy.getMetaData().get("keyA"));
+    assertFalse(snapshot.getMetaData().containsKey("keyB"));
+    assertEquals("ColA", snapshot.getHeaders().get(0).getName());
+    assertEquals("Column A", copy.getHeaders().get(0).getName());
+    assertEquals(3, snapshot.getWidth());
+    assertEquals(2, copy.getWidth());
+  }
 }
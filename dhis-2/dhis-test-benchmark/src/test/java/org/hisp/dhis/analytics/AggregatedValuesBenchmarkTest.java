@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.system.grid.ListGrid;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark comparing {@link AggregatedValues} with maps keyed by dimension items joined by
+ * "-", for the path from query result rows through merging of partial results to grid population.
+ * Each operation merges the results of four queries, as done when a query is split by the query
+ * planner.
+ */
+@Tag("benchmark")
+public class AggregatedValuesBenchmarkTest {
+  private static final int QUERIES = 4;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    /** Simulated result set rows, with dimension item values and value per row. */
+    public String[][] rows;
+
+    public double[] rowValues;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      rows = new String[rowCount][];
+      rowValues = new double[rowCount];
+
+      for (int i = 0; i < rowCount; i++) {
+        rows[i] =
+            new String[] {
+              "DataElem" + String.format("%03d", i % 200),
+              "2024" + String.format("%02d", (i / 200) % 12 + 1),
+              "OrgUnit" + String.format("%04d", i / 2400)
+            };
+        rowValues[i] = i;
+      }
+    }
+  }
+
+  public static class AggregatedValuesBenchmarks {
+    @Benchmark
+    public void stringKeyMap(BenchmarkState state, Blackhole bh) {
+      Map<String, Object> map = new HashMap<>();
+
+      for (int query = 0; query < QUERIES; query++) {
+        Map<String, Object> queryMap = new HashMap<>();
+
+        for (int i = query; i < state.rowCount; i += QUERIES) {
+          StringBuilder key = new StringBuilder();
+
+          for (String item : state.rows[i]) {
+            // Copy mimics strings read from the result set
+            key.append(new String(item)).append("-");
+          }
+
+          key.deleteCharAt(key.length() - 1);
+          queryMap.put(key.toString(), state.rowValues[i]);
+        }
+
+        map.putAll(queryMap);
+      }
+
+      Grid grid = new ListGrid();
+
+      for (Map.Entry<String, Object> entry : map.entrySet()) {
+        grid.addRow().addValues(entry.getKey().split("-")).addValue(entry.getValue());
+      }
+
+      bh.consume(grid);
+    }
+
+    @Benchmark
+    public void aggregatedValues(BenchmarkState state, Blackhole bh) {
+      AggregatedValues values = new AggregatedValues();
+
+      for (int query = 0; query < QUERIES; query++) {
+        AggregatedValues queryValues = new AggregatedValues();
+
+        for (int i = query; i < state.rowCount; i += QUERIES) {
+          String[] row = state.rows[i];
+          String[] items = new String[row.length];
+
+          for (int j = 0; j < row.length; j++) {
+            // Copy mimics strings read from the result set
+            items[j] = new String(row[j]);
+          }
+
+          queryValues.append(items, state.rowValues[i]);
+        }
+
+        values.putAll(queryValues);
+      }
+
+      Grid grid = new ListGrid();
+
+      for (int row = 0; row < values.size(); row++) {
+        grid.addRow().addValues(values.getItems(row)).addValue(values.getValue(row));
+      }
+
+      bh.consume(grid);
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        AggregatedValuesBenchmarks.class, "aggregated-values", TimeUnit.MILLISECONDS);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.period.Period;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of {@link DataQueryParams#getKey()} which is computed for every analytics query
+ * to look up and store cached responses.
+ */
+@Tag("benchmark")
+public class DataQueryParamsKeyBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"10", "100"})
+    public int items;
+
+    public DataQueryParams params;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      List<DataElement> dataElements = new ArrayList<>(items);
+      List<OrganisationUnit> orgUnits = new ArrayList<>(items);
+      for (int i = 0; i < items; i++) {
+        DataElement de = new DataElement("DE" + i);
+        de.setUid(CodeGenerator.generateUid());
+        dataElements.add(de);
+        OrganisationUnit ou = new OrganisationUnit("OU" + i);
+        ou.setUid(CodeGenerator.generateUid());
+        orgUnits.add(ou);
+      }
+      List<Period> periods = new ArrayList<>(12);
+      for (int i = 1; i <= 12; i++) {
+        periods.add(Period.of(String.format("2024%02d", i)));
+      }
+
+      params =
+          DataQueryParams.newBuilder()
+              .withDataDimensionItems(dataElements)
+              .withOrganisationUnits(orgUnits)
+              .withPeriods(periods)
+              .build();
+    }
+  }
+
+  public static class DataQueryParamsKeyBenchmarks {
+    @Benchmark
+    public void getKey(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.params.getKey());
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        DataQueryParamsKeyBenchmarks.class, "data-query-params-key", TimeUnit.MICROSECONDS);
+  }
+}
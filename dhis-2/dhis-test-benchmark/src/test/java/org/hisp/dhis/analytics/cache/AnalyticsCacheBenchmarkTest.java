@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.cache;
+
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.SerializationUtils;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheBuilder;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.common.GridHeader;
+import org.hisp.dhis.common.ValueType;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.setting.SystemSettingsService;
+import org.hisp.dhis.system.grid.ListGrid;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark comparing cache hits of {@link AnalyticsCache}, which hands out copy-on-write views
+ * of read-only grid snapshots, with cloning the cached grid through Java serialization.
+ */
+@Tag("benchmark")
+public class AnalyticsCacheBenchmarkTest {
+  private static final String KEY = "key";
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"1000", "10000", "50000"})
+    public int rowCount;
+
+    public AnalyticsCache analyticsCache;
+
+    public Grid cachedGrid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      CacheBuilder<Grid> cacheBuilder = new SimpleCacheBuilder<>();
+      cacheBuilder.expireAfterWrite(1L, TimeUnit.HOURS);
+      CacheProvider cacheProvider = mock(CacheProvider.class);
+      Cache<Grid> cache = new LocalCache<>(cacheBuilder);
+      Mockito.<Cache<Grid>>when(cacheProvider.createAnalyticsCache()).thenReturn(cache);
+
+      analyticsCache =
+          new AnalyticsCache(
+              cacheProvider,
+              new AnalyticsCacheSettings(mock(SystemSettingsService.class)),
+              mock(DhisConfigurationProvider.class),
+              new SimpleMeterRegistry());
+      cachedGrid = createGrid(rowCount);
+      analyticsCache.put(KEY, cachedGrid, 3600);
+    }
+  }
+
+  public static class AnalyticsCacheBenchmarks {
+    @Benchmark
+    public void serializationCloneHit(BenchmarkState state, Blackhole bh) {
+      bh.consume(SerializationUtils.clone(state.cachedGrid));
+    }
+
+    @Benchmark
+    public void copyOnWriteHit(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.analyticsCache.get(KEY));
+    }
+
+    @Benchmark
+    public void copyOnWriteHitAndModify(BenchmarkState state, Blackhole bh) {
+      Grid grid = state.analyticsCache.get(KEY).orElseThrow();
+      grid.addMetaData("modified", true);
+      grid.addRow().addValue("ou").addValue("pe").addValue("dx").addValue(1d);
+      bh.consume(grid);
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(AnalyticsCacheBenchmarks.class, "analytics-cache", TimeUnit.MICROSECONDS);
+  }
+
+  /** Creates a grid resembling an aggregate analytics response with the given number of rows. */
+  private static Grid createGrid(int rowCount) {
+    Grid grid = new ListGrid();
+    grid.addHeader(new GridHeader("ou", "Organisation unit", ValueType.TEXT, false, true))
+        .addHeader(new GridHeader("pe", "Period", ValueType.TEXT, false, true))
+        .addHeader(new GridHeader("dx", "Data", ValueType.TEXT, false, true))
+        .addHeader(new GridHeader("value", "Value", ValueType.NUMBER, false, false));
+
+    for (int i = 0; i < rowCount; i++) {
+      grid.addRow()
+          .addValue("OrgUnit" + (i % 1000))
+          .addValue("2024" + String.format("%02d", i % 12 + 1))
+          .addValue("DataElem" + (i % 50))
+          .addValue((double) i);
+    }
+
+    grid.addMetaData("dimensions", "ou;pe;dx");
+
+    return grid;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.expression;
+
+import static org.hisp.dhis.common.DimensionItemType.DATA_ELEMENT;
+import static org.hisp.dhis.common.DimensionItemType.DATA_ELEMENT_OPERAND;
+import static org.hisp.dhis.expression.MissingValueStrategy.NEVER_SKIP;
+import static org.hisp.dhis.expression.ParseType.VALIDATION_RULE_EXPRESSION;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheBuilder;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.NoOpCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.DimensionService;
+import org.hisp.dhis.common.DimensionalItemId;
+import org.hisp.dhis.common.DimensionalItemObject;
+import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.constant.ConstantService;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.dataelement.DataElementOperand;
+import org.hisp.dhis.db.sql.PostgreSqlBuilder;
+import org.hisp.dhis.hibernate.HibernateGenericStore;
+import org.hisp.dhis.i18n.I18nManager;
+import org.hisp.dhis.setting.SystemSettings;
+import org.hisp.dhis.setting.SystemSettingsService;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark comparing the evaluation of a validation rule expression by parsing and visiting
+ * the expression for every evaluation, as was done before expressions were compiled, with
+ * evaluating a {@link CompiledExpression}, both directly and through the compiled expression cache
+ * of {@link DefaultExpressionService#getExpressionValue}.
+ */
+@Tag("benchmark")
+public class ExpressionEvaluationBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    public ExpressionService parsingService;
+
+    public ExpressionService cachingService;
+
+    public CompiledExpression compiledExpression;
+
+    public ExpressionParams params;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      DataElement deA = new DataElement("A");
+      deA.setUid(CodeGenerator.generateUid());
+      DataElement deB = new DataElement("B");
+      deB.setUid(CodeGenerator.generateUid());
+      CategoryOptionCombo coc = new CategoryOptionCombo();
+      coc.setUid(CodeGenerator.generateUid());
+      DataElementOperand opA = new DataElementOperand(deA, coc);
+
+      String itemA = "#{" + deA.getUid() + "." + coc.getUid() + "}";
+      String itemB = "#{" + deB.getUid() + "}";
+      String expression =
+          "(" + itemA + " + " + itemB + ") * 2 / [days] + if(" + itemA + " > 10, 1, 0)";
+
+      Map<DimensionalItemId, DimensionalItemObject> itemMap =
+          Map.of(
+              new DimensionalItemId(
+                  DATA_ELEMENT_OPERAND, deA.getUid(), coc.getUid(), null, itemA),
+              opA,
+              new DimensionalItemId(DATA_ELEMENT, deB.getUid(), null, null, itemB),
+              deB);
+
+      params =
+          ExpressionParams.builder()
+              .expression(expression)
+              .parseType(VALIDATION_RULE_EXPRESSION)
+              .itemMap(itemMap)
+              .valueMap(Map.of(opA, 12d, deB, 34d))
+              .days(31)
+              .missingValueStrategy(NEVER_SKIP)
+              .build();
+
+      CacheBuilder<CompiledExpression> cacheBuilder = new SimpleCacheBuilder<>();
+      cacheBuilder.expireAfterAccess(1L, TimeUnit.HOURS);
+
+      parsingService = createExpressionService(new NoOpCache<>());
+      cachingService = createExpressionService(new LocalCache<>(cacheBuilder));
+      compiledExpression = cachingService.compileExpression(expression, VALIDATION_RULE_EXPRESSION);
+    }
+  }
+
+  public static class ExpressionEvaluationBenchmarks {
+    @Benchmark
+    public void parseAndVisit(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.parsingService.getExpressionValue(state.params));
+    }
+
+    @Benchmark
+    public void cachedCompiledExpression(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.cachingService.getExpressionValue(state.params));
+    }
+
+    @Benchmark
+    public void compiledExpression(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.compiledExpression.evaluate(state.params));
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        ExpressionEvaluationBenchmarks.class, "expression-evaluation", TimeUnit.MICROSECONDS);
+  }
+
+  /**
+   * Creates an expression service with mocked dependencies, using the given cache for compiled
+   * expressions.
+   */
+  @SuppressWarnings("unchecked")
+  private static ExpressionService createExpressionService(
+      Cache<CompiledExpression> compiledExpressionCache) {
+    CacheProvider cacheProvider = mock(CacheProvider.class);
+    when(cacheProvider.createAllConstantsCache()).thenReturn(new NoOpCache<>());
+    Mockito.<Cache<CompiledExpression>>when(cacheProvider.createCompiledExpressionCache())
+        .thenReturn(compiledExpressionCache);
+
+    SystemSettingsService settingsService = mock(SystemSettingsService.class);
+    when(settingsService.getCurrentSettings()).thenReturn(mock(SystemSettings.class));
+
+    return new DefaultExpressionService(
+        mock(HibernateGenericStore.class),
+        mock(ConstantService.class),
+        mock(DimensionService.class),
+        mock(IdentifiableObjectManager.class),
+        mock(I18nManager.class),
+        cacheProvider,
+        new PostgreSqlBuilder(),
+        settingsService);
+  }
+}
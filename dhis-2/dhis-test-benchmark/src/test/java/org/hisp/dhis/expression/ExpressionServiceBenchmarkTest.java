@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.expression;
+
+import static org.hisp.dhis.common.DimensionItemType.DATA_ELEMENT_OPERAND;
+import static org.hisp.dhis.expression.MissingValueStrategy.NEVER_SKIP;
+import static org.hisp.dhis.expression.ParseType.INDICATOR_EXPRESSION;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheBuilder;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.NoOpCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.DimensionService;
+import org.hisp.dhis.common.DimensionalItemId;
+import org.hisp.dhis.common.DimensionalItemObject;
+import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.constant.ConstantService;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.dataelement.DataElementOperand;
+import org.hisp.dhis.db.sql.PostgreSqlBuilder;
+import org.hisp.dhis.hibernate.HibernateGenericStore;
+import org.hisp.dhis.i18n.I18nManager;
+import org.hisp.dhis.setting.SystemSettings;
+import org.hisp.dhis.setting.SystemSettingsService;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of indicator expression evaluation by {@link DefaultExpressionService} for
+ * expressions referring to a growing number of data element operands.
+ */
+@Tag("benchmark")
+public class ExpressionServiceBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"2", "10", "50"})
+    public int items;
+
+    public ExpressionService expressionService;
+
+    public ExpressionParams params;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      CategoryOptionCombo coc = new CategoryOptionCombo();
+      coc.setUid(CodeGenerator.generateUid());
+
+      Map<DimensionalItemId, DimensionalItemObject> itemMap = new HashMap<>();
+      Map<DimensionalItemObject, Object> valueMap = new HashMap<>();
+      StringJoiner expression = new StringJoiner(" + ", "(", ") / [days] * 100");
+      for (int i = 0; i < items; i++) {
+        DataElement de = new DataElement("DE" + i);
+        de.setUid(CodeGenerator.generateUid());
+        DataElementOperand operand = new DataElementOperand(de, coc);
+        String item = "#{" + de.getUid() + "." + coc.getUid() + "}";
+        itemMap.put(
+            new DimensionalItemId(DATA_ELEMENT_OPERAND, de.getUid(), coc.getUid(), null, item),
+            operand);
+        valueMap.put(operand, (double) i);
+        expression.add(item);
+      }
+
+      params =
+          ExpressionParams.builder()
+              .expression(expression.toString())
+              .parseType(INDICATOR_EXPRESSION)
+              .itemMap(itemMap)
+              .valueMap(valueMap)
+              .days(31)
+              .missingValueStrategy(NEVER_SKIP)
+              .build();
+
+      CacheBuilder<CompiledExpression> cacheBuilder = new SimpleCacheBuilder<>();
+      cacheBuilder.expireAfterAccess(1L, TimeUnit.HOURS);
+      expressionService = createExpressionService(new LocalCache<>(cacheBuilder));
+    }
+  }
+
+  public static class ExpressionServiceBenchmarks {
+    @Benchmark
+    public void getExpressionValue(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.expressionService.getExpressionValue(state.params));
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        ExpressionServiceBenchmarks.class, "expression-service", TimeUnit.MICROSECONDS);
+  }
+
+  /** Creates an expression service with mocked dependencies and the given expression cache. */
+  @SuppressWarnings("unchecked")
+  private static ExpressionService createExpressionService(
+      Cache<CompiledExpression> compiledExpressionCache) {
+    CacheProvider cacheProvider = mock(CacheProvider.class);
+    when(cacheProvider.createAllConstantsCache()).thenReturn(new NoOpCache<>());
+    Mockito.<Cache<CompiledExpression>>when(cacheProvider.createCompiledExpressionCache())
+        .thenReturn(compiledExpressionCache);
+
+    SystemSettingsService settingsService = mock(SystemSettingsService.class);
+    when(settingsService.getCurrentSettings()).thenReturn(mock(SystemSettings.class));
+
+    return new DefaultExpressionService(
+        mock(HibernateGenericStore.class),
+        mock(ConstantService.class),
+        mock(DimensionService.class),
+        mock(IdentifiableObjectManager.class),
+        mock(I18nManager.class),
+        cacheProvider,
+        new PostgreSqlBuilder(),
+        settingsService);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.fieldfiltering;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.attribute.AttributeService;
+import org.hisp.dhis.commons.jackson.config.JacksonObjectMapperConfig;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.schema.SchemaService;
+import org.hisp.dhis.security.acl.AclService;
+import org.hisp.dhis.test.benchmark.BenchmarkFixtures;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.hisp.dhis.user.SystemUser;
+import org.hisp.dhis.user.UserDetails;
+import org.hisp.dhis.user.UserGroupService;
+import org.hisp.dhis.user.UserService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of {@link FieldFilterService#toObjectNodes(List, List, UserDetails, boolean)}
+ * rendering a page of data elements with the field filters typically used by the metadata API.
+ */
+@Tag("benchmark")
+public class FieldFilterServiceBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"id,name", "id,name,code,valueType,categoryCombo[id,name]", "*"})
+    public String fields;
+
+    public FieldFilterService fieldFilterService;
+
+    public List<DataElement> dataElements;
+
+    public List<FieldPath> fieldPaths;
+
+    public UserDetails user;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      SchemaService schemaService = BenchmarkFixtures.createSchemaService();
+      fieldFilterService =
+          new FieldFilterService(
+              new FieldPathHelper(schemaService),
+              JacksonObjectMapperConfig.staticJsonMapper(),
+              schemaService,
+              mock(AclService.class),
+              mock(UserGroupService.class),
+              mock(UserService.class),
+              mock(AttributeService.class));
+      dataElements = BenchmarkFixtures.createDataElements(50);
+      fieldPaths = FieldFilterParser.parse(fields);
+      user = new SystemUser();
+    }
+  }
+
+  public static class FieldFilterServiceBenchmarks {
+    @Benchmark
+    public void toObjectNodes(BenchmarkState state, Blackhole bh) {
+      bh.consume(
+          state.fieldFilterService.toObjectNodes(
+              state.dataElements, state.fieldPaths, state.user, true));
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        FieldFilterServiceBenchmarks.class, "field-filter-service", TimeUnit.MICROSECONDS);
+  }
+}
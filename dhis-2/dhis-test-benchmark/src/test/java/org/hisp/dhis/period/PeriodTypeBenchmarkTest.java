@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.period;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of period generation by {@link CalendarPeriodType} for the period types used by
+ * analytics and data entry.
+ */
+@Tag("benchmark")
+public class PeriodTypeBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"Daily", "Weekly", "Monthly", "Quarterly", "Yearly"})
+    public String periodType;
+
+    public CalendarPeriodType type;
+
+    public Date start;
+
+    public Date end;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      type = (CalendarPeriodType) PeriodType.getPeriodTypeByName(periodType);
+      start = Period.of("2015").getStartDate();
+      end = Period.of("2024").getEndDate();
+    }
+  }
+
+  public static class PeriodTypeBenchmarks {
+    @Benchmark
+    public void generatePeriods(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.type.generatePeriods(state.start, state.end));
+    }
+
+    @Benchmark
+    public void generateRollingPeriods(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.type.generateRollingPeriods(state.end));
+    }
+
+    @Benchmark
+    public void createPeriod(BenchmarkState state, Blackhole bh) {
+      bh.consume(state.type.createPeriod(state.end));
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(PeriodTypeBenchmarks.class, "period-type", TimeUnit.MICROSECONDS);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.schema.Property;
+import org.hisp.dhis.system.util.ReflectionUtils;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark comparing the property access used by {@link InMemoryQueryEngine} to filter and
+ * sort 100k data elements: invoking the getter method by reflection, as was done before, with the
+ * compiled accessor of {@link Property#getValue(Object)}.
+ */
+@Tag("benchmark")
+public class PropertyAccessBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    public List<DataElement> dataElements;
+
+    public Property name;
+
+    public Property zeroIsSignificant;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+      dataElements = new ArrayList<>(100_000);
+      for (int i = 0; i < 100_000; i++) {
+        DataElement dataElement = new DataElement("Data element " + CodeGenerator.generateUid());
+        dataElement.setZeroIsSignificant(i % 3 == 0);
+        dataElements.add(dataElement);
+      }
+
+      name = new Property(String.class, DataElement.class.getMethod("getName"), null);
+      zeroIsSignificant =
+          new Property(boolean.class, DataElement.class.getMethod("isZeroIsSignificant"), null);
+    }
+  }
+
+  public static class PropertyAccessBenchmarks {
+    @Benchmark
+    public void reflection(BenchmarkState state, Blackhole bh) {
+      bh.consume(
+          filterAndSort(state, p -> obj -> ReflectionUtils.invokeMethod(obj, p.getGetterMethod())));
+    }
+
+    @Benchmark
+    public void compiledAccessor(BenchmarkState state, Blackhole bh) {
+      bh.consume(filterAndSort(state, p -> p::getValue));
+    }
+  }
+
+  /**
+   * Filters the data elements with zero is significant and sorts them by name, like {@link
+   * InMemoryQueryEngine} does for {@code filter=zeroIsSignificant:eq:true&order=name:asc}.
+   */
+  private static List<DataElement> filterAndSort(
+      BenchmarkState state, Function<Property, Function<Object, Object>> accessor) {
+    Function<Object, Object> filter = accessor.apply(state.zeroIsSignificant);
+    Function<Object, Object> order = accessor.apply(state.name);
+
+    return state.dataElements.stream()
+        .filter(de -> Boolean.TRUE.equals(filter.apply(de)))
+        .sorted(Comparator.comparing(de -> (String) order.apply(de)))
+        .toList();
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(PropertyAccessBenchmarks.class, "property-access", TimeUnit.MILLISECONDS);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.security.acl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.NoOpCache;
+import org.hisp.dhis.category.CategoryOption;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.test.benchmark.BenchmarkFixtures;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.hisp.dhis.user.UserDetails;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of metadata and data sharing checks by {@link DefaultAclService} for a user that
+ * is granted access through one of its user groups for every tenth object.
+ */
+@Tag("benchmark")
+public class AclServiceBenchmarkTest {
+  private static final int OBJECTS = 1000;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    public AclService aclService;
+
+    public UserDetails user;
+
+    public List<DataElement> dataElements;
+
+    public List<CategoryOption> categoryOptions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      CacheProvider cacheProvider = mock(CacheProvider.class);
+      when(cacheProvider.createCurrentUserGroupInfoCache()).thenReturn(new NoOpCache<>());
+      aclService = new DefaultAclService(BenchmarkFixtures.createSchemaService(), cacheProvider);
+
+      Set<String> userGroupIds = Set.of("userGroup0", "userGroup1", "userGroup2", "userGroup3");
+      user =
+          UserDetails.empty().uid(CodeGenerator.generateUid()).userGroupIds(userGroupIds).build();
+
+      dataElements = BenchmarkFixtures.createDataElements(OBJECTS);
+      categoryOptions = new ArrayList<>(OBJECTS);
+      for (int i = 0; i < OBJECTS; i++) {
+        CategoryOption co = new CategoryOption("Category option " + i);
+        co.setUid(CodeGenerator.generateUid());
+        co.setSharing(BenchmarkFixtures.createSharing(i, AccessStringHelper.DATA_READ_WRITE));
+        categoryOptions.add(co);
+      }
+    }
+  }
+
+  public static class AclServiceBenchmarks {
+    @Benchmark
+    public void canRead(BenchmarkState state, Blackhole bh) {
+      for (DataElement de : state.dataElements) {
+        bh.consume(state.aclService.canRead(state.user, de));
+      }
+    }
+
+    @Benchmark
+    public void canDataRead(BenchmarkState state, Blackhole bh) {
+      for (CategoryOption co : state.categoryOptions) {
+        bh.consume(state.aclService.canDataRead(state.user, co));
+      }
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(AclServiceBenchmarks.class, "acl-service", TimeUnit.MICROSECONDS);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.security.acl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.security.acl.AccessStringHelper.Permission;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.hisp.dhis.user.UserDetails;
+import org.hisp.dhis.user.sharing.Sharing;
+import org.hisp.dhis.user.sharing.UserAccess;
+import org.hisp.dhis.user.sharing.UserGroupAccess;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of the per object cost of the data read sharing check of {@link DefaultAclService}
+ * for users with many user groups. It compares the previous evaluation, which parsed the access
+ * strings once per permission and scanned the user groups of the user for every group access of
+ * the object, with {@link SharingPermissions}.
+ *
+ * <p>Each of the {@value #OBJECTS} objects is shared with 20 user groups and 5 users, and a tenth
+ * of them with one of the groups of the user.
+ */
+@Tag("benchmark")
+public class SharingPermissionsBenchmarkTest {
+  private static final int OBJECTS = 1000;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"10", "100", "1000"})
+    public int userGroups;
+
+    public UserDetails user;
+
+    public List<Sharing> sharings;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      Set<String> userGroupIds = new HashSet<>();
+      for (int i = 0; i < userGroups; i++) {
+        userGroupIds.add("userGroup" + i);
+      }
+      user = UserDetails.empty().uid("user").userGroupIds(userGroupIds).build();
+
+      sharings = new ArrayList<>(OBJECTS);
+      for (int i = 0; i < OBJECTS; i++) {
+        Sharing sharing = Sharing.builder().publicAccess(AccessStringHelper.READ).build();
+        for (int j = 0; j < 20; j++) {
+          String access = j % 2 == 0 ? AccessStringHelper.FULL : AccessStringHelper.READ_WRITE;
+          sharing.addUserGroupAccess(new UserGroupAccess(access, "objectGroup" + i + "-" + j));
+        }
+        if (i % 10 == 0) {
+          sharing.addUserGroupAccess(
+              new UserGroupAccess(AccessStringHelper.DATA_READ, "userGroup" + userGroups / 2));
+        }
+        for (int j = 0; j < 5; j++) {
+          sharing.addUserAccess(new UserAccess(AccessStringHelper.FULL, "objectUser" + i + j));
+        }
+        sharings.add(sharing);
+      }
+    }
+  }
+
+  public static class SharingPermissionsBenchmarks {
+    @Benchmark
+    @OperationsPerInvocation(OBJECTS)
+    public void accessStrings(BenchmarkState state, Blackhole bh) {
+      for (Sharing sharing : state.sharings) {
+        bh.consume(
+            checkAccessStrings(state.user, sharing, Permission.DATA_READ)
+                || checkAccessStrings(state.user, sharing, Permission.DATA_WRITE));
+      }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OBJECTS)
+    public void accessMasks(BenchmarkState state, Blackhole bh) {
+      int permissions = Permission.DATA_READ.getMask() | Permission.DATA_WRITE.getMask();
+      for (Sharing sharing : state.sharings) {
+        bh.consume(SharingPermissions.hasAnyPermission(state.user, sharing, permissions));
+      }
+    }
+  }
+
+  /** The sharing check as it was done before access masks. */
+  private static boolean checkAccessStrings(
+      UserDetails userDetails, Sharing sharing, Permission permission) {
+    if (isEnabled(sharing.getPublicAccess(), permission)) {
+      return true;
+    }
+    for (UserGroupAccess userGroupAccess : sharing.getUserGroups().values()) {
+      if (isEnabled(userGroupAccess.getAccess(), permission)) {
+        for (String groupUid : userDetails.getUserGroupIds()) {
+          if (groupUid.equals(userGroupAccess.getId())) {
+            return true;
+          }
+        }
+      }
+    }
+    for (UserAccess userAccess : sharing.getUsers().values()) {
+      if (isEnabled(userAccess.getAccess(), permission)
+          && userDetails.getUid().equals(userAccess.getId())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isEnabled(String access, Permission permission) {
+    return access == null
+        || (AccessStringHelper.isValid(access)
+            && access.getBytes()[permission.getPosition()] == permission.getValue());
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        SharingPermissionsBenchmarks.class, "sharing-permissions", TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.system.grid;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.Grid;
+import org.hisp.dhis.common.GridHeader;
+import org.hisp.dhis.common.ValueType;
+import org.hisp.dhis.commons.jackson.config.JacksonObjectMapperConfig;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of building, sorting and rendering a {@link ListGrid} shaped like an analytics
+ * response with data, period, organisation unit and value columns.
+ */
+@Tag("benchmark")
+public class ListGridBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"1000", "100000"})
+    public int rows;
+
+    public ObjectMapper jsonMapper;
+
+    public String[] dataItems;
+
+    public String[] periods;
+
+    public String[] orgUnits;
+
+    public Grid grid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      jsonMapper = JacksonObjectMapperConfig.staticJsonMapper();
+      dataItems = uids(20);
+      periods = new String[12];
+      for (int i = 0; i < periods.length; i++) {
+        periods[i] = String.format("2024%02d", i + 1);
+      }
+      orgUnits = uids(500);
+      grid = createGrid(this);
+    }
+  }
+
+  public static class ListGridBenchmarks {
+    @Benchmark
+    public void build(BenchmarkState state, Blackhole bh) {
+      bh.consume(createGrid(state));
+    }
+
+    @Benchmark
+    public void buildAndSort(BenchmarkState state, Blackhole bh) {
+      bh.consume(createGrid(state).sortGrid(4, -1));
+    }
+
+    @Benchmark
+    public void renderCsv(BenchmarkState state, Blackhole bh) throws Exception {
+      StringWriter writer = new StringWriter();
+      GridUtils.toCsv(state.grid, writer);
+      bh.consume(writer.toString());
+    }
+
+    @Benchmark
+    public void renderJson(BenchmarkState state, Blackhole bh) throws Exception {
+      bh.consume(state.jsonMapper.writeValueAsBytes(state.grid));
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(ListGridBenchmarks.class, "list-grid", TimeUnit.MICROSECONDS);
+  }
+
+  private static Grid createGrid(BenchmarkState state) {
+    Grid grid =
+        new ListGrid()
+            .addHeader(new GridHeader("dx", ValueType.TEXT))
+            .addHeader(new GridHeader("pe", ValueType.TEXT))
+            .addHeader(new GridHeader("ou", ValueType.TEXT))
+            .addHeader(new GridHeader("value", ValueType.NUMBER));
+    for (int i = 0; i < state.rows; i++) {
+      grid.addRow()
+          .addValuesVar(
+              state.dataItems[i % state.dataItems.length],
+              state.periods[i % state.periods.length],
+              state.orgUnits[i % state.orgUnits.length],
+              (double) (i * 31 % 1000));
+    }
+    return grid;
+  }
+
+  private static String[] uids(int count) {
+    String[] uids = new String[count];
+    for (int i = 0; i < count; i++) {
+      uids[i] = CodeGenerator.generateUid();
+    }
+    return uids;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.test.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hisp.dhis.category.CategoryCombo;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.ValueType;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.schema.DefaultPropertyIntrospectorService;
+import org.hisp.dhis.schema.DefaultSchemaService;
+import org.hisp.dhis.schema.SchemaService;
+import org.hisp.dhis.schema.introspection.JacksonPropertyIntrospector;
+import org.hisp.dhis.security.acl.AccessStringHelper;
+import org.hisp.dhis.user.sharing.Sharing;
+import org.hisp.dhis.user.sharing.UserAccess;
+import org.hisp.dhis.user.sharing.UserGroupAccess;
+
+/** Synthetic fixtures shared by the benchmarks of this module. */
+public final class BenchmarkFixtures {
+  private BenchmarkFixtures() {
+    throw new UnsupportedOperationException("util");
+  }
+
+  /**
+   * @return a schema service with all schemas registered as they are once the application context
+   *     is started, without the Hibernate metadata
+   */
+  public static SchemaService createSchemaService() {
+    EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    when(entityManagerFactory.getMetamodel()).thenReturn(mock(MetamodelImplementor.class));
+    DefaultSchemaService schemaService =
+        new DefaultSchemaService(
+            new DefaultPropertyIntrospectorService(new JacksonPropertyIntrospector()),
+            entityManagerFactory);
+    schemaService.handleContextRefresh(null);
+    return schemaService;
+  }
+
+  /**
+   * @param count number of data elements to create
+   * @return data elements with all properties commonly used in metadata responses set, each shared
+   *     with 10 user groups and 2 users
+   */
+  public static List<DataElement> createDataElements(int count) {
+    CategoryCombo categoryCombo = new CategoryCombo("default", null);
+    categoryCombo.setUid(CodeGenerator.generateUid());
+    List<DataElement> dataElements = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      DataElement de = new DataElement("Data element " + i);
+      de.setUid(CodeGenerator.generateUid());
+      de.setCode("DE_" + i);
+      de.setShortName("DE " + i);
+      de.setDescription("Synthetic data element number " + i);
+      de.setValueType(i % 3 == 0 ? ValueType.INTEGER : ValueType.NUMBER);
+      de.setCategoryCombo(categoryCombo);
+      de.setSharing(createSharing(i));
+      dataElements.add(de);
+    }
+    return dataElements;
+  }
+
+  /**
+   * @param i index of the object the sharing is for
+   * @return sharing without public access that is shared with 10 user groups and 2 users, every
+   *     tenth object is shared with user group {@code userGroup0}
+   */
+  public static Sharing createSharing(int i) {
+    return createSharing(i, AccessStringHelper.READ_WRITE);
+  }
+
+  /**
+   * @param i index of the object the sharing is for
+   * @param groupAccess access string granted to each of the user groups
+   * @return sharing as {@link #createSharing(int)} with the given user group access
+   */
+  public static Sharing createSharing(int i, String groupAccess) {
+    Sharing sharing =
+        Sharing.builder()
+            .owner(CodeGenerator.generateUid())
+            .publicAccess(AccessStringHelper.DEFAULT)
+            .build();
+    for (int j = 0; j < 10; j++) {
+      String group = i % 10 == 0 && j == 0 ? "userGroup0" : "objectGroup" + i + "-" + j;
+      sharing.addUserGroupAccess(new UserGroupAccess(groupAccess, group));
+    }
+    for (int j = 0; j < 2; j++) {
+      sharing.addUserAccess(new UserAccess(AccessStringHelper.FULL, "objectUser" + i + "-" + j));
+    }
+    return sharing;
+  }
+}
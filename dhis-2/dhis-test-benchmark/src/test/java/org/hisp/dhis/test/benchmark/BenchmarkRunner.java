@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.test.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the benchmarks of this module with common settings.
+ *
+ * <p>Benchmarks run in the JVM of the test runner ({@code forks(0)}) and report the average time
+ * per operation together with the allocation rate measured by the {@link GCProfiler}. Results are
+ * written in the JMH JSON format to {@code target/jmh-results/<name>.json}, or to the directory
+ * given by the {@code jmh.results.dir} system property, so they can be compared between releases.
+ */
+public final class BenchmarkRunner {
+  private BenchmarkRunner() {
+    throw new UnsupportedOperationException("util");
+  }
+
+  /**
+   * @param benchmarks the class declaring the {@code @Benchmark} methods
+   * @param name name of the result file
+   * @param timeUnit unit of the reported scores
+   * @return the results of all benchmarks run
+   */
+  public static Collection<RunResult> run(Class<?> benchmarks, String name, TimeUnit timeUnit)
+      throws RunnerException, IOException {
+    Path dir = Path.of(System.getProperty("jmh.results.dir", "target/jmh-results"));
+    Files.createDirectories(dir);
+    Options opt =
+        new OptionsBuilder()
+            .include(benchmarks.getCanonicalName() + ".*")
+            .shouldFailOnError(true)
+            .forks(0)
+            .mode(Mode.AverageTime)
+            .timeUnit(timeUnit)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(3))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(3))
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(dir.resolve(name + ".json").toString())
+            .build();
+    return new Runner(opt).run();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.UID;
+import org.hisp.dhis.commons.jackson.config.JacksonObjectMapperConfig;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of parsing a tracker import payload into {@link TrackerObjects} as done by the
+ * tracker import job, for payloads of events with 10 data values each.
+ */
+@Tag("benchmark")
+public class TrackerObjectsJsonBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"100", "10000"})
+    public int events;
+
+    public ObjectMapper jsonMapper;
+
+    public byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      jsonMapper = JacksonObjectMapperConfig.staticJsonMapper();
+
+      MetadataIdentifier program = MetadataIdentifier.ofUid(CodeGenerator.generateUid());
+      MetadataIdentifier programStage = MetadataIdentifier.ofUid(CodeGenerator.generateUid());
+      List<MetadataIdentifier> dataElements = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        dataElements.add(MetadataIdentifier.ofUid(CodeGenerator.generateUid()));
+      }
+
+      Instant now = Instant.now();
+      List<TrackerEvent> trackerEvents = new ArrayList<>(events);
+      for (int i = 0; i < events; i++) {
+        Set<DataValue> dataValues = new HashSet<>();
+        for (MetadataIdentifier dataElement : dataElements) {
+          dataValues.add(
+              DataValue.builder().dataElement(dataElement).value(String.valueOf(i)).build());
+        }
+        trackerEvents.add(
+            TrackerEvent.builder()
+                .event(UID.generate())
+                .enrollment(UID.generate())
+                .program(program)
+                .programStage(programStage)
+                .orgUnit(MetadataIdentifier.ofUid(CodeGenerator.generateUid()))
+                .occurredAt(now)
+                .dataValues(dataValues)
+                .build());
+      }
+      payload =
+          jsonMapper.writeValueAsBytes(TrackerObjects.builder().events(trackerEvents).build());
+    }
+  }
+
+  public static class TrackerObjectsJsonBenchmarks {
+    @Benchmark
+    public void readValue(BenchmarkState state, Blackhole bh) throws Exception {
+      bh.consume(
+          state.jsonMapper.readValue(
+              new ByteArrayInputStream(state.payload), TrackerObjects.class));
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(
+        TrackerObjectsJsonBenchmarks.class, "tracker-objects-json", TimeUnit.MICROSECONDS);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.validation.validator.event;
+
+import static org.hisp.dhis.tracker.imports.validation.validator.All.all;
+import static org.hisp.dhis.tracker.imports.validation.validator.Each.each;
+import static org.hisp.dhis.tracker.imports.validation.validator.Seq.seq;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.UID;
+import org.hisp.dhis.event.EventStatus;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.period.MonthlyPeriodType;
+import org.hisp.dhis.program.Program;
+import org.hisp.dhis.program.ProgramStage;
+import org.hisp.dhis.test.benchmark.BenchmarkRunner;
+import org.hisp.dhis.tracker.TrackerIdSchemeParam;
+import org.hisp.dhis.tracker.TrackerIdSchemeParams;
+import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
+import org.hisp.dhis.tracker.imports.domain.MetadataIdentifier;
+import org.hisp.dhis.tracker.imports.domain.Note;
+import org.hisp.dhis.tracker.imports.domain.TrackerEvent;
+import org.hisp.dhis.tracker.imports.preheat.TrackerPreheat;
+import org.hisp.dhis.tracker.imports.validation.Reporter;
+import org.hisp.dhis.tracker.imports.validation.Validator;
+import org.hisp.dhis.tracker.imports.validation.validator.EachExecutor;
+import org.hisp.dhis.user.UserDetails;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of validating a bundle of valid tracker events with the event validators that
+ * only depend on the preheat, composed the same way as in {@link EventValidator}. A concurrency of
+ * 1 validates on the benchmark thread, higher values validate chunks of events concurrently.
+ */
+@Tag("benchmark")
+public class EventValidationBenchmarkTest {
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    @Param({"100", "10000", "50000"})
+    public int events;
+
+    @Param({"1", "4"})
+    public int concurrency;
+
+    public Validator<TrackerBundle> validator;
+
+    public TrackerIdSchemeParams idSchemes;
+
+    public TrackerBundle bundle;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      validator =
+          each(
+              TrackerBundle::getEvents,
+              new EachExecutor(concurrency),
+              seq(
+                  new MandatoryFieldsValidator(),
+                  new MetaValidator(),
+                  new StatusValidator(),
+                  all(new DateValidator(), new GeoValidator(), new NoteValidator())));
+      idSchemes = TrackerIdSchemeParams.builder().build();
+
+      Program program = new Program("Program");
+      program.setUid(CodeGenerator.generateUid());
+      program.setExpiryPeriodType(new MonthlyPeriodType());
+      program.setExpiryDays(30);
+      ProgramStage programStage = new ProgramStage("Program stage", program);
+      programStage.setUid(CodeGenerator.generateUid());
+      OrganisationUnit orgUnit = new OrganisationUnit("Organisation unit");
+      orgUnit.setUid(CodeGenerator.generateUid());
+
+      TrackerPreheat preheat = new TrackerPreheat();
+      preheat.put(program);
+      preheat.put(programStage);
+      preheat.put(TrackerIdSchemeParam.UID, orgUnit);
+
+      Instant now = Instant.now();
+      List<TrackerEvent> trackerEvents = new ArrayList<>(events);
+      for (int i = 0; i < events; i++) {
+        trackerEvents.add(
+            TrackerEvent.builder()
+                .event(UID.generate())
+                .enrollment(UID.generate())
+                .program(MetadataIdentifier.ofUid(program))
+                .programStage(MetadataIdentifier.ofUid(programStage))
+                .orgUnit(MetadataIdentifier.ofUid(orgUnit))
+                .status(i % 2 == 0 ? EventStatus.ACTIVE : EventStatus.COMPLETED)
+                .occurredAt(now)
+                .notes(
+                    new ArrayList<>(
+                        List.of(Note.builder().note(UID.generate()).value("Note " + i).build())))
+                .build());
+      }
+
+      bundle =
+          TrackerBundle.builder()
+              .preheat(preheat)
+              .user(UserDetails.empty().uid(CodeGenerator.generateUid()).build())
+              .trackerEvents(trackerEvents)
+              .build();
+    }
+  }
+
+  public static class EventValidationBenchmarks {
+    @Benchmark
+    public void validate(BenchmarkState state, Blackhole bh) {
+      Reporter reporter = new Reporter(state.idSchemes);
+      state.validator.validate(reporter, state.bundle, state.bundle);
+      bh.consume(reporter);
+    }
+  }
+
+  @Test
+  @Timeout(unit = TimeUnit.MINUTES, value = 60)
+  void executeJmhRunner() throws Exception {
+    BenchmarkRunner.run(EventValidationBenchmarks.class, "event-validation", TimeUnit.MICROSECONDS);
+  }
+}
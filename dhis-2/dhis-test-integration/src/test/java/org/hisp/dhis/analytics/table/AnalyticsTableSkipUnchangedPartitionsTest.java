@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.analytics.table;
+
+import static java.util.Collections.singleton;
+import static org.hisp.dhis.dataapproval.DataApprovalLevelService.APPROVAL_LEVEL_UNAPPROVED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import org.hisp.dhis.analytics.AnalyticsTableGenerator;
+import org.hisp.dhis.analytics.AnalyticsTableService;
+import org.hisp.dhis.analytics.AnalyticsTableUpdateParams;
+import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.category.CategoryService;
+import org.hisp.dhis.dataapproval.DataApproval;
+import org.hisp.dhis.dataapproval.DataApprovalLevel;
+import org.hisp.dhis.dataapproval.DataApprovalLevelService;
+import org.hisp.dhis.dataapproval.DataApprovalService;
+import org.hisp.dhis.dataapproval.DataApprovalWorkflow;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.dataelement.DataElementService;
+import org.hisp.dhis.dataset.DataSet;
+import org.hisp.dhis.dataset.DataSetService;
+import org.hisp.dhis.datavalue.DataDumpService;
+import org.hisp.dhis.datavalue.DataValue;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.organisationunit.OrganisationUnitLevel;
+import org.hisp.dhis.organisationunit.OrganisationUnitService;
+import org.hisp.dhis.period.Period;
+import org.hisp.dhis.period.PeriodService;
+import org.hisp.dhis.period.PeriodType;
+import org.hisp.dhis.scheduling.JobProgress;
+import org.hisp.dhis.setting.SystemSettingsService;
+import org.hisp.dhis.test.integration.PostgresIntegrationTestBase;
+import org.hisp.dhis.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tests that the data value analytics table only retains unchanged year partitions when the data
+ * denormalized into them has not changed since the last full update.
+ */
+class AnalyticsTableSkipUnchangedPartitionsTest extends PostgresIntegrationTestBase {
+  @Autowired private List<AnalyticsTableService> analyticsTableServices;
+
+  @Autowired private AnalyticsTableGenerator analyticsTableGenerator;
+
+  @Autowired private DataApprovalService dataApprovalService;
+
+  @Autowired private DataApprovalLevelService dataApprovalLevelService;
+
+  @Autowired private DataElementService dataElementService;
+
+  @Autowired private DataSetService dataSetService;
+
+  @Autowired private DataDumpService dataDumpService;
+
+  @Autowired private CategoryService categoryService;
+
+  @Autowired private OrganisationUnitService organisationUnitService;
+
+  @Autowired private PeriodService periodService;
+
+  @Autowired private SystemSettingsService settingsService;
+
+  @Autowired
+  @Qualifier("analyticsJdbcTemplate")
+  private JdbcTemplate jdbcTemplate;
+
+  private DataElement deA;
+
+  private OrganisationUnit ouA;
+
+  private Period peJan2017;
+
+  private Period peJan2018;
+
+  private CategoryOptionCombo coc;
+
+  private DataApprovalLevel levelA;
+
+  private DataApprovalWorkflow workflowA;
+
+  @BeforeEach
+  void setUp() {
+    createPeriodTypes();
+
+    PeriodType monthly = periodService.reloadPeriodType(PeriodType.getPeriodTypeByName("Monthly"));
+    peJan2017 = createPeriod("201701");
+    peJan2018 = createPeriod("201801");
+    periodService.addPeriod(peJan2017);
+    periodService.addPeriod(peJan2018);
+    peJan2017 = periodService.reloadPeriod(peJan2017);
+    peJan2018 = periodService.reloadPeriod(peJan2018);
+
+    ouA = createOrganisationUnit('A');
+    organisationUnitService.addOrganisationUnit(ouA);
+    organisationUnitService.addOrganisationUnitLevel(new OrganisationUnitLevel(1, "Level 1"));
+
+    coc = categoryService.getDefaultCategoryOptionCombo();
+    deA = createDataElement('A');
+    dataElementService.addDataElement(deA);
+
+    levelA = new DataApprovalLevel("levelA", 1, null);
+    dataApprovalLevelService.addDataApprovalLevel(levelA);
+    workflowA =
+        new DataApprovalWorkflow(
+            "workflowA", monthly, categoryService.getDefaultCategoryCombo(), Set.of(levelA));
+    dataApprovalService.addWorkflow(workflowA);
+
+    DataSet dataSetA = createDataSet('A', monthly, categoryService.getDefaultCategoryCombo());
+    dataSetA.addDataSetElement(deA);
+    dataSetA.addOrganisationUnit(ouA);
+    dataSetA.assignWorkflow(workflowA);
+    dataSetService.addDataSet(dataSetA);
+
+    User approver = createUserWithAuth("approver", DataApproval.AUTH_APPROVE);
+    approver.setOrganisationUnits(singleton(ouA));
+    userService.updateUser(approver);
+    injectSecurityContextUser(approver);
+
+    settingsService.put("keyIgnoreAnalyticsApprovalYearThreshold", 100);
+    settingsService.put("keyAcceptanceRequiredForApproval", false);
+    settingsService.clearCurrentSettings();
+
+    addDataValues(newDataValue(peJan2017, "10"), newDataValue(peJan2018, "20"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanPeriodTypes();
+    for (AnalyticsTableService service : analyticsTableServices) {
+      service.dropTables();
+    }
+  }
+
+  @Test
+  void testUnapprovalUpdatesRetainedPartition() {
+    dataApprovalService.approveData(List.of(newApproval(peJan2017)));
+    generateTables();
+
+    assertEquals(levelA.getLevel(), getApprovalLevel(2017));
+
+    dataApprovalService.unapproveData(List.of(newApproval(peJan2017)));
+    addDataValues(newDataValue(peJan2018, "21"));
+    generateTables();
+
+    // the 2017 partition has no changed data values, but its approval was deleted
+    assertEquals(APPROVAL_LEVEL_UNAPPROVED, getApprovalLevel(2017));
+  }
+
+  private void generateTables() {
+    settingsService.clearCurrentSettings();
+    analyticsTableGenerator.generateAnalyticsTables(
+        AnalyticsTableUpdateParams.newBuilder()
+            .startTime(new Date())
+            .skipUnchangedPartitions(true)
+            .build(),
+        JobProgress.noop());
+  }
+
+  private int getApprovalLevel(int year) {
+    return jdbcTemplate.queryForObject(
+        "select approvallevel from analytics_" + year + " where year = " + year, Integer.class);
+  }
+
+  private DataApproval newApproval(Period period) {
+    return new DataApproval(levelA, workflowA, period, ouA, coc);
+  }
+
+  private DataValue newDataValue(Period period, String value) {
+    return new DataValue(deA, period, ouA, coc, coc, value, null, new Date(), null);
+  }
+
+  private void addDataValues(DataValue... values) {
+    if (dataDumpService.upsertValues(values) < values.length) fail("Failed to upsert test data");
+  }
+}
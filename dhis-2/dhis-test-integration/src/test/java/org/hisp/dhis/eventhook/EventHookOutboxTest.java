@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.eventhook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.Date;
+import java.util.List;
+import org.hisp.dhis.eventhook.EventHookOutbox.Message;
+import org.hisp.dhis.test.integration.PostgresIntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class EventHookOutboxTest extends PostgresIntegrationTestBase {
+  private static final Date LAST_UPDATED = new Date(1_000_000);
+
+  @Autowired private EventHookOutbox outbox;
+
+  @Autowired private EventHookOutboxSender sender;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    // keep the scheduled sender from claiming the rows added by the tests
+    ReflectionTestUtils.setField(sender, "outbox", mock(EventHookOutbox.class));
+    jdbcTemplate.update("delete from eventhookoutbox");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from eventhookoutbox");
+    ReflectionTestUtils.setField(sender, "outbox", outbox);
+  }
+
+  @Test
+  void testClaimReturnsOldestRowsFirst() {
+    Date lastUpdated = new Date(1_000_000);
+    outbox.add("eventHook01", "target01", lastUpdated, "{\"a\":1}");
+    outbox.add("eventHook01", "target02", lastUpdated, "{\"a\":2}");
+    outbox.add("eventHook02", "target01", lastUpdated, "{\"a\":3}");
+
+    List<Message> messages = outbox.claim(2, 60);
+
+    assertEquals(2, messages.size());
+    assertTrue(messages.get(0).id() < messages.get(1).id());
+    assertEquals("eventHook01", messages.get(0).eventHookUid());
+    assertEquals("target01", messages.get(0).targetId());
+    assertEquals(lastUpdated.getTime(), messages.get(0).eventHookLastUpdated().getTime());
+    assertEquals("{\"a\":1}", messages.get(0).payload());
+    assertEquals(0, messages.get(0).attempts());
+    assertEquals("target02", messages.get(1).targetId());
+  }
+
+  @Test
+  void testClaimedRowsAreNotDueUntilLeaseExpires() {
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+
+    assertEquals(2, outbox.claim(10, 60).size());
+    assertEquals(List.of(), outbox.claim(10, 60));
+  }
+
+  @Test
+  void testClaimedRowsAreDueAgainAfterLease() {
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+
+    assertEquals(2, outbox.claim(10, 0).size());
+    assertEquals(2, outbox.claim(10, 0).size());
+  }
+
+  @Test
+  void testClaimSkipsRowsLockedByAnotherTransaction() {
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+
+    TransactionTemplate requiresNew =
+        new TransactionTemplate(transactionTemplate.getTransactionManager());
+    requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          List<Message> first = outbox.claim(1, 60);
+          List<Message> other = requiresNew.execute(s -> outbox.claim(10, 60));
+
+          assertEquals(1, first.size());
+          assertEquals(2, other.size());
+          assertTrue(other.stream().noneMatch(m -> m.id() == first.get(0).id()));
+        });
+  }
+
+  @Test
+  void testRescheduleRecordsAttemptAndDelaysRow() {
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    long id = outbox.claim(10, 60).get(0).id();
+
+    outbox.reschedule(id, 3_600);
+    assertEquals(List.of(), outbox.claim(10, 60));
+
+    outbox.reschedule(id, 0);
+    List<Message> messages = outbox.claim(10, 60);
+    assertEquals(1, messages.size());
+    assertEquals(2, messages.get(0).attempts());
+  }
+
+  @Test
+  void testDelete() {
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    outbox.add("eventHook01", "target01", LAST_UPDATED, "{}");
+    List<Message> messages = outbox.claim(10, 0);
+
+    outbox.delete(List.of(messages.get(0).id()));
+
+    List<Long> remaining = outbox.claim(10, 0).stream().map(Message::id).toList();
+    assertEquals(List.of(messages.get(1).id()), remaining);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.bundle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.IOException;
+import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.event.EventStatus;
+import org.hisp.dhis.program.EnrollmentStatus;
+import org.hisp.dhis.program.Program;
+import org.hisp.dhis.test.integration.PostgresIntegrationTestBase;
+import org.hisp.dhis.tracker.TestSetup;
+import org.hisp.dhis.tracker.imports.FlushMode;
+import org.hisp.dhis.tracker.imports.TrackerImportParams;
+import org.hisp.dhis.tracker.imports.bundle.persister.JdbcEnrollmentWriter;
+import org.hisp.dhis.tracker.imports.bundle.persister.JdbcEventWriter;
+import org.hisp.dhis.tracker.model.Enrollment;
+import org.hisp.dhis.tracker.model.SingleEvent;
+import org.hisp.dhis.tracker.model.TrackerEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Tests inserting enrollments and events with JDBC in {@link FlushMode#BULK}. */
+@Transactional
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EnrollmentAndEventBulkInsertTest extends PostgresIntegrationTestBase {
+  private static final String TRACKER_PROGRAM = "BFcipDERJnf";
+
+  private static final String EVENT_PROGRAM = "cS7eutanDrT";
+
+  @Autowired private TestSetup testSetup;
+
+  @Autowired private IdentifiableObjectManager manager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private JdbcEnrollmentWriter enrollmentWriter;
+
+  @Autowired private JdbcEventWriter eventWriter;
+
+  private JdbcTemplate enrollmentJdbcTemplate;
+
+  private JdbcTemplate eventJdbcTemplate;
+
+  @BeforeAll
+  void setUp() throws IOException {
+    testSetup.importMetadata();
+
+    injectSecurityContextUser(userService.getUser("tTgjgobT1oS"));
+
+    testSetup.importTrackerData("tracker/one_te.json");
+  }
+
+  @BeforeEach
+  void setUpWriters() {
+    enrollmentJdbcTemplate = spy(jdbcTemplate);
+    eventJdbcTemplate = spy(jdbcTemplate);
+    ReflectionTestUtils.setField(enrollmentWriter, "jdbcTemplate", enrollmentJdbcTemplate);
+    ReflectionTestUtils.setField(eventWriter, "jdbcTemplate", eventJdbcTemplate);
+  }
+
+  @AfterEach
+  void tearDownWriters() {
+    ReflectionTestUtils.setField(enrollmentWriter, "jdbcTemplate", jdbcTemplate);
+    ReflectionTestUtils.setField(eventWriter, "jdbcTemplate", jdbcTemplate);
+  }
+
+  @Test
+  void shouldInsertEnrollmentsAndTrackerEventsWithJdbcInBulkMode() throws IOException {
+    disableChangeLog(TRACKER_PROGRAM);
+
+    testSetup.importTrackerData("tracker/one_enrollment.json", bulkParams());
+    testSetup.importTrackerData("tracker/event_with_data_values.json", bulkParams());
+    manager.clear();
+
+    verify(enrollmentJdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    verify(eventJdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    Enrollment enrollment = manager.get(Enrollment.class, "TvctPPhpD8u");
+    assertNotNull(enrollment);
+    assertEquals(EnrollmentStatus.ACTIVE, enrollment.getStatus());
+    assertEquals("IOR1AXXl24H", enrollment.getTrackedEntity().getUid());
+    assertNotNull(enrollment.getCreatedByUserInfo());
+    TrackerEvent event = manager.get(TrackerEvent.class, "D9PbzJY8bJO");
+    assertNotNull(event);
+    assertEquals(enrollment.getId(), event.getEnrollment().getId());
+    assertEquals(EventStatus.COMPLETED, event.getStatus());
+    assertEquals(4, event.getEventDataValues().size());
+  }
+
+  @Test
+  void shouldInsertSingleEventsWithJdbcInBulkMode() throws IOException {
+    disableChangeLog(EVENT_PROGRAM);
+
+    testSetup.importTrackerData("tracker/one_single_event.json", bulkParams());
+    manager.clear();
+
+    verify(eventJdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    SingleEvent event = manager.get(SingleEvent.class, "QRYjLTiJTrA");
+    assertNotNull(event);
+    assertEquals(1, event.getEventDataValues().size());
+  }
+
+  @Test
+  void shouldInsertEventsWithHibernateWhenChangeLogIsEnabled() throws IOException {
+    testSetup.importTrackerData("tracker/one_single_event.json", bulkParams());
+    manager.flush();
+
+    verifyNoInteractions(eventJdbcTemplate);
+    assertNotNull(manager.get(SingleEvent.class, "QRYjLTiJTrA"));
+  }
+
+  private void disableChangeLog(String programUid) {
+    Program program = manager.get(Program.class, programUid);
+    program.setEnableChangeLog(false);
+    manager.update(program);
+  }
+
+  private TrackerImportParams bulkParams() {
+    return TrackerImportParams.builder().flushMode(FlushMode.BULK).build();
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.bundle;
+
+import static org.hisp.dhis.tracker.Assertions.assertNoErrors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import org.hisp.dhis.artemis.audit.configuration.AuditMatrix;
+import org.hisp.dhis.audit.AuditScope;
+import org.hisp.dhis.audit.AuditType;
+import org.hisp.dhis.common.IdentifiableObjectManager;
+import org.hisp.dhis.test.integration.PostgresIntegrationTestBase;
+import org.hisp.dhis.trackedentity.TrackedEntityAttribute;
+import org.hisp.dhis.tracker.TestSetup;
+import org.hisp.dhis.tracker.imports.FlushMode;
+import org.hisp.dhis.tracker.imports.TrackerImportParams;
+import org.hisp.dhis.tracker.imports.TrackerImportService;
+import org.hisp.dhis.tracker.imports.TrackerImportStrategy;
+import org.hisp.dhis.tracker.imports.bundle.persister.JdbcTrackedEntityAttributeValueWriter;
+import org.hisp.dhis.tracker.imports.domain.TrackerObjects;
+import org.hisp.dhis.tracker.model.TrackedEntity;
+import org.hisp.dhis.tracker.model.TrackedEntityAttributeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Tests tracker imports in {@link FlushMode#BULK}, which write attribute values with JDBC. */
+@Transactional
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TrackedEntityAttributeValueBulkWriteTest extends PostgresIntegrationTestBase {
+  private static final String DATA = "tracker/te_program_with_tea_encryption_data.json";
+
+  private static final String TRACKED_ENTITY = "EEFkxTWB55Y";
+
+  private static final String ATTRIBUTE_TEXT = "TsfP85GKsU5";
+
+  private static final String ATTRIBUTE_CONFIDENTIAL = "CWMLspQP2RH";
+
+  @Autowired private TestSetup testSetup;
+
+  @Autowired private TrackerImportService trackerImportService;
+
+  @Autowired private IdentifiableObjectManager manager;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private JdbcTrackedEntityAttributeValueWriter attributeValueWriter;
+
+  @Autowired private AuditMatrix auditMatrix;
+
+  private JdbcTemplate writerJdbcTemplate;
+
+  @BeforeAll
+  void setUp() throws IOException {
+    testSetup.importMetadata(
+        "tracker/te_program_with_tea_encryption_metadata.json", getAdminUser());
+
+    injectSecurityContextUser(userService.getUser("tTgjgobT1oS"));
+  }
+
+  @BeforeEach
+  void setUpWriter() {
+    writerJdbcTemplate = spy(jdbcTemplate);
+    ReflectionTestUtils.setField(attributeValueWriter, "jdbcTemplate", writerJdbcTemplate);
+  }
+
+  @AfterEach
+  void tearDownWriter() {
+    ReflectionTestUtils.setField(attributeValueWriter, "jdbcTemplate", jdbcTemplate);
+    ReflectionTestUtils.setField(attributeValueWriter, "auditMatrix", auditMatrix);
+  }
+
+  @Test
+  void shouldWriteAttributeValuesWithJdbcInBulkMode() throws IOException {
+    assertTrue(attributeValueWriter.isEnabled());
+
+    testSetup.importTrackerData(DATA, bulkParams(TrackerImportStrategy.CREATE));
+
+    verify(writerJdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    assertEquals("321", getStoredValue("sYn3tkL3XKa"));
+    assertEquals("TEXT", getStoredValue(ATTRIBUTE_TEXT));
+    assertEquals("2020-02-20", getStoredValue("sTGqP5JNy6E"));
+    assertEquals("admin", getStoredBy(ATTRIBUTE_TEXT));
+  }
+
+  @Test
+  void shouldWriteConfidentialAttributeValuesWithHibernateInBulkMode() throws IOException {
+    testSetup.importTrackerData(DATA, bulkParams(TrackerImportStrategy.CREATE));
+    manager.flush();
+
+    assertNotNull(getEncryptedValue(ATTRIBUTE_CONFIDENTIAL));
+    assertNull(getEncryptedValue(ATTRIBUTE_TEXT));
+  }
+
+  @Test
+  void shouldWriteAttributeValuesWithHibernateWhenCreateAuditIsEnabled() throws IOException {
+    AuditMatrix createAuditMatrix = mock(AuditMatrix.class);
+    when(createAuditMatrix.isEnabled(AuditScope.TRACKER, AuditType.CREATE)).thenReturn(true);
+    ReflectionTestUtils.setField(attributeValueWriter, "auditMatrix", createAuditMatrix);
+
+    assertFalse(attributeValueWriter.isEnabled());
+
+    testSetup.importTrackerData(DATA, bulkParams(TrackerImportStrategy.CREATE));
+    manager.flush();
+
+    verifyNoInteractions(writerJdbcTemplate);
+    assertEquals("321", getStoredValue("sYn3tkL3XKa"));
+    assertEquals("TEXT", getStoredValue(ATTRIBUTE_TEXT));
+  }
+
+  @Test
+  void shouldUpdateAttributeValuesInBulkMode() throws IOException {
+    testSetup.importTrackerData(DATA, bulkParams(TrackerImportStrategy.CREATE));
+    manager.clear();
+
+    TrackerObjects trackerObjects = testSetup.fromJson(DATA);
+    testSetup.getTrackedEntity(trackerObjects, TRACKED_ENTITY).getAttributes().stream()
+        .filter(attribute -> ATTRIBUTE_TEXT.equals(attribute.getAttribute().getIdentifier()))
+        .forEach(attribute -> attribute.setValue("TEXT UPDATE"));
+
+    assertNoErrors(
+        trackerImportService.importTracker(
+            bulkParams(TrackerImportStrategy.CREATE_AND_UPDATE), trackerObjects));
+    manager.flush();
+
+    assertEquals("TEXT UPDATE", getStoredValue(ATTRIBUTE_TEXT));
+    assertEquals("321", getStoredValue("sYn3tkL3XKa"));
+  }
+
+  @Test
+  void shouldUpdateExistingAttributeValueOnConflict() throws IOException {
+    testSetup.importTrackerData(DATA, bulkParams(TrackerImportStrategy.CREATE));
+    manager.flush();
+
+    TrackedEntity trackedEntity = manager.get(TrackedEntity.class, TRACKED_ENTITY);
+    TrackedEntityAttribute attribute = manager.get(TrackedEntityAttribute.class, ATTRIBUTE_TEXT);
+    TrackedEntityAttributeValue value =
+        new TrackedEntityAttributeValue(attribute, trackedEntity, "UPSERT");
+    value.setAutoFields();
+    value.setStoredBy("bulk");
+
+    attributeValueWriter.write(List.of(value));
+
+    assertEquals("UPSERT", getStoredValue(ATTRIBUTE_TEXT));
+    assertEquals("bulk", getStoredBy(ATTRIBUTE_TEXT));
+    assertEquals(
+        1,
+        jdbcTemplate.queryForObject(
+            """
+            select count(*) from trackedentityattributevalue teav \
+            join trackedentityattribute tea \
+            on teav.trackedentityattributeid = tea.trackedentityattributeid \
+            where tea.uid = ?""",
+            Integer.class,
+            ATTRIBUTE_TEXT));
+  }
+
+  private TrackerImportParams bulkParams(TrackerImportStrategy importStrategy) {
+    return TrackerImportParams.builder()
+        .importStrategy(importStrategy)
+        .flushMode(FlushMode.BULK)
+        .build();
+  }
+
+  private String getStoredValue(String attribute) {
+    return getColumn("value", attribute);
+  }
+
+  private String getStoredBy(String attribute) {
+    return getColumn("storedby", attribute);
+  }
+
+  private String getEncryptedValue(String attribute) {
+    return getColumn("encryptedvalue", attribute);
+  }
+
+  private String getColumn(String column, String attribute) {
+    return jdbcTemplate.queryForObject(
+        """
+        select teav.%s from trackedentityattributevalue teav \
+        join trackedentityattribute tea \
+        on teav.trackedentityattributeid = tea.trackedentityattributeid \
+        join trackedentity te on teav.trackedentityid = te.trackedentityid \
+        where tea.uid = ? and te.uid = ?"""
+            .formatted(column),
+        String.class,
+        attribute,
+        TRACKED_ENTITY);
+  }
+}
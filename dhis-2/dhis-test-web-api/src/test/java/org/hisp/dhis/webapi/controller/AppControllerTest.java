@@ -30,9 +30,11 @@
 package org.hisp.dhis.webapi.controller;
 
 import static java.nio.file.Files.createTempDirectory;
+import static org.hisp.dhis.http.HttpClientAdapter.Header;
 import static org.hisp.dhis.util.ZipFileUtils.MAX_ENTRIES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -127,6 +129,28 @@ class AppControllerTest extends H2ControllerIntegrationTestBase {
     assertTrue(content.contains("<!doctype html>"));
   }
 
+  @Test
+  void testGetInstalledAppResourceHasETagPerEncoding() throws IOException {
+    appManager.installApp(new ClassPathResource("app/test-app-with-index-html.zip").getFile());
+
+    HttpResponse identity = GET("/apps/myapp/index.html");
+    HttpResponse gzip = GET("/apps/myapp/index.html", Header("Accept-Encoding", "gzip"));
+
+    assertEquals("gzip", gzip.header("Content-Encoding"));
+    assertEquals("Accept-Encoding", gzip.header("Vary"));
+    assertNotEquals(identity.header("ETag"), gzip.header("ETag"));
+    assertEquals(
+        HttpStatus.NOT_MODIFIED,
+        GET(
+                "/apps/myapp/index.html",
+                Header("Accept-Encoding", "gzip"),
+                Header("If-None-Match", gzip.header("ETag")))
+            .status());
+    assertEquals(
+        HttpStatus.OK,
+        GET("/apps/myapp/index.html", Header("If-None-Match", gzip.header("ETag"))).status());
+  }
+
   @Test
   void testInstallReturnsAppInfo() throws IOException {
     var result =
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.export.trackedentity.aggregates;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_EXPORT_FETCH_MAX_CONCURRENCY;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the database fetches of {@link TrackedEntityAggregate} asynchronously, with a bounded number
+ * of concurrent fetches per data source (config key: tracker.export.fetch.max_concurrency).
+ *
+ * <p>Each data source has its own pool of at most that many threads, so the fetches of concurrent
+ * exports queue up instead of starting more threads than there are connections to serve them. The
+ * time fetches wait in the queue is recorded in the {@code tracker.export.fetch.wait} timer.
+ *
+ * <p>The MDC context of the calling thread is set on the thread running the fetch.
+ */
+@Component
+class AggregateFetchExecutor {
+  /** The data source a fetch reads from. */
+  enum DataSource {
+    /** The primary data source, used by Hibernate. */
+    PRIMARY,
+
+    /** The read-only data source, which routes to read replicas if configured. */
+    READ_ONLY
+  }
+
+  private final Map<DataSource, Limiter> limiters = new EnumMap<>(DataSource.class);
+
+  AggregateFetchExecutor(DhisConfigurationProvider config, MeterRegistry meterRegistry) {
+    int maxConcurrency = Math.max(1, config.getIntProperty(TRACKER_EXPORT_FETCH_MAX_CONCURRENCY));
+
+    for (DataSource dataSource : DataSource.values()) {
+      limiters.put(dataSource, new Limiter(dataSource, maxConcurrency, meterRegistry));
+    }
+  }
+
+  /**
+   * Runs the fetch asynchronously on the pool of the given data source.
+   *
+   * @param dataSource the data source the fetch reads from
+   * @param fetch the fetch
+   * @return a future completing with the result of the fetch
+   */
+  <T> CompletableFuture<T> supplyAsync(DataSource dataSource, Supplier<T> fetch) {
+    Limiter limiter = limiters.get(dataSource);
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    long queuedAt = System.nanoTime();
+
+    return CompletableFuture.supplyAsync(
+        () -> {
+          limiter.waitTime.record(System.nanoTime() - queuedAt, NANOSECONDS);
+          return withMdc(mdc, fetch);
+        },
+        limiter.executor);
+  }
+
+  /** Runs the supplier with the given MDC context set on the current thread. */
+  private static <T> T withMdc(Map<String, String> mdc, Supplier<T> supplier) {
+    Map<String, String> previous = MDC.getCopyOfContextMap();
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    try {
+      return supplier.get();
+    } finally {
+      if (previous != null) {
+        MDC.setContextMap(previous);
+      } else {
+        MDC.clear();
+      }
+    }
+  }
+
+  private static class Limiter {
+    private final ThreadPoolExecutor executor;
+
+    private final Timer waitTime;
+
+    Limiter(DataSource dataSource, int maxConcurrency, MeterRegistry meterRegistry) {
+      String name = dataSource.name().toLowerCase().replace('_', '-');
+
+      // Thread factory that sets a user-defined thread name (useful for debugging purposes)
+      executor =
+          new ThreadPoolExecutor(
+              maxConcurrency,
+              maxConcurrency,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("TRACKER-TE-FETCH-" + name.toUpperCase() + "-%d")
+                  .setDaemon(true)
+                  .build());
+      executor.allowCoreThreadTimeOut(true);
+
+      waitTime =
+          Timer.builder("tracker.export.fetch.wait")
+              .description("Time tracked entity export fetches wait for a free connection slot")
+              .tag("datasource", name)
+              .register(meterRegistry);
+      Gauge.builder("tracker.export.fetch.queued", executor, e -> e.getQueue().size())
+          .description("Number of tracked entity export fetches waiting for a connection slot")
+          .tag("datasource", name)
+          .register(meterRegistry);
+      Gauge.builder("tracker.export.fetch.active", executor, ThreadPoolExecutor::getActiveCount)
+          .description("Number of tracked entity export fetches running")
+          .tag("datasource", name)
+          .register(meterRegistry);
+    }
+  }
+}
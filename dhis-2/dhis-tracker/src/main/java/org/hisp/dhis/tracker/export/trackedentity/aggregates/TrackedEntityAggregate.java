@@ -30,8 +30,7 @@
 package org.hisp.dhis.tracker.export.trackedentity.aggregates;
 
 import static java.util.concurrent.CompletableFuture.allOf;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
-import static org.hisp.dhis.tracker.export.trackedentity.aggregates.ThreadPoolManager.getPool;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
@@ -41,19 +40,18 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.tracker.export.trackedentity.TrackedEntityFields;
 import org.hisp.dhis.tracker.export.trackedentity.TrackedEntityIdentifiers;
 import org.hisp.dhis.tracker.export.trackedentity.TrackedEntityQueryParams;
+import org.hisp.dhis.tracker.export.trackedentity.aggregates.AggregateFetchExecutor.DataSource;
 import org.hisp.dhis.tracker.model.Enrollment;
 import org.hisp.dhis.tracker.model.TrackedEntity;
 import org.hisp.dhis.tracker.model.TrackedEntityAttributeValue;
 import org.hisp.dhis.tracker.model.TrackedEntityProgramOwner;
 import org.hisp.dhis.user.CurrentUserUtil;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
@@ -69,6 +67,8 @@ public class TrackedEntityAggregate {
   @Nonnull
   private final EnrollmentAggregate enrollmentAggregate;
 
+  @Nonnull private final AggregateFetchExecutor fetchExecutor;
+
   /**
    * Fetches a List of {@see TrackedEntity} based on the list of primary keys and search parameters
    */
@@ -87,27 +87,24 @@ public class TrackedEntityAggregate {
             : null;
 
     List<Long> ids = identifiers.stream().map(TrackedEntityIdentifiers::id).toList();
-    Map<String, String> mdc = MDC.getCopyOfContextMap();
     final CompletableFuture<Multimap<String, Enrollment>> enrollmentsAsync =
         conditionalAsyncFetch(
             fields.isIncludesEnrollments(),
-            () -> enrollmentAggregate.findByTrackedEntityIds(identifiers, ctx),
-            getPool(),
-            mdc);
+            DataSource.PRIMARY,
+            () -> enrollmentAggregate.findByTrackedEntityIds(identifiers, ctx));
     final CompletableFuture<Multimap<String, TrackedEntityProgramOwner>> programOwnersAsync =
         conditionalAsyncFetch(
             fields.isIncludesProgramOwners(),
-            () -> trackedEntityStore.getProgramOwners(ids),
-            getPool(),
-            mdc);
+            DataSource.READ_ONLY,
+            () -> trackedEntityStore.getProgramOwners(ids));
     final CompletableFuture<Map<String, TrackedEntity>> trackedEntitiesAsync =
-        supplyAsync(withMdc(mdc, () -> trackedEntityStore.getTrackedEntities(ids)), getPool());
+        fetchExecutor.supplyAsync(
+            DataSource.READ_ONLY, () -> trackedEntityStore.getTrackedEntities(ids));
     final CompletableFuture<Multimap<String, TrackedEntityAttributeValue>> attributesAsync =
         conditionalAsyncFetch(
             fields.isIncludesAttributes(),
-            () -> trackedEntityStore.getAttributes(ids, programId),
-            getPool(),
-            mdc);
+            DataSource.READ_ONLY,
+            () -> trackedEntityStore.getAttributes(ids, programId));
 
     allOf(trackedEntitiesAsync, attributesAsync, enrollmentsAsync, programOwnersAsync).join();
 
@@ -128,32 +125,10 @@ public class TrackedEntityAggregate {
         .toList();
   }
 
-  private static <T> CompletableFuture<Multimap<String, T>> conditionalAsyncFetch(
-      boolean condition,
-      Supplier<Multimap<String, T>> supplier,
-      Executor executor,
-      Map<String, String> mdc) {
+  private <T> CompletableFuture<Multimap<String, T>> conditionalAsyncFetch(
+      boolean condition, DataSource dataSource, Supplier<Multimap<String, T>> supplier) {
     return condition
-        ? supplyAsync(withMdc(mdc, supplier), executor)
-        : supplyAsync(ArrayListMultimap::create, executor);
-  }
-
-  /** Wraps a supplier so that the given MDC context is set on the async thread. */
-  private static <T> Supplier<T> withMdc(Map<String, String> mdc, Supplier<T> supplier) {
-    return () -> {
-      Map<String, String> previous = MDC.getCopyOfContextMap();
-      if (mdc != null) {
-        MDC.setContextMap(mdc);
-      }
-      try {
-        return supplier.get();
-      } finally {
-        if (previous != null) {
-          MDC.setContextMap(previous);
-        } else {
-          MDC.clear();
-        }
-      }
-    };
+        ? fetchExecutor.supplyAsync(dataSource, supplier)
+        : completedFuture(ArrayListMultimap.create());
   }
 }
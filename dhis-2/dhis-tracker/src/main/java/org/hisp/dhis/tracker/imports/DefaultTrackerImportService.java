@@ -129,8 +129,10 @@ public class DefaultTrackerImportService implements TrackerImportService {
             jobProgress.runStage(() -> calculatePayloadSize(trackerBundle, reportForSize)));
 
     if (exitOnError(validationReport, params)) {
-      return ImportReport.withValidationErrors(
-          validationReport, bundleSize.values().stream().mapToInt(Integer::intValue).sum());
+      return withPreheatTimings(
+          ImportReport.withValidationErrors(
+              validationReport, bundleSize.values().stream().mapToInt(Integer::intValue).sum()),
+          trackerBundle);
     }
 
     jobProgress.startingStage("Commit Transaction");
@@ -141,8 +143,14 @@ public class DefaultTrackerImportService implements TrackerImportService {
     jobProgress.startingStage("PostCommit");
     jobProgress.runStage(() -> trackerBundleService.postCommit(trackerBundle));
 
-    return ImportReport.withImportCompleted(
-        Status.OK, persistenceReport, validationReport, bundleSize);
+    return withPreheatTimings(
+        ImportReport.withImportCompleted(
+            Status.OK, persistenceReport, validationReport, bundleSize),
+        trackerBundle);
+  }
+
+  private static ImportReport withPreheatTimings(ImportReport report, TrackerBundle bundle) {
+    return report.toBuilder().preheatTimings(bundle.getPreheat().getSupplierTimings()).build();
   }
 
   protected ValidationResult validateBundle(TrackerBundle bundle) {
@@ -230,6 +238,10 @@ public class DefaultTrackerImportService implements TrackerImportService {
             .persistenceReport(originalImportReport.getPersistenceReport())
             .message(originalImportReport.getMessage());
 
+    if (TrackerBundleReportMode.FULL == reportMode) {
+      importReportBuilder.preheatTimings(originalImportReport.getPreheatTimings());
+    }
+
     ValidationReport originalValidationReport = originalImportReport.getValidationReport();
     ValidationReport validationReport = ValidationReport.emptyReport();
     if (originalValidationReport != null) {
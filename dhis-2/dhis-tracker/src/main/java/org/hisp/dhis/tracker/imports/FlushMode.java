@@ -41,4 +41,12 @@ public enum FlushMode {
 
   /** Let the importer decide the flushing. */
   AUTO,
+
+  /**
+   * Flush once per type and insert new enrollments, events and tracked entity attribute values
+   * with batched JDBC statements. Objects needing Hibernate, like ones with notes, change logs or
+   * confidential values, are still persisted through it. Only used with {@link AtomicMode#ALL}, as
+   * a failing batch cannot be traced back to a single object; behaves like {@link #AUTO} otherwise.
+   */
+  BULK,
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hisp.dhis.category.Category;
+import org.hisp.dhis.category.CategoryCombo;
+import org.hisp.dhis.category.CategoryOption;
+import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.common.cache.Region;
+import org.hisp.dhis.common.event.CacheInvalidationEvent;
+import org.hisp.dhis.constant.Constant;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.option.Option;
+import org.hisp.dhis.option.OptionSet;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.organisationunit.OrganisationUnitGroup;
+import org.hisp.dhis.program.Program;
+import org.hisp.dhis.program.ProgramStage;
+import org.hisp.dhis.program.ProgramStageDataElement;
+import org.hisp.dhis.program.ProgramTrackedEntityAttribute;
+import org.hisp.dhis.programrule.ProgramRule;
+import org.hisp.dhis.programrule.ProgramRuleAction;
+import org.hisp.dhis.programrule.ProgramRuleVariable;
+import org.hisp.dhis.relationship.RelationshipType;
+import org.hisp.dhis.trackedentity.TrackedEntityAttribute;
+import org.hisp.dhis.trackedentity.TrackedEntityType;
+import org.hisp.dhis.trackedentity.TrackedEntityTypeAttribute;
+import org.hisp.dhis.tracker.imports.preheat.cache.PreheatCacheService;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the metadata caches of the tracker importer when metadata is committed on this node.
+ * These are the {@link PreheatCacheService} and the compiled program rules of the rule engine, both
+ * of which depend on metadata beyond the cached object itself. Only changes to the types a cache
+ * holds or references invalidate it. Changes committed on other nodes are handled by the Redis
+ * cache invalidation listener, which calls {@link #invalidateCaches(Class)}.
+ */
+@Slf4j
+@Component
+public class MetadataCacheInvalidationListener
+    implements PostCommitUpdateEventListener,
+        PostCommitInsertEventListener,
+        PostCommitDeleteEventListener,
+        InitializingBean {
+  /** Types cached by the {@link PreheatCacheService} and the metadata their copies reference. */
+  private static final Set<Class<?>> PREHEAT_TYPES =
+      Set.of(
+          Category.class,
+          CategoryCombo.class,
+          CategoryOption.class,
+          CategoryOptionCombo.class,
+          DataElement.class,
+          Option.class,
+          OptionSet.class,
+          OrganisationUnit.class,
+          Program.class,
+          ProgramStage.class,
+          ProgramStageDataElement.class,
+          ProgramTrackedEntityAttribute.class,
+          RelationshipType.class,
+          TrackedEntityAttribute.class,
+          TrackedEntityType.class,
+          TrackedEntityTypeAttribute.class);
+
+  /**
+   * Types compiled into the rule engine contexts, including the value types and names of the data
+   * elements and attributes behind the rule variables and the organisation unit groups of the
+   * supplementary data.
+   */
+  private static final Set<Class<?>> RULE_ENGINE_TYPES =
+      Set.of(
+          Constant.class,
+          DataElement.class,
+          Option.class,
+          OptionSet.class,
+          OrganisationUnitGroup.class,
+          Program.class,
+          ProgramRule.class,
+          ProgramRuleAction.class,
+          ProgramRuleVariable.class,
+          ProgramStage.class,
+          TrackedEntityAttribute.class);
+
+  @PersistenceUnit private EntityManagerFactory emf;
+
+  private final PreheatCacheService preheatCacheService;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public MetadataCacheInvalidationListener(
+      PreheatCacheService preheatCacheService, ApplicationEventPublisher eventPublisher) {
+    this.preheatCacheService = preheatCacheService;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    SessionFactoryImpl sessionFactory = emf.unwrap(SessionFactoryImpl.class);
+
+    EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+
+    registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+    registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    invalidate(event.getEntity());
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    invalidate(event.getEntity());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    invalidate(event.getEntity());
+  }
+
+  private void invalidate(Object entity) {
+    invalidateCaches(entity.getClass());
+  }
+
+  /**
+   * Invalidates the tracker importer caches which hold or reference objects of the given type.
+   *
+   * @param type the type of the changed object.
+   */
+  public void invalidateCaches(Class<?> type) {
+    if (isAnyOf(PREHEAT_TYPES, type)) {
+      preheatCacheService.invalidateCache();
+    }
+
+    if (isAnyOf(RULE_ENGINE_TYPES, type)) {
+      eventPublisher.publishEvent(new CacheInvalidationEvent(this, Region.ruleEngineContextCache));
+    }
+  }
+
+  private static boolean isAnyOf(Set<Class<?>> types, Class<?> type) {
+    return types.stream().anyMatch(t -> t.isAssignableFrom(type));
+  }
+
+  @Override
+  public boolean requiresPostCommitHanding(EntityPersister persister) {
+    return requiresPostCommitHandling(persister);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    Class<?> type = persister.getMappedClass();
+    return isAnyOf(PREHEAT_TYPES, type) || isAnyOf(RULE_ENGINE_TYPES, type);
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    log.debug("onPostUpdateCommitFailed: " + event);
+  }
+
+  @Override
+  public void onPostInsertCommitFailed(PostInsertEvent event) {
+    log.debug("onPostInsertCommitFailed: " + event);
+  }
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    log.debug("onPostDeleteCommitFailed: " + event);
+  }
+}
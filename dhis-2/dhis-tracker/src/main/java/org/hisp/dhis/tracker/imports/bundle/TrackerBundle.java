@@ -61,6 +61,7 @@ import org.hisp.dhis.tracker.imports.domain.TrackerEvent;
 import org.hisp.dhis.tracker.imports.preheat.TrackerPreheat;
 import org.hisp.dhis.tracker.imports.programrule.engine.Notification;
 import org.hisp.dhis.tracker.imports.programrule.executor.RuleActionExecutor;
+import org.hisp.dhis.tracker.model.TrackedEntityAttributeValue;
 import org.hisp.dhis.user.UserDetails;
 
 /**
@@ -151,6 +152,10 @@ public class TrackerBundle {
 
   @Builder.Default @JsonIgnore private Set<UID> updatedTrackedEntities = new HashSet<>();
 
+  /** Attribute values of new tracked entities to write with JDBC in {@link FlushMode#BULK}. */
+  @Builder.Default @JsonIgnore
+  private List<TrackedEntityAttributeValue> bulkAttributeValues = new ArrayList<>();
+
   public Optional<TrackedEntity> findTrackedEntityByUid(@Nonnull UID uid) {
     return findById(this.trackedEntities, uid);
   }
@@ -179,6 +184,12 @@ public class TrackerBundle {
     return entities.stream().filter(e -> Objects.equals(e.getUID(), uid)).findFirst();
   }
 
+  /** Whether new objects are written in bulk, see {@link FlushMode#BULK}. */
+  @JsonIgnore
+  public boolean isBulkWrite() {
+    return flushMode == FlushMode.BULK && atomicMode == AtomicMode.ALL;
+  }
+
   public Set<UID> getUpdatedTrackedEntities() {
     return Set.copyOf(this.updatedTrackedEntities);
   }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.bundle.persister;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import javax.annotation.CheckForNull;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.hisp.dhis.artemis.audit.configuration.AuditMatrix;
+import org.hisp.dhis.audit.AuditScope;
+import org.hisp.dhis.audit.AuditType;
+import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.hibernate.jsonb.type.JsonBinaryType;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKBWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Base class for writers of tracker objects with batched JDBC statements, bypassing the Hibernate
+ * session. Used by the tracker importer in {@link org.hisp.dhis.tracker.imports.FlushMode#BULK}.
+ *
+ * <p>Hibernate audit listeners are not triggered, so writers are only enabled when tracker create
+ * audits are disabled. Values are converted to columns the way the Hibernate mappings do.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class AbstractJdbcTrackerWriter {
+  protected static final int BATCH_SIZE = 1000;
+
+  protected final JdbcTemplate jdbcTemplate;
+
+  private final AuditMatrix auditMatrix;
+
+  /** Whether objects can be written by this writer without losing audits. */
+  public boolean isEnabled() {
+    return !auditMatrix.isEnabled(AuditScope.TRACKER, AuditType.CREATE);
+  }
+
+  /**
+   * Assigns identifiers from the given sequence to the given objects, so that they can be
+   * referenced by objects persisted later in the same transaction.
+   *
+   * @param sequence the name of the sequence Hibernate assigns identifiers from.
+   * @param objects the objects to assign identifiers to.
+   */
+  protected void assignIds(String sequence, List<? extends IdentifiableObject> objects) {
+    List<Long> ids =
+        jdbcTemplate.queryForList(
+            "select nextval('%s') from generate_series(1, ?)".formatted(sequence),
+            Long.class,
+            objects.size());
+
+    for (int i = 0; i < objects.size(); i++) {
+      objects.get(i).setId(ids.get(i));
+    }
+  }
+
+  @CheckForNull
+  protected static Timestamp toTimestamp(@CheckForNull Date date) {
+    return date == null ? null : new Timestamp(date.getTime());
+  }
+
+  @CheckForNull
+  protected static Long toId(@CheckForNull IdentifiableObject object) {
+    return object == null ? null : object.getId();
+  }
+
+  /**
+   * Serializes the given object like the JSONB Hibernate types, to be bound as {@code ?::jsonb}.
+   */
+  @CheckForNull
+  protected static String toJson(@CheckForNull Object object) {
+    try {
+      return object == null ? null : JsonBinaryType.MAPPER.writeValueAsString(object);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Serializes the given geometry to extended WKB including the SRID, to be bound as {@code
+   * ST_GeomFromEWKB(?)}.
+   */
+  @CheckForNull
+  protected static byte[] toEwkb(@CheckForNull Geometry geometry) {
+    return geometry == null ? null : new WKBWriter(2, true).write(geometry);
+  }
+}
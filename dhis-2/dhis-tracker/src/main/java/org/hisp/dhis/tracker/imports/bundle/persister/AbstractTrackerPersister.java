@@ -44,6 +44,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.CheckForNull;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -102,6 +103,8 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
 
     List<TrackerNotificationDataBundle> notificationDataBundles = new ArrayList<>();
 
+    List<V> bulkEntities = new ArrayList<>();
+
     //
     // Extract the entities to persist from the Bundle
     //
@@ -130,7 +133,11 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
         // Save or update the entity
         //
         if (isNew(bundle, trackerDto)) {
-          entityManager.persist(convertedDto);
+          if (isBulkInsertable(bundle, convertedDto)) {
+            bulkEntities.add(convertedDto);
+          } else {
+            entityManager.persist(convertedDto);
+          }
           updateDataValues(
               entityManager,
               bundle.getPreheat(),
@@ -140,8 +147,7 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
               bundle.getUser());
           typeReport.getStats().incCreated();
           typeReport.addEntity(objectReport);
-          updateAttributes(
-              entityManager, bundle.getPreheat(), trackerDto, convertedDto, bundle.getUser());
+          createAttributes(entityManager, bundle, trackerDto, convertedDto);
           bundle.addUpdatedTrackedEntities(getUpdatedTrackedEntities(convertedDto));
         } else {
           if (trackerDto.getTrackerType() == TrackerType.RELATIONSHIP) {
@@ -197,6 +203,12 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
       }
     }
 
+    if (!bulkEntities.isEmpty()) {
+      // Flush first, so that the objects referenced by the new entities exist in the database
+      entityManager.flush();
+      bulkInsert(bulkEntities);
+    }
+
     typeReport.getNotificationDataBundles().addAll(notificationDataBundles);
 
     return typeReport;
@@ -242,6 +254,34 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
       V hibernateEntity,
       UserDetails user);
 
+  /**
+   * Execute the persistence of Attribute values linked to the new entity being processed.
+   * Persisters writing new attribute values in bulk override this method, see {@link
+   * FlushMode#BULK}.
+   */
+  protected void createAttributes(
+      EntityManager entityManager, TrackerBundle bundle, T trackerDto, V hibernateEntity) {
+    updateAttributes(
+        entityManager, bundle.getPreheat(), trackerDto, hibernateEntity, bundle.getUser());
+  }
+
+  /**
+   * Whether the given new entity is written with {@link #bulkInsert(List)} instead of being
+   * persisted with Hibernate, see {@link FlushMode#BULK}. Entities are persisted with Hibernate by
+   * default.
+   */
+  protected boolean isBulkInsertable(TrackerBundle bundle, V entity) {
+    return false;
+  }
+
+  /**
+   * Inserts the given new entities with batched JDBC inserts. Called once per type, after the
+   * session is flushed, with the entities for which {@link #isBulkInsertable} returned true.
+   */
+  protected void bulkInsert(List<V> entities) {
+    throw new UnsupportedOperationException(getType().getName() + " cannot be inserted in bulk");
+  }
+
   /** Updates the {@link TrackerPreheat} object with the entity that has been persisted */
   protected abstract void updatePreheat(TrackerPreheat preheat, V convertedDto);
 
@@ -308,6 +348,25 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
       List<Attribute> payloadAttributes,
       TrackedEntity trackedEntity,
       UserDetails user) {
+    handleTrackedEntityAttributeValues(
+        entityManager, preheat, payloadAttributes, trackedEntity, user, null);
+  }
+
+  /**
+   * Handles the given attribute values like {@link #handleTrackedEntityAttributeValues(
+   * EntityManager, TrackerPreheat, List, TrackedEntity, UserDetails)}, except that new values are
+   * added to the given bulk values instead of being persisted. Confidential values are encrypted
+   * by Hibernate, so these are always persisted.
+   *
+   * @param bulkValues the values to write in bulk, or null to persist all values.
+   */
+  protected void handleTrackedEntityAttributeValues(
+      EntityManager entityManager,
+      TrackerPreheat preheat,
+      List<Attribute> payloadAttributes,
+      TrackedEntity trackedEntity,
+      UserDetails user,
+      @CheckForNull List<TrackedEntityAttributeValue> bulkValues) {
     if (payloadAttributes.isEmpty()) {
       return;
     }
@@ -370,7 +429,8 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
                 trackedEntityAttributeValue,
                 previousValue,
                 isUpdated,
-                user);
+                user,
+                bulkValues);
           }
 
           handleReservedValue(trackedEntityAttributeValue);
@@ -410,7 +470,8 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
       TrackedEntityAttributeValue trackedEntityAttributeValue,
       String previousValue,
       boolean isUpdated,
-      UserDetails user) {
+      UserDetails user,
+      @CheckForNull List<TrackedEntityAttributeValue> bulkValues) {
     if (isFileResource(trackedEntityAttributeValue)) {
       assignFileResource(
           entityManager, preheat, trackedEntity.getUid(), trackedEntityAttributeValue.getValue());
@@ -419,7 +480,11 @@ public abstract class AbstractTrackerPersister<T extends TrackerDto, V extends I
     ChangeLogType changeLogType = null;
 
     if (isNew) {
-      entityManager.persist(trackedEntityAttributeValue);
+      if (bulkValues != null && !trackedEntityAttributeValue.getAttribute().getConfidential()) {
+        bulkValues.add(trackedEntityAttributeValue);
+      } else {
+        entityManager.persist(trackedEntityAttributeValue);
+      }
       // In case it's a newly created attribute we'll add it back to TE,
       // so it can end up in preheat
       trackedEntity.getTrackedEntityAttributeValues().add(trackedEntityAttributeValue);
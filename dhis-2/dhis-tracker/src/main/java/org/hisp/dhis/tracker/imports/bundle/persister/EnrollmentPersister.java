@@ -56,13 +56,27 @@ public class EnrollmentPersister
     extends AbstractTrackerPersister<org.hisp.dhis.tracker.imports.domain.Enrollment, Enrollment> {
   private final TrackedEntityProgramOwnerService trackedEntityProgramOwnerService;
 
+  private final JdbcEnrollmentWriter enrollmentWriter;
+
   public EnrollmentPersister(
       ReservedValueService reservedValueService,
       TrackedEntityProgramOwnerService trackedEntityProgramOwnerService,
-      TrackedEntityChangeLogService trackedEntityChangeLogService) {
+      TrackedEntityChangeLogService trackedEntityChangeLogService,
+      JdbcEnrollmentWriter enrollmentWriter) {
     super(reservedValueService, trackedEntityChangeLogService);
 
     this.trackedEntityProgramOwnerService = trackedEntityProgramOwnerService;
+    this.enrollmentWriter = enrollmentWriter;
+  }
+
+  @Override
+  protected boolean isBulkInsertable(TrackerBundle bundle, Enrollment enrollment) {
+    return bundle.isBulkWrite() && enrollmentWriter.isEnabled() && enrollment.getNotes().isEmpty();
+  }
+
+  @Override
+  protected void bulkInsert(List<Enrollment> enrollments) {
+    enrollmentWriter.write(enrollments);
   }
 
   @Override
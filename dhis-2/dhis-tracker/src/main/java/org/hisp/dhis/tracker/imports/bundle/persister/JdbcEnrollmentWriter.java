@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.bundle.persister;
+
+import java.sql.Types;
+import java.util.List;
+import org.hisp.dhis.artemis.audit.configuration.AuditMatrix;
+import org.hisp.dhis.tracker.model.Enrollment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inserts new enrollments with batched JDBC statements. Notes and attribute values are not
+ * written, so enrollments with notes must be persisted through Hibernate.
+ */
+@Component
+public class JdbcEnrollmentWriter extends AbstractJdbcTrackerWriter {
+  private static final String SEQUENCE = "programinstance_sequence";
+
+  private static final String INSERT_SQL =
+      """
+      insert into enrollment \
+      (enrollmentid, uid, created, lastupdated, storedby, createdatclient, lastupdatedatclient, \
+      createdbyuserinfo, lastupdatedbyuserinfo, occurreddate, enrollmentdate, completeddate, \
+      followup, completedby, geometry, deleted, status, trackedentityid, programid, \
+      organisationunitid, attributeoptioncomboid) \
+      values (?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?, ?, ?, ?, ST_GeomFromEWKB(?), ?, ?, \
+      ?, ?, ?, ?)""";
+
+  public JdbcEnrollmentWriter(JdbcTemplate jdbcTemplate, AuditMatrix auditMatrix) {
+    super(jdbcTemplate, auditMatrix);
+  }
+
+  /**
+   * Assigns identifiers to the given enrollments and inserts them. The tracked entities and
+   * metadata they reference must already be written to the database.
+   *
+   * @param enrollments the new enrollments to write.
+   */
+  public void write(List<Enrollment> enrollments) {
+    if (enrollments.isEmpty()) {
+      return;
+    }
+
+    assignIds(SEQUENCE, enrollments);
+
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        enrollments,
+        BATCH_SIZE,
+        (ps, enrollment) -> {
+          ps.setLong(1, enrollment.getId());
+          ps.setString(2, enrollment.getUid());
+          ps.setTimestamp(3, toTimestamp(enrollment.getCreated()));
+          ps.setTimestamp(4, toTimestamp(enrollment.getLastUpdated()));
+          ps.setString(5, enrollment.getStoredBy());
+          ps.setTimestamp(6, toTimestamp(enrollment.getCreatedAtClient()));
+          ps.setTimestamp(7, toTimestamp(enrollment.getLastUpdatedAtClient()));
+          ps.setString(8, toJson(enrollment.getCreatedByUserInfo()));
+          ps.setString(9, toJson(enrollment.getLastUpdatedByUserInfo()));
+          ps.setTimestamp(10, toTimestamp(enrollment.getOccurredDate()));
+          ps.setTimestamp(11, toTimestamp(enrollment.getEnrollmentDate()));
+          ps.setTimestamp(12, toTimestamp(enrollment.getCompletedDate()));
+          ps.setObject(13, enrollment.getFollowup(), Types.BOOLEAN);
+          ps.setString(14, enrollment.getCompletedBy());
+          ps.setBytes(15, toEwkb(enrollment.getGeometry()));
+          ps.setBoolean(16, enrollment.isDeleted());
+          ps.setString(17, enrollment.getStatus().name());
+          ps.setObject(18, toId(enrollment.getTrackedEntity()), Types.BIGINT);
+          ps.setLong(19, enrollment.getProgram().getId());
+          ps.setLong(20, enrollment.getOrganisationUnit().getId());
+          ps.setLong(21, enrollment.getAttributeOptionCombo().getId());
+        });
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.bundle.persister;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hisp.dhis.artemis.audit.configuration.AuditMatrix;
+import org.hisp.dhis.eventdatavalue.EventDataValue;
+import org.hisp.dhis.hibernate.jsonb.type.JsonBinaryType;
+import org.hisp.dhis.tracker.model.SingleEvent;
+import org.hisp.dhis.tracker.model.TrackerEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inserts new tracker and single events with batched JDBC statements. Notes and change logs are not
+ * written, so events with notes or of programs with change logs enabled must be persisted through
+ * Hibernate.
+ */
+@Component
+public class JdbcEventWriter extends AbstractJdbcTrackerWriter {
+  private static final String TRACKER_EVENT_SEQUENCE = "trackerevent_sequence";
+
+  private static final String SINGLE_EVENT_SEQUENCE = "programstageinstance_sequence";
+
+  private static final String INSERT_TRACKER_EVENT_SQL =
+      """
+      insert into trackerevent \
+      (eventid, uid, created, lastupdated, createdbyuserinfo, lastupdatedbyuserinfo, \
+      createdatclient, lastupdatedatclient, lastsynchronized, programstageid, \
+      attributeoptioncomboid, deleted, storedby, occurreddate, organisationunitid, status, \
+      completedby, completeddate, geometry, assigneduserid, eventdatavalues, enrollmentid, \
+      scheduleddate) \
+      values (?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, \
+      ST_GeomFromEWKB(?), ?, ?::jsonb, ?, ?)""";
+
+  private static final String INSERT_SINGLE_EVENT_SQL =
+      """
+      insert into singleevent \
+      (eventid, uid, created, lastupdated, createdbyuserinfo, lastupdatedbyuserinfo, \
+      createdatclient, lastupdatedatclient, lastsynchronized, programstageid, \
+      attributeoptioncomboid, deleted, storedby, occurreddate, organisationunitid, status, \
+      completedby, completeddate, geometry, assigneduserid, eventdatavalues) \
+      values (?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, \
+      ST_GeomFromEWKB(?), ?, ?::jsonb)""";
+
+  /** Writes data values keyed by data element like {@code JsonEventDataValueSetBinaryType}. */
+  private static final ObjectWriter DATA_VALUES_WRITER =
+      JsonBinaryType.MAPPER.writerFor(new TypeReference<Map<String, EventDataValue>>() {});
+
+  public JdbcEventWriter(JdbcTemplate jdbcTemplate, AuditMatrix auditMatrix) {
+    super(jdbcTemplate, auditMatrix);
+  }
+
+  /**
+   * Assigns identifiers to the given tracker events and inserts them. The enrollments and metadata
+   * they reference must already be written to the database.
+   *
+   * @param events the new tracker events to write.
+   */
+  public void writeTrackerEvents(List<TrackerEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    assignIds(TRACKER_EVENT_SEQUENCE, events);
+
+    jdbcTemplate.batchUpdate(
+        INSERT_TRACKER_EVENT_SQL,
+        events,
+        BATCH_SIZE,
+        (ps, event) -> {
+          ps.setLong(1, event.getId());
+          ps.setString(2, event.getUid());
+          ps.setTimestamp(3, toTimestamp(event.getCreated()));
+          ps.setTimestamp(4, toTimestamp(event.getLastUpdated()));
+          ps.setString(5, toJson(event.getCreatedByUserInfo()));
+          ps.setString(6, toJson(event.getLastUpdatedByUserInfo()));
+          ps.setTimestamp(7, toTimestamp(event.getCreatedAtClient()));
+          ps.setTimestamp(8, toTimestamp(event.getLastUpdatedAtClient()));
+          ps.setTimestamp(9, toTimestamp(event.getLastSynchronized()));
+          ps.setLong(10, event.getProgramStage().getId());
+          ps.setLong(11, event.getAttributeOptionCombo().getId());
+          ps.setBoolean(12, event.isDeleted());
+          ps.setString(13, event.getStoredBy());
+          ps.setTimestamp(14, toTimestamp(event.getOccurredDate()));
+          ps.setLong(15, event.getOrganisationUnit().getId());
+          ps.setString(16, event.getStatus().name());
+          ps.setString(17, event.getCompletedBy());
+          ps.setTimestamp(18, toTimestamp(event.getCompletedDate()));
+          ps.setBytes(19, toEwkb(event.getGeometry()));
+          ps.setObject(20, toId(event.getAssignedUser()), Types.BIGINT);
+          ps.setString(21, toDataValuesJson(event.getEventDataValues()));
+          ps.setLong(22, event.getEnrollment().getId());
+          ps.setTimestamp(23, toTimestamp(event.getScheduledDate()));
+        });
+  }
+
+  /**
+   * Assigns identifiers to the given single events and inserts them. The metadata they reference
+   * must already be written to the database.
+   *
+   * @param events the new single events to write.
+   */
+  public void writeSingleEvents(List<SingleEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    assignIds(SINGLE_EVENT_SEQUENCE, events);
+
+    jdbcTemplate.batchUpdate(
+        INSERT_SINGLE_EVENT_SQL,
+        events,
+        BATCH_SIZE,
+        (ps, event) -> {
+          ps.setLong(1, event.getId());
+          ps.setString(2, event.getUid());
+          ps.setTimestamp(3, toTimestamp(event.getCreated()));
+          ps.setTimestamp(4, toTimestamp(event.getLastUpdated()));
+          ps.setString(5, toJson(event.getCreatedByUserInfo()));
+          ps.setString(6, toJson(event.getLastUpdatedByUserInfo()));
+          ps.setTimestamp(7, toTimestamp(event.getCreatedAtClient()));
+          ps.setTimestamp(8, toTimestamp(event.getLastUpdatedAtClient()));
+          ps.setTimestamp(9, toTimestamp(event.getLastSynchronized()));
+          ps.setLong(10, event.getProgramStage().getId());
+          ps.setLong(11, event.getAttributeOptionCombo().getId());
+          ps.setBoolean(12, event.isDeleted());
+          ps.setString(13, event.getStoredBy());
+          ps.setTimestamp(14, toTimestamp(event.getOccurredDate()));
+          ps.setLong(15, event.getOrganisationUnit().getId());
+          ps.setString(16, event.getStatus().name());
+          ps.setString(17, event.getCompletedBy());
+          ps.setTimestamp(18, toTimestamp(event.getCompletedDate()));
+          ps.setBytes(19, toEwkb(event.getGeometry()));
+          ps.setObject(20, toId(event.getAssignedUser()), Types.BIGINT);
+          ps.setString(21, toDataValuesJson(event.getEventDataValues()));
+        });
+  }
+
+  private static String toDataValuesJson(Set<EventDataValue> eventDataValues) {
+    Map<String, EventDataValue> dataValues = new HashMap<>();
+
+    for (EventDataValue eventDataValue : eventDataValues) {
+      dataValues.put(eventDataValue.getDataElement(), eventDataValue);
+    }
+
+    try {
+      return DATA_VALUES_WRITER.writeValueAsString(dataValues);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.bundle.persister;
+
+import java.util.Collection;
+import org.hisp.dhis.artemis.audit.configuration.AuditMatrix;
+import org.hisp.dhis.tracker.model.TrackedEntityAttributeValue;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes tracked entity attribute values with batched JDBC upserts, bypassing the Hibernate
+ * session. Used by the tracker importer in {@link org.hisp.dhis.tracker.imports.FlushMode#BULK}.
+ *
+ * <p>Values are written as plain text, so confidential attribute values must not be passed to this
+ * writer.
+ */
+@Component
+public class JdbcTrackedEntityAttributeValueWriter extends AbstractJdbcTrackerWriter {
+  private static final String UPSERT_SQL =
+      """
+      insert into trackedentityattributevalue \
+      (trackedentityid, trackedentityattributeid, created, lastupdated, value, storedby) \
+      values (?, ?, ?, ?, ?, ?) \
+      on conflict (trackedentityid, trackedentityattributeid) do update \
+      set lastupdated = excluded.lastupdated, value = excluded.value, \
+      storedby = excluded.storedby""";
+
+  public JdbcTrackedEntityAttributeValueWriter(JdbcTemplate jdbcTemplate, AuditMatrix auditMatrix) {
+    super(jdbcTemplate, auditMatrix);
+  }
+
+  /**
+   * Inserts the given attribute values, or updates them if they exist. The tracked entities must
+   * already be written to the database.
+   *
+   * @param values the attribute values to write.
+   */
+  public void write(Collection<TrackedEntityAttributeValue> values) {
+    if (values.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+        UPSERT_SQL,
+        values,
+        BATCH_SIZE,
+        (ps, value) -> {
+          ps.setLong(1, value.getTrackedEntity().getId());
+          ps.setLong(2, value.getAttribute().getId());
+          ps.setTimestamp(3, toTimestamp(value.getCreated()));
+          ps.setTimestamp(4, toTimestamp(value.getLastUpdated()));
+          ps.setString(5, value.getPlainValue());
+          ps.setString(6, value.getStoredBy());
+        });
+  }
+}
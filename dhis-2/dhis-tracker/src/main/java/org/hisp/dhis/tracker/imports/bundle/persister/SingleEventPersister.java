@@ -73,12 +73,29 @@ public class SingleEventPersister
         org.hisp.dhis.tracker.imports.domain.SingleEvent, SingleEvent> {
   private final SingleEventChangeLogService singleEventChangeLogService;
 
+  private final JdbcEventWriter eventWriter;
+
   public SingleEventPersister(
       ReservedValueService reservedValueService,
       TrackedEntityChangeLogService trackedEntityChangeLogService,
-      SingleEventChangeLogService eventChangeLogService) {
+      SingleEventChangeLogService eventChangeLogService,
+      JdbcEventWriter eventWriter) {
     super(reservedValueService, trackedEntityChangeLogService);
     this.singleEventChangeLogService = eventChangeLogService;
+    this.eventWriter = eventWriter;
+  }
+
+  @Override
+  protected boolean isBulkInsertable(TrackerBundle bundle, SingleEvent event) {
+    return bundle.isBulkWrite()
+        && eventWriter.isEnabled()
+        && event.getNotes().isEmpty()
+        && !event.getProgramStage().getProgram().isEnableChangeLog();
+  }
+
+  @Override
+  protected void bulkInsert(List<SingleEvent> events) {
+    eventWriter.writeSingleEvents(events);
   }
 
   @Override
@@ -42,6 +42,7 @@ import org.hisp.dhis.tracker.imports.bundle.TrackerObjectsMapper;
 import org.hisp.dhis.tracker.imports.job.NotificationTrigger;
 import org.hisp.dhis.tracker.imports.job.TrackerNotificationDataBundle;
 import org.hisp.dhis.tracker.imports.preheat.TrackerPreheat;
+import org.hisp.dhis.tracker.imports.report.TrackerTypeReport;
 import org.hisp.dhis.tracker.model.TrackedEntity;
 import org.hisp.dhis.user.UserDetails;
 import org.springframework.stereotype.Component;
@@ -54,10 +55,63 @@ public class TrackedEntityPersister
     extends AbstractTrackerPersister<
         org.hisp.dhis.tracker.imports.domain.TrackedEntity, TrackedEntity> {
 
+  private final JdbcTrackedEntityAttributeValueWriter attributeValueWriter;
+
   public TrackedEntityPersister(
       ReservedValueService reservedValueService,
-      TrackedEntityChangeLogService trackedEntityChangeLogService) {
+      TrackedEntityChangeLogService trackedEntityChangeLogService,
+      JdbcTrackedEntityAttributeValueWriter attributeValueWriter) {
     super(reservedValueService, trackedEntityChangeLogService);
+    this.attributeValueWriter = attributeValueWriter;
+  }
+
+  @Override
+  public TrackerTypeReport persist(EntityManager entityManager, TrackerBundle bundle) {
+    TrackerTypeReport typeReport = super.persist(entityManager, bundle);
+
+    writeBulkAttributeValues(entityManager, bundle);
+
+    return typeReport;
+  }
+
+  /**
+   * Collects the new attribute values of new tracked entities in the bundle when in {@link
+   * org.hisp.dhis.tracker.imports.FlushMode#BULK}, to be written with batched JDBC inserts. Values
+   * are audited by Hibernate listeners when tracker create audits are enabled, in which case all
+   * values are persisted with Hibernate.
+   */
+  @Override
+  protected void createAttributes(
+      EntityManager entityManager,
+      TrackerBundle bundle,
+      org.hisp.dhis.tracker.imports.domain.TrackedEntity trackerDto,
+      TrackedEntity te) {
+    if (!bundle.isBulkWrite() || !attributeValueWriter.isEnabled()) {
+      super.createAttributes(entityManager, bundle, trackerDto, te);
+      return;
+    }
+
+    handleTrackedEntityAttributeValues(
+        entityManager,
+        bundle.getPreheat(),
+        trackerDto.getAttributes(),
+        te,
+        bundle.getUser(),
+        bundle.getBulkAttributeValues());
+  }
+
+  /**
+   * Writes the new attribute values collected in bulk mode with batched JDBC inserts. The session
+   * is flushed first, so that the tracked entities they reference exist in the database.
+   */
+  private void writeBulkAttributeValues(EntityManager entityManager, TrackerBundle bundle) {
+    if (bundle.getBulkAttributeValues().isEmpty()) {
+      return;
+    }
+
+    entityManager.flush();
+    attributeValueWriter.write(bundle.getBulkAttributeValues());
+    bundle.getBulkAttributeValues().clear();
   }
 
   @Override
@@ -74,12 +74,29 @@ public class TrackerEventPersister
         org.hisp.dhis.tracker.imports.domain.TrackerEvent, TrackerEvent> {
   private final TrackerEventChangeLogService eventChangeLogService;
 
+  private final JdbcEventWriter eventWriter;
+
   public TrackerEventPersister(
       ReservedValueService reservedValueService,
       TrackedEntityChangeLogService trackedEntityChangeLogService,
-      TrackerEventChangeLogService eventChangeLogService) {
+      TrackerEventChangeLogService eventChangeLogService,
+      JdbcEventWriter eventWriter) {
     super(reservedValueService, trackedEntityChangeLogService);
     this.eventChangeLogService = eventChangeLogService;
+    this.eventWriter = eventWriter;
+  }
+
+  @Override
+  protected boolean isBulkInsertable(TrackerBundle bundle, TrackerEvent event) {
+    return bundle.isBulkWrite()
+        && eventWriter.isEnabled()
+        && event.getNotes().isEmpty()
+        && !event.getProgramStage().getProgram().isEnableChangeLog();
+  }
+
+  @Override
+  protected void bulkInsert(List<TrackerEvent> events) {
+    eventWriter.writeTrackerEvents(events);
   }
 
   @Override
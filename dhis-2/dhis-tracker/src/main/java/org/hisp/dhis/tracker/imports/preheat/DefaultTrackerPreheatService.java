@@ -29,26 +29,47 @@
  */
 package org.hisp.dhis.tracker.imports.preheat;
 
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_IMPORT_PREHEAT_MAX_CONCURRENCY;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.beans.Introspector;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.preheat.PreheatException;
 import org.hisp.dhis.tracker.TrackerIdSchemeParams;
 import org.hisp.dhis.tracker.imports.domain.TrackerObjects;
 import org.hisp.dhis.tracker.imports.preheat.supplier.PreheatSupplier;
+import org.slf4j.MDC;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
+ * Populates the {@link TrackerPreheat} by running the preheat suppliers in preheat order.
+ *
+ * <p>A supplier starts once the suppliers it depends on are done. Suppliers which can run
+ * concurrently do so on a pool of at most tracker.import.preheat.max_concurrency threads, each with
+ * its own read connection. All other suppliers run on the calling thread within the read-only
+ * transaction of the preheat.
+ *
  * @author Morten Olav Hansen <mortenoh@gmail.com>
  */
-@RequiredArgsConstructor
 @Slf4j
 @Service
 public class DefaultTrackerPreheatService
@@ -60,12 +81,32 @@ public class DefaultTrackerPreheatService
     this.ctx = applicationContext;
   }
 
-  @Qualifier("preheatOrder")
   private final List<String> preheatSuppliers;
 
+  private final ThreadPoolExecutor executor;
+
   // TODO this flag should be configurable
   private static final boolean FAIL_FAST_ON_PREHEAT_ERROR = false;
 
+  public DefaultTrackerPreheatService(
+      @Qualifier("preheatOrder") List<String> preheatSuppliers, DhisConfigurationProvider config) {
+    this.preheatSuppliers = preheatSuppliers;
+
+    int maxConcurrency = Math.max(1, config.getIntProperty(TRACKER_IMPORT_PREHEAT_MAX_CONCURRENCY));
+    this.executor =
+        new ThreadPoolExecutor(
+            maxConcurrency,
+            maxConcurrency,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("TRACKER-PREHEAT-%d")
+                .setDaemon(true)
+                .build());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
   @Nonnull
   @Override
   @Transactional(readOnly = true)
@@ -74,28 +115,115 @@ public class DefaultTrackerPreheatService
     TrackerPreheat preheat = new TrackerPreheat();
     preheat.setIdSchemes(idSchemeParams);
 
+    // Other connections cannot see the uncommitted writes of an enclosing read-write transaction
+    boolean concurrent = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+    Map<String, CompletableFuture<Void>> completions = new HashMap<>();
+    Map<String, Long> timings = new ConcurrentHashMap<>();
+
+    for (String supplier : preheatSuppliers) {
+      PreheatSupplier preheatSupplier = getSupplier(supplier);
+
+      if (preheatSupplier == null) {
+        continue;
+      }
+
+      CompletableFuture<Void> dependencies =
+          CompletableFuture.allOf(
+              preheatSupplier.getDependencies().stream()
+                  .map(dependency -> completions.get(dependency.getSimpleName()))
+                  .filter(Objects::nonNull)
+                  .toArray(CompletableFuture[]::new));
+
+      Runnable addData = () -> add(preheatSupplier, supplier, trackerObjects, preheat, timings);
+
+      if (concurrent && preheatSupplier.isConcurrent()) {
+        completions.put(supplier, dependencies.thenRunAsync(() -> withMdc(mdc, addData), executor));
+      } else {
+        await(dependencies);
+        addData.run();
+        completions.put(supplier, CompletableFuture.completedFuture(null));
+      }
+    }
+
+    await(CompletableFuture.allOf(completions.values().toArray(CompletableFuture[]::new)));
+
+    Map<String, Long> supplierTimings = new LinkedHashMap<>();
     for (String supplier : preheatSuppliers) {
-      final String beanName = Introspector.decapitalize(supplier);
-      try {
-        ctx.getBean(beanName, PreheatSupplier.class).add(trackerObjects, preheat);
-      } catch (BeansException beanException) {
-        processException(
-            "Unable to find a preheat supplier with name "
-                + beanName
-                + " in the Spring context. Skipping supplier.",
-            beanException,
-            supplier);
-      } catch (Exception e) {
-        processException(
-            "An error occurred while executing a preheat supplier with name " + supplier,
-            e,
-            supplier);
+      if (timings.containsKey(supplier)) {
+        supplierTimings.put(supplier, timings.get(supplier));
       }
     }
+    preheat.setSupplierTimings(supplierTimings);
+    log.debug("Preheat supplier timings in ms: {}", supplierTimings);
 
     return preheat;
   }
 
+  private PreheatSupplier getSupplier(String supplier) {
+    final String beanName = Introspector.decapitalize(supplier);
+    try {
+      return ctx.getBean(beanName, PreheatSupplier.class);
+    } catch (BeansException beanException) {
+      processException(
+          "Unable to find a preheat supplier with name "
+              + beanName
+              + " in the Spring context. Skipping supplier.",
+          beanException,
+          supplier);
+      return null;
+    }
+  }
+
+  private void add(
+      PreheatSupplier preheatSupplier,
+      String supplier,
+      TrackerObjects trackerObjects,
+      TrackerPreheat preheat,
+      Map<String, Long> timings) {
+    long start = System.nanoTime();
+    try {
+      preheatSupplier.add(trackerObjects, preheat);
+    } catch (Exception e) {
+      processException(
+          "An error occurred while executing a preheat supplier with name " + supplier,
+          e,
+          supplier);
+    } finally {
+      timings.put(supplier, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  /** Waits for the future, rethrowing the exception of a failed supplier. */
+  private static void await(CompletableFuture<Void> future) {
+    try {
+      future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** Runs the runnable with the given MDC context set on the current thread. */
+  private static void withMdc(Map<String, String> mdc, Runnable runnable) {
+    Map<String, String> previous = MDC.getCopyOfContextMap();
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    try {
+      runnable.run();
+    } finally {
+      if (previous != null) {
+        MDC.setContextMap(previous);
+      } else {
+        MDC.clear();
+      }
+    }
+  }
+
   private void processException(String message, Exception e, String supplier) {
     if (FAIL_FAST_ON_PREHEAT_ERROR) {
       throw new PreheatException(
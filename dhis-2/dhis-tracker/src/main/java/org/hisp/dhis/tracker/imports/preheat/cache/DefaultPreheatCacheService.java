@@ -29,18 +29,23 @@
  */
 package org.hisp.dhis.tracker.imports.preheat.cache;
 
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_IMPORT_PREHEAT_CACHE_ENABLED;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
-import lombok.RequiredArgsConstructor;
 import org.cache2k.Cache;
 import org.cache2k.Cache2kBuilder;
 import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.event.ApplicationCacheClearedEvent;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.tracker.TrackerIdScheme;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
@@ -48,9 +53,12 @@ import org.springframework.stereotype.Service;
 /**
  * Pre-heat cache implementation for metadata objects.
  *
+ * <p>The cache is safe for concurrent imports. Every cache is bounded by the capacity given on the
+ * first put, and every entry by its time-to-live. Hits and misses are counted per cache key in the
+ * {@code tracker.import.preheat.cache} meter.
+ *
  * @author Luciano Fiandesio
  */
-@RequiredArgsConstructor
 @Service
 public class DefaultPreheatCacheService implements PreheatCacheService {
   /**
@@ -64,14 +72,36 @@ public class DefaultPreheatCacheService implements PreheatCacheService {
    * <p>Caveat: this data structure may reference multiple times the same objects, if different
    * {@link TrackerIdScheme} are used during different imports.
    */
-  private static final Map<String, Cache<String, IdentifiableObject>> cache = new HashMap<>();
+  private final Map<String, Cache<String, Entry>> cache = new ConcurrentHashMap<>();
+
+  private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+  /** The metadata version, moved on whenever metadata changes. */
+  private final AtomicLong version = new AtomicLong();
+
+  private final boolean enabled;
+
+  private final MeterRegistry meterRegistry;
+
+  public DefaultPreheatCacheService(DhisConfigurationProvider config, MeterRegistry meterRegistry) {
+    this.enabled = config.isEnabled(TRACKER_IMPORT_PREHEAT_CACHE_ENABLED);
+    this.meterRegistry = meterRegistry;
+  }
 
   @Override
   public Optional<IdentifiableObject> get(final String cacheKey, final String id) {
-    if (isCacheEnabled() && cache.containsKey(cacheKey)) {
-      return Optional.ofNullable(cache.get(cacheKey).get(id));
+    if (!enabled) {
+      return Optional.empty();
     }
 
+    Cache<String, Entry> c = cache.get(cacheKey);
+    Entry entry = c == null ? null : c.peek(id);
+    if (entry != null && entry.version() == version.get()) {
+      getMeters(cacheKey).hits().increment();
+      return Optional.of(entry.object());
+    }
+
+    getMeters(cacheKey).misses().increment();
     return Optional.empty();
   }
 
@@ -91,9 +121,10 @@ public class DefaultPreheatCacheService implements PreheatCacheService {
       return value;
     }
 
+    long loadedVersion = getVersion();
     value = mappingFunction.apply(cacheKey, id);
     if (value.isPresent()) {
-      put(cacheKey, id, value.get(), cacheTTL, capacity);
+      put(cacheKey, id, value.get(), cacheTTL, capacity, loadedVersion);
     }
 
     return value;
@@ -107,8 +138,12 @@ public class DefaultPreheatCacheService implements PreheatCacheService {
   @Override
   public List<IdentifiableObject> getAll(String cacheKey) {
     List<IdentifiableObject> res = new ArrayList<>();
-    if (hasKey(cacheKey)) {
-      cache.get(cacheKey).keys().forEach(k -> res.add(cache.get(cacheKey).get(k)));
+    Cache<String, Entry> c = cache.get(cacheKey);
+    if (c != null) {
+      long current = version.get();
+      c.asMap().values().stream()
+          .filter(entry -> entry.version() == current)
+          .forEach(entry -> res.add(entry.object()));
     }
     return res;
   }
@@ -120,29 +155,30 @@ public class DefaultPreheatCacheService implements PreheatCacheService {
       IdentifiableObject object,
       final int cacheTTL,
       final long capacity) {
-    if (cacheKey == null || id == null || object == null) return;
-
-    if (isCacheEnabled()) {
-      if (cache.containsKey(cacheKey)) {
-        cache.get(cacheKey).put(id, object);
-      } else {
-        Cache<String, IdentifiableObject> c =
-            new Cache2kBuilder<String, IdentifiableObject>() {}.expireAfterWrite(
-                    cacheTTL, TimeUnit.MINUTES)
-                .name(cacheKey)
-                .permitNullValues(false)
-                .entryCapacity(capacity == -1 ? Long.MAX_VALUE : capacity)
-                .resilienceDuration(30, TimeUnit.SECONDS) // cope with at
-                // most 30
-                // seconds
-                // outage before propagating exceptions
-                .build();
-
-        c.put(id, object);
-
-        cache.put(cacheKey, c);
-      }
-    }
+    put(cacheKey, id, object, cacheTTL, capacity, getVersion());
+  }
+
+  @Override
+  public void put(
+      final String cacheKey,
+      final String id,
+      IdentifiableObject object,
+      final int cacheTTL,
+      final long capacity,
+      final long loadedVersion) {
+    if (!enabled || cacheKey == null || id == null || object == null) return;
+
+    // metadata changed while the object was loaded, it might be stale already
+    if (loadedVersion != version.get()) return;
+
+    cache
+        .computeIfAbsent(cacheKey, k -> createCache(cacheTTL, capacity))
+        .put(id, new Entry(object, loadedVersion));
+  }
+
+  @Override
+  public long getVersion() {
+    return version.get();
   }
 
   @EventListener
@@ -153,17 +189,34 @@ public class DefaultPreheatCacheService implements PreheatCacheService {
 
   @Override
   public void invalidateCache() {
+    version.incrementAndGet();
     cache.values().forEach(Cache::removeAll);
   }
 
-  private boolean isCacheEnabled() {
-    return false;
+  private Cache<String, Entry> createCache(int cacheTTL, long capacity) {
+    return new Cache2kBuilder<String, Entry>() {}.expireAfterWrite(cacheTTL, TimeUnit.MINUTES)
+        .permitNullValues(false)
+        .entryCapacity(capacity == -1 ? Long.MAX_VALUE : capacity)
+        // cope with at most 30 seconds outage before propagating exceptions
+        .resilienceDuration(30, TimeUnit.SECONDS)
+        .build();
+  }
 
-    // Due to concerns and issues with the current cache implementation, we
-    // decided to
-    // deactivate the cache in the preheat completely for now.
-    // return !isTestRun( this.environment.getActiveProfiles() )
-    // && config.isEnabled(
-    // ConfigurationKey.TRACKER_IMPORT_PREHEAT_CACHE_ENABLED );
+  private Meters getMeters(String cacheKey) {
+    return meters.computeIfAbsent(
+        cacheKey, k -> new Meters(counter(k, "hit"), counter(k, "miss")));
   }
+
+  private Counter counter(String cacheKey, String result) {
+    return Counter.builder("tracker.import.preheat.cache")
+        .description("Number of tracker import preheat cache lookups")
+        .tag("type", cacheKey)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /** A cached object and the metadata version it was loaded at. */
+  private record Entry(IdentifiableObject object, long version) {}
+
+  private record Meters(Counter hits, Counter misses) {}
 }
@@ -36,7 +36,11 @@ import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.event.ApplicationCacheClearedEvent;
 
 /**
- * A DHIS2 metadata cache implementation to reduce db lookups during pre-heat
+ * A DHIS2 metadata cache implementation to reduce db lookups during pre-heat.
+ *
+ * <p>Cached objects are detached copies which may reference other metadata. Entries are therefore
+ * tagged with the metadata version current when they were loaded, and any metadata change moves
+ * the version on, so that no entry loaded before the change is served afterwards.
  *
  * @author Luciano Fiandesio
  */
@@ -95,7 +99,31 @@ public interface PreheatCacheService {
    */
   void put(String cacheKey, String id, IdentifiableObject object, int cacheTTL, long capacity);
 
-  /** Invalidates all caches. */
+  /**
+   * Adds an object to the pre-heat cache, unless metadata changed since it was loaded.
+   *
+   * @param cacheKey the full class name of the object being cached
+   * @param id the identifier of the object being cached, used as cache key
+   * @param object The object being cached
+   * @param cacheTTL The amount of **minutes**
+   * @param capacity The maximum number of entries hold by the cache.
+   * @param version the {@link #getVersion() metadata version} read before loading the object
+   */
+  void put(
+      String cacheKey,
+      String id,
+      IdentifiableObject object,
+      int cacheTTL,
+      long capacity,
+      long version);
+
+  /**
+   * Returns the current metadata version. Read it before loading objects to cache, and pass it to
+   * {@link #put(String, String, IdentifiableObject, int, long, long)}.
+   */
+  long getVersion();
+
+  /** Invalidates all caches and moves the metadata version on. */
   void invalidateCache();
 
   /**
@@ -31,6 +31,7 @@ package org.hisp.dhis.tracker.imports.preheat.supplier;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import org.hisp.dhis.relationship.RelationshipType;
@@ -48,6 +49,11 @@ import org.springframework.stereotype.Component;
 public class DuplicateRelationshipSupplier extends AbstractPreheatSupplier {
   @Nonnull private final RelationshipService relationshipService;
 
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
     List<org.hisp.dhis.tracker.model.Relationship> relationships =
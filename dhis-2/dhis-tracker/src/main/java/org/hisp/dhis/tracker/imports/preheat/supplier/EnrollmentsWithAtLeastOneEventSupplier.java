@@ -31,6 +31,7 @@ package org.hisp.dhis.tracker.imports.preheat.supplier;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.hisp.dhis.common.IdentifiableObject;
 import org.hisp.dhis.common.UID;
 import org.hisp.dhis.tracker.imports.domain.TrackerObjects;
@@ -63,6 +64,11 @@ public class EnrollmentsWithAtLeastOneEventSupplier extends JdbcAbstractPreheatS
     super(jdbcTemplate);
   }
 
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
     List<Long> enrollmentIds =
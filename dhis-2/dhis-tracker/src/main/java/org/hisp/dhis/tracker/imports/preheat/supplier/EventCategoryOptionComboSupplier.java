@@ -63,6 +63,11 @@ import org.springframework.stereotype.Component;
 public class EventCategoryOptionComboSupplier extends AbstractPreheatSupplier {
   @Nonnull private final CategoryService categoryService;
 
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
 
@@ -55,6 +55,11 @@ import org.springframework.stereotype.Component;
 public class FileResourceSupplier extends AbstractPreheatSupplier {
   @Nonnull private final FileResourceService fileResourceService;
 
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
     TrackerIdSchemeParams idSchemes = preheat.getIdSchemes();
@@ -45,4 +45,9 @@ public abstract class JdbcAbstractPreheatSupplier extends AbstractPreheatSupplie
       @Qualifier("readOnlyJdbcTemplate") JdbcTemplate jdbcTemplate) {
     this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
   }
+
+  @Override
+  public boolean isConcurrent() {
+    return true;
+  }
 }
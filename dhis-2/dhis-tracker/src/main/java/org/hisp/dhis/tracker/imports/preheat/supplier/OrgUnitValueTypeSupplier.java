@@ -57,6 +57,15 @@ import org.springframework.stereotype.Component;
 public class OrgUnitValueTypeSupplier extends AbstractPreheatSupplier {
   @Nonnull private final IdentifiableObjectManager manager;
 
+  /**
+   * Runs after {@link ProgramOrgUnitsSupplier}, so that it only looks up the programs of the org
+   * units events and enrollments are imported into, not of org units used as values.
+   */
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class, ProgramOrgUnitsSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
     TrackerIdSchemeParams idSchemes = preheat.getIdSchemes();
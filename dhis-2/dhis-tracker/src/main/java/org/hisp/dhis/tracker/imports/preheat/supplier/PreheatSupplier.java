@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.tracker.imports.preheat.supplier;
 
+import java.util.Set;
 import org.hisp.dhis.tracker.imports.TrackerImportParams;
 import org.hisp.dhis.tracker.imports.domain.TrackerObjects;
 import org.hisp.dhis.tracker.imports.preheat.TrackerPreheat;
@@ -46,4 +47,25 @@ public interface PreheatSupplier {
    * @param preheat {@link TrackerPreheat}
    */
   void add(TrackerObjects trackerObjects, TrackerPreheat preheat);
+
+  /**
+   * Suppliers which need to have added their data to the {@link TrackerPreheat} before this
+   * supplier runs. Dependencies must come before this supplier in the preheat order.
+   *
+   * @return the suppliers this supplier depends on
+   */
+  default Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of();
+  }
+
+  /**
+   * Whether this supplier can run on another thread and read connection, concurrently with the
+   * suppliers it does not depend on. Only suppliers which do not use the Hibernate session can, as
+   * entities added to the preheat need to be attached to the session of the preheat.
+   *
+   * @return true if this supplier can run concurrently
+   */
+  default boolean isConcurrent() {
+    return false;
+  }
 }
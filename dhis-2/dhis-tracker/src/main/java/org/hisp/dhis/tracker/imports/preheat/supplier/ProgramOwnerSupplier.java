@@ -54,6 +54,11 @@ import org.springframework.stereotype.Component;
 public class ProgramOwnerSupplier extends AbstractPreheatSupplier {
   @Nonnull private final TrackedEntityProgramOwnerStore trackedEntityProgramOwnerStore;
 
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
     final Map<UID, TrackedEntity> preheatedTrackedEntities = preheat.getTrackedEntities();
@@ -31,6 +31,7 @@ package org.hisp.dhis.tracker.imports.preheat.supplier;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.hisp.dhis.common.UID;
 import org.hisp.dhis.program.ProgramStage;
 import org.hisp.dhis.tracker.imports.domain.Event;
@@ -74,6 +75,11 @@ public class TrackerEventProgramStageMapSupplier extends JdbcAbstractPreheatSupp
     super(jdbcTemplate);
   }
 
+  @Override
+  public Set<Class<? extends PreheatSupplier>> getDependencies() {
+    return Set.of(ClassBasedSupplier.class);
+  }
+
   @Override
   public void preheatAdd(TrackerObjects trackerObjects, TrackerPreheat preheat) {
     if (trackerObjects.getEvents().isEmpty()) {
@@ -149,6 +149,7 @@ public abstract class AbstractSchemaStrategy implements ClassBasedSupplierStrate
       if (ids.size() > foundInCache.size()) {
         // remove from the list of ids the ids found in cache
         ids.removeAll(foundInCache.keySet());
+        long version = cache.getVersion();
 
         // execute the query, fetching only the ids which are not in
         // cache
@@ -168,7 +169,12 @@ public abstract class AbstractSchemaStrategy implements ClassBasedSupplierStrate
         objects.forEach(
             o ->
                 cache.put(
-                    cacheKey, idSchemeParam.getIdentifier(o), o, getCacheTTL(), getCapacity()));
+                    cacheKey,
+                    idSchemeParam.getIdentifier(o),
+                    o,
+                    getCacheTTL(),
+                    getCapacity(),
+                    version));
 
         // add back the cached objects to the final list
         objects.addAll(foundInCache.values());
@@ -53,6 +53,7 @@ import org.hisp.dhis.tracker.export.trackerevent.TrackerEventService;
 import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
 import org.hisp.dhis.tracker.imports.domain.Attribute;
 import org.hisp.dhis.tracker.imports.preheat.TrackerPreheat;
+import org.hisp.dhis.tracker.imports.programrule.engine.EnrollmentRuleInput;
 import org.hisp.dhis.tracker.imports.programrule.engine.ProgramRuleEngine;
 import org.hisp.dhis.tracker.imports.programrule.engine.RuleEngineEffects;
 import org.hisp.dhis.tracker.model.Enrollment;
@@ -107,24 +108,26 @@ class DefaultProgramRuleService implements ProgramRuleService {
 
   private RuleEngineEffects calculateEnrollmentRuleEffects(
       TrackerBundle bundle, TrackerPreheat preheat) {
-    return bundle.getEnrollments().stream()
-        .map(
-            e -> {
-              List<RuleAttributeValue> attributes =
-                  getAttributes(e.getEnrollment(), e.getTrackedEntity(), bundle, preheat);
-              RuleEnrollment enrollment =
-                  RuleEngineMapper.mapPayloadEnrollment(preheat, e, attributes);
-
-              Program program = preheat.getProgram(e.getProgram());
-
-              return programRuleEngine.evaluateEnrollmentAndTrackerEvents(
-                  enrollment,
-                  getEventsFromEnrollment(e.getUID(), program.getUID(), bundle, preheat),
-                  program,
-                  bundle.getUser());
-            })
-        .reduce(RuleEngineEffects::merge)
-        .orElse(RuleEngineEffects.empty());
+    // inputs are gathered on this thread as they are read from the database
+    List<EnrollmentRuleInput> enrollments =
+        bundle.getEnrollments().stream()
+            .map(
+                e -> {
+                  List<RuleAttributeValue> attributes =
+                      getAttributes(e.getEnrollment(), e.getTrackedEntity(), bundle, preheat);
+                  RuleEnrollment enrollment =
+                      RuleEngineMapper.mapPayloadEnrollment(preheat, e, attributes);
+
+                  Program program = preheat.getProgram(e.getProgram());
+
+                  return new EnrollmentRuleInput(
+                      enrollment,
+                      getEventsFromEnrollment(e.getUID(), program.getUID(), bundle, preheat),
+                      program);
+                })
+            .toList();
+
+    return programRuleEngine.evaluateEnrollmentsAndTrackerEvents(enrollments, bundle.getUser());
   }
 
   private RuleEngineEffects calculateTrackerEventRuleEffects(
@@ -135,20 +138,22 @@ class DefaultProgramRuleService implements ProgramRuleService {
             .map(event -> preheat.getEnrollment(event.getEnrollment()))
             .collect(Collectors.toSet());
 
-    return enrollments.stream()
-        .map(
-            e -> {
-              List<RuleAttributeValue> attributes =
-                  getAttributes(e.getUID(), e.getTrackedEntity().getUID(), bundle, preheat);
-              RuleEnrollment enrollment = RuleEngineMapper.mapSavedEnrollment(e, attributes);
-              return programRuleEngine.evaluateEnrollmentAndTrackerEvents(
-                  enrollment,
-                  getEventsFromEnrollment(e.getUID(), e.getProgram().getUID(), bundle, preheat),
-                  e.getProgram(),
-                  bundle.getUser());
-            })
-        .reduce(RuleEngineEffects::merge)
-        .orElse(RuleEngineEffects.empty());
+    List<EnrollmentRuleInput> inputs =
+        enrollments.stream()
+            .map(
+                e -> {
+                  List<RuleAttributeValue> attributes =
+                      getAttributes(e.getUID(), e.getTrackedEntity().getUID(), bundle, preheat);
+                  RuleEnrollment enrollment = RuleEngineMapper.mapSavedEnrollment(e, attributes);
+                  return new EnrollmentRuleInput(
+                      enrollment,
+                      getEventsFromEnrollment(
+                          e.getUID(), e.getProgram().getUID(), bundle, preheat),
+                      e.getProgram());
+                })
+            .toList();
+
+    return programRuleEngine.evaluateEnrollmentsAndTrackerEvents(inputs, bundle.getUser());
   }
 
   private RuleEngineEffects calculateSingleEventRuleEffects(
@@ -29,18 +29,30 @@
  */
 package org.hisp.dhis.tracker.imports.programrule.engine;
 
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_IMPORT_RULE_ENGINE_MAX_CONCURRENCY;
 import static org.hisp.dhis.programrule.ProgramRuleActionType.SERVER_SUPPORTED_TYPES;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheProvider;
 import org.hisp.dhis.common.UID;
 import org.hisp.dhis.commons.util.DebugUtils;
 import org.hisp.dhis.constant.ConstantService;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.feedback.BadRequestException;
 import org.hisp.dhis.program.Program;
 import org.hisp.dhis.program.ProgramService;
@@ -56,9 +68,18 @@ import org.hisp.dhis.rules.models.RuleEnrollment;
 import org.hisp.dhis.rules.models.RuleEvent;
 import org.hisp.dhis.rules.models.RuleValidationResult;
 import org.hisp.dhis.user.UserDetails;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
+ * Evaluates program rules with the rule engine.
+ *
+ * <p>The rules of a program are compiled into a {@link RuleEngineContext} once per program and
+ * user scope, as the supplementary data depends on the user groups and roles of the user. Contexts
+ * are cached until metadata changes. Evaluating a context does not access the database, so the
+ * enrollments of an import are evaluated concurrently.
+ *
  * @author Zubair Asghar
  */
 @Slf4j
@@ -78,20 +99,69 @@ public class DefaultProgramRuleEngine implements ProgramRuleEngine {
 
   private final RuleEngine ruleEngine;
 
+  /** Contexts by program and user scope, empty if the program has no server side rules. */
+  private final Cache<Optional<RuleEngineContext>> contextCache;
+
+  private final int maxConcurrency;
+
+  private final ThreadPoolExecutor executor;
+
+  @Autowired
   public DefaultProgramRuleEngine(
       ProgramRuleEntityMapperService programRuleEntityMapperService,
       ProgramRuleVariableService programRuleVariableService,
       ConstantService constantService,
       ProgramRuleService programRuleService,
       SupplementaryDataProvider supplementaryDataProvider,
-      ProgramService programService) {
+      ProgramService programService,
+      CacheProvider cacheProvider,
+      DhisConfigurationProvider config) {
+    this(
+        programRuleEntityMapperService,
+        programRuleVariableService,
+        constantService,
+        programRuleService,
+        supplementaryDataProvider,
+        programService,
+        cacheProvider,
+        config,
+        RuleEngine.getInstance());
+  }
+
+  DefaultProgramRuleEngine(
+      ProgramRuleEntityMapperService programRuleEntityMapperService,
+      ProgramRuleVariableService programRuleVariableService,
+      ConstantService constantService,
+      ProgramRuleService programRuleService,
+      SupplementaryDataProvider supplementaryDataProvider,
+      ProgramService programService,
+      CacheProvider cacheProvider,
+      DhisConfigurationProvider config,
+      RuleEngine ruleEngine) {
     this.programRuleEntityMapperService = programRuleEntityMapperService;
     this.programRuleVariableService = programRuleVariableService;
     this.constantService = constantService;
     this.programRuleService = programRuleService;
     this.supplementaryDataProvider = supplementaryDataProvider;
     this.programService = programService;
-    this.ruleEngine = RuleEngine.getInstance();
+    this.ruleEngine = ruleEngine;
+    this.contextCache = cacheProvider.createRuleEngineContextCache();
+    this.maxConcurrency =
+        Math.max(1, config.getIntProperty(TRACKER_IMPORT_RULE_ENGINE_MAX_CONCURRENCY));
+
+    // Thread factory that sets a user-defined thread name (useful for debugging purposes)
+    this.executor =
+        new ThreadPoolExecutor(
+            maxConcurrency,
+            maxConcurrency,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("TRACKER-RULE-ENGINE-%d")
+                .setDaemon(true)
+                .build());
+    this.executor.allowCoreThreadTimeOut(true);
   }
 
   @Override
@@ -125,45 +195,57 @@ public class DefaultProgramRuleEngine implements ProgramRuleEngine {
   }
 
   @Override
-  public RuleEngineEffects evaluateEnrollmentAndTrackerEvents(
-      @Nonnull RuleEnrollment enrollment,
-      @Nonnull List<RuleEvent> events,
-      @Nonnull Program program,
-      @Nonnull UserDetails user) {
-    return evaluateEnrollmentAndEvents(enrollment, events, program, user);
+  public RuleEngineEffects evaluateEnrollmentsAndTrackerEvents(
+      @Nonnull List<EnrollmentRuleInput> enrollments, @Nonnull UserDetails user) {
+    // contexts are resolved on the calling thread as compiling them reads the database
+    Map<String, Optional<RuleEngineContext>> contexts = new HashMap<>();
+    for (EnrollmentRuleInput enrollment : enrollments) {
+      contexts.computeIfAbsent(
+          enrollment.program().getUid(), uid -> getRuleEngineContext(enrollment.program(), user));
+    }
+
+    boolean concurrent = maxConcurrency > 1 && enrollments.size() > 1;
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+    List<CompletableFuture<List<RuleEffects>>> futures =
+        enrollments.stream()
+            .map(
+                enrollment -> {
+                  Optional<RuleEngineContext> context =
+                      contexts.get(enrollment.program().getUid());
+                  if (context.isEmpty()) {
+                    return CompletableFuture.completedFuture(List.<RuleEffects>of());
+                  }
+                  Supplier<List<RuleEffects>> task =
+                      () -> evaluate(enrollment.enrollment(), enrollment.events(), context.get());
+                  return concurrent
+                      ? CompletableFuture.supplyAsync(() -> withMdc(mdc, task), executor)
+                      : CompletableFuture.completedFuture(task.get());
+                })
+            .toList();
+
+    // effects are collected in the order of the enrollments and mapped once
+    return RuleEngineEffects.of(
+        futures.stream().map(CompletableFuture::join).flatMap(List::stream).toList());
   }
 
   @Override
   public RuleEngineEffects evaluateSingleEvents(
       @Nonnull List<RuleEvent> events, @Nonnull Program program, @Nonnull UserDetails user) {
-    return evaluateEnrollmentAndEvents(null, events, program, user);
-  }
-
-  private RuleEngineEffects evaluateEnrollmentAndEvents(
-      @CheckForNull RuleEnrollment enrollment,
-      @Nonnull List<RuleEvent> events,
-      @Nonnull Program program,
-      @Nonnull UserDetails user) {
-    List<ProgramRule> rules =
-        programRuleService.getProgramRulesByActionTypes(program, SERVER_SUPPORTED_TYPES);
+    Optional<RuleEngineContext> context = getRuleEngineContext(program, user);
 
-    if (rules.isEmpty()) {
+    if (context.isEmpty()) {
       return RuleEngineEffects.of(Collections.emptyList());
     }
 
-    List<RuleEffects> ruleEffects =
-        evaluateProgramRulesForMultipleTrackerObjects(enrollment, program, events, rules, user);
-    return RuleEngineEffects.of(ruleEffects);
+    return RuleEngineEffects.of(evaluate(null, events, context.get()));
   }
 
-  private List<RuleEffects> evaluateProgramRulesForMultipleTrackerObjects(
+  private List<RuleEffects> evaluate(
       @CheckForNull RuleEnrollment ruleEnrollment,
-      @Nonnull Program program,
       @Nonnull List<RuleEvent> ruleEvents,
-      @Nonnull List<ProgramRule> rules,
-      @Nonnull UserDetails user) {
+      @Nonnull RuleEngineContext ruleEngineContext) {
     try {
-      RuleEngineContext ruleEngineContext = getRuleEngineContext(program, rules, user);
       return ruleEngine.evaluateAll(ruleEnrollment, ruleEvents, ruleEngineContext);
     } catch (Exception e) {
       log.error(DebugUtils.getStackTrace(e));
@@ -171,10 +253,48 @@ public class DefaultProgramRuleEngine implements ProgramRuleEngine {
     }
   }
 
-  private RuleEngineContext getRuleEngineContext(
-      @Nonnull Program program,
-      @Nonnull List<ProgramRule> programRules,
-      @Nonnull UserDetails user) {
+  private static <T> T withMdc(Map<String, String> mdc, Supplier<T> task) {
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    try {
+      return task.get();
+    } finally {
+      MDC.clear();
+    }
+  }
+
+  /**
+   * Returns the context of the server side rules of given program for given user, or empty if the
+   * program has none. Contexts are cached per program and user scope.
+   */
+  private Optional<RuleEngineContext> getRuleEngineContext(
+      @Nonnull Program program, @Nonnull UserDetails user) {
+    return contextCache.get(
+        getContextKey(program, user), key -> createRuleEngineContext(program, user));
+  }
+
+  /**
+   * The supplementary data of a context holds the user groups and roles of the user, so users
+   * sharing those share a context.
+   */
+  private static String getContextKey(Program program, UserDetails user) {
+    return program.getUid()
+        + ":"
+        + user.getUserGroupIds().stream().sorted().collect(Collectors.joining(","))
+        + ":"
+        + user.getUserRoleIds().stream().sorted().collect(Collectors.joining(","));
+  }
+
+  private Optional<RuleEngineContext> createRuleEngineContext(
+      @Nonnull Program program, @Nonnull UserDetails user) {
+    List<ProgramRule> programRules =
+        programRuleService.getProgramRulesByActionTypes(program, SERVER_SUPPORTED_TYPES);
+
+    if (programRules.isEmpty()) {
+      return Optional.empty();
+    }
+
     List<ProgramRuleVariable> programRuleVariables =
         programRuleVariableService.getProgramRuleVariable(program);
 
@@ -186,10 +306,11 @@ public class DefaultProgramRuleEngine implements ProgramRuleEngine {
     RuleSupplementaryData supplementaryData =
         supplementaryDataProvider.getSupplementaryData(programRules, user);
 
-    return new RuleEngineContext(
-        programRuleEntityMapperService.toRules(programRules),
-        programRuleEntityMapperService.toRuleVariables(programRuleVariables),
-        supplementaryData,
-        constantMap);
+    return Optional.of(
+        new RuleEngineContext(
+            programRuleEntityMapperService.toRules(programRules),
+            programRuleEntityMapperService.toRuleVariables(programRuleVariables),
+            supplementaryData,
+            constantMap));
   }
 }
@@ -34,21 +34,18 @@ import javax.annotation.Nonnull;
 import org.hisp.dhis.common.UID;
 import org.hisp.dhis.feedback.BadRequestException;
 import org.hisp.dhis.program.Program;
-import org.hisp.dhis.rules.models.RuleEnrollment;
 import org.hisp.dhis.rules.models.RuleEvent;
 import org.hisp.dhis.rules.models.RuleValidationResult;
 import org.hisp.dhis.user.UserDetails;
 
 public interface ProgramRuleEngine {
   /**
-   * Evaluate program rules for {@link Program} for enrollment and tracker events. Rules are
-   * evaluated under the authorization of given {@link UserDetails}.
+   * Evaluate program rules for enrollments and their tracker events. Rules are evaluated under the
+   * authorization of given {@link UserDetails}. Enrollments are independent of each other, so they
+   * might be evaluated concurrently.
    */
-  RuleEngineEffects evaluateEnrollmentAndTrackerEvents(
-      @Nonnull RuleEnrollment enrollment,
-      @Nonnull List<RuleEvent> events,
-      @Nonnull Program program,
-      @Nonnull UserDetails user);
+  RuleEngineEffects evaluateEnrollmentsAndTrackerEvents(
+      @Nonnull List<EnrollmentRuleInput> enrollments, @Nonnull UserDetails user);
 
   /**
    * Evaluate program rules as the given {@link UserDetails} for {@link Program} for program events.
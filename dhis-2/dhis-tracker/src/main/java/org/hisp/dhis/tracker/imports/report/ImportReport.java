@@ -52,7 +52,7 @@ import org.hisp.dhis.tracker.TrackerType;
 @OpenApi.Shared(name = "TrackerImportReport")
 @Getter
 @ToString
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ImportReport {
@@ -87,6 +87,12 @@ public class ImportReport {
    */
   @JsonProperty String message;
 
+  /**
+   * Time in milliseconds each preheat supplier took to load its data, by supplier name. Only part
+   * of the full report.
+   */
+  @JsonProperty Map<String, Long> preheatTimings;
+
   /**
    * Factory method to use in case one or more Validation errors are present in the {@link
    * ValidationReport} and the Import process needs to exit without attempting persistence.
@@ -29,20 +29,35 @@
  */
 package org.hisp.dhis.tracker.imports.validation.validator;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.ListUtils;
+import org.hisp.dhis.common.UID;
+import org.hisp.dhis.tracker.TrackerType;
 import org.hisp.dhis.tracker.imports.TrackerImportStrategy;
 import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
 import org.hisp.dhis.tracker.imports.domain.TrackerDto;
+import org.hisp.dhis.tracker.imports.validation.Error;
 import org.hisp.dhis.tracker.imports.validation.Reporter;
 import org.hisp.dhis.tracker.imports.validation.Validator;
+import org.hisp.dhis.tracker.imports.validation.Warning;
 
 /**
  * Each is a {@link Validator} applying a given {@link Validator} to each element in a collection of
  * type R irrespective of whether the {@link Validator} added an error to {@link Reporter} or not.
  *
+ * <p>Given an {@link EachExecutor} the elements are validated concurrently in chunks, each chunk
+ * reporting to its own {@link Reporter}. The chunk reporters are merged in the order of the
+ * elements once all chunks are validated, so errors and warnings are reported in the same order as
+ * when validating sequentially. Validators of an element must therefore not depend on errors
+ * reported for other elements of the same collection.
+ *
  * @param <T> type of input to be mapped to a Collection of R
  * @param <R> type of input to be validated by given validator
  */
@@ -52,6 +67,8 @@ public class Each<T, R> implements Validator<T> {
 
   private final Validator<R> validator;
 
+  private final EachExecutor executor;
+
   /**
    * Create an {@link Each} that will apply given {@link Validator} of type R to each element in the
    * {@code Collection<R>}. The input to the returned {@code Validator} is of type T which is mapped
@@ -72,12 +89,55 @@ public class Each<T, R> implements Validator<T> {
    */
   public static <T, R> Each<T, R> each(
       Function<T, ? extends Collection<R>> map, Validator<R> validator) {
-    return new Each<>(map, validator);
+    return new Each<>(map, validator, null);
+  }
+
+  /**
+   * Create an {@link Each} like {@link #each(Function, Validator)} that validates large collections
+   * concurrently on given executor, unless the {@link Reporter} is fail fast.
+   *
+   * <p>Use it for the collections of the {@link TrackerBundle}, for example
+   *
+   * <pre>{@code
+   * each( TrackerBundle::getEvents, executor, eventValidator )
+   * }</pre>
+   *
+   * @param map function taking type T to Collection of R
+   * @param executor executor running the validation of chunks of the collection
+   * @param validator validator validating a single element of type R
+   * @return validator of type T
+   * @param <T> type of input to be mapped to a Collection of R
+   * @param <R> type of input to be validated by given validator
+   */
+  public static <T, R> Each<T, R> each(
+      Function<T, ? extends Collection<R>> map, EachExecutor executor, Validator<R> validator) {
+    return new Each<>(map, validator, executor);
   }
 
   @Override
   public void validate(Reporter reporter, TrackerBundle bundle, T input) {
-    for (R in : map.apply(input)) {
+    Collection<R> inputs = map.apply(input);
+    if (executor == null || !executor.isConcurrent(reporter, inputs.size())) {
+      validate(reporter, bundle, inputs);
+      return;
+    }
+
+    List<Supplier<ChunkReporter>> tasks = new ArrayList<>();
+    for (List<R> chunk :
+        ListUtils.partition(new ArrayList<>(inputs), executor.getChunkSize(inputs.size()))) {
+      tasks.add(
+          () -> {
+            ChunkReporter chunkReporter = new ChunkReporter(reporter);
+            validate(chunkReporter, bundle, chunk);
+            return chunkReporter;
+          });
+    }
+
+    executor.invokeAll(tasks).forEach(ChunkReporter::merge);
+  }
+
+  private void validate(Reporter reporter, TrackerBundle bundle, Collection<R> inputs) {
+    for (R in : inputs) {
       if ((in instanceof TrackerDto trackerDto
               && !validator.needsToRun(bundle.getStrategy(trackerDto)))
           || (!(in instanceof TrackerDto) && !validator.needsToRun(bundle.getImportStrategy()))) {
@@ -92,4 +152,48 @@ public class Each<T, R> implements Validator<T> {
   public boolean needsToRun(TrackerImportStrategy strategy) {
     return true; // Each is used to compose other Validators, so it should always run
   }
+
+  /**
+   * ChunkReporter collects the errors and warnings of a chunk, and merges them into the original
+   * {@link Reporter} once all chunks are validated. Until then the original {@link Reporter} is
+   * only read, so it can be shared by the threads validating the chunks.
+   */
+  private static class ChunkReporter extends Reporter {
+    private final Reporter original;
+
+    ChunkReporter(Reporter original) {
+      super(original.getIdSchemes(), false);
+      this.original = original;
+    }
+
+    @Override
+    public boolean hasErrors() {
+      return original.hasErrors() || super.hasErrors();
+    }
+
+    @Override
+    public boolean hasErrorReport(Predicate<Error> test) {
+      return original.hasErrorReport(test) || super.hasErrorReport(test);
+    }
+
+    @Override
+    public boolean hasWarnings() {
+      return original.hasWarnings() || super.hasWarnings();
+    }
+
+    @Override
+    public boolean hasWarningReport(Predicate<Warning> test) {
+      return original.hasWarningReport(test) || super.hasWarningReport(test);
+    }
+
+    @Override
+    public boolean isInvalid(TrackerType trackerType, UID uid) {
+      return original.isInvalid(trackerType, uid) || super.isInvalid(trackerType, uid);
+    }
+
+    void merge() {
+      getErrors().forEach(original::addError);
+      getWarnings().forEach(original::addWarning);
+    }
+  }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.validation.validator;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_IMPORT_VALIDATION_MAX_CONCURRENCY;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.setting.ThreadUserSettings;
+import org.hisp.dhis.tracker.imports.validation.Reporter;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs the validation of chunks of the input of an {@link Each} concurrently.
+ *
+ * <p>Validators only read the detached copies held by the preheat, so they can run on any thread.
+ * Services they call open their own read-only transaction on the worker thread. Validation is
+ * therefore only run concurrently outside a transaction, as other connections cannot see the
+ * uncommitted writes of an enclosing transaction.
+ */
+@Component
+public class EachExecutor {
+  /** Inputs smaller than this are validated on the calling thread. */
+  static final int MIN_CHUNK_SIZE = 100;
+
+  /** Chunks per thread, so that threads finishing early can pick up more work. */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final int maxConcurrency;
+
+  private final ThreadPoolExecutor executor;
+
+  @Autowired
+  public EachExecutor(DhisConfigurationProvider config) {
+    this(config.getIntProperty(TRACKER_IMPORT_VALIDATION_MAX_CONCURRENCY));
+  }
+
+  public EachExecutor(int maxConcurrency) {
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+
+    // Thread factory that sets a user-defined thread name (useful for debugging purposes)
+    this.executor =
+        new ThreadPoolExecutor(
+            this.maxConcurrency,
+            this.maxConcurrency,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("TRACKER-VALIDATION-%d")
+                .setDaemon(true)
+                .build());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Returns true if an input of given size reported to given reporter should be validated
+   * concurrently. A fail fast reporter needs the errors in order, so it is always validated on the
+   * calling thread.
+   */
+  boolean isConcurrent(Reporter reporter, int size) {
+    return maxConcurrency > 1
+        && size > MIN_CHUNK_SIZE
+        && !reporter.isFailFast()
+        && !TransactionSynchronizationManager.isActualTransactionActive();
+  }
+
+  /** Returns the number of inputs to validate per task for an input of given size. */
+  int getChunkSize(int size) {
+    int chunks = maxConcurrency * CHUNKS_PER_THREAD;
+    return Math.max(MIN_CHUNK_SIZE, (size + chunks - 1) / chunks);
+  }
+
+  /**
+   * Runs the tasks concurrently, in the MDC and security context of the calling thread.
+   *
+   * @return the results of the tasks in the order of the tasks
+   */
+  <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+
+    List<CompletableFuture<T>> futures =
+        tasks.stream()
+            .map(
+                task ->
+                    CompletableFuture.supplyAsync(
+                        () -> withContext(mdc, securityContext, task), executor))
+            .toList();
+
+    try {
+      return futures.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static <T> T withContext(
+      Map<String, String> mdc, SecurityContext securityContext, Supplier<T> task) {
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
+    SecurityContextHolder.setContext(securityContext);
+    try {
+      return task.get();
+    } finally {
+      SecurityContextHolder.clearContext();
+      // user settings are cached per thread and would leak into the next task
+      ThreadUserSettings.clear();
+      MDC.clear();
+    }
+  }
+}
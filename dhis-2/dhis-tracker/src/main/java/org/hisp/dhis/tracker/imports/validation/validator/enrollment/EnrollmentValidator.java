@@ -38,6 +38,7 @@ import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
 import org.hisp.dhis.tracker.imports.domain.Enrollment;
 import org.hisp.dhis.tracker.imports.validation.Reporter;
 import org.hisp.dhis.tracker.imports.validation.Validator;
+import org.hisp.dhis.tracker.imports.validation.validator.EachExecutor;
 import org.springframework.stereotype.Component;
 
 /** Validator to validate all {@link Enrollment}s in the {@link TrackerBundle}. */
@@ -47,10 +48,12 @@ public class EnrollmentValidator implements Validator<TrackerBundle> {
 
   public EnrollmentValidator(
       SecurityOwnershipValidator securityOwnershipValidator,
-      AttributeValidator attributeValidator) {
+      AttributeValidator attributeValidator,
+      EachExecutor eachExecutor) {
     validator =
         each(
             TrackerBundle::getEnrollments,
+            eachExecutor,
             seq(
                 new ExistenceValidator(),
                 new MandatoryFieldsValidator(),
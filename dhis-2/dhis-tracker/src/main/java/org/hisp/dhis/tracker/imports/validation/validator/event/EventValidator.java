@@ -40,6 +40,7 @@ import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
 import org.hisp.dhis.tracker.imports.domain.Event;
 import org.hisp.dhis.tracker.imports.validation.Reporter;
 import org.hisp.dhis.tracker.imports.validation.Validator;
+import org.hisp.dhis.tracker.imports.validation.validator.EachExecutor;
 import org.springframework.stereotype.Component;
 
 /** Validator to validate all {@link Event}s in the {@link TrackerBundle}. */
@@ -51,11 +52,13 @@ public class EventValidator implements Validator<TrackerBundle> {
       SecurityTrackerEventValidator securityTrackerEventValidator,
       SecuritySingleEventValidator securitySingleEventValidator,
       CategoryOptValidator categoryOptValidator,
-      OptionService optionService) {
+      OptionService optionService,
+      EachExecutor eachExecutor) {
     validator =
         all(
             each(
                 TrackerBundle::getEvents,
+                eachExecutor,
                 seq(
                     new ExistenceValidator(),
                     new MandatoryFieldsValidator(),
@@ -37,6 +37,7 @@ import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
 import org.hisp.dhis.tracker.imports.domain.Relationship;
 import org.hisp.dhis.tracker.imports.validation.Reporter;
 import org.hisp.dhis.tracker.imports.validation.Validator;
+import org.hisp.dhis.tracker.imports.validation.validator.EachExecutor;
 import org.springframework.stereotype.Component;
 
 /** Validator to validate all {@link Relationship}s in the {@link TrackerBundle}. */
@@ -44,10 +45,12 @@ import org.springframework.stereotype.Component;
 public class RelationshipValidator implements Validator<TrackerBundle> {
   private final Validator<TrackerBundle> validator;
 
-  public RelationshipValidator(SecurityOwnershipValidator securityOwnershipValidator) {
+  public RelationshipValidator(
+      SecurityOwnershipValidator securityOwnershipValidator, EachExecutor eachExecutor) {
     validator =
         each(
             TrackerBundle::getRelationships,
+            eachExecutor,
             seq(
                 new ExistenceValidator(),
                 new MandatoryFieldsValidator(),
@@ -38,6 +38,7 @@ import org.hisp.dhis.tracker.imports.bundle.TrackerBundle;
 import org.hisp.dhis.tracker.imports.domain.TrackedEntity;
 import org.hisp.dhis.tracker.imports.validation.Reporter;
 import org.hisp.dhis.tracker.imports.validation.Validator;
+import org.hisp.dhis.tracker.imports.validation.validator.EachExecutor;
 import org.springframework.stereotype.Component;
 
 /** Validator to validate all {@link TrackedEntity}s in the {@link TrackerBundle}. */
@@ -48,10 +49,12 @@ public class TrackedEntityValidator implements Validator<TrackerBundle> {
 
   public TrackedEntityValidator(
       SecurityOwnershipValidator securityOwnershipValidator,
-      AttributeValidator attributeValidator) {
+      AttributeValidator attributeValidator,
+      EachExecutor eachExecutor) {
     validator =
         each(
             TrackerBundle::getTrackedEntities,
+            eachExecutor,
             seq(
                 new ExistenceValidator(),
                 new MandatoryFieldsValidator(),
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.export.trackedentity.aggregates;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_EXPORT_FETCH_MAX_CONCURRENCY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.tracker.export.trackedentity.aggregates.AggregateFetchExecutor.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class AggregateFetchExecutorTest {
+  private SimpleMeterRegistry meterRegistry;
+
+  private AggregateFetchExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    DhisConfigurationProvider config = mock(DhisConfigurationProvider.class);
+    when(config.getIntProperty(TRACKER_EXPORT_FETCH_MAX_CONCURRENCY)).thenReturn(2);
+    meterRegistry = new SimpleMeterRegistry();
+    executor = new AggregateFetchExecutor(config, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  @Test
+  void testSupplyAsyncLimitsConcurrencyPerDataSource() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+    for (int i = 0; i < 20; i++) {
+      futures.add(
+          executor.supplyAsync(
+              DataSource.READ_ONLY,
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                  Thread.sleep(5);
+                } catch (InterruptedException ex) {
+                  Thread.currentThread().interrupt();
+                }
+                return running.decrementAndGet();
+              }));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    assertTrue(maxRunning.get() <= 2, "max running fetches was " + maxRunning.get());
+    assertEquals(
+        20,
+        meterRegistry
+            .get("tracker.export.fetch.wait")
+            .tag("datasource", "read-only")
+            .timer()
+            .count());
+  }
+
+  @Test
+  void testSupplyAsyncPropagatesMdc() {
+    MDC.put("xRequestID", "abc");
+
+    String requestId = executor.supplyAsync(DataSource.PRIMARY, () -> MDC.get("xRequestID")).join();
+
+    assertEquals("abc", requestId);
+  }
+
+  @Test
+  void testSupplyAsyncRestoresMdcOnFetchThread() {
+    MDC.put("xRequestID", "abc");
+    executor.supplyAsync(DataSource.PRIMARY, () -> MDC.get("xRequestID")).join();
+    MDC.clear();
+
+    assertNull(executor.supplyAsync(DataSource.PRIMARY, () -> MDC.get("xRequestID")).join());
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.hisp.dhis.category.CategoryOptionCombo;
+import org.hisp.dhis.common.event.CacheInvalidationEvent;
+import org.hisp.dhis.constant.Constant;
+import org.hisp.dhis.dataelement.DataElement;
+import org.hisp.dhis.option.Option;
+import org.hisp.dhis.option.OptionSet;
+import org.hisp.dhis.organisationunit.OrganisationUnit;
+import org.hisp.dhis.organisationunit.OrganisationUnitGroup;
+import org.hisp.dhis.program.Program;
+import org.hisp.dhis.program.ProgramStage;
+import org.hisp.dhis.programrule.ProgramRule;
+import org.hisp.dhis.programrule.ProgramRuleAction;
+import org.hisp.dhis.programrule.ProgramRuleVariable;
+import org.hisp.dhis.scheduling.JobConfiguration;
+import org.hisp.dhis.trackedentity.TrackedEntityAttribute;
+import org.hisp.dhis.tracker.imports.preheat.cache.PreheatCacheService;
+import org.hisp.dhis.tracker.model.TrackedEntity;
+import org.hisp.dhis.user.User;
+import org.hisp.dhis.user.UserGroup;
+import org.hisp.dhis.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class MetadataCacheInvalidationListenerTest {
+  @Mock private PreheatCacheService preheatCacheService;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private MetadataCacheInvalidationListener listener;
+
+  @BeforeEach
+  void setUp() {
+    listener = new MetadataCacheInvalidationListener(preheatCacheService, eventPublisher);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        Program.class,
+        ProgramStage.class,
+        DataElement.class,
+        OrganisationUnit.class,
+        CategoryOptionCombo.class
+      })
+  void testPreheatTypesInvalidatePreheatCache(Class<?> type) {
+    listener.invalidateCaches(type);
+
+    verify(preheatCacheService).invalidateCache();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        User.class,
+        UserRole.class,
+        UserGroup.class,
+        JobConfiguration.class,
+        TrackedEntity.class
+      })
+  void testOtherTypesKeepPreheatCache(Class<?> type) {
+    listener.invalidateCaches(type);
+
+    verify(preheatCacheService, never()).invalidateCache();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        ProgramRule.class,
+        ProgramRuleVariable.class,
+        ProgramRuleAction.class,
+        Constant.class,
+        Program.class,
+        ProgramStage.class,
+        OptionSet.class,
+        Option.class,
+        OrganisationUnitGroup.class,
+        DataElement.class,
+        TrackedEntityAttribute.class
+      })
+  void testRuleEngineTypesInvalidateRuleEngineContexts(Class<?> type) {
+    listener.invalidateCaches(type);
+
+    verify(eventPublisher).publishEvent(any(CacheInvalidationEvent.class));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      classes = {
+        User.class,
+        UserRole.class,
+        UserGroup.class,
+        JobConfiguration.class,
+        OrganisationUnit.class,
+        CategoryOptionCombo.class
+      })
+  void testOtherTypesKeepRuleEngineContexts(Class<?> type) {
+    listener.invalidateCaches(type);
+
+    verify(eventPublisher, never()).publishEvent(any(CacheInvalidationEvent.class));
+  }
+}
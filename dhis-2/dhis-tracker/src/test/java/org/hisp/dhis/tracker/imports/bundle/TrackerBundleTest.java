@@ -31,10 +31,12 @@ package org.hisp.dhis.tracker.imports.bundle;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import org.hisp.dhis.tracker.imports.AtomicMode;
+import org.hisp.dhis.tracker.imports.FlushMode;
 import org.hisp.dhis.tracker.imports.ValidationMode;
 import org.hisp.dhis.tracker.imports.domain.Enrollment;
 import org.hisp.dhis.tracker.imports.domain.TrackedEntity;
@@ -79,4 +81,21 @@ class TrackerBundleTest {
     assertEquals(2, trackerBundle.getEnrollments().size());
     assertEquals(2, trackerBundle.getEvents().size());
   }
+
+  @Test
+  void testBulkWriteRequiresAtomicModeAll() {
+    assertTrue(
+        TrackerBundle.builder()
+            .flushMode(FlushMode.BULK)
+            .atomicMode(AtomicMode.ALL)
+            .build()
+            .isBulkWrite());
+    assertFalse(
+        TrackerBundle.builder()
+            .flushMode(FlushMode.BULK)
+            .atomicMode(AtomicMode.OBJECT)
+            .build()
+            .isBulkWrite());
+    assertFalse(TrackerBundle.builder().flushMode(FlushMode.AUTO).build().isBulkWrite());
+  }
 }
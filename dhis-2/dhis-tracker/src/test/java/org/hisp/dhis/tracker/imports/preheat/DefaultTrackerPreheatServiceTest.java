@@ -29,6 +29,9 @@
  */
 package org.hisp.dhis.tracker.imports.preheat;
 
+import static org.hisp.dhis.test.utils.Assertions.assertContainsOnly;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
@@ -36,8 +39,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
 import org.hisp.dhis.tracker.TrackerIdSchemeParams;
 import org.hisp.dhis.tracker.imports.domain.TrackedEntity;
 import org.hisp.dhis.tracker.imports.domain.TrackerObjects;
@@ -54,6 +61,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * @author Cambi Luca
@@ -65,6 +73,8 @@ class DefaultTrackerPreheatServiceTest {
 
   @Mock private ApplicationContext applicationContext;
 
+  @Mock private DhisConfigurationProvider dhisConfigurationProvider;
+
   @Captor private ArgumentCaptor<Class<PreheatSupplier>> preheatSupplierClassCaptor;
 
   @Captor private ArgumentCaptor<String> bean;
@@ -81,7 +91,8 @@ class DefaultTrackerPreheatServiceTest {
   @BeforeEach
   public void setUp() {
     preheatService =
-        new DefaultTrackerPreheatService(List.of(ClassBasedSupplier.class.getSimpleName()));
+        new DefaultTrackerPreheatService(
+            List.of(ClassBasedSupplier.class.getSimpleName()), dhisConfigurationProvider);
 
     preheatService.setApplicationContext(applicationContext);
   }
@@ -123,4 +134,93 @@ class DefaultTrackerPreheatServiceTest {
     verify(applicationContext).getBean(bean.getValue(), preheatSupplierClassCaptor.getValue());
     verify(classBasedSupplier).add(any(), any());
   }
+
+  @Test
+  void shouldRunConcurrentSupplierAfterItsDependencyInReadOnlyTransaction() {
+    DefaultTrackerPreheatService service =
+        new DefaultTrackerPreheatService(
+            List.of("ClassBasedSupplier", "ConcurrentSupplier", "SequentialSupplier"),
+            dhisConfigurationProvider);
+    service.setApplicationContext(applicationContext);
+    List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    Thread caller = Thread.currentThread();
+    Set<Thread> concurrentThreads = ConcurrentHashMap.newKeySet();
+    when(applicationContext.getBean("classBasedSupplier", PreheatSupplier.class))
+        .thenReturn((objects, preheat) -> calls.add("ClassBasedSupplier"));
+    when(applicationContext.getBean("concurrentSupplier", PreheatSupplier.class))
+        .thenReturn(
+            new TestSupplier(true, Set.of(ClassBasedSupplier.class)) {
+              @Override
+              public void add(TrackerObjects trackerObjects, TrackerPreheat preheat) {
+                concurrentThreads.add(Thread.currentThread());
+                calls.add("ConcurrentSupplier");
+              }
+            });
+    when(applicationContext.getBean("sequentialSupplier", PreheatSupplier.class))
+        .thenReturn(
+            new TestSupplier(false, Set.of()) {
+              @Override
+              public void add(TrackerObjects trackerObjects, TrackerPreheat preheat) {
+                calls.add("SequentialSupplier");
+              }
+            });
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    TrackerPreheat preheat;
+    try {
+      preheat = service.preheat(preheatParams, idSchemeParams);
+    } finally {
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    assertEquals("ClassBasedSupplier", calls.get(0));
+    assertContainsOnly(
+        List.of("ClassBasedSupplier", "ConcurrentSupplier", "SequentialSupplier"), calls);
+    assertFalse(concurrentThreads.contains(caller));
+    assertEquals(
+        List.of("ClassBasedSupplier", "ConcurrentSupplier", "SequentialSupplier"),
+        List.copyOf(preheat.getSupplierTimings().keySet()));
+  }
+
+  @Test
+  void shouldRunAllSuppliersOnCallingThreadOutsideReadOnlyTransaction() {
+    DefaultTrackerPreheatService service =
+        new DefaultTrackerPreheatService(List.of("ConcurrentSupplier"), dhisConfigurationProvider);
+    service.setApplicationContext(applicationContext);
+    Thread caller = Thread.currentThread();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    when(applicationContext.getBean("concurrentSupplier", PreheatSupplier.class))
+        .thenReturn(
+            new TestSupplier(true, Set.of()) {
+              @Override
+              public void add(TrackerObjects trackerObjects, TrackerPreheat preheat) {
+                threads.add(Thread.currentThread());
+              }
+            });
+
+    service.preheat(preheatParams, idSchemeParams);
+
+    assertEquals(Set.of(caller), threads);
+  }
+
+  private abstract static class TestSupplier implements PreheatSupplier {
+    private final boolean concurrent;
+
+    private final Set<Class<? extends PreheatSupplier>> dependencies;
+
+    TestSupplier(boolean concurrent, Set<Class<? extends PreheatSupplier>> dependencies) {
+      this.concurrent = concurrent;
+      this.dependencies = dependencies;
+    }
+
+    @Override
+    public Set<Class<? extends PreheatSupplier>> getDependencies() {
+      return dependencies;
+    }
+
+    @Override
+    public boolean isConcurrent() {
+      return concurrent;
+    }
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.preheat.cache;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_IMPORT_PREHEAT_CACHE_ENABLED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.hisp.dhis.common.IdentifiableObject;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.program.Program;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultPreheatCacheServiceTest {
+  private static final String KEY = Program.class.getName();
+
+  private MeterRegistry meterRegistry;
+
+  private DefaultPreheatCacheService cache;
+
+  private Program program;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = createCache(true);
+
+    program = new Program();
+    program.setUid("programUid1");
+  }
+
+  @Test
+  void shouldNotCacheWhenDisabled() {
+    cache = createCache(false);
+
+    cache.put(KEY, program.getUid(), program, 5, 10);
+
+    assertEquals(Optional.empty(), cache.get(KEY, program.getUid()));
+    assertFalse(cache.hasKey(KEY));
+  }
+
+  @Test
+  void shouldGetCachedObject() {
+    cache.put(KEY, program.getUid(), program, 5, 10);
+
+    assertSame(program, cache.get(KEY, program.getUid()).get());
+    assertEquals(List.of(program), cache.getAll(KEY));
+  }
+
+  @Test
+  void shouldNotGetObjectCachedBeforeInvalidation() {
+    cache.put(KEY, program.getUid(), program, 5, 10);
+
+    cache.invalidateCache();
+
+    assertEquals(Optional.empty(), cache.get(KEY, program.getUid()));
+    assertTrue(cache.getAll(KEY).isEmpty());
+  }
+
+  @Test
+  void shouldNotCacheObjectLoadedBeforeInvalidation() {
+    long version = cache.getVersion();
+
+    cache.invalidateCache();
+    cache.put(KEY, program.getUid(), program, 5, 10, version);
+
+    assertEquals(Optional.empty(), cache.get(KEY, program.getUid()));
+  }
+
+  @Test
+  void shouldCacheObjectFromMappingFunction() {
+    Optional<IdentifiableObject> loaded =
+        cache.get(KEY, program.getUid(), (k, id) -> Optional.of(program), 5, 10);
+
+    assertSame(program, loaded.get());
+    assertSame(program, cache.get(KEY, program.getUid()).get());
+  }
+
+  @Test
+  void shouldCountHitsAndMissesPerType() {
+    cache.get(KEY, program.getUid());
+    cache.put(KEY, program.getUid(), program, 5, 10);
+    cache.get(KEY, program.getUid());
+    cache.get(KEY, program.getUid());
+
+    assertEquals(2, count("hit"));
+    assertEquals(1, count("miss"));
+  }
+
+  private double count(String result) {
+    return meterRegistry
+        .get("tracker.import.preheat.cache")
+        .tag("type", KEY)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private DefaultPreheatCacheService createCache(boolean enabled) {
+    DhisConfigurationProvider config = mock(DhisConfigurationProvider.class);
+    when(config.isEnabled(TRACKER_IMPORT_PREHEAT_CACHE_ENABLED)).thenReturn(enabled);
+    return new DefaultPreheatCacheService(config, meterRegistry);
+  }
+}
@@ -121,6 +121,7 @@ class AbstractSchemaStrategyCachingTest extends TrackerTestBase {
     Program program = rnd.nextObject(Program.class);
 
     when(cache.get(Program.class.getSimpleName(), uid)).thenReturn(Optional.empty());
+    when(cache.getVersion()).thenReturn(3L);
 
     doReturn(singletonList(program)).when(queryService).query(any(Query.class));
     ProgramStrategy strategy = new ProgramStrategy(schemaService, queryService, manager, cache);
@@ -136,6 +137,6 @@ class AbstractSchemaStrategyCachingTest extends TrackerTestBase {
     // Then
     assertThat(preheat.getAll(Program.class), hasSize(1));
 
-    verify(cache, times(1)).put(eq("Program"), anyString(), any(), eq(20), eq(10L));
+    verify(cache, times(1)).put(eq("Program"), anyString(), any(), eq(20), eq(10L), eq(3L));
   }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2004-2026, University of Oslo
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ * list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its contributors 
+ * may be used to endorse or promote products derived from this software without
+ * specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.hisp.dhis.tracker.imports.programrule.engine;
+
+import static org.hisp.dhis.external.conf.ConfigurationKey.TRACKER_IMPORT_RULE_ENGINE_MAX_CONCURRENCY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.hisp.dhis.cache.Cache;
+import org.hisp.dhis.cache.CacheProvider;
+import org.hisp.dhis.cache.LocalCache;
+import org.hisp.dhis.cache.SimpleCacheBuilder;
+import org.hisp.dhis.common.CodeGenerator;
+import org.hisp.dhis.common.UID;
+import org.hisp.dhis.constant.ConstantService;
+import org.hisp.dhis.external.conf.DhisConfigurationProvider;
+import org.hisp.dhis.program.Program;
+import org.hisp.dhis.program.ProgramService;
+import org.hisp.dhis.programrule.ProgramRule;
+import org.hisp.dhis.programrule.ProgramRuleService;
+import org.hisp.dhis.programrule.ProgramRuleVariableService;
+import org.hisp.dhis.rules.DateUtils;
+import org.hisp.dhis.rules.api.RuleEngine;
+import org.hisp.dhis.rules.api.RuleEngineContext;
+import org.hisp.dhis.rules.api.RuleSupplementaryData;
+import org.hisp.dhis.rules.models.RuleEnrollment;
+import org.hisp.dhis.rules.models.RuleEnrollmentStatus;
+import org.hisp.dhis.tracker.test.TrackerTestBase;
+import org.hisp.dhis.user.User;
+import org.hisp.dhis.user.UserDetails;
+import org.hisp.dhis.user.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultProgramRuleEngineTest extends TrackerTestBase {
+  @Mock private ProgramRuleEntityMapperService programRuleEntityMapperService;
+
+  @Mock private ProgramRuleVariableService programRuleVariableService;
+
+  @Mock private ConstantService constantService;
+
+  @Mock private ProgramRuleService programRuleService;
+
+  @Mock private SupplementaryDataProvider supplementaryDataProvider;
+
+  @Mock private ProgramService programService;
+
+  @Mock private CacheProvider cacheProvider;
+
+  @Mock private DhisConfigurationProvider config;
+
+  private DefaultProgramRuleEngine programRuleEngine;
+
+  private Program program;
+
+  private UserRole roleA;
+
+  private UserRole roleB;
+
+  @BeforeEach
+  void setUp() {
+    Mockito.<Cache<Optional<RuleEngineContext>>>when(cacheProvider.createRuleEngineContextCache())
+        .thenReturn(new LocalCache<>(new SimpleCacheBuilder<>()));
+    when(config.getIntProperty(TRACKER_IMPORT_RULE_ENGINE_MAX_CONCURRENCY)).thenReturn(2);
+
+    programRuleEngine = createProgramRuleEngine(RuleEngine.getInstance());
+
+    program = createProgram('A');
+    roleA = createUserRole('A');
+    roleB = createUserRole('B');
+  }
+
+  @Test
+  void shouldCompileRulesOncePerProgramAndUserScope() {
+    mockProgramRules(List.of(createProgramRule('A', program)));
+    UserDetails user = userWithRole(roleA);
+
+    programRuleEngine.evaluateSingleEvents(List.of(), program, user);
+    programRuleEngine.evaluateSingleEvents(List.of(), program, user);
+    programRuleEngine.evaluateSingleEvents(List.of(), program, userWithRole(roleA));
+
+    verify(programRuleService, times(1)).getProgramRulesByActionTypes(any(), any());
+    verify(programRuleEntityMapperService, times(1)).toRules(anyList());
+  }
+
+  @Test
+  void shouldCompileRulesForEachUserScope() {
+    mockProgramRules(List.of(createProgramRule('A', program)));
+
+    programRuleEngine.evaluateSingleEvents(List.of(), program, userWithRole(roleA));
+    programRuleEngine.evaluateSingleEvents(List.of(), program, userWithRole(roleB));
+
+    verify(programRuleEntityMapperService, times(2)).toRules(anyList());
+  }
+
+  @Test
+  void shouldNotEvaluateProgramsWithoutServerSideRules() {
+    when(programRuleService.getProgramRulesByActionTypes(any(), any())).thenReturn(List.of());
+
+    RuleEngineEffects effects =
+        programRuleEngine.evaluateEnrollmentsAndTrackerEvents(
+            List.of(enrollmentInput(UID.generate()), enrollmentInput(UID.generate())),
+            userWithRole(roleA));
+
+    assertTrue(effects.getEnrollmentValidationEffects().isEmpty());
+    verify(programRuleService, times(1)).getProgramRulesByActionTypes(any(), any());
+    verify(programRuleEntityMapperService, never()).toRules(anyList());
+  }
+
+  @Test
+  void shouldEvaluateAllEnrollmentsConcurrently() {
+    List<String> threads = Collections.synchronizedList(new ArrayList<>());
+    RuleEngine ruleEngine = mock(RuleEngine.class);
+    when(ruleEngine.evaluateAll(any(), anyList(), any()))
+        .thenAnswer(
+            invocation -> {
+              threads.add(Thread.currentThread().getName());
+              return RuleEngine.getInstance()
+                  .evaluateAll(
+                      invocation.getArgument(0),
+                      invocation.getArgument(1),
+                      invocation.getArgument(2));
+            });
+    programRuleEngine = createProgramRuleEngine(ruleEngine);
+    mockProgramRules(List.of(createProgramRule('A', program)));
+    List<UID> uids = List.of(UID.generate(), UID.generate(), UID.generate(), UID.generate());
+
+    RuleEngineEffects effects =
+        programRuleEngine.evaluateEnrollmentsAndTrackerEvents(
+            uids.stream().map(this::enrollmentInput).toList(), userWithRole(roleA));
+
+    assertEquals(Set.copyOf(uids), effects.getEnrollmentValidationEffects().keySet());
+    verify(programRuleEntityMapperService, times(1)).toRules(anyList());
+    assertEquals(uids.size(), threads.size());
+    assertTrue(
+        threads.stream().allMatch(name -> name.startsWith("TRACKER-RULE-ENGINE-")),
+        () -> "Enrollments were evaluated on " + threads);
+  }
+
+  private DefaultProgramRuleEngine createProgramRuleEngine(RuleEngine ruleEngine) {
+    return new DefaultProgramRuleEngine(
+        programRuleEntityMapperService,
+        programRuleVariableService,
+        constantService,
+        programRuleService,
+        supplementaryDataProvider,
+        programService,
+        cacheProvider,
+        config,
+        ruleEngine);
+  }
+
+  private void mockProgramRules(List<ProgramRule> rules) {
+    when(programRuleService.getProgramRulesByActionTypes(any(), any())).thenReturn(rules);
+    when(programRuleEntityMapperService.toRules(anyList())).thenReturn(List.of());
+    when(programRuleEntityMapperService.toRuleVariables(anyList())).thenReturn(List.of());
+    when(constantService.getConstantMap()).thenReturn(Map.of());
+    when(supplementaryDataProvider.getSupplementaryData(anyList(), any()))
+        .thenReturn(new RuleSupplementaryData(List.of(), List.of(), Map.of()));
+  }
+
+  private EnrollmentRuleInput enrollmentInput(UID uid) {
+    RuleEnrollment enrollment =
+        new RuleEnrollment(
+            uid.getValue(),
+            program.getName(),
+            DateUtils.toRuleLocalDate(Instant.now()),
+            DateUtils.toRuleLocalDate(Instant.now()),
+            RuleEnrollmentStatus.ACTIVE,
+            CodeGenerator.generateUid(),
+            "OrgUnitCode",
+            List.of());
+    return new EnrollmentRuleInput(enrollment, List.of(), program);
+  }
+
+  private static UserDetails userWithRole(UserRole role) {
+    User user = makeUser("A");
+    user.setUserRoles(Set.of(role));
+    return UserDetails.fromUser(user);
+  }
+}
@@ -36,6 +36,7 @@ import static org.hisp.dhis.tracker.TrackerType.TRACKED_ENTITY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -114,6 +115,22 @@ class TrackerBundleImportReportTest {
     assertTrue(report.getValidationReport().hasWarnings());
   }
 
+  @Test
+  void testImportReportPreheatTimingsOnlyInFullReport() {
+    ImportReport importReport =
+        createImportReport().toBuilder().preheatTimings(Map.of("ClassBasedSupplier", 12L)).build();
+
+    assertNull(
+        trackerImportService
+            .buildImportReport(importReport, TrackerBundleReportMode.WARNINGS)
+            .getPreheatTimings());
+    assertEquals(
+        Map.of("ClassBasedSupplier", 12L),
+        trackerImportService
+            .buildImportReport(importReport, TrackerBundleReportMode.FULL)
+            .getPreheatTimings());
+  }
+
   @Test
   void testSerializingAndDeserializingImportReport() throws JsonProcessingException {
     // Build BundleReport
@@ -38,11 +38,15 @@ import static org.hisp.dhis.tracker.imports.TrackerImportStrategy.DELETE;
 import static org.hisp.dhis.tracker.imports.TrackerImportStrategy.UPDATE;
 import static org.hisp.dhis.tracker.imports.validation.validator.Each.each;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.hisp.dhis.common.UID;
 import org.hisp.dhis.tracker.TrackerIdSchemeParams;
 import org.hisp.dhis.tracker.TrackerType;
@@ -147,6 +151,41 @@ class EachTest {
     assertContainsOnly(List.of("Nav6inZRw1u"), actualErrorMessages());
   }
 
+  @Test
+  void testValidatesConcurrentlyInOrderOfInputCollection() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    Validator<Enrollment> validator =
+        each(
+            Enrollment::getNotes,
+            new EachExecutor(4),
+            (r, b, n) -> {
+              threads.add(Thread.currentThread().getName());
+              addError(r, n.getNote().getValue());
+            });
+
+    UID[] notes = Stream.generate(UID::generate).limit(1000).toArray(UID[]::new);
+    validator.validate(reporter, bundle, enrollment(UID.of("Kj6vYde4LHh"), notes));
+
+    assertEquals(UID.toValueList(List.of(notes)), actualErrorMessages());
+    assertTrue(threads.stream().allMatch(t -> t.startsWith("TRACKER-VALIDATION-")));
+  }
+
+  @Test
+  void testValidatesOnCallingThreadIfFailFast() {
+    reporter = new Reporter(TrackerIdSchemeParams.builder().build(), true);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    Validator<Enrollment> validator =
+        each(
+            Enrollment::getNotes,
+            new EachExecutor(4),
+            (r, b, n) -> threads.add(Thread.currentThread().getName()));
+
+    UID[] notes = Stream.generate(UID::generate).limit(1000).toArray(UID[]::new);
+    validator.validate(reporter, bundle, enrollment(UID.of("Kj6vYde4LHh"), notes));
+
+    assertEquals(Set.of(Thread.currentThread().getName()), threads);
+  }
+
   private static Enrollment enrollment(UID uid, UID... notes) {
     List<Note> n = Arrays.stream(notes).map(s -> Note.builder().note(s).build()).toList();
 
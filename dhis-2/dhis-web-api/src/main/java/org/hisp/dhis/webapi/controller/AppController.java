@@ -45,6 +45,7 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -52,7 +53,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.hisp.dhis.appmanager.App;
 import org.hisp.dhis.appmanager.AppManager;
 import org.hisp.dhis.appmanager.AppStatus;
+import org.hisp.dhis.appmanager.CachedAppResource;
 import org.hisp.dhis.appmanager.ResourceResult;
+import org.hisp.dhis.appmanager.ResourceResult.CachedResourceFound;
 import org.hisp.dhis.appmanager.ResourceResult.Redirect;
 import org.hisp.dhis.appmanager.ResourceResult.ResourceFound;
 import org.hisp.dhis.appmanager.ResourceResult.ResourceNotFound;
@@ -68,6 +71,7 @@ import org.hisp.dhis.security.RequiresAuthority;
 import org.hisp.dhis.webapi.service.ContextService;
 import org.hisp.dhis.webapi.utils.ContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -190,8 +194,11 @@ public class AppController {
 
     log.debug("Rendering resource {} from app {}", resource, application.getKey());
 
-    ResourceResult resourceResult = appManager.getAppResource(application, resource, baseUrl);
-    if (resourceResult instanceof ResourceFound found) {
+    ResourceResult resourceResult =
+        appManager.getCachedAppResource(application, resource, baseUrl);
+    if (resourceResult instanceof CachedResourceFound found) {
+      serveCachedResource(request, response, found.resource());
+    } else if (resourceResult instanceof ResourceFound found) {
       serveResource(request, response, found, application);
     } else if (resourceResult instanceof Redirect redirect) {
       String redirectUrl = TextUtils.cleanUrlPathOnly(application.getBaseUrl(), redirect.path());
@@ -264,6 +271,67 @@ public class AppController {
         resourceResult.resource().getInputStream(), response.getOutputStream());
   }
 
+  private void serveCachedResource(
+      HttpServletRequest request, HttpServletResponse response, CachedAppResource resource)
+      throws IOException {
+    boolean gzip = resource.gzipContent() != null && acceptsGzip(request);
+
+    if (resource.gzipContent() != null) {
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // See serveResource for how the ETag is computed, the gzip representation needs its own ETag
+    String etag = gzip ? resource.etag() + "-gz" : resource.etag();
+
+    if (new ServletWebRequest(request, response).checkNotModified(etag, resource.lastModified())) {
+      log.debug("Resource not modified (etag {})", etag);
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    String mimeType =
+        resource.mimeType() == null
+            ? request.getSession().getServletContext().getMimeType(resource.filename())
+            : resource.mimeType();
+
+    if (mimeType != null) {
+      response.setContentType(mimeType);
+    }
+
+    byte[] content = resource.content();
+
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+      content = resource.gzipContent();
+    }
+
+    response.setContentLength(content.length);
+
+    log.debug(
+        "Serving cached resource: {} (contentType: {}, contentLength: {}, etag: {})",
+        resource.filename(),
+        mimeType,
+        content.length,
+        etag);
+    response.getOutputStream().write(content);
+  }
+
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+
+    while (headers != null && headers.hasMoreElements()) {
+      for (String coding : headers.nextElement().split(",")) {
+        String[] parts = coding.trim().split(";");
+        if (parts[0].trim().equalsIgnoreCase("gzip")
+            && (parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?"))) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
   @DeleteMapping("/{app}")
   @RequiresAuthority(anyOf = M_DHIS_WEB_APP_MANAGEMENT)
   @ResponseStatus(HttpStatus.NO_CONTENT)
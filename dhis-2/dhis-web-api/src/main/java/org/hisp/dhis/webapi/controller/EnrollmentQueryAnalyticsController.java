@@ -29,6 +29,7 @@
  */
 package org.hisp.dhis.webapi.controller;
 
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.isStreamable;
 import static org.hisp.dhis.common.RequestTypeAware.EndpointAction.QUERY;
 import static org.hisp.dhis.common.RequestTypeAware.EndpointItem.ENROLLMENT;
 import static org.hisp.dhis.common.cache.CacheStrategy.RESPECT_SYSTEM_SETTING;
@@ -49,8 +50,10 @@ import static org.hisp.dhis.webapi.utils.ContextUtils.CONTENT_TYPE_JSON;
 import static org.hisp.dhis.webapi.utils.ContextUtils.CONTENT_TYPE_XML;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import javax.annotation.Nonnull;
 import lombok.AllArgsConstructor;
@@ -70,6 +73,8 @@ import org.hisp.dhis.common.OpenApi;
 import org.hisp.dhis.period.PeriodDataProvider;
 import org.hisp.dhis.security.RequiresAuthority;
 import org.hisp.dhis.setting.SystemSettingsProvider;
+import org.hisp.dhis.system.grid.CsvGridRowWriter;
+import org.hisp.dhis.system.grid.JsonGridRowWriter;
 import org.hisp.dhis.tracker.model.Enrollment;
 import org.hisp.dhis.webapi.dimension.DimensionFilteringAndPagingService;
 import org.hisp.dhis.webapi.dimension.DimensionMapperService;
@@ -109,6 +114,8 @@ public class EnrollmentQueryAnalyticsController {
 
   @Nonnull private final AnalyticsTableSettings analyticsTableSettings;
 
+  @Nonnull private final ObjectMapper jsonMapper;
+
   @RequiresAuthority(anyOf = F_PERFORM_ANALYTICS_EXPLAIN)
   @GetMapping(
       value = "/{program}/explain",
@@ -130,10 +137,28 @@ public class EnrollmentQueryAnalyticsController {
     return grid;
   }
 
-  @GetMapping(
-      value = "/{program}",
-      produces = {APPLICATION_JSON_VALUE, "application/javascript"})
-  public @ResponseBody Grid getQueryJson( // JSON, JSONP
+  @GetMapping(value = "/{program}", produces = APPLICATION_JSON_VALUE)
+  public @ResponseBody Grid getQueryJson( // JSON
+      @PathVariable String program,
+      EnrollmentAnalyticsQueryCriteria criteria,
+      HttpServletResponse response)
+      throws IOException {
+    EventQueryParams params = getEventQueryParams(program, criteria, false);
+
+    contextUtils.configureResponse(response, CONTENT_TYPE_JSON, RESPECT_SYSTEM_SETTING);
+
+    if (isStreamable(params)) {
+      enrollmentQueryService.streamEnrollments(
+          params, new JsonGridRowWriter(jsonMapper, response.getOutputStream()));
+      return null;
+    }
+
+    return enrollmentQueryService.getEnrollments(params);
+  }
+
+  /** JSONP responses are not streamed, as the callback is applied to the complete grid. */
+  @GetMapping(value = "/{program}", produces = "application/javascript")
+  public @ResponseBody Grid getQueryJsonp( // JSONP
       @PathVariable String program,
       EnrollmentAnalyticsQueryCriteria criteria,
       HttpServletResponse response) {
@@ -196,6 +221,12 @@ public class EnrollmentQueryAnalyticsController {
 
     contextUtils.configureResponse(
         response, CONTENT_TYPE_CSV, RESPECT_SYSTEM_SETTING, "enrollments.csv", true);
+
+    if (isStreamable(params)) {
+      enrollmentQueryService.streamEnrollments(params, new CsvGridRowWriter(response.getWriter()));
+      return;
+    }
+
     Grid grid = enrollmentQueryService.getEnrollments(params);
     toCsv(grid, response.getWriter());
   }
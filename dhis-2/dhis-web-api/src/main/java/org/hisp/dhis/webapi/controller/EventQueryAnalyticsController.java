@@ -30,6 +30,7 @@
 package org.hisp.dhis.webapi.controller;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.hisp.dhis.analytics.tracker.ResponseHelper.isStreamable;
 import static org.hisp.dhis.common.RequestTypeAware.EndpointAction.OTHER;
 import static org.hisp.dhis.common.RequestTypeAware.EndpointAction.QUERY;
 import static org.hisp.dhis.common.RequestTypeAware.EndpointItem.EVENT;
@@ -49,8 +50,10 @@ import static org.hisp.dhis.webapi.utils.ContextUtils.CONTENT_TYPE_JSON;
 import static org.hisp.dhis.webapi.utils.ContextUtils.CONTENT_TYPE_XML;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import javax.annotation.Nonnull;
 import lombok.AllArgsConstructor;
@@ -71,6 +74,8 @@ import org.hisp.dhis.common.RequestTypeAware.EndpointAction;
 import org.hisp.dhis.feedback.ErrorMessage;
 import org.hisp.dhis.security.RequiresAuthority;
 import org.hisp.dhis.setting.SystemSettingsProvider;
+import org.hisp.dhis.system.grid.CsvGridRowWriter;
+import org.hisp.dhis.system.grid.JsonGridRowWriter;
 import org.hisp.dhis.tracker.model.TrackerEvent;
 import org.hisp.dhis.util.PeriodCriteriaUtils;
 import org.hisp.dhis.webapi.dimension.DimensionFilteringAndPagingService;
@@ -110,6 +115,8 @@ public class EventQueryAnalyticsController {
 
   @Nonnull private final SystemSettingsProvider settingsProvider;
 
+  @Nonnull private final ObjectMapper jsonMapper;
+
   @GetMapping(
       value = "/count/{program}",
       produces = {APPLICATION_JSON_VALUE, "application/javascript"})
@@ -169,10 +176,28 @@ public class EventQueryAnalyticsController {
     return grid;
   }
 
-  @GetMapping(
-      value = "/query/{program}",
-      produces = {APPLICATION_JSON_VALUE, "application/javascript"})
-  public @ResponseBody Grid getQueryJson( // JSON, JSONP
+  @GetMapping(value = "/query/{program}", produces = APPLICATION_JSON_VALUE)
+  public @ResponseBody Grid getQueryJson( // JSON
+      @PathVariable String program,
+      EventsAnalyticsQueryCriteria criteria,
+      HttpServletResponse response)
+      throws IOException {
+    EventQueryParams params = getEventQueryParams(program, criteria, false, QUERY);
+
+    configResponseForJson(response);
+
+    if (isStreamable(params)) {
+      eventQueryService.streamEvents(
+          params, new JsonGridRowWriter(jsonMapper, response.getOutputStream()));
+      return null;
+    }
+
+    return eventQueryService.getEvents(params);
+  }
+
+  /** JSONP responses are not streamed, as the callback is applied to the complete grid. */
+  @GetMapping(value = "/query/{program}", produces = "application/javascript")
+  public @ResponseBody Grid getQueryJsonp( // JSONP
       @PathVariable String program,
       EventsAnalyticsQueryCriteria criteria,
       HttpServletResponse response) {
@@ -225,10 +250,16 @@ public class EventQueryAnalyticsController {
       EventsAnalyticsQueryCriteria criteria,
       HttpServletResponse response)
       throws Exception {
-    toCsv(
-        getListGridWithAttachment(
-            criteria, program, CONTENT_TYPE_CSV, "events.csv", true, response),
-        response.getWriter());
+    EventQueryParams params = getEventQueryParams(program, criteria, false, QUERY);
+
+    contextUtils.configureResponse(
+        response, CONTENT_TYPE_CSV, RESPECT_SYSTEM_SETTING, "events.csv", true);
+
+    if (isStreamable(params)) {
+      eventQueryService.streamEvents(params, new CsvGridRowWriter(response.getWriter()));
+    } else {
+      toCsv(eventQueryService.getEvents(params), response.getWriter());
+    }
   }
 
   @GetMapping(value = "/query/{program}.html")
@@ -97,7 +97,8 @@ public class ResourceTableController {
       @RequestParam(defaultValue = "false") Boolean skipTrackedEntities,
       @RequestParam(defaultValue = "false") Boolean skipOrgUnitOwnership,
       @RequestParam(required = false) Integer lastYears,
-      @RequestParam(defaultValue = "false") Boolean skipOutliers)
+      @RequestParam(defaultValue = "false") Boolean skipOutliers,
+      @RequestParam(defaultValue = "false") Boolean skipUnchangedPartitions)
       throws ConflictException {
     Set<AnalyticsTableType> skipTableTypes = new HashSet<>();
     Set<String> skipPrograms = new HashSet<>();
@@ -132,9 +133,11 @@ public class ResourceTableController {
 
     JobConfiguration config = new JobConfiguration(ANALYTICS_TABLE);
     config.setExecutedBy(CurrentUserUtil.getCurrentUserDetails().getUid());
-    config.setJobParameters(
+    AnalyticsJobParameters parameters =
         new AnalyticsJobParameters(
-            lastYears, skipTableTypes, skipPrograms, skipResourceTables, skipOutliers));
+            lastYears, skipTableTypes, skipPrograms, skipResourceTables, skipOutliers);
+    parameters.setSkipUnchangedPartitions(isTrue(skipUnchangedPartitions));
+    config.setJobParameters(parameters);
 
     return execute(config);
   }